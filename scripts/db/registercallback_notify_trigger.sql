@@ -0,0 +1,25 @@
+-- Notifies the callback verticles of changes to registercallback, for
+-- callbackCacheRefreshMode "pg-notify". Run once per database, by a user
+-- allowed to create functions and triggers on the table, before the
+-- verticles are deployed; it can be run again safely.
+
+CREATE OR REPLACE FUNCTION registercallback_notify() RETURNS trigger AS $$
+DECLARE
+  id text;
+BEGIN
+  IF (TG_OP = 'DELETE') THEN
+    id := OLD.subscriptionID;
+  ELSE
+    id := NEW.subscriptionID;
+  END IF;
+  PERFORM pg_notify('callback_cache', json_build_object(
+      'operation', CASE TG_OP WHEN 'INSERT' THEN 'create' ELSE lower(TG_OP) END,
+      'subscriptionID', id)::text);
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS registercallback_notify_trigger ON registercallback;
+CREATE TRIGGER registercallback_notify_trigger
+  AFTER INSERT OR UPDATE OR DELETE ON registercallback
+  FOR EACH ROW EXECUTE PROCEDURE registercallback_notify();
@@ -0,0 +1,70 @@
+package iudx.resource.server.apiserver;
+
+import java.util.concurrent.TimeUnit;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validating the NGSI-LD parameters of a GET request and the body of a POST query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+  private static final String ID = "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/"
+      + "rs.iudx.io/surat-itms-realtime-information/surat-itms-live-eta";
+
+  private MultiMap params;
+  private JsonObject postBody;
+
+  @Setup
+  public void setup() {
+    params = MultiMap.caseInsensitiveMultiMap()
+        .add("id", ID)
+        .add("georel", "near;maxDistance=1000")
+        .add("geometry", "point")
+        .add("coordinates", "[21.178,72.834]")
+        .add("timerel", "during")
+        .add("time", "2020-10-18T14:20:00Z")
+        .add("endtime", "2020-10-19T14:20:00Z")
+        .add("q", "speed>30");
+    postBody = new JsonObject()
+        .put("type", "Query")
+        .put("entities", new JsonArray().add(new JsonObject().put("id", ID)))
+        .put("geoQ", new JsonObject()
+            .put("geometry", "Polygon")
+            .put("coordinates", "[[[72.719,21],[72.842,21.2],[72.923,20.8],[72.719,21]]]")
+            .put("georel", "within")
+            .put("geoproperty", "location"))
+        .put("temporalQ", new JsonObject()
+            .put("timerel", "during")
+            .put("time", "2020-10-18T14:20:00Z")
+            .put("endtime", "2020-10-19T14:20:00Z"));
+  }
+
+  @Benchmark
+  public Future<Boolean> validateParams() {
+    return Validator.validate(params);
+  }
+
+  @Benchmark
+  public Future<Boolean> validatePostBody() {
+    return Validator.validate(postBody);
+  }
+}
@@ -0,0 +1,61 @@
+package iudx.resource.server.apiserver.handlers;
+
+import static iudx.resource.server.apiserver.util.Constants.NGSILD_ENTITIES_URL;
+import static iudx.resource.server.apiserver.util.Constants.NGSILD_SUBSCRIPTION_URL;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Extracting the requested ID from the request path: the per route prefix strip against the
+ * regex match and replaceAll done for every request before routes carried their endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthHandlerBenchmark {
+
+  private static final String ENTITY_PATH = NGSILD_ENTITIES_URL
+      + "/iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/rs.iudx.io/"
+      + "surat-itms-realtime-information/surat-itms-live-eta";
+  private static final String SUBSCRIPTION_PATH = NGSILD_SUBSCRIPTION_URL
+      + "/iisc.ac.in/b5a4a9f89ad7ad0b6bd3e2e4d6e8c9a1f0e7f4c2/alias-pune-env-flood";
+
+  @Benchmark
+  public String entityPathId() {
+    return AuthHandler.getPathId(NGSILD_ENTITIES_URL, ENTITY_PATH);
+  }
+
+  @Benchmark
+  public String subscriptionPathId() {
+    return AuthHandler.getPathId(NGSILD_SUBSCRIPTION_URL, SUBSCRIPTION_PATH);
+  }
+
+  @Benchmark
+  public String entityRegexPathId() {
+    return regexPathId(NGSILD_ENTITIES_URL, ENTITY_PATH);
+  }
+
+  @Benchmark
+  public String subscriptionRegexPathId() {
+    return regexPathId(NGSILD_SUBSCRIPTION_URL, SUBSCRIPTION_PATH);
+  }
+
+  /* The previous getNormalizedPath and getId: a regex match then a regex replace */
+  private static String regexPathId(String endpoint, String path) {
+    if (path.matches(endpoint + "(.*)")) {
+      return path.replaceAll(endpoint + "/", "");
+    }
+    return path;
+  }
+}
@@ -0,0 +1,101 @@
+package iudx.resource.server.apiserver.query;
+
+import java.util.concurrent.TimeUnit;
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Turning the NGSI-LD parameters of a request into the IUDX query json: parsing the query
+ * parameters or the POST body into {@link NGSILDQueryParams}, and mapping them with
+ * {@link QueryMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryMapperBenchmark {
+
+  private static final String ID = "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/"
+      + "rs.iudx.io/surat-itms-realtime-information/surat-itms-live-eta";
+
+  private MultiMap latestParams;
+  private MultiMap temporalParams;
+  private JsonObject postBody;
+  private NGSILDQueryParams latestQuery;
+  private NGSILDQueryParams temporalQuery;
+
+  @Setup
+  public void setup() {
+    latestParams = MultiMap.caseInsensitiveMultiMap()
+        .add("id", ID)
+        .add("attrs", "id,speed,location");
+    temporalParams = MultiMap.caseInsensitiveMultiMap()
+        .add("id", ID)
+        .add("georel", "near;maxDistance=1000")
+        .add("geometry", "point")
+        .add("coordinates", "[21.178,72.834]")
+        .add("geoproperty", "location")
+        .add("timerel", "during")
+        .add("time", "2020-10-18T14:20:00Z")
+        .add("endtime", "2020-10-19T14:20:00Z")
+        .add("q", "speed>30;tripCount<=5");
+    postBody = new JsonObject()
+        .put("type", "Query")
+        .put("entities", new JsonArray().add(new JsonObject().put("id", ID)))
+        .put("geoQ", new JsonObject()
+            .put("geometry", "Polygon")
+            .put("coordinates", "[[[72.719,21],[72.842,21.2],[72.923,20.8],[72.719,21]]]")
+            .put("georel", "within")
+            .put("geoproperty", "location"))
+        .put("temporalQ", new JsonObject()
+            .put("timerel", "during")
+            .put("time", "2020-10-18T14:20:00Z")
+            .put("endtime", "2020-10-19T14:20:00Z"))
+        .put("q", "speed>30");
+    latestQuery = new NGSILDQueryParams(latestParams);
+    temporalQuery = new NGSILDQueryParams(temporalParams);
+  }
+
+  @Benchmark
+  public Object parseLatestParams() {
+    return new NGSILDQueryParams(latestParams);
+  }
+
+  @Benchmark
+  public Object parseTemporalParams() {
+    return new NGSILDQueryParams(temporalParams);
+  }
+
+  @Benchmark
+  public Object parsePostBody() {
+    return new NGSILDQueryParams(postBody);
+  }
+
+  @Benchmark
+  public JsonObject toJsonLatest() {
+    return new QueryMapper().toJson(latestQuery, false);
+  }
+
+  @Benchmark
+  public JsonObject toJsonTemporal() {
+    return new QueryMapper().toJson(temporalQuery, true);
+  }
+
+  @Benchmark
+  public JsonObject getQueryTerms() {
+    return new QueryMapper().getQueryTerms("speed>=300");
+  }
+}
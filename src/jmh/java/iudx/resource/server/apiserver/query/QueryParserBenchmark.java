@@ -0,0 +1,138 @@
+package iudx.resource.server.apiserver.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import io.netty.handler.codec.http.HttpConstants;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing the NGSI-LD query of a request with {@link QueryParser}, against the way it was parsed
+ * before: a regex replace of + over the URI and Netty's query string decoder, q terms split on ;
+ * and scanned with boxed characters, georel and point coordinates split with regular
+ * expressions. The legacy parsers are kept here as they were.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParserBenchmark {
+
+  private static final String URI = "/ngsi-ld/v1/entities?id=iisc.ac.in/"
+      + "89a36273d77dac4cf38114fca1bbe64392547f86/rs.iudx.io/surat-itms-realtime-information/"
+      + "surat-itms-live-eta&q=speed%3E%3D30;tripCount%3C%3D5;route_id==109&attrs=id,speed"
+      + "&georel=near;maxDistance=500&geometry=point&coordinates=%5B21.178,72.834%5D";
+  private static final String Q = "speed>=30;tripCount<=5;route_id==109";
+  private static final String GEOREL = "near;maxDistance=500";
+  private static final String POINT = "[21.178,72.834]";
+
+  @Benchmark
+  public MultiMap decodeLegacy() {
+    MultiMap params = MultiMap.caseInsensitiveMultiMap();
+    String uri = URI.replaceAll("\\+", "%2B");
+    Map<String, List<String>> decoded =
+        new QueryStringDecoder(uri, HttpConstants.DEFAULT_CHARSET, true, 1024, true).parameters();
+    for (Map.Entry<String, List<String>> entry : decoded.entrySet()) {
+      params.add(entry.getKey(), entry.getValue());
+    }
+    return params;
+  }
+
+  @Benchmark
+  public MultiMap decode() {
+    return QueryParser.decodeParams(URI);
+  }
+
+  @Benchmark
+  public JsonArray qLegacy() {
+    JsonArray query = new JsonArray();
+    for (String term : Q.split(";")) {
+      query.add(legacyQueryTerm(term));
+    }
+    return query;
+  }
+
+  @Benchmark
+  public JsonArray q() {
+    JsonArray query = new JsonArray();
+    for (QueryTerm term : QueryParser.parseQ(Q)) {
+      query.add(term.toJson());
+    }
+    return query;
+  }
+
+  @Benchmark
+  public GeoRelation geoRelLegacy() {
+    GeoRelation geoRel = new GeoRelation();
+    String[] values = GEOREL.split(";");
+    geoRel.setRelation(values[0]);
+    if (values.length == 2) {
+      String[] distance = values[1].split("=");
+      if (distance[0].equalsIgnoreCase("maxdistance")) {
+        geoRel.setMaxDistance(Double.parseDouble(distance[1]));
+      } else if (distance[0].equalsIgnoreCase("mindistance")) {
+        geoRel.setMinDistance(Double.parseDouble(distance[1]));
+      }
+    }
+    return geoRel;
+  }
+
+  @Benchmark
+  public GeoRelation geoRel() {
+    return QueryParser.parseGeoRel(GEOREL);
+  }
+
+  @Benchmark
+  public double[] pointLegacy() {
+    String[] coords = POINT.replaceAll("\\[|\\]", "").split(",");
+    return new double[] {Double.parseDouble(coords[0]), Double.parseDouble(coords[1])};
+  }
+
+  @Benchmark
+  public double[] point() {
+    return QueryParser.parsePoint(POINT);
+  }
+
+  @Benchmark
+  public JsonObject query() {
+    return new QueryMapper().toJson(new NGSILDQueryParams(QueryParser.decodeParams(URI)), false);
+  }
+
+  private static JsonObject legacyQueryTerm(String queryTerms) {
+    JsonObject json = new JsonObject();
+    int length = queryTerms.length();
+    List<Character> allowedSpecialCharacter = Arrays.asList('>', '=', '<', '!');
+    int startIndex = 0;
+    boolean specialCharFound = false;
+    for (int i = 0; i < length; i++) {
+      Character c = queryTerms.charAt(i);
+      if (!(Character.isLetter(c) || Character.isDigit(c)) && !specialCharFound) {
+        if (allowedSpecialCharacter.contains(c)) {
+          json.put("attribute", queryTerms.substring(startIndex, i));
+          startIndex = i;
+          specialCharFound = true;
+        }
+      } else if (specialCharFound && (Character.isLetter(c) || Character.isDigit(c))) {
+        json.put("operator", queryTerms.substring(startIndex, i));
+        json.put("value", queryTerms.substring(i));
+        break;
+      }
+    }
+    return json;
+  }
+}
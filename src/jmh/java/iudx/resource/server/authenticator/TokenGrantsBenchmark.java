@@ -0,0 +1,112 @@
+package iudx.resource.server.authenticator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matching a requested resource ID against a token with many resource grants: the compiled
+ * {@link TokenGrants} against the per request Pattern.compile scan it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenGrantsBenchmark {
+
+  private static final String PROVIDER =
+      "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/rs.iudx.io/";
+
+  @Param({"10", "100", "500"})
+  public int grants;
+
+  private JsonObject tipResponse;
+  private TokenGrants tokenGrants;
+  private String lastLiteralID;
+  private String lastWildcardID;
+  private String deniedID;
+
+  @Setup
+  public void setup() {
+    JsonArray request = new JsonArray();
+    for (int i = 0; i < grants; i++) {
+      /* Every other grant is a whole resource group */
+      String id = PROVIDER + "group-" + i + (i % 2 == 0 ? "/item-" + i : "/*");
+      request.add(new JsonObject().put("id", id)
+          .put("apis", new JsonArray().add("/ngsi-ld/v1/entities")
+              .add("/ngsi-ld/v1/temporal/entities")));
+    }
+    tipResponse = new JsonObject().put("consumer", "consumer@iudx.org").put("request", request);
+    tokenGrants = new TokenGrants(tipResponse);
+    lastLiteralID = PROVIDER + "group-" + (grants - 2) + "/item-" + (grants - 2);
+    lastWildcardID = PROVIDER + "group-" + (grants - 1) + "/item-" + (grants - 1);
+    deniedID = PROVIDER + "group-" + grants + "/item-" + grants;
+  }
+
+  @Benchmark
+  public Object compiledLiteral() {
+    return tokenGrants.match(lastLiteralID);
+  }
+
+  @Benchmark
+  public Object compiledWildcard() {
+    return tokenGrants.match(lastWildcardID);
+  }
+
+  @Benchmark
+  public Object compiledDenied() {
+    return tokenGrants.match(deniedID);
+  }
+
+  @Benchmark
+  public boolean compiledApi() {
+    return tokenGrants.match(lastWildcardID).allowsApi("/ngsi-ld/v1/temporal/entities");
+  }
+
+  @Benchmark
+  public Object compileGrants() {
+    return new TokenGrants(tipResponse);
+  }
+
+  @Benchmark
+  public Object patternWildcard() {
+    return patternScan(lastWildcardID);
+  }
+
+  @Benchmark
+  public Object patternDenied() {
+    return patternScan(deniedID);
+  }
+
+  /* The previous retrieveTipRequest: escape and compile each grant ID on every request */
+  private JsonObject patternScan(String requestID) {
+    for (Object r : tipResponse.getJsonArray("request")) {
+      JsonObject tipRequest = (JsonObject) r;
+      String responseID = tipRequest.getString("id");
+      if (requestID.equals(responseID)) {
+        return tipRequest;
+      }
+      String escapedResponseID =
+          responseID.replace("/", "\\/").replace(".", "\\.").replace("*", ".*");
+      Pattern pattern = Pattern.compile(escapedResponseID);
+      if (pattern.matcher(requestID).matches()) {
+        return tipRequest;
+      }
+    }
+    return new JsonObject();
+  }
+}
@@ -0,0 +1,83 @@
+package iudx.resource.server.database;
+
+import java.util.concurrent.TimeUnit;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Transforming canned Elasticsearch responses into the search response, as
+ * {@link ElasticClient} does on success: parse the body, collect the sources of the hits and
+ * build the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElasticClientBenchmark {
+
+  private static final String ID = "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/"
+      + "rs.iudx.io/surat-itms-realtime-information/surat-itms-live-eta";
+
+  @Param({"1", "100", "10000"})
+  public int hits;
+
+  private byte[] searchBody;
+  private byte[] latestBody;
+
+  @Setup
+  public void setup() {
+    JsonArray searchHits = new JsonArray();
+    JsonArray docs = new JsonArray();
+    for (int i = 0; i < hits; i++) {
+      searchHits.add(new JsonObject().put("_source", source(i)));
+      docs.add(new JsonObject().put("_source", source(i)));
+    }
+    searchBody = new JsonObject()
+        .put("hits", new JsonObject().put("hits", searchHits)).toBuffer().getBytes();
+    latestBody = new JsonObject().put("docs", docs).toBuffer().getBytes();
+  }
+
+  /* An ITMS observation, as indexed */
+  private static JsonObject source(int i) {
+    return new JsonObject()
+        .put("id", ID)
+        .put("observationDateTime", "2020-10-18T14:" + (10 + i % 50) + ":00+05:30")
+        .put("trip_id", "trip-" + i)
+        .put("route_id", "route-" + (i % 40))
+        .put("speed", 20.5 + i % 30)
+        .put("trip_direction", i % 2 == 0 ? "UP" : "DOWN")
+        .put("license_plate", "GJ05BX" + (1000 + i % 9000))
+        .put("location", new JsonObject().put("type", "Point")
+            .put("coordinates", new JsonArray().add(72.81 + i * 1e-5).add(21.16)));
+  }
+
+  @Benchmark
+  public JsonObject search() {
+    return transform(searchBody);
+  }
+
+  @Benchmark
+  public JsonObject latest() {
+    return transform(latestBody);
+  }
+
+  private static JsonObject transform(byte[] body) {
+    JsonArray results = ElasticClient.searchResults(new JsonObject(Buffer.buffer(body)));
+    return new ResponseBuilder(Constants.SUCCESS).setTypeAndTitle(200).setMessage(results)
+        .getResponse();
+  }
+}
@@ -0,0 +1,69 @@
+package iudx.resource.server.database;
+
+import java.util.concurrent.TimeUnit;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The debug logging of a search request with debug disabled, as in production: String
+ * concatenation, which encodes the request on every call, against parameterized logging.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+  private static final Logger LOGGER = LogManager.getLogger(LoggingBenchmark.class);
+
+  private JsonObject request;
+
+  @Setup
+  public void setup() {
+    Configurator.setLevel(LoggingBenchmark.class.getName(), Level.INFO);
+    request = new JsonObject()
+        .put("id", new JsonArray().add("iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/"
+            + "rs.iudx.io/surat-itms-realtime-information/surat-itms-live-eta"))
+        .put("searchType", "geoSearch_temporalSearch_attributeSearch")
+        .put("lon", 72.81).put("lat", 21.16).put("radius", 1000).put("georel", "near")
+        .put("timerel", "during").put("time", "2020-10-18T14:20:00Z")
+        .put("endtime", "2020-10-19T14:20:00Z")
+        .put("attr-query", new JsonArray().add(new JsonObject().put("attribute", "speed")
+            .put("operator", ">").put("value", "30")))
+        .put("instanceID", "rs.iudx.io");
+  }
+
+  @Benchmark
+  public JsonObject concatenated() {
+    LOGGER.debug("Info: searchQuery;" + request.toString());
+    LOGGER.debug("Index name: " + request.getJsonArray("id").getString(0));
+    LOGGER.debug("Info: Query constructed: " + request.toString());
+    return request;
+  }
+
+  @Benchmark
+  public JsonObject parameterized() {
+    LOGGER.debug("Info: searchQuery;{}", request);
+    LOGGER.debug("Index name: {}", request.getJsonArray("id").getString(0));
+    LOGGER.debug("Info: Query constructed: {}", request);
+    return request;
+  }
+}
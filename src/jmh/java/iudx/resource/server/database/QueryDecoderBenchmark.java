@@ -0,0 +1,95 @@
+package iudx.resource.server.database;
+
+import java.util.concurrent.TimeUnit;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building the Elasticsearch query of each search type with {@link QueryDecoder}, also encoding
+ * it as the request entity is.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryDecoderBenchmark {
+
+  private static final String ID = "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/"
+      + "rs.iudx.io/surat-itms-realtime-information/surat-itms-live-eta";
+
+  private final QueryDecoder queryDecoder = new QueryDecoder();
+  private JsonObject latest;
+  private JsonObject circle;
+  private JsonObject polygon;
+  private JsonObject temporal;
+  private JsonObject attribute;
+  private JsonObject combined;
+
+  @Setup
+  public void setup() {
+    latest = request("latestSearch").put("attrs", new JsonArray().add("id").add("speed"));
+    circle = request("geoSearch").put("lon", 72.8296).put("lat", 21.2).put("radius", 500);
+    polygon = request("geoSearch").put("geometry", "polygon").put("georel", "within")
+        .put("coordinates",
+            "[[[72.719,21],[72.842,21.2],[72.923,20.8],[72.74,20.34],[72.719,21]]]")
+        .put("geoproperty", "location");
+    temporal = request("temporalSearch").put("timerel", "during")
+        .put("time", "2020-09-18T00:00:00Z").put("endtime", "2020-09-22T00:00:00Z");
+    attribute = request("attributeSearch").put("attr-query", new JsonArray()
+        .add(new JsonObject().put("attribute", "speed").put("operator", ">").put("value", "30"))
+        .add(new JsonObject().put("attribute", "tripCount").put("operator", "<=")
+            .put("value", "5")));
+    combined = request("temporalSearch_geoSearch_attributeSearch")
+        .put("lon", 72.8296).put("lat", 21.2).put("radius", 500)
+        .put("timerel", "during")
+        .put("time", "2020-09-18T00:00:00Z").put("endtime", "2020-09-22T00:00:00Z")
+        .put("attr-query", attribute.getJsonArray("attr-query").copy());
+  }
+
+  private static JsonObject request(String searchType) {
+    return new JsonObject().put("id", new JsonArray().add(ID)).put("searchType", searchType)
+        .put("search", true);
+  }
+
+  @Benchmark
+  public String latest() {
+    return queryDecoder.queryDecoder(latest).encode();
+  }
+
+  @Benchmark
+  public String geoCircle() {
+    return queryDecoder.queryDecoder(circle).encode();
+  }
+
+  @Benchmark
+  public String geoPolygon() {
+    return queryDecoder.queryDecoder(polygon).encode();
+  }
+
+  @Benchmark
+  public String temporal() {
+    return queryDecoder.queryDecoder(temporal).encode();
+  }
+
+  @Benchmark
+  public String attribute() {
+    return queryDecoder.queryDecoder(attribute).encode();
+  }
+
+  @Benchmark
+  public String combined() {
+    return queryDecoder.queryDecoder(combined).encode();
+  }
+}
@@ -0,0 +1,74 @@
+package iudx.resource.server.load;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.qpid.server.SystemLauncher;
+import org.apache.qpid.server.model.ConfiguredObject;
+import org.apache.qpid.server.model.SystemConfig;
+
+/**
+ * The Embedded Broker.
+ * <h1>Embedded Broker</h1>
+ * <p>
+ * An in-memory Qpid Broker-J speaking AMQP 0-9-1, which the RabbitMQ client of the data broker
+ * verticle publishes ingested data to. It has a single virtual host, default, and a single user.
+ * Exchanges are declared by the harness through the AMQP connection, the RabbitMQ management API
+ * is not available.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public class EmbeddedBroker {
+
+  public static final String VIRTUAL_HOST = "default";
+  public static final String USER = "iudx";
+  public static final String PASSWORD = "iudx";
+  private static final String INITIAL_CONFIG = "/load/qpid-initial-config.json";
+
+  private final Path workDir;
+  private final SystemLauncher launcher = new SystemLauncher();
+  private int port;
+
+  public EmbeddedBroker(Path workDir) {
+    this.workDir = workDir;
+  }
+
+  /**
+   * Starts the broker on a free port, blocking until it accepts connections.
+   *
+   * @return the AMQP port
+   * @throws Exception when the broker fails to start
+   */
+  public int start() throws Exception {
+    port = freePort();
+    Map<String, String> context = new HashMap<>();
+    context.put("qpid.amqp_port", Integer.toString(port));
+    context.put("qpid.user", USER);
+    context.put("qpid.password", PASSWORD);
+    context.put("qpid.work_dir", workDir.toAbsolutePath().toString());
+
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put(SystemConfig.TYPE, "Memory");
+    attributes.put(SystemConfig.INITIAL_CONFIGURATION_LOCATION,
+        EmbeddedBroker.class.getResource(INITIAL_CONFIG).toExternalForm());
+    attributes.put(SystemConfig.STARTUP_LOGGED_TO_SYSTEM_OUT, false);
+    attributes.put(ConfiguredObject.CONTEXT, context);
+    launcher.startup(attributes);
+    return port;
+  }
+
+  public void stop() {
+    launcher.shutdown();
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
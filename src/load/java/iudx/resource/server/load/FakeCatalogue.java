@@ -0,0 +1,75 @@
+package iudx.resource.server.load;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.JksOptions;
+
+/**
+ * The Fake Catalogue.
+ * <h1>Fake Catalogue</h1>
+ * <p>
+ * Answers the access policy lookups of the authentication verticle over HTTPS. Every resource
+ * and resource group asked for exists and has the configured access policy.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public class FakeCatalogue {
+
+  private static final String SEARCH_PATH = "/iudx/cat/v1/search";
+
+  private final Vertx vertx;
+  private final JksOptions keyStore;
+  private final String accessPolicy;
+  private HttpServer server;
+
+  /**
+   * Creates the stand-in.
+   *
+   * @param vertx the vertx instance
+   * @param keyStore key store with the certificate to serve
+   * @param accessPolicy access policy of every item, SECURE or OPEN
+   */
+  public FakeCatalogue(Vertx vertx, JksOptions keyStore, String accessPolicy) {
+    this.vertx = vertx;
+    this.keyStore = keyStore;
+    this.accessPolicy = accessPolicy;
+  }
+
+  /**
+   * Starts listening on an ephemeral port.
+   *
+   * @return future of the port listened on
+   */
+  public Future<Integer> start() {
+    Promise<HttpServer> promise = Promise.promise();
+    HttpServerOptions options = new HttpServerOptions().setSsl(true).setKeyStoreOptions(keyStore);
+    server = vertx.createHttpServer(options).requestHandler(this::handle);
+    server.listen(0, "localhost", promise);
+    return promise.future().map(HttpServer::actualPort);
+  }
+
+  /* value is [[id1,id2,...]] */
+  private void handle(HttpServerRequest request) {
+    String value = request.getParam("value");
+    if (!SEARCH_PATH.equals(request.path()) || value == null) {
+      request.response().setStatusCode(404).end();
+      return;
+    }
+    JsonArray results = new JsonArray();
+    for (String id : value.replace("[", "").replace("]", "").split(",")) {
+      results.add(new JsonObject().put("id", id.trim()).put("accessPolicy", accessPolicy));
+    }
+    request.response().putHeader("content-type", "application/json")
+        .end(new JsonObject().put("status", "success").put("totalHits", results.size())
+            .put("results", results).toBuffer());
+  }
+}
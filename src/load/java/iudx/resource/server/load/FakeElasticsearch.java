@@ -0,0 +1,93 @@
+package iudx.resource.server.load;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The Fake Elasticsearch.
+ * <h1>Fake Elasticsearch</h1>
+ * <p>
+ * Answers the search, multi get and count requests of the database verticle with canned
+ * responses of a fixed number of hits, after an optional delay standing in for the query time of
+ * a real cluster. Request bodies are read but not interpreted.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public class FakeElasticsearch {
+
+  private final Vertx vertx;
+  private final long latencyMillis;
+  private final Buffer searchResponse;
+  private final Buffer latestResponse;
+  private final Buffer countResponse;
+  private HttpServer server;
+
+  /**
+   * Creates the stand-in.
+   *
+   * @param vertx the vertx instance
+   * @param hits number of hits of each search response
+   * @param latencyMillis delay before each response, 0 for none
+   */
+  public FakeElasticsearch(Vertx vertx, int hits, long latencyMillis) {
+    this.vertx = vertx;
+    this.latencyMillis = latencyMillis;
+    JsonArray searchHits = new JsonArray();
+    for (int i = 0; i < hits; i++) {
+      searchHits.add(new JsonObject().put("_source", Traffic.observation(i)));
+    }
+    searchResponse = new JsonObject().put("took", 1)
+        .put("hits", new JsonObject().put("hits", searchHits)).toBuffer();
+    latestResponse = new JsonObject()
+        .put("docs", new JsonArray().add(new JsonObject().put("_source", Traffic.observation(0))))
+        .toBuffer();
+    countResponse = new JsonObject().put("count", hits).toBuffer();
+  }
+
+  /**
+   * Starts listening on an ephemeral port.
+   *
+   * @return future of the port listened on
+   */
+  public Future<Integer> start() {
+    Promise<HttpServer> promise = Promise.promise();
+    server = vertx.createHttpServer().requestHandler(this::handle);
+    server.listen(0, "localhost", promise);
+    return promise.future().map(HttpServer::actualPort);
+  }
+
+  private void handle(HttpServerRequest request) {
+    String path = request.path();
+    Buffer body;
+    if (path.endsWith("/_mget")) {
+      body = latestResponse;
+    } else if (path.endsWith("/_search")) {
+      body = searchResponse;
+    } else if (path.endsWith("/_count")) {
+      body = countResponse;
+    } else {
+      request.response().setStatusCode(404).end();
+      return;
+    }
+    request.endHandler(end -> {
+      if (latencyMillis > 0) {
+        vertx.setTimer(latencyMillis, timerId -> respond(request, body));
+      } else {
+        respond(request, body);
+      }
+    });
+  }
+
+  private static void respond(HttpServerRequest request, Buffer body) {
+    request.response().putHeader("content-type", "application/json").end(body);
+  }
+}
@@ -0,0 +1,231 @@
+package iudx.resource.server.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * The Load Generator.
+ * <h1>Load Generator</h1>
+ * <p>
+ * Drives the resource server with a closed loop: a fixed number of virtual clients each send a
+ * request of the traffic mix, wait for its response and send the next one. Latencies of the
+ * responses to requests sent after the warm up are recorded per kind of request. Any response
+ * other than a 200, and any failure to get one, is counted as an error.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public class LoadGenerator {
+
+  private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+  private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+  private final WebClient client;
+  private final int port;
+  private final String token;
+  private final Traffic traffic;
+  private final Map<String, Stats> stats = new LinkedHashMap<>();
+
+  private long measureFromNanos;
+  private long endNanos;
+  private long measuredNanos;
+
+  /**
+   * Creates the generator.
+   *
+   * @param client client to send the requests with
+   * @param port port of the resource server on localhost
+   * @param token token to send the requests with
+   * @param traffic the request mix
+   */
+  public LoadGenerator(WebClient client, int port, String token, Traffic traffic) {
+    this.client = client;
+    this.port = port;
+    this.token = token;
+    this.traffic = traffic;
+    for (String kind : Traffic.KINDS) {
+      stats.put(kind, new Stats());
+    }
+  }
+
+  /**
+   * Runs the load.
+   *
+   * @param concurrency number of virtual clients
+   * @param warmupMillis time during which responses are not recorded
+   * @param durationMillis time during which responses are recorded, after the warm up
+   * @return future completed once every virtual client is done
+   */
+  public Future<Void> run(int concurrency, long warmupMillis, long durationMillis) {
+    Promise<Void> promise = Promise.promise();
+    long start = System.nanoTime();
+    measureFromNanos = start + TimeUnit.MILLISECONDS.toNanos(warmupMillis);
+    endNanos = measureFromNanos + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+    AtomicInteger running = new AtomicInteger(concurrency);
+    for (int i = 0; i < concurrency; i++) {
+      next(() -> {
+        if (running.decrementAndGet() == 0) {
+          measuredNanos = System.nanoTime() - measureFromNanos;
+          promise.complete();
+        }
+      });
+    }
+    return promise.future();
+  }
+
+  private void next(Runnable done) {
+    long sentAt = System.nanoTime();
+    if (sentAt >= endNanos) {
+      done.run();
+      return;
+    }
+    String kind = traffic.nextKind();
+    send(traffic.request(kind), response -> {
+      if (sentAt >= measureFromNanos) {
+        stats.get(kind).record(System.nanoTime() - sentAt, response);
+      }
+      next(done);
+    });
+  }
+
+  private void send(Traffic.Request request, Handler<AsyncResult<HttpResponse<Buffer>>> handler) {
+    HttpRequest<Buffer> httpRequest =
+        client.request(request.method, port, "localhost", request.path).putHeader("token", token);
+    if (request.params != null) {
+      request.params.forEach(param -> httpRequest.addQueryParam(param.getKey(),
+          param.getValue().toString()));
+    }
+    if (request.body != null) {
+      httpRequest.sendJsonObject(request.body, handler);
+    } else {
+      httpRequest.send(handler);
+    }
+  }
+
+  /**
+   * The report of the run: per kind of request and in total, the number of requests and errors,
+   * the throughput in requests per second and the latency percentiles in milliseconds.
+   *
+   * @return the report
+   */
+  public JsonObject report() {
+    double seconds = measuredNanos / 1e9;
+    JsonObject kinds = new JsonObject();
+    Histogram total = new Histogram(HIGHEST_LATENCY_MICROS, 3);
+    long totalErrors = 0;
+    Map<Integer, Long> totalStatuses = new TreeMap<>();
+    for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+      Stats kindStats = entry.getValue();
+      if (kindStats.latencies.getTotalCount() == 0 && kindStats.errors.sum() == 0) {
+        continue;
+      }
+      total.add(kindStats.latencies);
+      totalErrors += kindStats.errors.sum();
+      kindStats.statuses.forEach((status, count) -> totalStatuses.merge(status, count.sum(),
+          Long::sum));
+      kinds.put(entry.getKey(), summary(kindStats.latencies, kindStats.errors.sum(),
+          kindStats.statusCounts(), seconds));
+    }
+    return new JsonObject()
+        .put("durationSeconds", seconds)
+        .put("total", summary(total, totalErrors, totalStatuses, seconds))
+        .put("requests", kinds);
+  }
+
+  private static JsonObject summary(Histogram latencies, long errors,
+      Map<Integer, Long> statuses, double seconds) {
+    long requests = latencies.getTotalCount();
+    JsonObject latency = new JsonObject();
+    for (int i = 0; i < PERCENTILES.length; i++) {
+      latency.put(PERCENTILE_NAMES[i], millis(latencies.getValueAtPercentile(PERCENTILES[i])));
+    }
+    latency.put("max", millis(latencies.getMaxValue()))
+        .put("mean", latencies.getTotalCount() == 0 ? 0 : latencies.getMean() / 1000);
+    JsonObject statusCounts = new JsonObject();
+    statuses.forEach((status, count) -> statusCounts.put(Integer.toString(status), count));
+    return new JsonObject()
+        .put("requests", requests)
+        .put("errors", errors)
+        .put("errorRate", requests == 0 ? 0 : (double) errors / requests)
+        .put("throughput", seconds == 0 ? 0 : requests / seconds)
+        .put("latencyMillis", latency)
+        .put("statuses", statusCounts);
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+
+  /**
+   * Formats a report as a plain text table.
+   *
+   * @param report the report
+   * @return the table
+   */
+  public static String format(JsonObject report) {
+    StringBuilder text = new StringBuilder();
+    text.append(String.format("Protocol %s, measured for %.1f s%n%n",
+        report.getString("protocol", "http1"), report.getDouble("durationSeconds")));
+    text.append(String.format("%-10s %10s %8s %10s %9s %9s %9s %9s %9s %9s%n", "requests",
+        "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms",
+        "mean ms"));
+    JsonObject kinds = report.getJsonObject("requests");
+    for (String kind : kinds.fieldNames()) {
+      row(text, kind, kinds.getJsonObject(kind));
+    }
+    row(text, "total", report.getJsonObject("total"));
+    return text.toString();
+  }
+
+  private static void row(StringBuilder text, String name, JsonObject summary) {
+    JsonObject latency = summary.getJsonObject("latencyMillis");
+    text.append(String.format("%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+        name, summary.getLong("requests"), summary.getLong("errors"),
+        summary.getDouble("throughput"), latency.getDouble("p50"), latency.getDouble("p90"),
+        latency.getDouble("p99"), latency.getDouble("p999"), latency.getDouble("max"),
+        latency.getDouble("mean")));
+  }
+
+  /* Latencies in microseconds, status code counts and errors of one kind of request */
+  private static final class Stats {
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder errors = new LongAdder();
+
+    void record(long nanos, AsyncResult<HttpResponse<Buffer>> response) {
+      latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos),
+          HIGHEST_LATENCY_MICROS));
+      /* 0 stands for no response at all */
+      int status = response.succeeded() ? response.result().statusCode() : 0;
+      statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+      if (status != 200) {
+        errors.increment();
+      }
+    }
+
+    Map<Integer, Long> statusCounts() {
+      Map<Integer, Long> counts = new TreeMap<>();
+      statuses.forEach((status, count) -> counts.put(status, count.sum()));
+      return counts;
+    }
+  }
+}
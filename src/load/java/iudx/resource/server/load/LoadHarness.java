@@ -0,0 +1,366 @@
+package iudx.resource.server.load;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.cli.CLI;
+import io.vertx.core.cli.CommandLine;
+import io.vertx.core.cli.Option;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.JksOptions;
+import io.vertx.ext.auth.jwt.JWTAuth;
+import io.vertx.ext.auth.jwt.JWTAuthOptions;
+import io.vertx.ext.jwt.JWTOptions;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+import io.vertx.rabbitmq.RabbitMQClient;
+import io.vertx.rabbitmq.RabbitMQOptions;
+import iudx.resource.server.deploy.DeployerDev;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The Load Harness.
+ * <h1>Load Harness</h1>
+ * <p>
+ * Measures the throughput and latency of the resource server without any external service. The
+ * database, authentication, data broker and API server verticles are deployed as
+ * {@link DeployerDev} does, against a {@link FakeElasticsearch}, a {@link FakeCatalogue} and an
+ * {@link EmbeddedBroker}. Tokens are signed by the harness and verified locally by the
+ * authentication verticle in jwt mode, so no token introspection server is needed. The
+ * {@link LoadGenerator} then drives the API server with the configured traffic mix and the
+ * report is written, as JSON and as a text table, to the report directory.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public class LoadHarness {
+
+  private static final Logger LOGGER = LogManager.getLogger(LoadHarness.class);
+
+  private static final String KEYSTORE_PASSWORD = "loadharness";
+  private static final String CONSUMER = "load@iudx.org";
+  private static final String[] APIS =
+      {"/ngsi-ld/v1/entities", "/ngsi-ld/v1/temporal/entities", "/iudx/v1/adapter"};
+  private static final String HTTP1 = "http1";
+  private static final String H2 = "h2";
+  private static final int STARTUP_ATTEMPTS = 100;
+  private static final long STARTUP_RETRY_MILLIS = 200;
+
+  private final CommandLine options;
+  private final Path reportDir;
+
+  private LoadHarness(CommandLine options) {
+    this.options = options;
+    this.reportDir = Paths.get(options.getOptionValue("report-dir"));
+  }
+
+  private int intOption(String name) {
+    return Integer.parseInt(options.getOptionValue(name));
+  }
+
+  /**
+   * Runs the load and writes the report.
+   *
+   * @return the report
+   * @throws Exception when a stand-in or a verticle fails to start, or the run fails
+   */
+  private JsonObject run() throws Exception {
+    Files.createDirectories(reportDir);
+    Path keystore = createKeystore(reportDir.resolve("keystore.jks"));
+    JksOptions keyStoreOptions =
+        new JksOptions().setPath(keystore.toString()).setPassword(KEYSTORE_PASSWORD);
+
+    EmbeddedBroker broker = new EmbeddedBroker(reportDir.resolve("broker"));
+    int brokerPort = broker.start();
+    Vertx vertx = Vertx.vertx();
+    try {
+      FakeElasticsearch elastic = new FakeElasticsearch(vertx, intOption("hits"),
+          Long.parseLong(options.getOptionValue("es-latency")));
+      FakeCatalogue catalogue =
+          new FakeCatalogue(vertx, keyStoreOptions, options.getOptionValue("access-policy"));
+      CompositeFuture standIns = await(CompositeFuture.all(elastic.start(), catalogue.start()));
+      await(declareExchange(vertx, brokerPort));
+
+      JsonObject signingKey = signingKey();
+      int apiPort = freePort();
+      Promise<Void> deployed = Promise.promise();
+      DeployerDev.recursiveDeploy(vertx, configuration(standIns.resultAt(0),
+          standIns.resultAt(1), brokerPort, apiPort, keystore, signingKey), 0, deployed);
+      await(deployed.future());
+
+      WebClient client = WebClient.create(vertx, clientOptions());
+      await(awaitListening(vertx, client, apiPort));
+
+      Traffic traffic = new Traffic(Traffic.parseMix(options.getOptionValue("mix")),
+          intOption("resources"));
+      LoadGenerator generator =
+          new LoadGenerator(client, apiPort, token(vertx, signingKey), traffic);
+      LOGGER.info("Info: Running the load for {} s after a warm up of {} s",
+          options.getOptionValue("duration"), options.getOptionValue("warmup"));
+      await(generator.run(intOption("concurrency"),
+          TimeUnit.SECONDS.toMillis(intOption("warmup")),
+          TimeUnit.SECONDS.toMillis(intOption("duration"))));
+
+      JsonObject report = generator.report().put("protocol", options.getOptionValue("protocol"));
+      Files.write(reportDir.resolve("load-report.json"),
+          report.encodePrettily().getBytes(StandardCharsets.UTF_8));
+      String table = LoadGenerator.format(report);
+      Files.write(reportDir.resolve("load-report.txt"), table.getBytes(StandardCharsets.UTF_8));
+      LOGGER.info("Info: Load report{}{}", System.lineSeparator(), table);
+      return report;
+    } finally {
+      CompletableFuture<Void> closed = new CompletableFuture<>();
+      vertx.close(handler -> closed.complete(null));
+      closed.get(30, TimeUnit.SECONDS);
+      broker.stop();
+    }
+  }
+
+  /*
+   * HTTP/1.1 keeps one connection per virtual client, as it has no pipelining. HTTP/2 multiplexes
+   * the virtual clients over the given number of connections, with prior knowledge.
+   */
+  private WebClientOptions clientOptions() {
+    int concurrency = intOption("concurrency");
+    String protocol = options.getOptionValue("protocol");
+    switch (protocol) {
+      case HTTP1:
+        return new WebClientOptions().setKeepAlive(true).setMaxPoolSize(concurrency);
+      case H2:
+        int connections = intOption("connections");
+        return new WebClientOptions().setProtocolVersion(HttpVersion.HTTP_2)
+            .setHttp2ClearTextUpgrade(false)
+            .setHttp2MaxPoolSize(connections)
+            .setHttp2MultiplexingLimit((concurrency + connections - 1) / connections);
+      default:
+        throw new IllegalArgumentException("Unknown protocol " + protocol);
+    }
+  }
+
+  /* Modules as in the example configuration, pointed at the stand-ins */
+  private JsonObject configuration(int elasticPort, int cataloguePort, int brokerPort,
+      int apiPort, Path keystore, JsonObject signingKey) {
+    int instances = intOption("instances");
+    JsonObject database = new JsonObject()
+        .put("id", "iudx.resource.server.database.DatabaseVerticle")
+        .put("verticleInstances", instances)
+        .put("databaseIP", "localhost")
+        .put("databasePort", elasticPort)
+        .put("dbUser", "")
+        .put("dbPassword", "");
+    JsonObject authentication = new JsonObject()
+        .put("id", "iudx.resource.server.authenticator.AuthenticationVerticle")
+        .put("verticleInstances", instances)
+        .put("keystore", keystore.toString())
+        .put("keystorePassword", KEYSTORE_PASSWORD)
+        .put("authServerHost", "localhost")
+        .put("authMode", "jwt")
+        .put("jwks", new JsonObject().put("keys", new JsonArray().add(signingKey)))
+        .put("catServerHost", "localhost")
+        .put("catServerPort", Integer.toString(cataloguePort))
+        .put("serverMode", "production");
+    JsonObject dataBroker = new JsonObject()
+        .put("id", "iudx.resource.server.databroker.DataBrokerVerticle")
+        .put("verticleInstances", instances)
+        .put("dataBrokerIP", "localhost")
+        .put("dataBrokerPort", Integer.toString(brokerPort))
+        .put("dataBrokerVhost", EmbeddedBroker.VIRTUAL_HOST)
+        .put("dataBrokerUserName", EmbeddedBroker.USER)
+        .put("dataBrokerPassword", EmbeddedBroker.PASSWORD)
+        .put("dataBrokerManagementPort", Integer.toString(brokerPort))
+        .put("connectionTimeout", "6000")
+        .put("requestedHeartbeat", "60")
+        .put("handshakeTimeout", "6000")
+        .put("requestedChannelMax", "5")
+        .put("networkRecoveryInterval", "500")
+        .put("automaticRecoveryEnabled", "true")
+        .put("callbackDatabaseIP", "localhost")
+        .put("callbackDatabasePort", "5432")
+        .put("callbackDatabaseName", "")
+        .put("callbackDatabaseUserName", "")
+        .put("callbackDatabasePassword", "")
+        .put("callbackpoolSize", "1")
+        .put("callbackPartitionExchange", "");
+    JsonObject apiServer = new JsonObject()
+        .put("id", "iudx.resource.server.apiserver.ApiServerVerticle")
+        .put("verticleInstances", instances)
+        .put("ssl", false)
+        .put("httpPort", Integer.toString(apiPort))
+        .put("http2", "true")
+        .put("keystore", keystore.toString())
+        .put("keystorePassword", KEYSTORE_PASSWORD)
+        .put("rsAdmin", "datakaveri.org/f7e044eee8122b5c87dce6e7ad64f3266afa41dc");
+    return new JsonObject().put("modules",
+        new JsonArray().add(database).add(authentication).add(dataBroker).add(apiServer));
+  }
+
+  /* Ingested data is published to the exchange of its resource group */
+  private static Future<Void> declareExchange(Vertx vertx, int brokerPort) {
+    RabbitMQClient client = RabbitMQClient.create(vertx, new RabbitMQOptions()
+        .setHost("localhost")
+        .setPort(brokerPort)
+        .setVirtualHost(EmbeddedBroker.VIRTUAL_HOST)
+        .setUser(EmbeddedBroker.USER)
+        .setPassword(EmbeddedBroker.PASSWORD));
+    Promise<Void> started = Promise.promise();
+    client.start(started);
+    return started.future().compose(ready -> {
+      Promise<Void> declared = Promise.promise();
+      client.exchangeDeclare(Traffic.GROUP_ID, "topic", true, false, declared);
+      return declared.future();
+    }).onComplete(done -> client.stop(stopped -> {
+    }));
+  }
+
+  /* The API server starts listening after its deployment completes */
+  private static Future<Void> awaitListening(Vertx vertx, WebClient client, int port) {
+    Promise<Void> promise = Promise.promise();
+    probe(vertx, client, port, STARTUP_ATTEMPTS, promise);
+    return promise.future();
+  }
+
+  private static void probe(Vertx vertx, WebClient client, int port, int attempts,
+      Promise<Void> promise) {
+    client.get(port, "localhost", "/").send(response -> {
+      if (response.succeeded()) {
+        promise.complete();
+      } else if (attempts <= 1) {
+        promise.fail(response.cause());
+      } else {
+        vertx.setTimer(STARTUP_RETRY_MILLIS,
+            timerId -> probe(vertx, client, port, attempts - 1, promise));
+      }
+    });
+  }
+
+  private static JsonObject signingKey() {
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    return new JsonObject().put("kty", "oct").put("alg", "HS256")
+        .put("k", Base64.getUrlEncoder().withoutPadding().encodeToString(secret));
+  }
+
+  /* A consumer token for the APIs driven, over every resource of the group */
+  private String token(Vertx vertx, JsonObject signingKey) {
+    JWTAuth issuer = JWTAuth.create(vertx,
+        new JWTAuthOptions().setJwks(Collections.singletonList(signingKey)));
+    JsonObject claims = new JsonObject().put("consumer", CONSUMER)
+        .put("request", new JsonArray().add(new JsonObject()
+            .put("id", Traffic.GROUP_ID + "/*")
+            .put("apis", new JsonArray(Arrays.asList(APIS)))));
+    int minutes = (intOption("warmup") + intOption("duration")) / 60 + 10;
+    return issuer.generateToken(claims,
+        new JWTOptions().setAlgorithm("HS256").setExpiresInMinutes(minutes));
+  }
+
+  /* A self signed key pair for the catalogue stand-in and the authentication client */
+  private static Path createKeystore(Path keystore) throws IOException, InterruptedException {
+    Files.deleteIfExists(keystore);
+    Path keytool = Paths.get(System.getProperty("java.home"), "bin", "keytool");
+    Process process = new ProcessBuilder(keytool.toString(), "-genkeypair",
+        "-alias", "localhost", "-keyalg", "RSA", "-keysize", "2048", "-validity", "1",
+        "-dname", "CN=localhost", "-storetype", "JKS", "-keystore", keystore.toString(),
+        "-storepass", KEYSTORE_PASSWORD, "-keypass", KEYSTORE_PASSWORD)
+        .redirectErrorStream(true)
+        .start();
+    String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    if (process.waitFor() != 0) {
+      throw new IOException("keytool failed: " + output);
+    }
+    return keystore;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static <T> T await(Future<T> future) throws Exception {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    future.onComplete(handler -> {
+      if (handler.succeeded()) {
+        result.complete(handler.result());
+      } else {
+        result.completeExceptionally(handler.cause());
+      }
+    });
+    return result.get();
+  }
+
+  private static CLI cli() {
+    return CLI.create("IUDX RS load").setSummary("Load test the resource server offline")
+        .addOption(new Option().setLongName("help").setShortName("h").setFlag(true)
+            .setDescription("display help"))
+        .addOption(new Option().setLongName("mix").setDefaultValue(
+            "latest=40,temporal=30,geo=20,ingest=10")
+            .setDescription("weights of the latest, temporal, geo and ingest requests"))
+        .addOption(new Option().setLongName("duration").setDefaultValue("60")
+            .setDescription("seconds of measured load"))
+        .addOption(new Option().setLongName("warmup").setDefaultValue("10")
+            .setDescription("seconds of load before the measurement"))
+        .addOption(new Option().setLongName("concurrency").setDefaultValue("64")
+            .setDescription("number of virtual clients"))
+        .addOption(new Option().setLongName("protocol").setDefaultValue(HTTP1)
+            .setDescription("http1 for HTTP/1.1 keep-alive, h2 for HTTP/2"))
+        .addOption(new Option().setLongName("connections").setDefaultValue("1")
+            .setDescription("number of HTTP/2 connections the virtual clients share"))
+        .addOption(new Option().setLongName("resources").setDefaultValue("100")
+            .setDescription("number of resources the requests are spread over"))
+        .addOption(new Option().setLongName("hits").setDefaultValue("100")
+            .setDescription("number of hits of each search response"))
+        .addOption(new Option().setLongName("es-latency").setDefaultValue("0")
+            .setDescription("milliseconds of Elasticsearch query time"))
+        .addOption(new Option().setLongName("access-policy").setDefaultValue("SECURE")
+            .setDescription("access policy of the catalogue items, SECURE or OPEN"))
+        .addOption(new Option().setLongName("instances").setDefaultValue("2")
+            .setDescription("instances of each verticle"))
+        .addOption(new Option().setLongName("report-dir").setDefaultValue("target/load")
+            .setDescription("directory to write the report to"))
+        .addOption(new Option().setLongName("max-error-rate").setDefaultValue("0.01")
+            .setDescription("error rate above which the run fails"));
+  }
+
+  public static void main(String[] args) {
+    CLI cli = cli();
+    StringBuilder usageString = new StringBuilder();
+    cli.usage(usageString);
+    CommandLine commandLine = cli.parse(Arrays.asList(args), false);
+    if (!commandLine.isValid() || commandLine.isFlagEnabled("help")) {
+      LOGGER.info(usageString);
+      return;
+    }
+    int status = 0;
+    try {
+      JsonObject report = new LoadHarness(commandLine).run();
+      double errorRate = report.getJsonObject("total").getDouble("errorRate");
+      double maxErrorRate = Double.parseDouble(commandLine.getOptionValue("max-error-rate"));
+      if (errorRate > maxErrorRate) {
+        LOGGER.error("Error: error rate {} is above {}", errorRate, maxErrorRate);
+        status = 1;
+      }
+    } catch (Exception e) {
+      LOGGER.fatal("Load run failed", e);
+      status = 2;
+    }
+    System.exit(status);
+  }
+}
@@ -0,0 +1,179 @@
+package iudx.resource.server.load;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The Traffic.
+ * <h1>Traffic</h1>
+ * <p>
+ * The request mix driven by the load generator. Every request targets one of a fixed number of
+ * resources of a single resource group, picked at random, so that the catalogue and
+ * authorization caches warm up as they would for a real group of sensors.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class Traffic {
+
+  public static final String LATEST = "latest";
+  public static final String TEMPORAL = "temporal";
+  public static final String GEO = "geo";
+  public static final String INGEST = "ingest";
+  public static final List<String> KINDS = List.of(LATEST, TEMPORAL, GEO, INGEST);
+
+  public static final String PROVIDER = "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86";
+  public static final String RESOURCE_SERVER = "rs.iudx.io";
+  public static final String RESOURCE_GROUP = "surat-itms-realtime-information";
+  public static final String GROUP_ID = PROVIDER + "/" + RESOURCE_SERVER + "/" + RESOURCE_GROUP;
+
+  private static final String ENTITIES_PATH = "/ngsi-ld/v1/entities";
+  private static final String TEMPORAL_PATH = "/ngsi-ld/v1/temporal/entities";
+  private static final String INGEST_PATH = "/iudx/v1/adapter/entities";
+
+  private final String[] kinds;
+  private final int[] cumulativeWeights;
+  private final int totalWeight;
+  private final int resources;
+
+  /**
+   * Creates the mix.
+   *
+   * @param mix weight of each kind of request, kinds left out are not sent
+   * @param resources number of resources of the group to spread the requests over
+   */
+  public Traffic(Map<String, Integer> mix, int resources) {
+    List<String> names = new ArrayList<>();
+    List<Integer> weights = new ArrayList<>();
+    int total = 0;
+    for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+      if (entry.getValue() > 0) {
+        total += entry.getValue();
+        names.add(entry.getKey());
+        weights.add(total);
+      }
+    }
+    if (total == 0) {
+      throw new IllegalArgumentException("The traffic mix has no requests");
+    }
+    this.kinds = names.toArray(new String[0]);
+    this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+    this.totalWeight = total;
+    this.resources = resources;
+  }
+
+  /**
+   * Parses a mix of the form latest=40,temporal=30,geo=20,ingest=10.
+   *
+   * @param mix the mix
+   * @return weight of each kind of request, in the order given
+   */
+  public static Map<String, Integer> parseMix(String mix) {
+    Map<String, Integer> weights = new LinkedHashMap<>();
+    for (String part : mix.split(",")) {
+      String[] pair = part.trim().split("=");
+      if (pair.length != 2 || !KINDS.contains(pair[0].trim())) {
+        throw new IllegalArgumentException("Invalid traffic mix entry: " + part);
+      }
+      weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+    }
+    return weights;
+  }
+
+  /**
+   * Picks the kind of the next request according to the weights of the mix.
+   *
+   * @return one of the kinds of the mix
+   */
+  public String nextKind() {
+    int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (pick < cumulativeWeights[i]) {
+        return kinds[i];
+      }
+    }
+    return kinds[kinds.length - 1];
+  }
+
+  /**
+   * Builds a request of the given kind for a random resource.
+   *
+   * @param kind the kind of request
+   * @return the request
+   */
+  public Request request(String kind) {
+    String id = resourceId(ThreadLocalRandom.current().nextInt(resources));
+    switch (kind) {
+      case LATEST:
+        return new Request(HttpMethod.GET, ENTITIES_PATH + "/" + id, null, null);
+      case TEMPORAL:
+        return new Request(HttpMethod.GET, TEMPORAL_PATH, new JsonObject()
+            .put("id", id)
+            .put("timerel", "during")
+            .put("time", "2020-10-18T00:00:00Z")
+            .put("endtime", "2020-10-19T00:00:00Z"), null);
+      case GEO:
+        return new Request(HttpMethod.GET, ENTITIES_PATH, new JsonObject()
+            .put("id", id)
+            .put("georel", "near;maxDistance=1000")
+            .put("geometry", "point")
+            .put("coordinates", "[21.178,72.834]"), null);
+      case INGEST:
+        JsonObject body = observation(ThreadLocalRandom.current().nextInt(1000))
+            .put("id", id)
+            .put("resourceGroup", RESOURCE_GROUP)
+            .put("resourceServer", RESOURCE_SERVER);
+        return new Request(HttpMethod.POST, INGEST_PATH, null, body);
+      default:
+        throw new IllegalArgumentException("Unknown kind of request: " + kind);
+    }
+  }
+
+  public static String resourceId(int i) {
+    return GROUP_ID + "/surat-itms-live-eta-" + i;
+  }
+
+  /**
+   * An ITMS observation, as published by the adapter and indexed.
+   *
+   * @param i sequence number of the observation
+   * @return the observation
+   */
+  public static JsonObject observation(int i) {
+    return new JsonObject()
+        .put("id", resourceId(0))
+        .put("observationDateTime", "2020-10-18T14:" + (10 + i % 50) + ":00+05:30")
+        .put("trip_id", "trip-" + i)
+        .put("route_id", "route-" + (i % 40))
+        .put("speed", 20.5 + i % 30)
+        .put("trip_direction", i % 2 == 0 ? "UP" : "DOWN")
+        .put("license_plate", "GJ05BX" + (1000 + i % 9000))
+        .put("location", new JsonObject().put("type", "Point")
+            .put("coordinates", new JsonArray().add(72.81 + i * 1e-5).add(21.16)));
+  }
+
+  /**
+   * A request to send: method, path, query parameters and body, the latter two optional.
+   */
+  public static final class Request {
+    public final HttpMethod method;
+    public final String path;
+    public final JsonObject params;
+    public final JsonObject body;
+
+    Request(HttpMethod method, String path, JsonObject params, JsonObject body) {
+      this.method = method;
+      this.path = path;
+      this.params = params;
+      this.body = body;
+    }
+  }
+}
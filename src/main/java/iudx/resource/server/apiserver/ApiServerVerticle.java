@@ -5,16 +5,50 @@ import static iudx.resource.server.apiserver.util.Constants.API_ENDPOINT;
 import static iudx.resource.server.apiserver.util.Constants.APPLICATION_JSON;
 import static iudx.resource.server.apiserver.util.Constants.APP_NAME_REGEX;
 import static iudx.resource.server.apiserver.util.Constants.CONTENT_TYPE;
+import static iudx.resource.server.apiserver.util.Constants.CONTEXT_QUERY_JOB;
+import static iudx.resource.server.apiserver.util.Constants.CONTEXT_RESOURCE_ID;
+import static iudx.resource.server.apiserver.util.Constants.DATA_BROKER_IP;
+import static iudx.resource.server.apiserver.util.Constants.DATA_BROKER_PASSWORD;
+import static iudx.resource.server.apiserver.util.Constants.DATA_BROKER_PORT;
+import static iudx.resource.server.apiserver.util.Constants.DATA_BROKER_USERNAME;
+import static iudx.resource.server.apiserver.util.Constants.DATA_BROKER_VHOST;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_DOCS_MAX_AGE_SECONDS;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_HTTP2;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_HTTP_PORT;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_IDLE_TIMEOUT_SECONDS;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_MAX_HEADER_SIZE;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_MAX_INITIAL_LINE_LENGTH;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_REUSE_PORT;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_STREAM_HEARTBEAT_SECONDS;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_STREAM_QUEUE_SIZE;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_TCP_FAST_OPEN;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_TCP_NO_DELAY;
+import static iudx.resource.server.apiserver.util.Constants.DOCS_MAX_AGE_SECONDS;
 import static iudx.resource.server.apiserver.util.Constants.EXCHANGE_ID;
 import static iudx.resource.server.apiserver.util.Constants.HEADER_ACCEPT;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_ACCEPT_RANGES;
 import static iudx.resource.server.apiserver.util.Constants.HEADER_ALLOW_ORIGIN;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_CACHE_CONTROL;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_CONTENT_DISPOSITION;
 import static iudx.resource.server.apiserver.util.Constants.HEADER_CONTENT_LENGTH;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_CONTENT_RANGE;
 import static iudx.resource.server.apiserver.util.Constants.HEADER_CONTENT_TYPE;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_ETAG;
 import static iudx.resource.server.apiserver.util.Constants.HEADER_HOST;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_IF_MODIFIED_SINCE;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_IF_NONE_MATCH;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_LAST_MODIFIED;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_LOCATION;
 import static iudx.resource.server.apiserver.util.Constants.HEADER_OPTIONS;
 import static iudx.resource.server.apiserver.util.Constants.HEADER_ORIGIN;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_RANGE;
 import static iudx.resource.server.apiserver.util.Constants.HEADER_REFERER;
 import static iudx.resource.server.apiserver.util.Constants.HEADER_TOKEN;
+import static iudx.resource.server.apiserver.util.Constants.HTTP2;
+import static iudx.resource.server.apiserver.util.Constants.HTTP2_MAX_CONCURRENT_STREAMS;
+import static iudx.resource.server.apiserver.util.Constants.HTTP_PORT;
+import static iudx.resource.server.apiserver.util.Constants.IDLE_TIMEOUT_SECONDS;
 import static iudx.resource.server.apiserver.util.Constants.IUDXQUERY_OPTIONS;
 import static iudx.resource.server.apiserver.util.Constants.IUDX_MANAGEMENT_ADAPTER_URL;
 import static iudx.resource.server.apiserver.util.Constants.IUDX_MANAGEMENT_BIND_URL;
@@ -28,70 +62,113 @@ import static iudx.resource.server.apiserver.util.Constants.JSON_COUNT;
 import static iudx.resource.server.apiserver.util.Constants.JSON_DOMAIN;
 import static iudx.resource.server.apiserver.util.Constants.JSON_EXCHANGE_NAME;
 import static iudx.resource.server.apiserver.util.Constants.JSON_INSTANCEID;
+import static iudx.resource.server.apiserver.util.Constants.JSON_JOB_ID;
 import static iudx.resource.server.apiserver.util.Constants.JSON_NAME;
 import static iudx.resource.server.apiserver.util.Constants.JSON_PROVIDER;
 import static iudx.resource.server.apiserver.util.Constants.JSON_QUEUE_NAME;
 import static iudx.resource.server.apiserver.util.Constants.JSON_RESOURCE_GROUP;
 import static iudx.resource.server.apiserver.util.Constants.JSON_RESOURCE_NAME;
 import static iudx.resource.server.apiserver.util.Constants.JSON_RESOURCE_SERVER;
+import static iudx.resource.server.apiserver.util.Constants.JSON_RESULTS;
+import static iudx.resource.server.apiserver.util.Constants.JSON_SEARCH_TYPE;
+import static iudx.resource.server.apiserver.util.Constants.JSON_TITLE;
 import static iudx.resource.server.apiserver.util.Constants.JSON_TYPE;
 import static iudx.resource.server.apiserver.util.Constants.JSON_USERSHA;
 import static iudx.resource.server.apiserver.util.Constants.JSON_VHOST;
 import static iudx.resource.server.apiserver.util.Constants.JSON_VHOST_ID;
+import static iudx.resource.server.apiserver.util.Constants.MAX_HEADER_SIZE;
+import static iudx.resource.server.apiserver.util.Constants.MAX_INITIAL_LINE_LENGTH;
+import static iudx.resource.server.apiserver.util.Constants.MIME_APPLICATION_GZIP;
 import static iudx.resource.server.apiserver.util.Constants.MIME_APPLICATION_JSON;
+import static iudx.resource.server.apiserver.util.Constants.MIME_APPLICATION_YAML;
 import static iudx.resource.server.apiserver.util.Constants.MIME_TEXT_HTML;
 import static iudx.resource.server.apiserver.util.Constants.MSG_INVALID_EXCHANGE_NAME;
 import static iudx.resource.server.apiserver.util.Constants.MSG_INVALID_NAME;
 import static iudx.resource.server.apiserver.util.Constants.MSG_INVALID_PARAM;
+import static iudx.resource.server.apiserver.util.Constants.MSG_JOB_NOT_COMPLETED;
+import static iudx.resource.server.apiserver.util.Constants.MSG_JOB_NOT_FOUND;
+import static iudx.resource.server.apiserver.util.Constants.MSG_JOB_QUEUE_FULL;
+import static iudx.resource.server.apiserver.util.Constants.MSG_JOB_TOKEN_REQUIRED;
 import static iudx.resource.server.apiserver.util.Constants.MSG_PARAM_DECODE_ERROR;
 import static iudx.resource.server.apiserver.util.Constants.MSG_SUB_TYPE_NOT_FOUND;
+import static iudx.resource.server.apiserver.util.Constants.NGSILD_ASYNC_QUERY_URL;
+import static iudx.resource.server.apiserver.util.Constants.NGSILD_ASYNC_RESULT_URL;
+import static iudx.resource.server.apiserver.util.Constants.NGSILD_ASYNC_STATUS_URL;
+import static iudx.resource.server.apiserver.util.Constants.NGSILD_ENTITIES_STREAM_URL;
 import static iudx.resource.server.apiserver.util.Constants.NGSILD_ENTITIES_URL;
 import static iudx.resource.server.apiserver.util.Constants.NGSILD_POST_QUERY_PATH;
 import static iudx.resource.server.apiserver.util.Constants.NGSILD_SUBSCRIPTION_URL;
+import static iudx.resource.server.apiserver.util.Constants.NGSILD_TEMPORAL_EXPORT_URL;
 import static iudx.resource.server.apiserver.util.Constants.NGSILD_TEMPORAL_URL;
+import static iudx.resource.server.apiserver.util.Constants.REUSE_PORT;
 import static iudx.resource.server.apiserver.util.Constants.ROUTE_DOC;
 import static iudx.resource.server.apiserver.util.Constants.ROUTE_STATIC_SPEC;
+import static iudx.resource.server.apiserver.util.Constants.STREAM_HEARTBEAT_SECONDS;
+import static iudx.resource.server.apiserver.util.Constants.STREAM_QUEUE_SIZE;
 import static iudx.resource.server.apiserver.util.Constants.SUBSCRIPTION_ID;
 import static iudx.resource.server.apiserver.util.Constants.SUB_TYPE;
+import static iudx.resource.server.apiserver.util.Constants.TCP_FAST_OPEN;
+import static iudx.resource.server.apiserver.util.Constants.TCP_NO_DELAY;
 import static iudx.resource.server.apiserver.util.Util.toUriFunction;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import io.netty.handler.codec.http.HttpConstants;
-import io.netty.handler.codec.http.QueryStringDecoder;
 import io.vertx.core.AbstractVerticle;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.JksOptions;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.handler.CorsHandler;
+import io.vertx.rabbitmq.RabbitMQOptions;
 import iudx.resource.server.apiserver.handlers.AuthHandler;
+import iudx.resource.server.apiserver.handlers.RouteMetricsHandler;
 import iudx.resource.server.apiserver.management.ManagementApi;
 import iudx.resource.server.apiserver.management.ManagementApiImpl;
 import iudx.resource.server.apiserver.query.NGSILDQueryParams;
 import iudx.resource.server.apiserver.query.QueryMapper;
+import iudx.resource.server.apiserver.query.QueryParser;
+import iudx.resource.server.apiserver.export.ResultExport;
+import iudx.resource.server.apiserver.jobs.QueryJob;
+import iudx.resource.server.apiserver.jobs.QueryJobs;
+import iudx.resource.server.apiserver.response.CompressedPayload;
+import iudx.resource.server.apiserver.response.ConditionalResponse;
+import iudx.resource.server.apiserver.response.FileResponse;
+import iudx.resource.server.apiserver.response.ResponseCache;
+import iudx.resource.server.apiserver.response.ResponseCompression;
 import iudx.resource.server.apiserver.response.ResponseType;
 import iudx.resource.server.apiserver.response.RestResponse;
+import iudx.resource.server.apiserver.response.StaticFile;
+import iudx.resource.server.apiserver.stream.EntityStreamHandler;
+import iudx.resource.server.apiserver.stream.EntityStreamHub;
 import iudx.resource.server.apiserver.subscription.SubsType;
 import iudx.resource.server.apiserver.subscription.SubscriptionService;
 import iudx.resource.server.authenticator.AuthenticationService;
+import iudx.resource.server.common.EventBusServices;
+import iudx.resource.server.common.QueryMetrics;
 import iudx.resource.server.database.DatabaseService;
 import iudx.resource.server.databroker.DataBrokerService;
 
@@ -126,12 +203,17 @@ public class ApiServerVerticle extends AbstractVerticle {
 
   private HttpServer server;
   private Router router;
-  private final int port = 80;
+  private int port;
   private boolean isSSL;
   private String keystore;
   private String keystorePassword;
   private ManagementApi managementApi;
   private SubscriptionService subsService;
+  private ResponseCompression compression;
+  private ResponseCache responseCache;
+  private QueryJobs queryJobs;
+  private StaticFile spec;
+  private StaticFile apiDoc;
 
   private DatabaseService database;
   private DataBrokerService databroker;
@@ -140,7 +222,7 @@ public class ApiServerVerticle extends AbstractVerticle {
   /**
    * This method is used to start the Verticle. It deploys a verticle in a cluster, reads the
    * configuration, obtains a proxy for the Event bus services exposed through service discovery,
-   * start an HTTPs server at port 8443 or an HTTP server at port 8080.
+   * start an HTTPs or an HTTP server at the configured httpPort, 80 by default.
    * 
    * @throws Exception which is a startup exception TODO Need to add documentation for all the
    * 
@@ -158,6 +240,17 @@ public class ApiServerVerticle extends AbstractVerticle {
     allowedHeaders.add(HEADER_ORIGIN);
     allowedHeaders.add(HEADER_REFERER);
     allowedHeaders.add(HEADER_ALLOW_ORIGIN);
+    allowedHeaders.add(HEADER_IF_NONE_MATCH);
+    allowedHeaders.add(HEADER_IF_MODIFIED_SINCE);
+    allowedHeaders.add(HEADER_RANGE);
+
+    Set<String> exposedHeaders = new HashSet<>();
+    exposedHeaders.add(HEADER_ETAG);
+    exposedHeaders.add(HEADER_LAST_MODIFIED);
+    exposedHeaders.add(HEADER_LOCATION);
+    exposedHeaders.add(HEADER_ACCEPT_RANGES);
+    exposedHeaders.add(HEADER_CONTENT_RANGE);
+    exposedHeaders.add(HEADER_CONTENT_DISPOSITION);
 
     Set<HttpMethod> allowedMethods = new HashSet<>();
     allowedMethods.add(HttpMethod.GET);
@@ -174,77 +267,146 @@ public class ApiServerVerticle extends AbstractVerticle {
     /* Define the APIs, methods, endpoints and associated methods. */
 
     router = Router.router(vertx);
-    router.route().handler(
-        CorsHandler.create("*").allowedHeaders(allowedHeaders).allowedMethods(allowedMethods));
+    CorsHandler corsHandler =
+        CorsHandler.create("*").allowedHeaders(allowedHeaders).allowedMethods(allowedMethods)
+            .exposedHeaders(exposedHeaders);
+
+    /* Live entity streams, kept out of the request metrics and the body handler as they are
+     * long lived and a WebSocket upgrade must not have its request read */
+    EntityStreamHandler streamHandler = createStreamHandler();
+    if (streamHandler != null) {
+      router.get(NGSILD_ENTITIES_STREAM_URL)
+          .handler(corsHandler)
+          .handler(AuthHandler.create(vertx, NGSILD_ENTITIES_URL))
+          .handler(streamHandler);
+    }
+
+    router.route().handler(RouteMetricsHandler.create());
+    router.route().handler(corsHandler);
     // router.route().handler(new TokenHandler());
     router.route().handler(BodyHandler.create());
-    router.route().handler(AuthHandler.create(vertx));
 
     /* NGSI-LD api endpoints */
-    router.get(NGSILD_ENTITIES_URL).handler(this::handleEntitiesQuery);
+    router.get(NGSILD_ENTITIES_URL)
+        .handler(AuthHandler.create(vertx, NGSILD_ENTITIES_URL))
+        .handler(this::handleEntitiesQuery);
     router
         .get(NGSILD_ENTITIES_URL + "/:domain/:userSha/:resourceServer/:resourceGroup/:resourceName")
+        .handler(AuthHandler.create(vertx, NGSILD_ENTITIES_URL))
         .handler(this::handleEntitiesQuery);
-    router.post(NGSILD_POST_QUERY_PATH).handler(this::handlePostEntitiesQuery);
-    router.get(NGSILD_TEMPORAL_URL).handler(this::handleTemporalQuery);
-    router.post(NGSILD_SUBSCRIPTION_URL).handler(this::handleSubscriptions);
+    router.post(NGSILD_POST_QUERY_PATH)
+        .handler(AuthHandler.create(vertx, NGSILD_POST_QUERY_PATH))
+        .handler(this::handlePostEntitiesQuery);
+    router.get(NGSILD_TEMPORAL_URL)
+        .handler(AuthHandler.create(vertx, NGSILD_TEMPORAL_URL))
+        .handler(this::handleTemporalQuery);
+    router.get(NGSILD_TEMPORAL_EXPORT_URL)
+        .handler(AuthHandler.create(vertx, NGSILD_TEMPORAL_URL))
+        .handler(this::handleTemporalExport);
+    router.post(NGSILD_ASYNC_QUERY_URL)
+        .handler(AuthHandler.create(vertx, NGSILD_POST_QUERY_PATH))
+        .handler(this::handleAsyncQuery);
+    router.get(NGSILD_ASYNC_STATUS_URL + "/:jobId")
+        .handler(this::findQueryJob)
+        .handler(AuthHandler.create(vertx, NGSILD_POST_QUERY_PATH))
+        .handler(this::handleAsyncQueryStatus);
+    router.get(NGSILD_ASYNC_RESULT_URL + "/:jobId")
+        .handler(this::findQueryJob)
+        .handler(AuthHandler.create(vertx, NGSILD_POST_QUERY_PATH))
+        .handler(this::handleAsyncQueryResult);
+    router.post(NGSILD_SUBSCRIPTION_URL)
+        .handler(AuthHandler.create(vertx, NGSILD_SUBSCRIPTION_URL))
+        .handler(this::handleSubscriptions);
     // append sub
     router.patch(NGSILD_SUBSCRIPTION_URL + "/:domain/:userSHA/:alias")
+        .handler(AuthHandler.create(vertx, NGSILD_SUBSCRIPTION_URL))
         .handler(this::appendSubscription);
     // update sub
     router.put(NGSILD_SUBSCRIPTION_URL + "/:domain/:userSHA/:alias")
+        .handler(AuthHandler.create(vertx, NGSILD_SUBSCRIPTION_URL))
         .handler(this::updateSubscription);
     // get sub
-    router.get(NGSILD_SUBSCRIPTION_URL + "/:domain/:userSHA/:alias").handler(this::getSubscription);
+    router.get(NGSILD_SUBSCRIPTION_URL + "/:domain/:userSHA/:alias")
+        .handler(AuthHandler.create(vertx, NGSILD_SUBSCRIPTION_URL))
+        .handler(this::getSubscription);
     // delete sub
     router.delete(NGSILD_SUBSCRIPTION_URL + "/:domain/:userSHA/:alias")
+        .handler(AuthHandler.create(vertx, NGSILD_SUBSCRIPTION_URL))
         .handler(this::deleteSubscription);
 
     /* Management Api endpoints */
     // Exchange
-    router.post(IUDX_MANAGEMENT_EXCHANGE_URL).handler(this::createExchange);
-    router.delete(IUDX_MANAGEMENT_EXCHANGE_URL + "/:exId").handler(this::deleteExchange);
-    router.get(IUDX_MANAGEMENT_EXCHANGE_URL + "/:exId").handler(this::getExchangeDetails);
+    router.post(IUDX_MANAGEMENT_EXCHANGE_URL)
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_EXCHANGE_URL))
+        .handler(this::createExchange);
+    router.delete(IUDX_MANAGEMENT_EXCHANGE_URL + "/:exId")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_EXCHANGE_URL))
+        .handler(this::deleteExchange);
+    router.get(IUDX_MANAGEMENT_EXCHANGE_URL + "/:exId")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_EXCHANGE_URL))
+        .handler(this::getExchangeDetails);
     // Queue
-    router.post(IUDX_MANAGEMENT_QUEUE_URL).handler(this::createQueue);
-    router.delete(IUDX_MANAGEMENT_QUEUE_URL + "/:queueId").handler(this::deleteQueue);
-    router.get(IUDX_MANAGEMENT_QUEUE_URL + "/:queueId").handler(this::getQueueDetails);
+    router.post(IUDX_MANAGEMENT_QUEUE_URL)
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_QUEUE_URL))
+        .handler(this::createQueue);
+    router.delete(IUDX_MANAGEMENT_QUEUE_URL + "/:queueId")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_QUEUE_URL))
+        .handler(this::deleteQueue);
+    router.get(IUDX_MANAGEMENT_QUEUE_URL + "/:queueId")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_QUEUE_URL))
+        .handler(this::getQueueDetails);
     // bind
-    router.post(IUDX_MANAGEMENT_BIND_URL).handler(this::bindQueue2Exchange);
+    router.post(IUDX_MANAGEMENT_BIND_URL)
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_BIND_URL))
+        .handler(this::bindQueue2Exchange);
     // unbind
-    router.post(IUDX_MANAGEMENT_UNBIND_URL).handler(this::unbindQueue2Exchange);
+    router.post(IUDX_MANAGEMENT_UNBIND_URL)
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_UNBIND_URL))
+        .handler(this::unbindQueue2Exchange);
     // vHost
-    router.post(IUDX_MANAGEMENT_VHOST_URL).handler(this::createVHost);
-    router.delete(IUDX_MANAGEMENT_VHOST_URL + "/:vhostId").handler(this::deleteVHost);
+    router.post(IUDX_MANAGEMENT_VHOST_URL)
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_VHOST_URL))
+        .handler(this::createVHost);
+    router.delete(IUDX_MANAGEMENT_VHOST_URL + "/:vhostId")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_VHOST_URL))
+        .handler(this::deleteVHost);
     // adapter
-    router.post(IUDX_MANAGEMENT_ADAPTER_URL + "/register").handler(this::registerAdapter);
+    router.post(IUDX_MANAGEMENT_ADAPTER_URL + "/register")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_ADAPTER_URL))
+        .handler(this::registerAdapter);
     router.delete(IUDX_MANAGEMENT_ADAPTER_URL + "/:domain/:userSHA/:resourceServer/:resourceGroup")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_ADAPTER_URL))
         .handler(this::deleteAdapter);
     router.get(IUDX_MANAGEMENT_ADAPTER_URL + "/:domain/:userSHA/:resourceServer/:resourceGroup")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_ADAPTER_URL))
         .handler(this::getAdapterDetails);
-    router.post(IUDX_MANAGEMENT_ADAPTER_URL + "/heartbeat").handler(this::publishHeartbeat);
+    router.post(IUDX_MANAGEMENT_ADAPTER_URL + "/heartbeat")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_ADAPTER_URL))
+        .handler(this::publishHeartbeat);
     router.post(IUDX_MANAGEMENT_ADAPTER_URL + "/downstreamissue")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_ADAPTER_URL))
         .handler(this::publishDownstreamIssue);
-    router.post(IUDX_MANAGEMENT_ADAPTER_URL + "/dataissue").handler(this::publishDataIssue);
-    router.post(IUDX_MANAGEMENT_ADAPTER_URL + "/entities").handler(this::publishDataFromAdapter);
+    router.post(IUDX_MANAGEMENT_ADAPTER_URL + "/dataissue")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_ADAPTER_URL))
+        .handler(this::publishDataIssue);
+    router.post(IUDX_MANAGEMENT_ADAPTER_URL + "/entities")
+        .handler(AuthHandler.create(vertx, IUDX_MANAGEMENT_ADAPTER_URL))
+        .handler(this::publishDataFromAdapter);
 
     /**
      * Documentation routes
      */
     /* Static Resource Handler */
     /* Get openapiv3 spec */
-    router.get(ROUTE_STATIC_SPEC).produces(MIME_APPLICATION_JSON).handler(routingContext -> {
-      HttpServerResponse response = routingContext.response();
-      response.sendFile("docs/openapi.yaml");
-    });
+    router.get(ROUTE_STATIC_SPEC).produces(MIME_APPLICATION_YAML)
+        .handler(routingContext -> sendStaticFile(routingContext, spec));
     /* Get redoc */
-    router.get(ROUTE_DOC).produces(MIME_TEXT_HTML).handler(routingContext -> {
-      HttpServerResponse response = routingContext.response();
-      response.sendFile("docs/apidoc.html");
-    });
+    router.get(ROUTE_DOC).produces(MIME_TEXT_HTML)
+        .handler(routingContext -> sendStaticFile(routingContext, apiDoc));
 
-    /* Read ssl configuration. */
+    /* Read ssl and port configuration. */
     isSSL = config().getBoolean("ssl");
+    port = Integer.parseInt(config().getString(HTTP_PORT, DEFAULT_HTTP_PORT));
     HttpServerOptions serverOptions = new HttpServerOptions();
 
     if (isSSL) {
@@ -268,17 +430,38 @@ public class ApiServerVerticle extends AbstractVerticle {
       serverOptions.setSsl(false);
     }
 
-    serverOptions.setCompressionSupported(true).setCompressionLevel(5);
+    configureConnections(serverOptions);
+    compression = ResponseCompression.fromConfig(config());
+    responseCache = ResponseCache.getOrCreate(vertx, config());
+    queryJobs = QueryJobs.getOrCreate(vertx, config());
+    long docsMaxAge =
+        Long.parseLong(config().getString(DOCS_MAX_AGE_SECONDS, DEFAULT_DOCS_MAX_AGE_SECONDS));
+    Future<StaticFile> specFile = StaticFile.getOrLoad(vertx, "docs/openapi.yaml",
+        MIME_APPLICATION_YAML, compression, docsMaxAge);
+    Future<StaticFile> apiDocFile =
+        StaticFile.getOrLoad(vertx, "docs/apidoc.html", MIME_TEXT_HTML, compression, docsMaxAge);
     server = vertx.createHttpServer(serverOptions);
-    server.requestHandler(router).listen(port);
+    /* the documentation is read on a worker thread, the server listens once it is */
+    CompositeFuture.join(specFile, apiDocFile).onComplete(loaded -> {
+      spec = specFile.result();
+      apiDoc = apiDocFile.result();
+      server.requestHandler(router).listen(port);
+    });
 
     /* Get a handler for the Service Discovery interface. */
 
-    database = DatabaseService.createProxy(vertx, DATABASE_SERVICE_ADDRESS);
+    /* Services deployed on this node are called over their local address */
+
+    DeliveryOptions proxyOptions = EventBusServices.proxyOptions(vertx);
 
-    authenticator = AuthenticationService.createProxy(vertx, AUTH_SERVICE_ADDRESS);
+    database = DatabaseService.createProxy(vertx,
+        EventBusServices.proxyAddress(vertx, DATABASE_SERVICE_ADDRESS), proxyOptions);
 
-    databroker = DataBrokerService.createProxy(vertx, BROKER_SERVICE_ADDRESS);
+    authenticator = AuthenticationService.createProxy(vertx,
+        EventBusServices.proxyAddress(vertx, AUTH_SERVICE_ADDRESS), proxyOptions);
+
+    databroker = DataBrokerService.createProxy(vertx,
+        EventBusServices.proxyAddress(vertx, BROKER_SERVICE_ADDRESS), proxyOptions);
 
 
     managementApi = new ManagementApiImpl();
@@ -294,12 +477,16 @@ public class ApiServerVerticle extends AbstractVerticle {
     LOGGER.debug("Info:handleEntitiesQuery method started.;");
     /* Handles HTTP request from client */
     JsonObject authInfo = (JsonObject) routingContext.data().get("authInfo");
-    LOGGER.debug("authInfo : " + authInfo);
+    LOGGER.debug("authInfo : {}", authInfo);
     HttpServerRequest request = routingContext.request();
     /* Handles HTTP response from server to client */
     HttpServerResponse response = routingContext.response();
     // get query paramaters
-    MultiMap params = getQueryParams(routingContext, response).get();
+    Optional<MultiMap> queryParams = getQueryParams(routingContext, response);
+    if (queryParams.isEmpty()) {
+      return;
+    }
+    MultiMap params = queryParams.get();
     // validate request parameters
     Future<Boolean> validationResult = Validator.validate(params);
     validationResult.onComplete(validationHandler -> {
@@ -312,8 +499,12 @@ public class ApiServerVerticle extends AbstractVerticle {
         String pathId = domain + "/" + userSha + "/" + resourceServer + "/" + resourceGroup + "/"
             + resourceName;
         // parse query params
-        NGSILDQueryParams ngsildquery = new NGSILDQueryParams(params);
-        LOGGER.debug("Info : PathId " + pathId);
+        NGSILDQueryParams ngsildquery =
+            parseQuery(() -> new NGSILDQueryParams(params), response);
+        if (ngsildquery == null) {
+          return;
+        }
+        LOGGER.debug("Info : PathId {}", pathId);
         if (!pathId.contains("null")) {
           List<URI> ids = new ArrayList<>();
           ids.add(toUriFunction.apply(pathId));
@@ -325,7 +516,7 @@ public class ApiServerVerticle extends AbstractVerticle {
         /* HTTP request instance/host details */
         String instanceID = request.getHeader(HEADER_HOST);
         json.put(JSON_INSTANCEID, instanceID);
-        LOGGER.debug("Info: IUDX query json;" + json);
+        LOGGER.debug("Info: IUDX query json;{}", json);
         /* HTTP request body as Json */
         JsonObject requestBody = new JsonObject();
         requestBody.put("ids", json.getJsonArray("id"));
@@ -333,7 +524,7 @@ public class ApiServerVerticle extends AbstractVerticle {
             && JSON_COUNT.equalsIgnoreCase(json.getString(IUDXQUERY_OPTIONS))) {
           database.countQuery(json, handler -> {
             if (handler.succeeded()) {
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   handler.result().toString());
             } else if (handler.failed()) {
               processBackendResponse(response, handler.cause().getMessage());
@@ -341,11 +532,10 @@ public class ApiServerVerticle extends AbstractVerticle {
           });
         } else {
           // call database vertical for seaarch
-          database.searchQuery(json, handler -> {
+          search(json).onComplete(handler -> {
             if (handler.succeeded()) {
               LOGGER.info("Success: Search Query success");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
-                  handler.result().toString());
+              sendPayload(routingContext, handler.result());
             } else if (handler.failed()) {
               LOGGER.error("Fail: Search Query failed");
               processBackendResponse(response, handler.cause().getMessage());
@@ -369,26 +559,30 @@ public class ApiServerVerticle extends AbstractVerticle {
     LOGGER.debug("Info: handlePostEntitiesQuery method started.");
     HttpServerRequest request = routingContext.request();
     JsonObject requestJson = routingContext.getBodyAsJson();
-    LOGGER.debug("Info: request Json :: ;" + requestJson);
+    LOGGER.debug("Info: request Json :: ;{}", requestJson);
     HttpServerResponse response = routingContext.response();
     // validate request parameters
     Future<Boolean> validationResult = Validator.validate(requestJson);
     validationResult.onComplete(validationHandler -> {
       if (validationHandler.succeeded()) {
         // parse query params
-        NGSILDQueryParams ngsildquery = new NGSILDQueryParams(requestJson);
+        NGSILDQueryParams ngsildquery =
+            parseQuery(() -> new NGSILDQueryParams(requestJson), response);
+        if (ngsildquery == null) {
+          return;
+        }
         QueryMapper queryMapper = new QueryMapper();
         JsonObject json = queryMapper.toJson(ngsildquery, requestJson.containsKey("temporalQ"));
         String instanceID = request.getHeader(HEADER_HOST);
         json.put(JSON_INSTANCEID, instanceID);
         requestJson.put("ids", json.getJsonArray("id"));
-        LOGGER.debug("Info: IUDX query json : ;" + json);
+        LOGGER.debug("Info: IUDX query json : ;{}", json);
         if (json.containsKey(IUDXQUERY_OPTIONS)
             && JSON_COUNT.equalsIgnoreCase(json.getString(IUDXQUERY_OPTIONS))) {
           database.countQuery(json, handler -> {
             if (handler.succeeded()) {
               LOGGER.info("Success: Count Success");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   handler.result().toString());
             } else if (handler.failed()) {
               LOGGER.error("Fail: Count Fail");
@@ -397,11 +591,10 @@ public class ApiServerVerticle extends AbstractVerticle {
           });
         } else {
           // call database vertical for search
-          database.searchQuery(json, handler -> {
+          search(json).onComplete(handler -> {
             if (handler.succeeded()) {
               LOGGER.info("Success: Search Success");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
-                  handler.result().toString());
+              sendPayload(routingContext, handler.result());
             } else if (handler.failed()) {
               LOGGER.error("Fail: Search Fail");
               processBackendResponse(response, handler.cause().getMessage());
@@ -431,18 +624,26 @@ public class ApiServerVerticle extends AbstractVerticle {
     /* HTTP request instance/host details */
     String instanceID = request.getHeader(HEADER_HOST);
     // get query parameters
-    MultiMap params = getQueryParams(routingContext, response).get();
+    Optional<MultiMap> queryParams = getQueryParams(routingContext, response);
+    if (queryParams.isEmpty()) {
+      return;
+    }
+    MultiMap params = queryParams.get();
     // validate request params
     Future<Boolean> validationResult = Validator.validate(params);
     validationResult.onComplete(validationHandler -> {
       if (validationHandler.succeeded()) {
         // parse query params
-        NGSILDQueryParams ngsildquery = new NGSILDQueryParams(params);
+        NGSILDQueryParams ngsildquery =
+            parseQuery(() -> new NGSILDQueryParams(params), response);
+        if (ngsildquery == null) {
+          return;
+        }
         QueryMapper queryMapper = new QueryMapper();
         // create json
         JsonObject json = queryMapper.toJson(ngsildquery, true);
         json.put(JSON_INSTANCEID, instanceID);
-        LOGGER.debug("Info: IUDX temporal json query;" + json);
+        LOGGER.debug("Info: IUDX temporal json query;{}", json);
         /* HTTP request body as Json */
         JsonObject requestBody = new JsonObject();
         requestBody.put("ids", json.getJsonArray("id"));
@@ -450,7 +651,7 @@ public class ApiServerVerticle extends AbstractVerticle {
             && JSON_COUNT.equalsIgnoreCase(json.getString(IUDXQUERY_OPTIONS))) {
           database.countQuery(json, handler -> {
             if (handler.succeeded()) {
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   handler.result().toString());
             } else if (handler.failed()) {
               processBackendResponse(response, handler.cause().getMessage());
@@ -458,11 +659,10 @@ public class ApiServerVerticle extends AbstractVerticle {
           });
         } else {
           // call database vertical for normal seaarch
-          database.searchQuery(json, handler -> {
+          search(json).onComplete(handler -> {
             if (handler.succeeded()) {
               LOGGER.info("Success: Temporal query");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
-                  handler.result().toString());
+              sendPayload(routingContext, handler.result());
             } else if (handler.failed()) {
               LOGGER.error("Fail: Temporal query");
               processBackendResponse(response, handler.cause().getMessage());
@@ -477,6 +677,170 @@ public class ApiServerVerticle extends AbstractVerticle {
 
   }
 
+  /**
+   * This method is used to handle temporal NGSI-LD queries for endpoint
+   * /ngsi-ld/v1/temporal/entities/export, streaming all the results as NDJSON, or as CSV if the
+   * request accepts text/csv.
+   * 
+   * @param routingContext RoutingContext object
+   * 
+   */
+  private void handleTemporalExport(RoutingContext routingContext) {
+    LOGGER.debug("Info: handleTemporalExport method started.");
+    HttpServerRequest request = routingContext.request();
+    HttpServerResponse response = routingContext.response();
+    String instanceID = request.getHeader(HEADER_HOST);
+    Optional<MultiMap> queryParams = getQueryParams(routingContext, response);
+    if (queryParams.isEmpty()) {
+      return;
+    }
+    MultiMap params = queryParams.get();
+    Future<Boolean> validationResult = Validator.validate(params);
+    validationResult.onComplete(validationHandler -> {
+      if (validationHandler.succeeded()) {
+        NGSILDQueryParams ngsildquery =
+            parseQuery(() -> new NGSILDQueryParams(params), response);
+        if (ngsildquery == null) {
+          return;
+        }
+        QueryMapper queryMapper = new QueryMapper();
+        JsonObject json = queryMapper.toJson(ngsildquery, true);
+        json.put(JSON_INSTANCEID, instanceID);
+        LOGGER.debug("Info: IUDX temporal export query;{}", json);
+        ResultExport.Format format =
+            ResultExport.Format.fromAccept(request.getHeader(HEADER_ACCEPT));
+        new ResultExport(database, response, format, failureMessage -> {
+          LOGGER.error("Fail: Temporal export");
+          processBackendResponse(response, failureMessage);
+        }).start(json);
+      } else if (validationHandler.failed()) {
+        LOGGER.error("Fail: Bad request;");
+        handleResponse(response, ResponseType.BadRequestData, MSG_INVALID_PARAM);
+      }
+    });
+  }
+
+  /**
+   * This method is used to submit a query to run in the background, for endpoint
+   * /ngsi-ld/v1/async/query. The body is that of /ngsi-ld/v1/entityOperations/query; the
+   * response tells the id of the job, and where to follow it.
+   * 
+   * @param routingContext routingContext
+   *
+   */
+  private void handleAsyncQuery(RoutingContext routingContext) {
+    LOGGER.debug("Info: handleAsyncQuery method started.");
+    HttpServerRequest request = routingContext.request();
+    JsonObject requestJson = routingContext.getBodyAsJson();
+    HttpServerResponse response = routingContext.response();
+    /* a job belongs to the token it was submitted with, which a public request does not have */
+    String token = request.getHeader(HEADER_TOKEN);
+    if (token == null) {
+      LOGGER.error("Fail: Query job submitted without a token");
+      handleResponse(response, ResponseType.AuthenticationFailure, MSG_JOB_TOKEN_REQUIRED);
+      return;
+    }
+    Future<Boolean> validationResult = Validator.validate(requestJson);
+    validationResult.onComplete(validationHandler -> {
+      if (validationHandler.succeeded()) {
+        NGSILDQueryParams ngsildquery =
+            parseQuery(() -> new NGSILDQueryParams(requestJson), response);
+        if (ngsildquery == null) {
+          return;
+        }
+        QueryMapper queryMapper = new QueryMapper();
+        JsonObject json = queryMapper.toJson(ngsildquery, requestJson.containsKey("temporalQ"));
+        json.put(JSON_INSTANCEID, request.getHeader(HEADER_HOST));
+        LOGGER.debug("Info: IUDX async query json : ;{}", json);
+        QueryJob job = queryJobs.submit(database, json, token);
+        if (job == null) {
+          LOGGER.error("Fail: Query job queue full");
+          handleResponse(response, ResponseType.ServiceUnavailable, MSG_JOB_QUEUE_FULL);
+          return;
+        }
+        response.putHeader(HEADER_LOCATION, NGSILD_ASYNC_STATUS_URL + "/" + job.id());
+        handleSuccessResponse(routingContext, ResponseType.Accepted.getCode(),
+            jobResponse(ResponseType.Accepted, job).toString());
+      } else if (validationHandler.failed()) {
+        LOGGER.error("Fail: Bad request");
+        handleResponse(response, ResponseType.BadRequestData, MSG_INVALID_PARAM);
+      }
+    });
+  }
+
+  /**
+   * This method is used to tell the state of a query job, for endpoint
+   * /ngsi-ld/v1/async/status/{jobId}.
+   * 
+   * @param routingContext routingContext
+   *
+   */
+  private void handleAsyncQueryStatus(RoutingContext routingContext) {
+    QueryJob job = routingContext.get(CONTEXT_QUERY_JOB);
+    handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
+        jobResponse(ResponseType.Ok, job).toString());
+  }
+
+  /**
+   * This method is used to download the results of a completed query job, for endpoint
+   * /ngsi-ld/v1/async/result/{jobId}. The results are sent as gzip compressed NDJSON; a single
+   * byte range of them can be asked for, to resume a download.
+   * 
+   * @param routingContext routingContext
+   *
+   */
+  private void handleAsyncQueryResult(RoutingContext routingContext) {
+    HttpServerRequest request = routingContext.request();
+    HttpServerResponse response = routingContext.response();
+    QueryJob job = routingContext.get(CONTEXT_QUERY_JOB);
+    if (job.status() != QueryJob.Status.COMPLETED) {
+      handleResponse(response, ResponseType.NotFound, MSG_JOB_NOT_COMPLETED);
+      return;
+    }
+    /* the results of a job never change, they can be reused until they expire */
+    long maxAge = Math.max(0, (job.expiresAt() - System.currentTimeMillis()) / 1000);
+    String etag = "\"" + job.id() + "\"";
+    response.putHeader(HEADER_ETAG, etag)
+        .putHeader(HEADER_LAST_MODIFIED, ConditionalResponse.httpDate(job.completedAt()))
+        .putHeader(HEADER_CACHE_CONTROL, "private, max-age=" + maxAge);
+    if (ConditionalResponse.endIfNoneMatch(request, response, etag)) {
+      return;
+    }
+    response.putHeader(CONTENT_TYPE, MIME_APPLICATION_GZIP)
+        .putHeader(HEADER_CONTENT_DISPOSITION,
+            "attachment; filename=\"" + job.id() + QueryJobs.SPOOL_SUFFIX + "\"");
+    FileResponse.send(request, response, job.path(), job.size());
+  }
+
+  private void sendStaticFile(RoutingContext routingContext, StaticFile file) {
+    if (file == null) {
+      handleResponse(routingContext.response(), ResponseType.NotFound);
+      return;
+    }
+    file.send(routingContext.request(), routingContext.response(), compression);
+  }
+
+  /* Finds the job of the request, the resource of which the token is then authorized for */
+  private void findQueryJob(RoutingContext routingContext) {
+    String token = routingContext.request().getHeader(HEADER_TOKEN);
+    QueryJob job = token != null
+        ? queryJobs.get(routingContext.request().getParam(JSON_JOB_ID), token)
+        : null;
+    if (job == null) {
+      handleResponse(routingContext.response(), ResponseType.NotFound, MSG_JOB_NOT_FOUND);
+      return;
+    }
+    routingContext.put(CONTEXT_QUERY_JOB, job);
+    routingContext.put(CONTEXT_RESOURCE_ID, job.resourceId());
+    routingContext.next();
+  }
+
+  private JsonObject jobResponse(ResponseType responseType, QueryJob job) {
+    return new JsonObject().put(JSON_TYPE, responseType.getCode())
+        .put(JSON_TITLE, responseType.getMessage())
+        .put(JSON_RESULTS, new JsonArray().add(job.toJson()));
+  }
+
   /**
    * Method used to handle all subscription requests.
    * 
@@ -500,18 +864,18 @@ public class ApiServerVerticle extends AbstractVerticle {
     requestBody.put(SUB_TYPE, subscrtiptionType);
     /* checking authentication info in requests */
     JsonObject authInfo = (JsonObject) routingContext.data().get("authInfo");
-    LOGGER.debug("authInfo : " + authInfo);
+    LOGGER.debug("authInfo : {}", authInfo);
 
     if (requestBody.containsKey(SUB_TYPE)) {
       JsonObject jsonObj = requestBody.copy();
       jsonObj.put(JSON_CONSUMER, authInfo.getString(JSON_CONSUMER));
       jsonObj.put(JSON_INSTANCEID, instanceID);
-      LOGGER.debug("Info: json for subs :: ;" + jsonObj);
+      LOGGER.debug("Info: json for subs :: ;{}", jsonObj);
       Future<JsonObject> subsReq = subsService.createSubscription(jsonObj, databroker, database);
       subsReq.onComplete(subHandler -> {
         if (subHandler.succeeded()) {
           LOGGER.info("Success: Handle Subscription request;");
-          handleSuccessResponse(response, ResponseType.Created.getCode(),
+          handleSuccessResponse(routingContext, ResponseType.Created.getCode(),
               subHandler.result().toString());
         } else {
           LOGGER.error("Fail: Handle Subscription request;");
@@ -548,7 +912,7 @@ public class ApiServerVerticle extends AbstractVerticle {
             : SubsType.CALLBACK.getMessage();
     requestJson.put(SUB_TYPE, subscrtiptionType);
     JsonObject authInfo = (JsonObject) routingContext.data().get("authInfo");
-    LOGGER.debug("authInfo : " + authInfo);
+    LOGGER.debug("authInfo : {}", authInfo);
     if (requestJson != null && requestJson.containsKey(SUB_TYPE)) {
       if (requestJson.getString(JSON_NAME).equalsIgnoreCase(alias)) {
         JsonObject jsonObj = requestJson.copy();
@@ -557,7 +921,7 @@ public class ApiServerVerticle extends AbstractVerticle {
         subsReq.onComplete(subsRequestHandler -> {
           if (subsRequestHandler.succeeded()) {
             LOGGER.info("Success: Appending subscription");
-            handleSuccessResponse(response, ResponseType.Created.getCode(),
+            handleSuccessResponse(routingContext, ResponseType.Created.getCode(),
                 subsRequestHandler.result().toString());
           } else {
             LOGGER.error("Fail: Appending subscription");
@@ -605,7 +969,7 @@ public class ApiServerVerticle extends AbstractVerticle {
         Future<JsonObject> subsReq = subsService.updateSubscription(jsonObj, databroker, database);
         subsReq.onComplete(subsRequestHandler -> {
           if (subsRequestHandler.succeeded()) {
-            handleSuccessResponse(response, ResponseType.Created.getCode(),
+            handleSuccessResponse(routingContext, ResponseType.Created.getCode(),
                 subsRequestHandler.result().toString());
           } else {
             LOGGER.error("Fail: Bad request");
@@ -656,7 +1020,7 @@ public class ApiServerVerticle extends AbstractVerticle {
       subsReq.onComplete(subHandler -> {
         if (subHandler.succeeded()) {
           LOGGER.info("Success: Getting subscription");
-          handleSuccessResponse(response, ResponseType.Ok.getCode(),
+          handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
               subHandler.result().toString());
         } else {
           LOGGER.error("Fail: Bad request");
@@ -699,7 +1063,7 @@ public class ApiServerVerticle extends AbstractVerticle {
       Future<JsonObject> subsReq = subsService.deleteSubscription(jsonObj, databroker, database);
       subsReq.onComplete(subHandler -> {
         if (subHandler.succeeded()) {
-          handleSuccessResponse(response, ResponseType.Ok.getCode(),
+          handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
               subHandler.result().toString());
         } else {
           processBackendResponse(response, subHandler.cause().getMessage());
@@ -718,7 +1082,7 @@ public class ApiServerVerticle extends AbstractVerticle {
   private void createExchange(RoutingContext routingContext) {
     LOGGER.debug("Info: createExchange method started;");
     JsonObject requestJson = routingContext.getBodyAsJson();
-    LOGGER.info("request ::: " + requestJson);
+    LOGGER.info("request ::: {}", requestJson);
     HttpServerRequest request = routingContext.request();
     HttpServerResponse response = routingContext.response();
     String instanceID = request.getHeader(HEADER_HOST);
@@ -729,8 +1093,8 @@ public class ApiServerVerticle extends AbstractVerticle {
       authenticationInfo.put(HEADER_TOKEN, request.getHeader(HEADER_TOKEN));
       authenticator.tokenInterospect(requestJson.copy(), authenticationInfo, authHandler -> {
         if (authHandler.succeeded()) {
-          LOGGER.debug("Info: Authenticating response ;".concat(authHandler.result().toString()));
-          LOGGER.debug("Info: databroker :: ;" + databroker);
+          LOGGER.debug("Info: Authenticating response ;{}", authHandler.result());
+          LOGGER.debug("Info: databroker :: ;{}", databroker);
           Future<Boolean> isValidNameResult =
               isValidName(requestJson.copy().getString(JSON_EXCHANGE_NAME));
           isValidNameResult.onComplete(validNameHandler -> {
@@ -740,20 +1104,20 @@ public class ApiServerVerticle extends AbstractVerticle {
               brokerResult.onComplete(brokerResultHandler -> {
                 if (brokerResultHandler.succeeded()) {
                   LOGGER.info("Success: Creating exchange");
-                  handleSuccessResponse(response, ResponseType.Created.getCode(),
+                  handleSuccessResponse(routingContext, ResponseType.Created.getCode(),
                       brokerResultHandler.result().toString());
                 } else if (brokerResultHandler.failed()) {
-                  LOGGER.error("Fail: Bad request;" + brokerResultHandler.cause());
+                  LOGGER.error("Fail: Bad request;{}", brokerResultHandler.cause());
                   processBackendResponse(response, brokerResultHandler.cause().getMessage());
                 }
               });
             } else {
-              LOGGER.error("Fail: Unauthorized;" + validNameHandler.cause().getMessage());
+              LOGGER.error("Fail: Unauthorized;{}", validNameHandler.cause().getMessage());
               handleResponse(response, ResponseType.BadRequestData, MSG_INVALID_EXCHANGE_NAME);
             }
           });
         } else if (authHandler.failed()) {
-          LOGGER.error("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.error("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -787,15 +1151,15 @@ public class ApiServerVerticle extends AbstractVerticle {
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.info("Success: Deleting exchange");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   brokerResultHandler.result().toString());
             } else if (brokerResultHandler.failed()) {
-              LOGGER.error("Fail: Bad request;" + brokerResultHandler.cause().getMessage());
+              LOGGER.error("Fail: Bad request;{}", brokerResultHandler.cause().getMessage());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
         } else if (authHandler.failed()) {
-          LOGGER.error("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.error("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -817,8 +1181,8 @@ public class ApiServerVerticle extends AbstractVerticle {
     HttpServerRequest request = routingContext.request();
     JsonObject authenticationInfo = new JsonObject();
     authenticationInfo.put(API_ENDPOINT, "/management/exchange");
-    LOGGER.debug("Info: request :: ;" + request);
-    LOGGER.debug("Info: request json :: ;" + requestJson);
+    LOGGER.debug("Info: request :: ;{}", request);
+    LOGGER.debug("Info: request json :: ;{}", requestJson);
     String exchangeId = request.getParam(EXCHANGE_ID);
     String instanceID = request.getHeader(HEADER_HOST);
     requestJson.put(JSON_INSTANCEID, instanceID);
@@ -832,15 +1196,15 @@ public class ApiServerVerticle extends AbstractVerticle {
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.info("Success: Getting exchange details");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   brokerResultHandler.result().toString());
             } else if (brokerResultHandler.failed()) {
-              LOGGER.error("Fail: Bad request" + brokerResultHandler.cause().getMessage());
+              LOGGER.error("Fail: Bad request{}", brokerResultHandler.cause().getMessage());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
         } else if (authHandler.failed()) {
-          LOGGER.error("Fail: Unauthorized" + authHandler.cause().getMessage());
+          LOGGER.error("Fail: Unauthorized{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -867,7 +1231,7 @@ public class ApiServerVerticle extends AbstractVerticle {
     if (request.headers().contains(HEADER_TOKEN)) {
       authenticationInfo.put(HEADER_TOKEN, request.getHeader(HEADER_TOKEN));
       authenticator.tokenInterospect(requestJson.copy(), authenticationInfo, authHandler -> {
-        LOGGER.debug("Info: Authenticating response ;".concat(authHandler.result().toString()));
+        LOGGER.debug("Info: Authenticating response ;{}", authHandler.result());
         if (authHandler.succeeded()) {
           Future<Boolean> validNameResult =
               isValidName(requestJson.copy().getString(JSON_QUEUE_NAME));
@@ -877,10 +1241,10 @@ public class ApiServerVerticle extends AbstractVerticle {
               brokerResult.onComplete(brokerResultHandler -> {
                 if (brokerResultHandler.succeeded()) {
                   LOGGER.info("Success: Creating Queue");
-                  handleSuccessResponse(response, ResponseType.Created.getCode(),
+                  handleSuccessResponse(routingContext, ResponseType.Created.getCode(),
                       brokerResultHandler.result().toString());
                 } else if (brokerResultHandler.failed()) {
-                  LOGGER.error("Fail: Bad request" + brokerResultHandler.cause().getMessage());
+                  LOGGER.error("Fail: Bad request{}", brokerResultHandler.cause().getMessage());
                   processBackendResponse(response, brokerResultHandler.cause().getMessage());
                 }
               });
@@ -891,7 +1255,7 @@ public class ApiServerVerticle extends AbstractVerticle {
 
           });
         } else if (authHandler.failed()) {
-          LOGGER.error("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.error("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -919,21 +1283,21 @@ public class ApiServerVerticle extends AbstractVerticle {
     if (request.headers().contains(HEADER_TOKEN)) {
       authenticationInfo.put(HEADER_TOKEN, request.getHeader(HEADER_TOKEN));
       authenticator.tokenInterospect(requestJson, authenticationInfo, authHandler -> {
-        LOGGER.debug("Info: Authenticating response ;".concat(authHandler.result().toString()));
+        LOGGER.debug("Info: Authenticating response ;{}", authHandler.result());
         if (authHandler.succeeded()) {
           Future<JsonObject> brokerResult = managementApi.deleteQueue(queueId, databroker);
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.info("Success: Deleting Queue");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   brokerResultHandler.result().toString());
             } else if (brokerResultHandler.failed()) {
-              LOGGER.error("Fail: Bad request" + brokerResultHandler.cause().getMessage());
+              LOGGER.error("Fail: Bad request{}", brokerResultHandler.cause().getMessage());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
         } else if (authHandler.failed()) {
-          LOGGER.error("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.error("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -961,21 +1325,21 @@ public class ApiServerVerticle extends AbstractVerticle {
     if (request.headers().contains(HEADER_TOKEN)) {
       authenticationInfo.put(HEADER_TOKEN, request.getHeader(HEADER_TOKEN));
       authenticator.tokenInterospect(requestJson, authenticationInfo, authHandler -> {
-        LOGGER.debug("Info: Authenticating response;".concat(authHandler.result().toString()));
+        LOGGER.debug("Info: Authenticating response;{}", authHandler.result());
         if (authHandler.succeeded()) {
           Future<JsonObject> brokerResult = managementApi.getQueueDetails(queueId, databroker);
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.info("Success: Getting Queue Details");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   brokerResultHandler.result().toString());
             } else if (brokerResultHandler.failed()) {
-              LOGGER.error("Fail: Bad Request;" + brokerResultHandler.cause());
+              LOGGER.error("Fail: Bad Request;{}", brokerResultHandler.cause());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
         } else {
-          LOGGER.error("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.error("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -1008,15 +1372,15 @@ public class ApiServerVerticle extends AbstractVerticle {
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.info("Success: binding queue to exchange");
-              handleSuccessResponse(response, ResponseType.Created.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Created.getCode(),
                   brokerResultHandler.result().toString());
             } else if (brokerResultHandler.failed()) {
-              LOGGER.error("Fail: Bad request;" + brokerResultHandler.cause().getMessage());
+              LOGGER.error("Fail: Bad request;{}", brokerResultHandler.cause().getMessage());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
         } else if (authHandler.failed()) {
-          LOGGER.error("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.error("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -1049,15 +1413,15 @@ public class ApiServerVerticle extends AbstractVerticle {
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.info("Success: Unbinding queue to exchange");
-              handleSuccessResponse(response, ResponseType.Created.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Created.getCode(),
                   brokerResultHandler.result().toString());
             } else if (brokerResultHandler.failed()) {
-              LOGGER.error("Fail: Bad request;" + brokerResultHandler.cause().getMessage());
+              LOGGER.error("Fail: Bad request;{}", brokerResultHandler.cause().getMessage());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
         } else if (authHandler.failed()) {
-          LOGGER.error("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.error("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -1092,15 +1456,15 @@ public class ApiServerVerticle extends AbstractVerticle {
               brokerResult.onComplete(brokerResultHandler -> {
                 if (brokerResultHandler.succeeded()) {
                   LOGGER.info("Success: Creating vhost");
-                  handleSuccessResponse(response, ResponseType.Created.getCode(),
+                  handleSuccessResponse(routingContext, ResponseType.Created.getCode(),
                       brokerResultHandler.result().toString());
                 } else if (brokerResultHandler.failed()) {
-                  LOGGER.error("Fail: Bad request;" + brokerResultHandler.cause().getMessage());
+                  LOGGER.error("Fail: Bad request;{}", brokerResultHandler.cause().getMessage());
                   processBackendResponse(response, brokerResultHandler.cause().getMessage());
                 }
               });
             } else {
-              LOGGER.error("Fail: Unauthorized;" + authHandler.cause().getMessage());
+              LOGGER.error("Fail: Unauthorized;{}", authHandler.cause().getMessage());
               handleResponse(response, ResponseType.BadRequestData, MSG_INVALID_EXCHANGE_NAME);
             }
           });
@@ -1139,15 +1503,15 @@ public class ApiServerVerticle extends AbstractVerticle {
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.info("Success: Deleting vhost");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   brokerResultHandler.result().toString());
             } else if (brokerResultHandler.failed()) {
-              LOGGER.error("Fail: Bad request;" + brokerResultHandler.cause().getMessage());
+              LOGGER.error("Fail: Bad request;{}", brokerResultHandler.cause().getMessage());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
         } else if (authHandler.failed()) {
-          LOGGER.error("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.error("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -1176,10 +1540,10 @@ public class ApiServerVerticle extends AbstractVerticle {
     brokerResult.onComplete(brokerResultHandler -> {
       if (brokerResultHandler.succeeded()) {
         LOGGER.info("Success: Registering adapter");
-        handleSuccessResponse(response, ResponseType.Created.getCode(),
+        handleSuccessResponse(routingContext, ResponseType.Created.getCode(),
             brokerResultHandler.result().toString());
       } else if (brokerResult.failed()) {
-        LOGGER.error("Fail: Bad request" + brokerResultHandler.cause().getMessage());
+        LOGGER.error("Fail: Bad request{}", brokerResultHandler.cause().getMessage());
         processBackendResponse(response, brokerResultHandler.cause().getMessage());
       }
     });
@@ -1203,10 +1567,10 @@ public class ApiServerVerticle extends AbstractVerticle {
     brokerResult.onComplete(brokerResultHandler -> {
       if (brokerResultHandler.succeeded()) {
         LOGGER.info("Success: Deleting adapter");
-        handleSuccessResponse(response, ResponseType.Ok.getCode(),
+        handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
             brokerResultHandler.result().toString());
       } else {
-        LOGGER.error("Fail: Bad request;" + brokerResultHandler.cause().getMessage());
+        LOGGER.error("Fail: Bad request;{}", brokerResultHandler.cause().getMessage());
         processBackendResponse(response, brokerResultHandler.cause().getMessage());
       }
     });
@@ -1229,7 +1593,7 @@ public class ApiServerVerticle extends AbstractVerticle {
     Future<JsonObject> brokerResult = managementApi.getAdapterDetails(adapterId, databroker);
     brokerResult.onComplete(brokerResultHandler -> {
       if (brokerResultHandler.succeeded()) {
-        handleSuccessResponse(response, ResponseType.Ok.getCode(),
+        handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
             brokerResultHandler.result().toString());
       } else {
         processBackendResponse(response, brokerResultHandler.cause().getMessage());
@@ -1261,15 +1625,15 @@ public class ApiServerVerticle extends AbstractVerticle {
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.debug("Success: Published heartbeat");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   brokerResultHandler.result().toString());
             } else {
-              LOGGER.debug("Fail: Unauthorized;" + authHandler.cause().getMessage());
+              LOGGER.debug("Fail: Unauthorized;{}", authHandler.cause().getMessage());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
         } else {
-          LOGGER.debug("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.debug("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -1303,15 +1667,15 @@ public class ApiServerVerticle extends AbstractVerticle {
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.debug("Success: published downstream issue");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   brokerResultHandler.result().toString());
             } else {
-              LOGGER.debug("Fail: Bad request;" + brokerResultHandler.cause().getMessage());
+              LOGGER.debug("Fail: Bad request;{}", brokerResultHandler.cause().getMessage());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
         } else {
-          LOGGER.debug("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.debug("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -1343,10 +1707,10 @@ public class ApiServerVerticle extends AbstractVerticle {
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.debug("Success: publishing a data issue");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   brokerResultHandler.result().toString());
             } else {
-              LOGGER.debug("Fail: Bad request;" + brokerResultHandler.cause().getMessage());
+              LOGGER.debug("Fail: Bad request;{}", brokerResultHandler.cause().getMessage());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
@@ -1383,15 +1747,15 @@ public class ApiServerVerticle extends AbstractVerticle {
           brokerResult.onComplete(brokerResultHandler -> {
             if (brokerResultHandler.succeeded()) {
               LOGGER.debug("Success: publishing data from adapter");
-              handleSuccessResponse(response, ResponseType.Ok.getCode(),
+              handleSuccessResponse(routingContext, ResponseType.Ok.getCode(),
                   brokerResultHandler.result().toString());
             } else {
-              LOGGER.debug("Fail: Bad request;" + brokerResultHandler.cause().getMessage());
+              LOGGER.debug("Fail: Bad request;{}", brokerResultHandler.cause().getMessage());
               processBackendResponse(response, brokerResultHandler.cause().getMessage());
             }
           });
         } else {
-          LOGGER.debug("Fail: Unauthorized;" + authHandler.cause().getMessage());
+          LOGGER.debug("Fail: Unauthorized;{}", authHandler.cause().getMessage());
           handleResponse(response, ResponseType.AuthenticationFailure);
         }
       });
@@ -1402,19 +1766,134 @@ public class ApiServerVerticle extends AbstractVerticle {
   }
 
   /**
-   * handle HTTP response.
+   * Applies the protocol and connection settings of this module to the server options. HTTP/2 is
+   * negotiated through ALPN over TLS, and with prior knowledge or an h2c upgrade over plain HTTP,
+   * so one connection can carry many concurrent queries. Fast open and reuse port take effect
+   * only with a native transport. The idle timeout must exceed the entity stream heartbeat.
+   * Responses are compressed by {@link ResponseCompression}, not by the HTTP codec.
+   *
+   * @param serverOptions options of the HTTP server
+   */
+  private void configureConnections(HttpServerOptions serverOptions) {
+    JsonObject config = config();
+    boolean http2 = Boolean.parseBoolean(config.getString(HTTP2, DEFAULT_HTTP2));
+    if (http2) {
+      serverOptions.setUseAlpn(isSSL)
+          .setAlpnVersions(List.of(HttpVersion.HTTP_2, HttpVersion.HTTP_1_1))
+          .setInitialSettings(new Http2Settings().setMaxConcurrentStreams(Long.parseLong(
+              config.getString(HTTP2_MAX_CONCURRENT_STREAMS,
+                  DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS))));
+    } else {
+      serverOptions.setUseAlpn(false).setAlpnVersions(List.of(HttpVersion.HTTP_1_1));
+    }
+    serverOptions
+        .setTcpNoDelay(Boolean.parseBoolean(config.getString(TCP_NO_DELAY, DEFAULT_TCP_NO_DELAY)))
+        .setTcpFastOpen(
+            Boolean.parseBoolean(config.getString(TCP_FAST_OPEN, DEFAULT_TCP_FAST_OPEN)))
+        .setReusePort(Boolean.parseBoolean(config.getString(REUSE_PORT, DEFAULT_REUSE_PORT)))
+        .setIdleTimeout(Integer.parseInt(
+            config.getString(IDLE_TIMEOUT_SECONDS, DEFAULT_IDLE_TIMEOUT_SECONDS)))
+        .setIdleTimeoutUnit(TimeUnit.SECONDS)
+        .setMaxHeaderSize(
+            Integer.parseInt(config.getString(MAX_HEADER_SIZE, DEFAULT_MAX_HEADER_SIZE)))
+        .setMaxInitialLineLength(Integer.parseInt(
+            config.getString(MAX_INITIAL_LINE_LENGTH, DEFAULT_MAX_INITIAL_LINE_LENGTH)))
+        .setCompressionSupported(false);
+    LOGGER.info("Info: HTTP/2 {}, idle timeout {} s", http2 ? "enabled" : "disabled",
+        serverOptions.getIdleTimeout());
+  }
+
+  /**
+   * Creates the handler of the live entity streams, fed from the data broker configured for this
+   * module.
+   *
+   * @return the handler, null if no data broker is configured
+   */
+  private EntityStreamHandler createStreamHandler() {
+    JsonObject config = config();
+    if (!config.containsKey(DATA_BROKER_IP)) {
+      LOGGER.info("Info: No data broker configured, entity streams are disabled");
+      return null;
+    }
+    RabbitMQOptions brokerOptions = new RabbitMQOptions()
+        .setHost(config.getString(DATA_BROKER_IP))
+        .setPort(Integer.parseInt(config.getString(DATA_BROKER_PORT)))
+        .setVirtualHost(config.getString(DATA_BROKER_VHOST))
+        .setUser(config.getString(DATA_BROKER_USERNAME))
+        .setPassword(config.getString(DATA_BROKER_PASSWORD));
+    EntityStreamHub hub = EntityStreamHub.getOrCreate(vertx, brokerOptions,
+        Integer.parseInt(config.getString(STREAM_QUEUE_SIZE, DEFAULT_STREAM_QUEUE_SIZE)));
+    long heartbeatMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(
+        config.getString(STREAM_HEARTBEAT_SECONDS, DEFAULT_STREAM_HEARTBEAT_SECONDS)));
+    return new EntityStreamHandler(vertx, hub, heartbeatMillis);
+  }
+
+  /**
+   * Encodes the result of a search query, timing the encode phase of the query.
+   *
+   * @param query IUDX query json the search was made with
+   * @param result result of the search
+   * @return encoded result
+   */
+  private String encodeSearchResponse(JsonObject query, JsonObject result) {
+    String searchType = QueryMetrics.searchType(query.getString(JSON_SEARCH_TYPE));
+    long startNanos = System.nanoTime();
+    String encoded = result.encode();
+    QueryMetrics.record(QueryMetrics.ENCODE, searchType, startNanos);
+    return encoded;
+  }
+
+  /**
+   * Searches the database, unless the response of the query is cached or the same latest data
+   * query is being searched already, and builds the response of the search. Cacheable responses
+   * are cached.
+   *
+   * @param query IUDX query json of the search
+   * @return future of the response, failed with the failure message of the database service
+   */
+  private Future<CompressedPayload> search(JsonObject query) {
+    return responseCache.getOrSearch(query, () -> {
+      Promise<CompressedPayload> promise = Promise.promise();
+      database.searchQuery(query, handler -> {
+        if (handler.succeeded()) {
+          JsonObject result = handler.result();
+          promise.complete(new CompressedPayload(APPLICATION_JSON,
+              Buffer.buffer(encodeSearchResponse(query, result))));
+        } else {
+          promise.fail(handler.cause());
+        }
+      });
+      return promise.future();
+    });
+  }
+
+  /* A client revalidating a payload it has gets a 304 instead */
+  private void sendPayload(RoutingContext routingContext, CompressedPayload payload) {
+    HttpServerRequest request = routingContext.request();
+    HttpServerResponse response = routingContext.response();
+    if (!ConditionalResponse.endIfNotModified(request, response, payload)) {
+      response.setStatusCode(ResponseType.Ok.getCode());
+      compression.end(request, response, payload);
+    }
+  }
+
+  /**
+   * handle HTTP response, compressed if the client accepts it.
    * 
-   * @param response response object
-   * @param responseType Http status for response
-   * @param isBodyRequired body is required or not for response
+   * @param routingContext routing context of the request
+   * @param statusCode Http status for response
+   * @param result json body of the response
    */
 
-  private void handleSuccessResponse(HttpServerResponse response, int statusCode, String result) {
-    response.putHeader(CONTENT_TYPE, APPLICATION_JSON).setStatusCode(statusCode).end(result);
+  private void handleSuccessResponse(RoutingContext routingContext, int statusCode,
+      String result) {
+    HttpServerResponse response = routingContext.response();
+    response.putHeader(CONTENT_TYPE, APPLICATION_JSON).setStatusCode(statusCode);
+    compression.end(routingContext.request(), response, Buffer.buffer(result));
   }
 
   private void processBackendResponse(HttpServerResponse response, String failureMessage) {
-    LOGGER.debug("Info : " + failureMessage);
+    LOGGER.debug("Info : {}", failureMessage);
     try {
       JsonObject json = new JsonObject(failureMessage);
       int type = json.getInteger(JSON_TYPE);
@@ -1464,7 +1943,7 @@ public class ApiServerVerticle extends AbstractVerticle {
     if (Pattern.compile(APP_NAME_REGEX).matcher(name).matches()) {
       promise.complete(true);
     } else {
-      LOGGER.error(MSG_INVALID_NAME + name);
+      LOGGER.error("{}{}", MSG_INVALID_NAME, name);
       promise.fail(MSG_INVALID_NAME);
     }
     return promise.future();
@@ -1476,30 +1955,39 @@ public class ApiServerVerticle extends AbstractVerticle {
    * 
    * @param routingContext RoutingContext Object
    * @param response HttpServerResponse
-   * @return Optional Optional of Map
+   * @return Optional of the decoded params, empty if the response was ended with 400
    */
   private Optional<MultiMap> getQueryParams(RoutingContext routingContext,
       HttpServerResponse response) {
-    MultiMap queryParams = null;
     try {
-      queryParams = MultiMap.caseInsensitiveMultiMap();
-      // Internally + sign is dropped and treated as space, replacing + with %2B does the trick of
-      // not dropping +
-      String uri = routingContext.request().uri().toString().replaceAll("\\+", "%2B");
-      Map<String, List<String>> decodedParams =
-          new QueryStringDecoder(uri, HttpConstants.DEFAULT_CHARSET, true, 1024, true).parameters();
-      for (Map.Entry<String, List<String>> entry : decodedParams.entrySet()) {
-        queryParams.add(entry.getKey(), entry.getValue());
-      }
+      // + is kept as it is, not taken for a space
+      MultiMap queryParams = QueryParser.decodeParams(routingContext.request().uri());
       LOGGER.debug("Info: Decoded multimap");
+      return Optional.of(queryParams);
     } catch (IllegalArgumentException ex) {
       response.putHeader(CONTENT_TYPE, APPLICATION_JSON)
           .setStatusCode(ResponseType.BadRequestData.getCode())
           .end(generateResponse(ResponseType.BadRequestData, MSG_PARAM_DECODE_ERROR).toString());
+      return Optional.empty();
+    }
+  }
 
-
+  /**
+   * Parse the NGSI-LD query of a request, ending the response with 400 if it is malformed.
+   * 
+   * @param parser creates the query from the request
+   * @param response HttpServerResponse
+   * @return the query, null if it is malformed
+   */
+  private NGSILDQueryParams parseQuery(Supplier<NGSILDQueryParams> parser,
+      HttpServerResponse response) {
+    try {
+      return parser.get();
+    } catch (IllegalArgumentException ex) {
+      LOGGER.error("Fail: Invalid query;{}", ex.getMessage());
+      handleResponse(response, ResponseType.BadRequestData, ex.getMessage());
+      return null;
     }
-    return Optional.of(queryParams);
   }
 
 }
@@ -53,7 +53,6 @@ public class Validator {
   private static boolean validateParams(MultiMap parameterMap) {
     final List<Entry<String, String>> entries = parameterMap.entries();
     for (final Entry<String, String> entry : entries) {
-      System.out.println(entry.getKey());
       if (!validParams.contains(entry.getKey())) {
         return false;
       }
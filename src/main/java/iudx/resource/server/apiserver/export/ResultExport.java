@@ -0,0 +1,234 @@
+package iudx.resource.server.apiserver.export;
+
+import static iudx.resource.server.apiserver.util.Constants.JSON_RESULTS;
+import static iudx.resource.server.apiserver.util.Constants.MIME_APPLICATION_NDJSON;
+import static iudx.resource.server.apiserver.util.Constants.MIME_TEXT_CSV;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import iudx.resource.server.database.DatabaseService;
+
+/**
+ * The Result Export.
+ * <h1>Result Export</h1>
+ * <p>
+ * Streams all the results of a temporal query to the response, as newline delimited JSON or as
+ * CSV, one page of the database cursor at a time. The next page is asked for only once the
+ * previous one is written and the response has room for more, so a slow client slows the export
+ * down instead of buffering it, and memory stays bounded by one page whatever the number of
+ * results. The cursor is released as soon as the client goes away. A client that stalls longer
+ * than the scroll keep-alive of the database module, between two pages, loses the cursor and
+ * the export is reset.
+ * </p>
+ * <p>
+ * The CSV columns are the attributes of the first result, in order; attributes with an object or
+ * array value are written as JSON text.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class ResultExport {
+
+  private static final Logger LOGGER = LogManager.getLogger(ResultExport.class);
+
+  private static final String SCROLL_ID = "scrollId";
+  private static final String NEWLINE = "\n";
+  private static final String CSV_NEWLINE = "\r\n";
+  private static final char CSV_SEPARATOR = ',';
+  private static final char CSV_QUOTE = '"';
+
+  /**
+   * Formats of an export.
+   */
+  public enum Format {
+    NDJSON(MIME_APPLICATION_NDJSON), CSV(MIME_TEXT_CSV);
+
+    private final String contentType;
+
+    Format(String contentType) {
+      this.contentType = contentType;
+    }
+
+    public String contentType() {
+      return contentType;
+    }
+
+    /**
+     * The format asked for in the Accept header of a request, NDJSON unless CSV is accepted.
+     *
+     * @param accept value of the Accept header, may be null
+     * @return the format
+     */
+    public static Format fromAccept(String accept) {
+      return accept != null && accept.contains(MIME_TEXT_CSV) ? CSV : NDJSON;
+    }
+  }
+
+  private final DatabaseService database;
+  private final HttpServerResponse response;
+  private final Format format;
+  private final Handler<String> failureHandler;
+  private List<String> columns;
+  private String scrollId;
+  private boolean closed;
+  private long rows;
+
+  /**
+   * Creates an export.
+   *
+   * @param database the database service
+   * @param response the response to stream the results to
+   * @param format format of the results
+   * @param failureHandler handles the failure of the query before anything is written, with the
+   *        failure message of the database service
+   */
+  public ResultExport(DatabaseService database, HttpServerResponse response, Format format,
+      Handler<String> failureHandler) {
+    this.database = database;
+    this.response = response;
+    this.format = format;
+    this.failureHandler = failureHandler;
+  }
+
+  /**
+   * Starts the export.
+   *
+   * @param query IUDX query json of the temporal query
+   */
+  public void start(JsonObject query) {
+    response.closeHandler(closedConnection -> {
+      closed = true;
+      release();
+    });
+    database.exportQuery(query, firstPage -> {
+      if (firstPage.failed()) {
+        if (!closed) {
+          failureHandler.handle(firstPage.cause().getMessage());
+        }
+        return;
+      }
+      if (closed) {
+        scrollId = firstPage.result().getString(SCROLL_ID);
+        release();
+        return;
+      }
+      response.setChunked(true).putHeader(HttpHeaders.CONTENT_TYPE, format.contentType());
+      write(firstPage);
+    });
+  }
+
+  private void write(AsyncResult<JsonObject> page) {
+    if (page.failed()) {
+      /* the client cannot tell a truncated export from a complete one otherwise */
+      LOGGER.error("Fail: Export aborted after {} rows;{}", rows, page.cause().getMessage());
+      scrollId = null;
+      response.reset();
+      return;
+    }
+    scrollId = page.result().getString(SCROLL_ID);
+    if (closed) {
+      release();
+      return;
+    }
+    JsonArray results = page.result().getJsonArray(JSON_RESULTS);
+    response.write(format == Format.CSV ? csv(results) : ndjson(results));
+    rows += results.size();
+    if (scrollId == null) {
+      LOGGER.debug("Info: Exported {} rows", rows);
+      response.end();
+    } else if (response.writeQueueFull()) {
+      response.drainHandler(drained -> next());
+    } else {
+      next();
+    }
+  }
+
+  private void next() {
+    response.drainHandler(null);
+    if (closed) {
+      release();
+      return;
+    }
+    database.exportNext(scrollId, this::write);
+  }
+
+  /* Releases the cursor of an export given up before its last page */
+  private void release() {
+    if (scrollId != null) {
+      LOGGER.debug("Info: Export closed by the client after {} rows", rows);
+      database.exportClose(scrollId, released -> {
+      });
+      scrollId = null;
+    }
+  }
+
+  private static Buffer ndjson(JsonArray results) {
+    Buffer buffer = Buffer.buffer();
+    for (int i = 0; i < results.size(); i++) {
+      buffer.appendString(results.getJsonObject(i).encode()).appendString(NEWLINE);
+    }
+    return buffer;
+  }
+
+  private Buffer csv(JsonArray results) {
+    StringBuilder text = new StringBuilder();
+    if (columns == null) {
+      columns = new ArrayList<>(results.getJsonObject(0).fieldNames());
+      for (int i = 0; i < columns.size(); i++) {
+        appendField(text, i, columns.get(i));
+      }
+      text.append(CSV_NEWLINE);
+    }
+    for (int row = 0; row < results.size(); row++) {
+      JsonObject result = results.getJsonObject(row);
+      for (int i = 0; i < columns.size(); i++) {
+        Object value = result.getValue(columns.get(i));
+        String field;
+        if (value == null) {
+          field = "";
+        } else if (value instanceof JsonObject) {
+          field = ((JsonObject) value).encode();
+        } else if (value instanceof JsonArray) {
+          field = ((JsonArray) value).encode();
+        } else {
+          field = value.toString();
+        }
+        appendField(text, i, field);
+      }
+      text.append(CSV_NEWLINE);
+    }
+    return Buffer.buffer(text.toString());
+  }
+
+  /* A field is quoted if it holds a separator, a quote or a line break */
+  private static void appendField(StringBuilder text, int column, String field) {
+    if (column > 0) {
+      text.append(CSV_SEPARATOR);
+    }
+    boolean quoted = field.indexOf(CSV_SEPARATOR) >= 0 || field.indexOf(CSV_QUOTE) >= 0
+        || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+    if (!quoted) {
+      text.append(field);
+      return;
+    }
+    text.append(CSV_QUOTE);
+    for (int i = 0; i < field.length(); i++) {
+      char c = field.charAt(i);
+      if (c == CSV_QUOTE) {
+        text.append(CSV_QUOTE);
+      }
+      text.append(c);
+    }
+    text.append(CSV_QUOTE);
+  }
+}
@@ -0,0 +1 @@
+package iudx.resource.server.apiserver.export;
@@ -1,77 +1,122 @@
 package iudx.resource.server.apiserver.handlers;
 
 import static iudx.resource.server.apiserver.util.Constants.*;
-import java.util.List;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
 import org.apache.http.HttpStatus;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import iudx.resource.server.apiserver.response.ResponseType;
 import iudx.resource.server.authenticator.AuthenticationService;
+import iudx.resource.server.authenticator.ExpiringCache;
+import iudx.resource.server.common.EventBusServices;
 
 
 /**
  * IUDX Authentication handler to authenticate token passed in HEADER
  * 
- *
+ * <p>
+ * One handler is created per route with the normalized endpoint of that route, so no path
+ * matching is done per request and the handler keeps no per request state. The request body is
+ * parsed only for the POST, PUT and PATCH routes whose body the authenticator checks.
+ * </p>
+ * <p>
+ * Granted requests to open endpoints are cached in process for a short time, and never past the
+ * expiry of the token, so repeated queries with the same token and id are authorized without an
+ * event bus call to the authentication service. Revoked tokens are not signalled to the cache,
+ * which is why the time is kept short. Concurrent misses for the same key share one call, and
+ * denials are not cached.
+ * </p>
  */
 public class AuthHandler implements Handler<RoutingContext> {
 
   private static final Logger LOGGER = LogManager.getLogger(AuthHandler.class);
 
   private static final String AUTH_SERVICE_ADDRESS = "iudx.rs.authentication.service";
-  private final String AUTH_INFO = "authInfo";
-  private final List<String> noAuthRequired = bypassEndpoint;
-  private static AuthenticationService authenticator;
-  private HttpServerRequest request;
-  
-  public static AuthHandler create(Vertx vertx) {
-    authenticator = AuthenticationService.createProxy(vertx, AUTH_SERVICE_ADDRESS);
-    return new AuthHandler();
+  private static final String AUTH_INFO = "authInfo";
+  /* Endpoints whose request body carries the entity or adapter the token is checked against */
+  private static final Set<String> BODY_ENDPOINTS =
+      Set.of(NGSILD_POST_QUERY_PATH, NGSILD_SUBSCRIPTION_URL, IUDX_MANAGEMENT_ADAPTER_URL);
+  /* Granted open endpoint requests of this process, shared by all API server instances */
+  private static final ExpiringCache<JsonObject> decisionCache =
+      new ExpiringCache<>(AUTH_CACHE_MAX_SIZE, AUTH_CACHE_TIMEOUT_MILLIS,
+          AuthHandler::decisionExpiry);
+  private final AuthenticationService authenticator;
+  private final String endpoint;
+  private final boolean openEndpoint;
+
+  private AuthHandler(AuthenticationService authenticator, String endpoint) {
+    this.authenticator = authenticator;
+    this.endpoint = endpoint;
+    this.openEndpoint = openEndPoints.contains(endpoint);
+  }
+
+  /**
+   * Creates the authentication handler of a route.
+   * 
+   * @param vertx vertx instance
+   * @param endpoint normalized endpoint of the route, without any id path parameters
+   * @return handler authenticating requests to the route
+   */
+  public static AuthHandler create(Vertx vertx, String endpoint) {
+    return new AuthHandler(AuthenticationService.createProxy(vertx,
+        EventBusServices.proxyAddress(vertx, AUTH_SERVICE_ADDRESS),
+        EventBusServices.proxyOptions(vertx)), endpoint);
   }
 
   @Override
   public void handle(RoutingContext context) {
-    request = context.request();
-    JsonObject requestJson = context.getBodyAsJson();
-    
-    if(requestJson == null) {
-      requestJson = new JsonObject();
+    HttpServerRequest request = context.request();
+    HttpMethod method = request.method();
+    JsonObject requestJson = null;
+    if (BODY_ENDPOINTS.contains(endpoint) && (method == HttpMethod.POST
+        || method == HttpMethod.PUT || method == HttpMethod.PATCH)) {
+      requestJson = context.getBodyAsJson();
     }
-    
-    LOGGER.debug("Info : path " + request.path());
-    // bypassing auth for RDocs
-    if (noAuthRequired.contains(request.path())) {
-      context.next();
-      return;
+    if (requestJson == null) {
+      requestJson = new JsonObject();
     }
 
     String token = request.headers().get(HEADER_TOKEN);
-    final String path = getNormalizedPath(request.path());
-    final String method = context.request().method().toString();
-
-    if (token == null)
+    if (token == null) {
       token = "public";
+    }
 
-    JsonObject authInfo =
-        new JsonObject().put(API_ENDPOINT, path).put(HEADER_TOKEN, token).put(API_METHOD, method);
+    JsonObject authInfo = new JsonObject().put(API_ENDPOINT, endpoint).put(HEADER_TOKEN, token)
+        .put(API_METHOD, method.toString());
 
-    LOGGER.debug("Info :" + context.request().path());
-    LOGGER.debug("Info :" + context.request().path().split("/").length);
-    String id = getId(context.request().path(), path, context);
+    /* set by an earlier handler of the route when the request does not name the resource */
+    String id = context.get(CONTEXT_RESOURCE_ID);
+    if (id == null) {
+      id = getId(request, requestJson);
+    }
     authInfo.put(ID, id);
     requestJson.put(IDS, new JsonArray().add(id));
-    
-    LOGGER.debug("request" + requestJson);
-    authenticator.tokenInterospect(requestJson, authInfo, authHandler -> {
+
+    LOGGER.debug("Info : path {}, endpoint {}", request.path(), endpoint);
+    Future<JsonObject> authFuture;
+    if (openEndpoint && id != null && !id.isEmpty()) {
+      /* Access to open endpoints depends only on token, endpoint and id */
+      final JsonObject authRequest = requestJson;
+      authFuture = decisionCache.getOrLoad(token + '\n' + endpoint + '\n' + id,
+          key -> tokenInterospect(authRequest, authInfo));
+    } else {
+      authFuture = tokenInterospect(requestJson, authInfo);
+    }
+    authFuture.onComplete(authHandler -> {
       if (authHandler.succeeded()) {
-        LOGGER.debug("Auth info : " + authHandler.result());
-        context.data().put(AUTH_INFO, authHandler.result());
+        LOGGER.debug("Auth info : {}", authHandler.result());
+        context.data().put(AUTH_INFO, authHandler.result().copy());
       } else {
         processAuthFailure(context, authHandler.cause().getMessage());
         return;
@@ -81,6 +126,26 @@ public class AuthHandler implements Handler<RoutingContext> {
     });
   }
 
+  /* Epoch millisecond at which the token of a granted decision expires */
+  private static long decisionExpiry(JsonObject decision) {
+    String expiry = decision.getString(JSON_EXPIRY);
+    if (expiry == null) {
+      return Long.MAX_VALUE;
+    }
+    try {
+      return Instant.parse(expiry).toEpochMilli();
+    } catch (DateTimeParseException e) {
+      /* not cached rather than cached past an expiry it cannot tell */
+      return 0;
+    }
+  }
+
+  private Future<JsonObject> tokenInterospect(JsonObject requestJson, JsonObject authInfo) {
+    Promise<JsonObject> promise = Promise.promise();
+    authenticator.tokenInterospect(requestJson, authInfo, promise);
+    return promise.future();
+  }
+
   private void processAuthFailure(RoutingContext ctx, String result) {
     if (result.contains("Not Found")) {
       LOGGER.error("Error : Item Not Found");
@@ -106,89 +171,46 @@ public class AuthHandler implements Handler<RoutingContext> {
   }
 
   /**
-   * extract id from path param
+   * extract id from path param, query param or body.
    * 
-   * @param ctx current routing context
-   * @param forPath endpoint called for
-   * @return id extraced fro path if present
+   * @param request current request
+   * @param requestJson parsed request body, empty if the route has none
+   * @return id extraced for the endpoint if present
    */
-  private String getId(String path, String forPath, RoutingContext context) {
-    String id = "";
-    switch (forPath) {
-      case NGSILD_SUBSCRIPTION_URL: {
-        id = path.replaceAll(NGSILD_SUBSCRIPTION_URL + "/", "");
-        break;
-      }
-      case IUDX_MANAGEMENT_ADAPTER_URL: {
-        id = path.replaceAll(IUDX_MANAGEMENT_ADAPTER_URL + "/", "");
-        break;
-      }
-      case IUDX_MANAGEMENT_EXCHANGE_URL: {
-        id = path.replaceAll(IUDX_MANAGEMENT_EXCHANGE_URL + "/", "");
-        break;
-      }
-      case IUDX_MANAGEMENT_QUEUE_URL: {
-        id = path.replaceAll(IUDX_MANAGEMENT_QUEUE_URL + "/", "");
-        break;
-      }
+  private String getId(HttpServerRequest request, JsonObject requestJson) {
+    String path = request.path();
+    switch (endpoint) {
+      case NGSILD_SUBSCRIPTION_URL:
+      case IUDX_MANAGEMENT_ADAPTER_URL:
+      case IUDX_MANAGEMENT_EXCHANGE_URL:
+      case IUDX_MANAGEMENT_QUEUE_URL:
       case IUDX_MANAGEMENT_VHOST_URL: {
-        id = path.replaceAll(IUDX_MANAGEMENT_VHOST_URL + "/", "");
-        break;
+        return getPathId(endpoint, path);
       }
       case NGSILD_ENTITIES_URL: {
-        if (path.split("/").length == 9) {
-          id = path.replaceAll(NGSILD_ENTITIES_URL + "/", "");
-          break;
-        } else {
-          id = request.getParam("id");
-          break;
-        }
+        /* the id is either the path after the endpoint or, as for the stream, the id param */
+        return path.length() > endpoint.length() + 1 && !path.equals(NGSILD_ENTITIES_STREAM_URL)
+            ? getPathId(endpoint, path)
+            : request.getParam("id");
       }
       case NGSILD_TEMPORAL_URL: {
-        id = request.getParam("id");
-        break;
+        return request.getParam("id");
       }
       case NGSILD_POST_QUERY_PATH: {
-        JsonObject body = context.getBodyAsJson();
-        id = body.getJsonArray("entities").getJsonObject(0).getString("id");
-        break;
+        return requestJson.getJsonArray("entities").getJsonObject(0).getString("id");
       }
       default: {
-        id = "";
+        return "";
       }
     }
-    return id;
   }
 
-  /**
-   * get normalized path without id as path param.
-   * 
-   * @param url complete path from request
-   * @return path without id.
-   */
-  private String getNormalizedPath(String url) {
-    LOGGER.debug("URL : " + url);
-    String path = null;
-    if (url.matches(ENTITITES_URL_REGEX)) {
-      path = NGSILD_ENTITIES_URL;
-    } else if (url.matches(TEMPORAL_URL_REGEX)) {
-      path = NGSILD_TEMPORAL_URL;
-    } else if (url.matches(POST_QUERY_URL_REGEX)) {
-      path = NGSILD_POST_QUERY_PATH;
-    } else if (url.matches(SUBSCRIPTION_URL_REGEX)) {
-      path = NGSILD_SUBSCRIPTION_URL;
-    } else if (url.matches(ADAPTER_URL_REGEX)) {
-      path = IUDX_MANAGEMENT_ADAPTER_URL;
-    } else if (url.matches(EXCHANGE_URL_REGEX)) {
-      path = IUDX_MANAGEMENT_EXCHANGE_URL;
-    } else if (url.matches(QUEUE_URL_REGEX)) {
-      path = IUDX_MANAGEMENT_QUEUE_URL;
-    } else if (url.matches(VHOST_URL_REGEX)) {
-      path = IUDX_MANAGEMENT_VHOST_URL;
-    } else if (url.matches(BIND_URL_REGEX)) {
-      path = IUDX_MANAGEMENT_BIND_URL;
-    } else if (url.matches(UNBIND_URL_REGEX)) {
-      path = IUDX_MANAGEMENT_UNBIND_URL;
+  /* path after the endpoint, or the whole path if it has nothing after the endpoint */
+  static String getPathId(String endpoint, String path) {
+    int prefixLength = endpoint.length() + 1;
+    if (path.length() > prefixLength && path.startsWith(endpoint)
+        && path.charAt(endpoint.length()) == '/') {
+      return path.substring(prefixLength);
     }
     return path;
   }
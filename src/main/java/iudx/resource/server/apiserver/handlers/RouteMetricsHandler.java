@@ -0,0 +1,68 @@
+package iudx.resource.server.apiserver.handlers;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.micrometer.backends.BackendRegistries;
+import iudx.resource.server.common.BackendMetrics;
+
+/**
+ * Records the latency of every request, with p50/p95/p99, per route, method and status code.
+ * Requests are tagged with the path template of the route that handled them (e.g.
+ * /ngsi-ld/v1/subscription/:domain/:userSHA/:alias), never with the request path, so resource
+ * IDs do not become label values. Also exports the number of requests in flight.
+ */
+public class RouteMetricsHandler implements Handler<RoutingContext> {
+
+  public static final String REQUEST_TIMER = "iudx.rs.http.requests";
+  public static final String IN_FLIGHT_GAUGE = "iudx.rs.http.inflight";
+  private static final String UNMATCHED = "unmatched";
+
+  /* Shared by the handlers of all API server instances, which export the same meters */
+  private static final AtomicInteger inFlight = new AtomicInteger();
+  private static final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+  private final MeterRegistry registry;
+
+  private RouteMetricsHandler(MeterRegistry registry) {
+    this.registry = registry;
+    Gauge.builder(IN_FLIGHT_GAUGE, inFlight, AtomicInteger::get).register(registry);
+  }
+
+  /**
+   * Creates the handler, a no-op when metrics are not enabled.
+   *
+   * @return handler to add before every other route
+   */
+  public static Handler<RoutingContext> create() {
+    MeterRegistry registry = BackendRegistries.getDefaultNow();
+    if (registry == null) {
+      return RoutingContext::next;
+    }
+    return new RouteMetricsHandler(registry);
+  }
+
+  @Override
+  public void handle(RoutingContext context) {
+    long startNanos = System.nanoTime();
+    inFlight.incrementAndGet();
+    context.addBodyEndHandler(ended -> {
+      inFlight.decrementAndGet();
+      Route route = context.currentRoute();
+      String path = route != null && route.getPath() != null ? route.getPath() : UNMATCHED;
+      String method = context.request().method().name();
+      String status = Integer.toString(context.response().getStatusCode());
+      timers.computeIfAbsent(path + ' ' + method + ' ' + status,
+          key -> Timer.builder(REQUEST_TIMER).tag("route", path).tag("method", method)
+              .tag("status", status).publishPercentiles(BackendMetrics.PERCENTILES)
+              .register(registry))
+          .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    });
+    context.next();
+  }
+}
@@ -0,0 +1,183 @@
+package iudx.resource.server.apiserver.jobs;
+
+import static iudx.resource.server.apiserver.util.Constants.JSON_DETAIL;
+import static iudx.resource.server.apiserver.util.Constants.JSON_ID;
+import static iudx.resource.server.apiserver.util.Constants.JSON_JOB_ID;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.UUID;
+import io.vertx.core.json.JsonObject;
+import iudx.resource.server.database.DatabaseService;
+
+/**
+ * The Query Job.
+ * <h1>Query Job</h1>
+ * <p>
+ * A search query run in the background by {@link QueryJobs}, with its results spooled to a file
+ * of the node. A job is known by a random id and belongs to the token it was submitted with;
+ * only that token can see it or download its results.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class QueryJob {
+
+  private static final String TOKEN_DIGEST = "SHA-256";
+
+  /**
+   * States of a job.
+   */
+  public enum Status {
+    QUEUED("queued"), RUNNING("running"), COMPLETED("completed"), FAILED("failed");
+
+    private final String value;
+
+    Status(String value) {
+      this.value = value;
+    }
+
+    public String value() {
+      return value;
+    }
+  }
+
+  private final String id = UUID.randomUUID().toString();
+  private final JsonObject query;
+  private final DatabaseService database;
+  private final byte[] owner;
+  private final String path;
+  private final long submittedAt = System.currentTimeMillis();
+  private volatile Status status = Status.QUEUED;
+  private volatile long rows;
+  private volatile long size;
+  private volatile long completedAt;
+  private volatile long expiresAt = Long.MAX_VALUE;
+  private volatile String detail;
+
+  QueryJob(JsonObject query, DatabaseService database, String token, String spoolDir,
+      String spoolSuffix) {
+    this.query = query;
+    this.database = database;
+    this.owner = digest(token);
+    this.path = spoolDir + "/" + id + spoolSuffix;
+  }
+
+  public String id() {
+    return id;
+  }
+
+  public Status status() {
+    return status;
+  }
+
+  /**
+   * Path of the file the results are spooled to.
+   *
+   * @return the path
+   */
+  public String path() {
+    return path;
+  }
+
+  /**
+   * Size of the results spooled so far, compressed.
+   *
+   * @return the size in bytes
+   */
+  public long size() {
+    return size;
+  }
+
+  JsonObject query() {
+    return query;
+  }
+
+  /**
+   * The resource the job searches, the one its status and results are authorized for.
+   *
+   * @return id of the resource
+   */
+  public String resourceId() {
+    return query.getJsonArray(JSON_ID).getString(0);
+  }
+
+  DatabaseService database() {
+    return database;
+  }
+
+  /**
+   * Time at which the job and its results are removed, once it has finished.
+   *
+   * @return the epoch millisecond, {@link Long#MAX_VALUE} while the job has not finished
+   */
+  public long expiresAt() {
+    return expiresAt;
+  }
+
+  /**
+   * Time at which the job finished.
+   *
+   * @return the epoch millisecond, 0 while the job has not finished
+   */
+  public long completedAt() {
+    return completedAt;
+  }
+
+  boolean isOwnedBy(String token) {
+    return MessageDigest.isEqual(owner, digest(token));
+  }
+
+  void started() {
+    status = Status.RUNNING;
+  }
+
+  void spooled(int pageRows, long spoolSize) {
+    rows += pageRows;
+    size = spoolSize;
+  }
+
+  void completed(long ttlMillis) {
+    completedAt = System.currentTimeMillis();
+    expiresAt = completedAt + ttlMillis;
+    status = Status.COMPLETED;
+  }
+
+  void failed(String failure, long ttlMillis) {
+    detail = failure;
+    completedAt = System.currentTimeMillis();
+    expiresAt = completedAt + ttlMillis;
+    status = Status.FAILED;
+  }
+
+  /**
+   * The state of the job, as told to its owner.
+   *
+   * @return the job json
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject().put(JSON_JOB_ID, id).put("status", status.value())
+        .put("rows", rows).put("size", size)
+        .put("submittedAt", Instant.ofEpochMilli(submittedAt).toString());
+    if (completedAt > 0) {
+      json.put("completedAt", Instant.ofEpochMilli(completedAt).toString())
+          .put("expiresAt", Instant.ofEpochMilli(expiresAt).toString());
+    }
+    if (detail != null) {
+      json.put(JSON_DETAIL, detail);
+    }
+    return json;
+  }
+
+  private static byte[] digest(String token) {
+    try {
+      return MessageDigest.getInstance(TOKEN_DIGEST)
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
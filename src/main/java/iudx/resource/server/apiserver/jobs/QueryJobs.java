@@ -0,0 +1,364 @@
+package iudx.resource.server.apiserver.jobs;
+
+import static iudx.resource.server.apiserver.util.Constants.ASYNC_QUERY_QUEUE_SIZE;
+import static iudx.resource.server.apiserver.util.Constants.ASYNC_QUERY_RESULT_TTL_SECONDS;
+import static iudx.resource.server.apiserver.util.Constants.ASYNC_QUERY_SPOOL_DIR;
+import static iudx.resource.server.apiserver.util.Constants.ASYNC_QUERY_WORKERS;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_ASYNC_QUERY_QUEUE_SIZE;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_ASYNC_QUERY_RESULT_TTL_SECONDS;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_ASYNC_QUERY_SPOOL_DIR;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_ASYNC_QUERY_WORKERS;
+import static iudx.resource.server.apiserver.util.Constants.JSON_DETAIL;
+import static iudx.resource.server.apiserver.util.Constants.JSON_RESULTS;
+import static iudx.resource.server.apiserver.util.Constants.JSON_SEARCH_TYPE;
+import static iudx.resource.server.apiserver.util.Constants.JSON_TEMPORAL_SEARCH;
+import static iudx.resource.server.apiserver.util.Constants.JSON_TYPE;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import iudx.resource.server.database.DatabaseService;
+
+/**
+ * The Query Jobs.
+ * <h1>Query Jobs</h1>
+ * <p>
+ * Runs search queries too long for a request in the background, off the request path. At most
+ * the configured number of jobs run at once, on a worker pool of the same size that writes
+ * their results; further jobs wait in a bounded queue, and a job submitted when the queue is
+ * full is refused. Temporal queries are paged through the export cursor of the database
+ * service, other searches are run once.
+ * </p>
+ * <p>
+ * Results are spooled to a file of the spool directory as NDJSON, compressed with gzip one page
+ * at a time; the file is a valid gzip file as a whole, and each page is also its own gzip member.
+ * A finished job and its file are kept for the result time to live, then removed. Files left
+ * over from a previous run of the node are removed on start.
+ * </p>
+ * <p>
+ * One registry is shared by all API server instances of the node, jobs are not known to other
+ * nodes.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class QueryJobs implements Shareable {
+
+  private static final Logger LOGGER = LogManager.getLogger(QueryJobs.class);
+
+  public static final String SPOOL_SUFFIX = ".ndjson.gz";
+  private static final String REGISTRIES = "iudx.rs.query.jobs";
+  private static final String REGISTRY = "jobs";
+  private static final String SPOOL_WRITERS = "iudx.rs.query.spool";
+  private static final String SPOOL_FILES = ".*\\.ndjson\\.gz";
+  private static final String SCROLL_ID = "scrollId";
+  private static final int EMPTY_RESPONSE = 204;
+  private static final int SPOOL_BUFFER = 64 * 1024;
+  private static final long SWEEP_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  private final Vertx vertx;
+  private final WorkerExecutor spoolWriters;
+  private final String spoolDir;
+  private final int workers;
+  private final int queueSize;
+  private final long resultTtlMillis;
+  /* Guarded by this */
+  private final Map<String, QueryJob> jobs = new HashMap<>();
+  private final Deque<QueryJob> queued = new ArrayDeque<>();
+  private int running;
+
+  private QueryJobs(Vertx vertx, String spoolDir, int workers, int queueSize,
+      long resultTtlMillis) {
+    this.vertx = vertx;
+    this.spoolWriters = vertx.createSharedWorkerExecutor(SPOOL_WRITERS, workers);
+    this.spoolDir = spoolDir;
+    this.workers = workers;
+    this.queueSize = queueSize;
+    this.resultTtlMillis = resultTtlMillis;
+  }
+
+  /**
+   * Returns the registry of this node, creating it and its spool directory on first use.
+   *
+   * @param vertx the vertx instance
+   * @param config configuration of the API server
+   * @return the registry shared by the API server instances of this node
+   */
+  public static QueryJobs getOrCreate(Vertx vertx, JsonObject config) {
+    LocalMap<String, QueryJobs> registries = vertx.sharedData().getLocalMap(REGISTRIES);
+    QueryJobs registry = registries.get(REGISTRY);
+    if (registry == null) {
+      QueryJobs created = new QueryJobs(vertx,
+          config.getString(ASYNC_QUERY_SPOOL_DIR, DEFAULT_ASYNC_QUERY_SPOOL_DIR),
+          Integer.parseInt(config.getString(ASYNC_QUERY_WORKERS, DEFAULT_ASYNC_QUERY_WORKERS)),
+          Integer.parseInt(
+              config.getString(ASYNC_QUERY_QUEUE_SIZE, DEFAULT_ASYNC_QUERY_QUEUE_SIZE)),
+          TimeUnit.SECONDS.toMillis(Long.parseLong(config.getString(
+              ASYNC_QUERY_RESULT_TTL_SECONDS, DEFAULT_ASYNC_QUERY_RESULT_TTL_SECONDS))));
+      registry = registries.putIfAbsent(REGISTRY, created);
+      if (registry == null) {
+        registry = created;
+        created.prepareSpool();
+        vertx.setPeriodic(SWEEP_INTERVAL_MILLIS, timer -> created.sweep());
+      } else {
+        created.spoolWriters.close();
+      }
+    }
+    return registry;
+  }
+
+  /**
+   * Submits a search query, to run now if a worker is free or once one is.
+   *
+   * @param database the database service to run the query with
+   * @param query IUDX query json of the search
+   * @param token token of the request, the owner of the job
+   * @return the job, null if too many jobs are waiting already
+   */
+  public QueryJob submit(DatabaseService database, JsonObject query, String token) {
+    QueryJob job = new QueryJob(query, database, token, spoolDir, SPOOL_SUFFIX);
+    synchronized (this) {
+      if (running < workers) {
+        running++;
+      } else if (queued.size() < queueSize) {
+        queued.add(job);
+        jobs.put(job.id(), job);
+        return job;
+      } else {
+        return null;
+      }
+      jobs.put(job.id(), job);
+    }
+    run(job);
+    return job;
+  }
+
+  /**
+   * Returns a job of a token.
+   *
+   * @param jobId id of the job
+   * @param token token of the request
+   * @return the job, null if there is none with this id or it belongs to another token
+   */
+  public QueryJob get(String jobId, String token) {
+    QueryJob job;
+    synchronized (this) {
+      job = jobs.get(jobId);
+    }
+    return job != null && job.isOwnedBy(token) ? job : null;
+  }
+
+  private void run(QueryJob job) {
+    LOGGER.debug("Info: Query job {} started", job.id());
+    job.started();
+    spoolWriters.<Spool>executeBlocking(open -> {
+      try {
+        open.complete(new Spool(job.path()));
+      } catch (IOException e) {
+        open.fail(e);
+      }
+    }, false, opened -> {
+      if (opened.failed()) {
+        finish(job, null, opened.cause().getMessage());
+        return;
+      }
+      Spool spool = opened.result();
+      JsonObject query = job.query();
+      if (query.getString(JSON_SEARCH_TYPE, "").contains(JSON_TEMPORAL_SEARCH)) {
+        job.database().exportQuery(query, page -> spoolPage(job, spool, page));
+      } else {
+        job.database().searchQuery(query, result -> spoolPage(job, spool, result));
+      }
+    });
+  }
+
+  /* Writes a page to the spool, then asks for the next one if there is one */
+  private void spoolPage(QueryJob job, Spool spool, AsyncResult<JsonObject> page) {
+    if (page.failed()) {
+      String failure = page.cause().getMessage();
+      finish(job, spool, isEmptyResponse(failure) ? null : detail(failure));
+      return;
+    }
+    JsonArray results = page.result().getJsonArray(JSON_RESULTS, new JsonArray());
+    String scrollId = page.result().getString(SCROLL_ID);
+    spoolWriters.<Long>executeBlocking(write -> {
+      try {
+        write.complete(spool.append(results));
+      } catch (IOException e) {
+        write.fail(e);
+      }
+    }, false, written -> {
+      if (written.failed()) {
+        if (scrollId != null) {
+          job.database().exportClose(scrollId, released -> {
+          });
+        }
+        finish(job, spool, written.cause().getMessage());
+        return;
+      }
+      job.spooled(results.size(), written.result());
+      if (scrollId == null) {
+        finish(job, spool, null);
+      } else {
+        job.database().exportNext(scrollId, next -> spoolPage(job, spool, next));
+      }
+    });
+  }
+
+  /* Closes the spool of a job, and starts the next job waiting if there is one */
+  private void finish(QueryJob job, Spool spool, String failure) {
+    spoolWriters.<Long>executeBlocking(close -> {
+      try {
+        long size = spool != null ? spool.close() : 0;
+        if (failure != null) {
+          vertx.fileSystem().deleteBlocking(job.path());
+        }
+        close.complete(size);
+      } catch (IOException | RuntimeException e) {
+        close.fail(e);
+      }
+    }, false, closed -> {
+      if (failure != null) {
+        LOGGER.error("Fail: Query job {};{}", job.id(), failure);
+        job.failed(failure, resultTtlMillis);
+      } else if (closed.failed()) {
+        LOGGER.error("Fail: Query job {};{}", job.id(), closed.cause().getMessage());
+        job.failed(closed.cause().getMessage(), resultTtlMillis);
+      } else {
+        LOGGER.debug("Info: Query job {} completed", job.id());
+        job.spooled(0, closed.result());
+        job.completed(resultTtlMillis);
+      }
+      QueryJob next;
+      synchronized (this) {
+        next = queued.poll();
+        if (next == null) {
+          running--;
+        }
+      }
+      if (next != null) {
+        run(next);
+      }
+    });
+  }
+
+  /* Removes the finished jobs past their time to live, with their results */
+  private void sweep() {
+    long now = System.currentTimeMillis();
+    List<QueryJob> expired = new ArrayList<>();
+    synchronized (this) {
+      jobs.values().removeIf(job -> {
+        if (job.expiresAt() < now) {
+          expired.add(job);
+          return true;
+        }
+        return false;
+      });
+    }
+    for (QueryJob job : expired) {
+      LOGGER.debug("Info: Query job {} expired", job.id());
+      vertx.fileSystem().exists(job.path(), exists -> {
+        if (exists.succeeded() && exists.result()) {
+          vertx.fileSystem().delete(job.path(), deleted -> {
+          });
+        }
+      });
+    }
+  }
+
+  /* The spool directory holds nothing but the results of the jobs of this run */
+  private void prepareSpool() {
+    vertx.fileSystem().mkdirsBlocking(spoolDir);
+    for (String leftover : vertx.fileSystem().readDirBlocking(spoolDir, SPOOL_FILES)) {
+      vertx.fileSystem().deleteBlocking(leftover);
+    }
+  }
+
+  private static boolean isEmptyResponse(String failure) {
+    try {
+      return new JsonObject(failure).getInteger(JSON_TYPE, 0) == EMPTY_RESPONSE;
+    } catch (DecodeException | ClassCastException e) {
+      return false;
+    }
+  }
+
+  private static String detail(String failure) {
+    try {
+      return new JsonObject(failure).getString(JSON_DETAIL, failure);
+    } catch (DecodeException | ClassCastException e) {
+      return failure;
+    }
+  }
+
+  /**
+   * The file the results of a job are written to, each page as its own gzip member. Used by one
+   * worker at a time.
+   */
+  private static final class Spool {
+    private final FileOutputStream file;
+    private final OutputStream out;
+
+    private Spool(String path) throws IOException {
+      this.file = new FileOutputStream(path);
+      this.out = new BufferedOutputStream(file, SPOOL_BUFFER);
+    }
+
+    /* Appends a page, returning the size of the file so far */
+    private long append(JsonArray results) throws IOException {
+      try (GZIPOutputStream page = new GZIPOutputStream(new Unclosed(out), SPOOL_BUFFER)) {
+        for (int i = 0; i < results.size(); i++) {
+          page.write(results.getJsonObject(i).encode().getBytes(StandardCharsets.UTF_8));
+          page.write('\n');
+        }
+      }
+      out.flush();
+      return file.getChannel().size();
+    }
+
+    private long close() throws IOException {
+      out.flush();
+      long size = file.getChannel().size();
+      out.close();
+      return size;
+    }
+  }
+
+  /* Lets a gzip member be closed, releasing its deflater, without closing the spool */
+  private static final class Unclosed extends FilterOutputStream {
+    private Unclosed(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      out.write(bytes, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
+}
@@ -30,6 +30,7 @@ public class NGSILDQueryParams {
   private List<String> attrs;
   private List<String> idPattern;
   private String textQuery;
+  private List<QueryTerm> queryTerms;
   private GeoRelation geoRel;
   private String geometry;
   private String coordinates;
@@ -45,6 +46,7 @@ public class NGSILDQueryParams {
    * constructor a NGSILDParams passing query parameters map.
    * 
    * @param paramsMap query paramater's map.
+   * @throws IllegalArgumentException if the q or georel parameter is malformed
    */
   public NGSILDQueryParams(MultiMap paramsMap) {
     this.setGeoRel(new GeoRelation());
@@ -56,6 +58,7 @@ public class NGSILDQueryParams {
    * constructor a NGSILDParams passing json.
    * 
    * @param json JsonObject of query.
+   * @throws IllegalArgumentException if the q or georel parameter is malformed
    */
   public NGSILDQueryParams(JsonObject json) {
     this.setGeoRel(new GeoRelation());
@@ -67,6 +70,7 @@ public class NGSILDQueryParams {
    * This method is used to initialize a NGSILDQueryParams object from multimap of query parameters.
    * 
    * @param paramsMap query paramater's map.
+   * @throws IllegalArgumentException if the q or georel parameter is malformed
    */
   private void create(MultiMap paramsMap) {
     List<Entry<String, String>> entries = paramsMap.entries();
@@ -87,17 +91,7 @@ public class NGSILDQueryParams {
           break;
         }
         case NGSILDQUERY_GEOREL: {
-          String georel = entry.getValue();
-          String[] values = georel.split(";");
-          this.geoRel.setRelation(values[0]);
-          if (values.length == 2) {
-            String[] distance = values[1].split("=");
-            if (distance[0].equalsIgnoreCase(NGSILDQUERY_MAXDISTANCE)) {
-              this.geoRel.setMaxDistance(Double.parseDouble(distance[1]));
-            } else if (distance[0].equalsIgnoreCase(NGSILDQUERY_MINDISTANCE)) {
-              this.geoRel.setMinDistance(Double.parseDouble(distance[1]));
-            }
-          }
+          this.geoRel = QueryParser.parseGeoRel(entry.getValue());
           break;
         }
         case NGSILDQUERY_GEOMETRY: {
@@ -121,7 +115,7 @@ public class NGSILDQueryParams {
           break;
         }
         case NGSILDQUERY_Q: {
-          this.textQuery = entry.getValue();
+          this.setQ(entry.getValue());
           break;
         }
         case NGSILDQUERY_GEOPROPERTY: {
@@ -133,7 +127,7 @@ public class NGSILDQueryParams {
           break;
         }
         default: {
-          LOGGER.warn(MSG_INVALID_PARAM + ":" + entry.getKey());
+          LOGGER.warn("{}:{}", MSG_INVALID_PARAM, entry.getKey());
           break;
         }
       }
@@ -157,15 +151,15 @@ public class NGSILDQueryParams {
 
     NGSILDQueryParams ng = new NGSILDQueryParams(json);
     QueryMapper qm = new QueryMapper();
-    System.out.println(qm.toJson(ng, true));
+    LOGGER.debug("Info: IUDX query json {}", qm.toJson(ng, true));
   }
 
   private void create(JsonObject requestJson) {
-    LOGGER.info("create from json started");
+    LOGGER.debug("create from json started");
     requestJson.forEach(entry -> {
-      LOGGER.info("key ::" + entry.getKey() + " value :: " + entry.getValue());
+      LOGGER.debug("key ::{} value :: {}", entry.getKey(), entry.getValue());
       if (entry.getKey().equalsIgnoreCase(NGSILDQUERY_Q)) {
-        this.textQuery = requestJson.getString(NGSILDQUERY_Q);
+        this.setQ(requestJson.getString(NGSILDQUERY_Q));
       } else if (entry.getKey().equalsIgnoreCase(NGSILDQUERY_ATTRIBUTE)) {
         this.attrs = new ArrayList<String>();
         this.attrs =
@@ -180,17 +174,7 @@ public class NGSILDQueryParams {
         this.setGeoProperty(geoJson.getString("geoproperty"));
         this.setCoordinates(geoJson.getJsonArray("coordinates").toString());
         if (geoJson.containsKey("georel")) {
-          String georel = geoJson.getString("georel");
-          String[] values = georel.split(";");
-          this.geoRel.setRelation(values[0]);
-          if (values.length == 2) {
-            String[] distance = values[1].split("=");
-            if (distance[0].equalsIgnoreCase(NGSILDQUERY_MAXDISTANCE)) {
-              this.geoRel.setMaxDistance(Double.parseDouble(distance[1]));
-            } else if (distance[0].equalsIgnoreCase(NGSILDQUERY_MINDISTANCE)) {
-              this.geoRel.setMinDistance(Double.parseDouble(distance[1]));
-            }
-          }
+          this.geoRel = QueryParser.parseGeoRel(geoJson.getString("georel"));
         }
       } else if (entry.getKey().equalsIgnoreCase("temporalQ")) {
         JsonObject temporalJson = requestJson.getJsonObject(entry.getKey());
@@ -204,7 +188,7 @@ public class NGSILDQueryParams {
           this.id = new ArrayList<URI>();
           this.idPattern = new ArrayList<String>();
           JsonObject entity = (JsonObject) iter.next();
-          System.out.println(entity);
+          LOGGER.debug("Info: entity {}", entity);
           String id = entity.getString("id");
           String idPattern = entity.getString("idPattern");
           if (id != null) {
@@ -225,7 +209,7 @@ public class NGSILDQueryParams {
     try {
       uri = new URI(source);
     } catch (URISyntaxException e) {
-      e.printStackTrace();
+      LOGGER.error("Error: Invalid URI {}", source, e);
     }
     return uri;
   }
@@ -266,8 +250,19 @@ public class NGSILDQueryParams {
     return textQuery;
   }
 
+  /**
+   * Sets the q parameter, parsing its terms.
+   * 
+   * @param textQuery value of the q parameter
+   * @throws IllegalArgumentException if it is malformed
+   */
   public void setQ(String textQuery) {
     this.textQuery = textQuery;
+    this.queryTerms = textQuery == null ? null : QueryParser.parseQ(textQuery);
+  }
+
+  public List<QueryTerm> getQueryTerms() {
+    return queryTerms;
   }
 
   public GeoRelation getGeoRel() {
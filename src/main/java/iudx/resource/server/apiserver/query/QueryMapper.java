@@ -5,8 +5,6 @@ import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import iudx.resource.server.apiserver.util.Constants;
-import java.util.Arrays;
-import java.util.List;
 
 /**
  * QueryMapper class to convert NGSILD query into json object for the purpose of information
@@ -30,7 +28,7 @@ public class QueryMapper {
    */
   public JsonObject toJson(NGSILDQueryParams params, boolean isTemporal) {
     LOGGER.debug("Info QuerryMapper#toJson() started");
-    LOGGER.debug("Info : params" + params);
+    LOGGER.debug("Info : params{}", params);
     this.isTemporal = isTemporal;
     JsonObject json = new JsonObject();
 
@@ -38,14 +36,14 @@ public class QueryMapper {
       JsonArray jsonArray = new JsonArray();
       params.getId().forEach(s -> jsonArray.add(s.toString()));
       json.put(Constants.JSON_ID, jsonArray);
-      LOGGER.debug("Info : json " + json);
+      LOGGER.debug("Info : json {}", json);
     }
     if (params.getAttrs() != null) {
       isResponseFilter = true;
       JsonArray jsonArray = new JsonArray();
       params.getAttrs().forEach(attribute -> jsonArray.add(attribute));
       json.put(Constants.JSON_ATTRIBUTE_FILTER, jsonArray);
-      LOGGER.debug("Info : json " + json);
+      LOGGER.debug("Info : json {}", json);
     }
     if (params.getGeoRel() != null
         && (params.getCoordinates() != null || params.getGeometry() != null)) {
@@ -53,9 +51,9 @@ public class QueryMapper {
       if (params.getGeometry().equalsIgnoreCase(Constants.GEOM_POINT)
           && params.getGeoRel().getRelation().equals(Constants.JSON_NEAR)
           && params.getGeoRel().getMaxDistance() != null) {
-        String[] coords = params.getCoordinates().replaceAll("\\[|\\]", "").split(",");
-        json.put(Constants.JSON_LAT, Double.parseDouble(coords[0]));
-        json.put(Constants.JSON_LON, Double.parseDouble(coords[1]));
+        double[] point = QueryParser.parsePoint(params.getCoordinates());
+        json.put(Constants.JSON_LAT, point[0]);
+        json.put(Constants.JSON_LON, point[1]);
         json.put(Constants.JSON_RADIUS, params.getGeoRel().getMaxDistance());
       } else {
         json.put(Constants.JSON_GEOMETRY, params.getGeometry());
@@ -68,7 +66,7 @@ public class QueryMapper {
           json.put(Constants.JSON_MINDISTANCE, params.getGeoRel().getMinDistance());
         }
       }
-      LOGGER.debug("Info : json " + json);
+      LOGGER.debug("Info : json {}", json);
     }
     if (isTemporal && params.getTemporalRelation().getTemprel() != null
         && params.getTemporalRelation().getTime() != null) {
@@ -81,29 +79,28 @@ public class QueryMapper {
         json.put(Constants.JSON_TIME, params.getTemporalRelation().getTime().toString());
         json.put(Constants.JSON_TIMEREL, params.getTemporalRelation().getTemprel());
       }
-      LOGGER.debug("Info : json " + json);
+      LOGGER.debug("Info : json {}", json);
     }
     if (params.getQ() != null) {
       isAttributeSearch = true;
       JsonArray query = new JsonArray();
-      String[] qterms = params.getQ().split(";");
-      for (String term : qterms) {
-        query.add(getQueryTerms(term));
+      for (QueryTerm term : params.getQueryTerms()) {
+        query.add(term.toJson());
       }
       json.put(Constants.JSON_ATTR_QUERY, query);
-      LOGGER.debug("Info : json " + json);
+      LOGGER.debug("Info : json {}", json);
     }
     if (params.getGeoProperty() != null) {
       json.put(Constants.JSON_GEOPROPERTY, params.getGeoProperty());
-      LOGGER.debug("Info : json " + json);
+      LOGGER.debug("Info : json {}", json);
     }
     if (params.getOptions() != null) {
       json.put(Constants.IUDXQUERY_OPTIONS, params.getOptions());
-      LOGGER.debug("Info : json " + json);
+      LOGGER.debug("Info : json {}", json);
     }
 
     json.put(Constants.JSON_SEARCH_TYPE, getSearchType());
-    LOGGER.debug("Info : json " + json);
+    LOGGER.debug("Info : json {}", json);
     return json;
   }
 
@@ -130,32 +127,15 @@ public class QueryMapper {
     return searchType.substring(0, searchType.length() - 1).toString();
   }
 
+  /**
+   * Maps the first term of a q parameter.
+   *
+   * @param queryTerms value of the q parameter
+   * @return the term, as an entry of the attr-query
+   * @throws IllegalArgumentException if the q parameter is malformed
+   */
   JsonObject getQueryTerms(String queryTerms) {
-    JsonObject json = new JsonObject();
-    int length = queryTerms.length();
-    List<Character> allowedSpecialCharacter = Arrays.asList('>', '=', '<', '!');
-    int startIndex = 0;
-    boolean specialCharFound = false;
-    for (int i = 0; i < length; i++) {
-      Character c = queryTerms.charAt(i);
-      if (!(Character.isLetter(c) || Character.isDigit(c)) && !specialCharFound) {
-        if (allowedSpecialCharacter.contains(c)) {
-          json.put(Constants.JSON_ATTRIBUTE, queryTerms.substring(startIndex, i));
-          startIndex = i;
-          specialCharFound = true;
-        } else {
-          LOGGER.info("Ignore " + c.toString());
-        }
-      } else {
-        if (specialCharFound && (Character.isLetter(c) || Character.isDigit(c))) {
-          json.put(Constants.JSON_OPERATOR, queryTerms.substring(startIndex, i));
-          json.put(Constants.JSON_VALUE, queryTerms.substring(i));
-          break;
-        }
-      }
-
-    }
-    return json;
+    return QueryParser.parseQ(queryTerms).get(0).toJson();
   }
 
 }
@@ -0,0 +1,329 @@
+package iudx.resource.server.apiserver.query;
+
+import static iudx.resource.server.apiserver.util.Constants.NGSILDQUERY_MAXDISTANCE;
+import static iudx.resource.server.apiserver.util.Constants.NGSILDQUERY_MINDISTANCE;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import io.vertx.core.MultiMap;
+import iudx.resource.server.apiserver.query.QueryTerm.Operator;
+
+/**
+ * The Query Parser.
+ * <h1>Query Parser</h1>
+ * <p>
+ * Parsers of the NGSI-LD query grammar: the query string of a request, and the q, georel and
+ * point coordinates parameters. Each makes a single pass over its input, without regular
+ * expressions or intermediate arrays, and fails with an {@link IllegalArgumentException} telling
+ * where the input is malformed.
+ * </p>
+ * <p>
+ * The q parameter is a list of terms joined by <b>;</b>, all of which must match. A term is an
+ * attribute, or a path to a sub-attribute, one of the operators ==, !=, &gt;, &gt;=, &lt;, &lt;=,
+ * ~= (matches the pattern) and !~=, and a value, which may be quoted. == and != also take a range
+ * <i>low..high</i> or a list <i>a,b,c</i> of values. Terms joined by | and grouped in parentheses
+ * are not supported.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class QueryParser {
+
+  /* as many parameters as the query string decoder used to take */
+  private static final int MAX_PARAMS = 1024;
+  private static final Operator[] OPERATORS = Operator.values();
+  private static final char TERM_SEPARATOR = ';';
+  private static final char LIST_SEPARATOR = ',';
+  private static final String RANGE_SEPARATOR = "..";
+  private static final char QUOTE = '"';
+  private static final char ESCAPE = '\\';
+
+  private QueryParser() {}
+
+  /**
+   * Decodes the parameters of a request URI. Parameters are separated by <b>&amp;</b> only, and
+   * a <b>+</b> is kept as it is, not taken for a space.
+   *
+   * @param uri the request URI, with its path
+   * @return the parameters
+   * @throws IllegalArgumentException if a parameter has a malformed escape
+   */
+  public static MultiMap decodeParams(String uri) {
+    MultiMap params = MultiMap.caseInsensitiveMultiMap();
+    int start = uri.indexOf('?');
+    if (start < 0) {
+      return params;
+    }
+    int end = uri.indexOf('#', start);
+    if (end < 0) {
+      end = uri.length();
+    }
+    int count = 0;
+    int nameStart = start + 1;
+    while (nameStart < end && count < MAX_PARAMS) {
+      int paramEnd = uri.indexOf('&', nameStart);
+      if (paramEnd < 0 || paramEnd > end) {
+        paramEnd = end;
+      }
+      int equals = uri.indexOf('=', nameStart);
+      if (equals < 0 || equals > paramEnd) {
+        equals = paramEnd;
+      }
+      if (equals > nameStart) {
+        String value = equals < paramEnd ? decode(uri, equals + 1, paramEnd) : "";
+        params.add(decode(uri, nameStart, equals), value);
+        count++;
+      }
+      nameStart = paramEnd + 1;
+    }
+    return params;
+  }
+
+  /* percent-decodes uri[from, to) as UTF-8 */
+  private static String decode(String uri, int from, int to) {
+    int escape = uri.indexOf('%', from);
+    if (escape < 0 || escape >= to) {
+      return uri.substring(from, to);
+    }
+    StringBuilder decoded = new StringBuilder(to - from).append(uri, from, escape);
+    byte[] bytes = new byte[(to - escape) / 3];
+    int i = escape;
+    while (i < to) {
+      if (uri.charAt(i) != '%') {
+        decoded.append(uri.charAt(i++));
+        continue;
+      }
+      /* a run of escapes may be the bytes of a single character */
+      int count = 0;
+      while (i < to && uri.charAt(i) == '%') {
+        if (i + 3 > to) {
+          throw new IllegalArgumentException("Incomplete escape at " + i + " of " + uri);
+        }
+        bytes[count++] = (byte) (hexDigit(uri, i + 1) << 4 | hexDigit(uri, i + 2));
+        i += 3;
+      }
+      decoded.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+    }
+    return decoded.toString();
+  }
+
+  private static int hexDigit(String uri, int index) {
+    int digit = Character.digit(uri.charAt(index), 16);
+    if (digit < 0) {
+      throw new IllegalArgumentException("Invalid escape at " + (index - 1) + " of " + uri);
+    }
+    return digit;
+  }
+
+  /**
+   * Parses the q parameter.
+   *
+   * @param q the value of the parameter
+   * @return its terms, in order
+   * @throws IllegalArgumentException if it is malformed
+   */
+  public static List<QueryTerm> parseQ(String q) {
+    List<QueryTerm> terms = new ArrayList<>();
+    int length = q.length();
+    int i = 0;
+    while (i < length) {
+      int start = i;
+      while (i < length && isAttributeChar(q.charAt(i))) {
+        i++;
+      }
+      if (i == start) {
+        throw unexpected(q, i);
+      }
+      String attribute = q.substring(start, i);
+      Operator operator = operatorAt(q, i);
+      if (operator == null) {
+        throw invalid(q, i, "operator expected");
+      }
+      List<String> values = new ArrayList<>(1);
+      boolean range = false;
+      i = value(q, i + operator.symbol().length(), values);
+      while (i < length && q.charAt(i) != TERM_SEPARATOR) {
+        if (q.charAt(i) == LIST_SEPARATOR && !range) {
+          i = value(q, i + 1, values);
+        } else if (q.startsWith(RANGE_SEPARATOR, i) && values.size() == 1) {
+          range = true;
+          i = value(q, i + RANGE_SEPARATOR.length(), values);
+        } else {
+          throw unexpected(q, i);
+        }
+      }
+      if (values.size() > 1 && !operator.isEquality()) {
+        throw invalid(q, start, "a range or list of values is only taken by == and !=");
+      }
+      terms.add(new QueryTerm(attribute, operator, values, range));
+      i++;
+    }
+    if (terms.isEmpty()) {
+      throw invalid(q, 0, "term expected");
+    }
+    return terms;
+  }
+
+  /* reads the value at from into values, returns the index after it */
+  private static int value(String q, int from, List<String> values) {
+    int length = q.length();
+    if (from < length && q.charAt(from) == QUOTE) {
+      StringBuilder unescaped = null;
+      int start = from + 1;
+      int i = start;
+      while (i < length && q.charAt(i) != QUOTE) {
+        if (q.charAt(i) == ESCAPE && i + 1 < length) {
+          if (unescaped == null) {
+            unescaped = new StringBuilder().append(q, start, i);
+          }
+          unescaped.append(q.charAt(i + 1));
+          i += 2;
+        } else {
+          if (unescaped != null) {
+            unescaped.append(q.charAt(i));
+          }
+          i++;
+        }
+      }
+      if (i == length) {
+        throw invalid(q, from, "unterminated string");
+      }
+      values.add(unescaped == null ? q.substring(start, i) : unescaped.toString());
+      return i + 1;
+    }
+    int i = from;
+    while (i < length && !isValueEnd(q, i)) {
+      i++;
+    }
+    if (i == from) {
+      throw invalid(q, from, "value expected");
+    }
+    values.add(q.substring(from, i));
+    return i;
+  }
+
+  private static boolean isValueEnd(String q, int index) {
+    char c = q.charAt(index);
+    return c == TERM_SEPARATOR || c == LIST_SEPARATOR || c == '|' || c == '(' || c == ')'
+        || q.startsWith(RANGE_SEPARATOR, index);
+  }
+
+  private static boolean isAttributeChar(char c) {
+    switch (c) {
+      case '=':
+      case '!':
+      case '<':
+      case '>':
+      case '~':
+      case ';':
+      case ',':
+      case '|':
+      case '(':
+      case ')':
+      case QUOTE:
+        return false;
+      default:
+        return !Character.isWhitespace(c);
+    }
+  }
+
+  private static Operator operatorAt(String q, int index) {
+    for (Operator operator : OPERATORS) {
+      if (q.startsWith(operator.symbol(), index)) {
+        return operator;
+      }
+    }
+    return null;
+  }
+
+  private static IllegalArgumentException unexpected(String q, int index) {
+    char c = q.charAt(index);
+    if (c == '|' || c == '(' || c == ')') {
+      return invalid(q, index, "terms joined by | or grouped are not supported");
+    }
+    return invalid(q, index, "unexpected '" + c + "'");
+  }
+
+  private static IllegalArgumentException invalid(String q, int index, String reason) {
+    return new IllegalArgumentException("Invalid q at " + index + ", " + reason + ": " + q);
+  }
+
+  /**
+   * Parses the georel parameter, a relation optionally followed by <b>;</b> and a maximum or
+   * minimum distance, such as near;maxDistance==1000. A single <b>=</b> before the distance is
+   * taken as well.
+   *
+   * @param georel the value of the parameter
+   * @return the relation
+   * @throws IllegalArgumentException if the distance is malformed
+   */
+  public static GeoRelation parseGeoRel(String georel) {
+    GeoRelation geoRel = new GeoRelation();
+    int separator = georel.indexOf(';');
+    if (separator < 0) {
+      geoRel.setRelation(georel);
+      return geoRel;
+    }
+    geoRel.setRelation(georel.substring(0, separator));
+    int equals = georel.indexOf('=', separator + 1);
+    if (equals < 0) {
+      throw new IllegalArgumentException("Invalid georel, distance expected: " + georel);
+    }
+    String name = georel.substring(separator + 1, equals);
+    int value = georel.startsWith("=", equals + 1) ? equals + 2 : equals + 1;
+    double distance = parseDouble(georel, value, georel.length(), "georel");
+    if (NGSILDQUERY_MAXDISTANCE.equalsIgnoreCase(name)) {
+      geoRel.setMaxDistance(distance);
+    } else if (NGSILDQUERY_MINDISTANCE.equalsIgnoreCase(name)) {
+      geoRel.setMinDistance(distance);
+    }
+    return geoRel;
+  }
+
+  /**
+   * Parses the coordinates of a point, such as [21.178,72.834].
+   *
+   * @param coordinates the value of the coordinates parameter
+   * @return the two coordinates, in the order given
+   * @throws IllegalArgumentException if they are not those of a point
+   */
+  public static double[] parsePoint(String coordinates) {
+    double[] point = new double[2];
+    int count = 0;
+    int length = coordinates.length();
+    int i = 0;
+    while (i < length) {
+      char c = coordinates.charAt(i);
+      if (c == '[' || c == ']' || c == ',' || Character.isWhitespace(c)) {
+        i++;
+        continue;
+      }
+      int start = i;
+      while (i < length && isNumberChar(coordinates.charAt(i))) {
+        i++;
+      }
+      if (i == start || count == point.length) {
+        throw new IllegalArgumentException("Invalid coordinates of a point: " + coordinates);
+      }
+      point[count++] = parseDouble(coordinates, start, i, "coordinates");
+    }
+    if (count < point.length) {
+      throw new IllegalArgumentException("Invalid coordinates of a point: " + coordinates);
+    }
+    return point;
+  }
+
+  private static boolean isNumberChar(char c) {
+    return (c >= '0' && c <= '9') || c == '.' || c == '-' || c == '+' || c == 'e' || c == 'E';
+  }
+
+  private static double parseDouble(String source, int from, int to, String parameter) {
+    try {
+      return Double.parseDouble(source.substring(from, to));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid " + parameter + ", number expected: " + source);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package iudx.resource.server.apiserver.query;
+
+import static iudx.resource.server.apiserver.util.Constants.JSON_ATTRIBUTE;
+import static iudx.resource.server.apiserver.util.Constants.JSON_OPERATOR;
+import static iudx.resource.server.apiserver.util.Constants.JSON_VALUE;
+import static iudx.resource.server.apiserver.util.Constants.JSON_VALUES;
+import static iudx.resource.server.apiserver.util.Constants.JSON_VALUE_LOWER;
+import static iudx.resource.server.apiserver.util.Constants.JSON_VALUE_UPPER;
+import java.util.List;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The Query Term.
+ * <h1>Query Term</h1>
+ * <p>
+ * A term of the NGSI-LD q parameter, as parsed by {@link QueryParser}: an attribute, an operator,
+ * and a value, a range of values or a list of values. It is handed to the database service as an
+ * entry of the attr-query of the IUDX query json.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class QueryTerm {
+
+  /* operator of an equality on a range, as the database service knows it */
+  private static final String BETWEEN_OPERATOR = "<==>";
+
+  /**
+   * Operators of a term, longest first where one is a prefix of another.
+   */
+  public enum Operator {
+    NOT_PATTERN("!~="), NOT_EQUAL("!="), EQUAL("=="), PATTERN("~="), GREATER_THAN_EQ(">="),
+    GREATER_THAN(">"), LESS_THAN_EQ("<="), LESS_THAN("<");
+
+    private final String symbol;
+
+    Operator(String symbol) {
+      this.symbol = symbol;
+    }
+
+    public String symbol() {
+      return symbol;
+    }
+
+    /**
+     * Whether the operator takes a range or a list of values.
+     *
+     * @return true for == and !=
+     */
+    public boolean isEquality() {
+      return this == EQUAL || this == NOT_EQUAL;
+    }
+  }
+
+  private final String attribute;
+  private final Operator operator;
+  private final List<String> values;
+  private final boolean range;
+
+  /**
+   * Creates a term.
+   *
+   * @param attribute the attribute, a path for a sub-attribute
+   * @param operator the operator
+   * @param values the value, the two ends of a range or the list of values
+   * @param range whether the values are the ends of a range
+   */
+  public QueryTerm(String attribute, Operator operator, List<String> values, boolean range) {
+    this.attribute = attribute;
+    this.operator = operator;
+    this.values = values;
+    this.range = range;
+  }
+
+  public String getAttribute() {
+    return attribute;
+  }
+
+  public Operator getOperator() {
+    return operator;
+  }
+
+  public List<String> getValues() {
+    return values;
+  }
+
+  public boolean isRange() {
+    return range;
+  }
+
+  /**
+   * The term as an entry of the attr-query of the IUDX query json.
+   *
+   * @return the term json
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject().put(JSON_ATTRIBUTE, attribute);
+    if (range) {
+      json.put(JSON_OPERATOR,
+          operator == Operator.EQUAL ? BETWEEN_OPERATOR : operator.symbol());
+      json.put(JSON_VALUE_LOWER, values.get(0)).put(JSON_VALUE_UPPER, values.get(1));
+    } else if (values.size() > 1) {
+      json.put(JSON_OPERATOR, operator.symbol()).put(JSON_VALUES, new JsonArray(values));
+    } else {
+      json.put(JSON_OPERATOR, operator.symbol()).put(JSON_VALUE, values.get(0));
+    }
+    return json;
+  }
+
+  @Override
+  public String toString() {
+    return "QueryTerm [attribute=" + attribute + ", operator=" + operator.symbol() + ", values="
+        + values + ", range=" + range + "]";
+  }
+}
@@ -0,0 +1,110 @@
+package iudx.resource.server.apiserver.response;
+
+/**
+ * The Byte Range.
+ * <h1>Byte Range</h1>
+ * <p>
+ * The part of a file asked for by the Range header of a request. Only a single range of bytes
+ * is served; a header with several ranges, or one that is malformed, is ignored and the whole
+ * file is sent, as HTTP allows.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class ByteRange {
+
+  /** A range that no byte of the file is in. */
+  public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1, 0);
+
+  private static final String BYTES_UNIT = "bytes=";
+
+  private final long start;
+  private final long end;
+  private final long total;
+
+  private ByteRange(long start, long end, long total) {
+    this.start = start;
+    this.end = end;
+    this.total = total;
+  }
+
+  /**
+   * Parses the Range header of a request for a file.
+   *
+   * @param range value of the Range header, may be null
+   * @param total length of the file in bytes
+   * @return the range, null if the whole file is to be sent, {@link #UNSATISFIABLE} if the range
+   *         is outside of the file
+   */
+  public static ByteRange parse(String range, long total) {
+    if (range == null || !range.startsWith(BYTES_UNIT) || range.indexOf(',') >= 0) {
+      return null;
+    }
+    String spec = range.substring(BYTES_UNIT.length()).trim();
+    int dash = spec.indexOf('-');
+    if (dash < 0) {
+      return null;
+    }
+    try {
+      String first = spec.substring(0, dash).trim();
+      String last = spec.substring(dash + 1).trim();
+      if (first.isEmpty()) {
+        /* suffix range, the last bytes of the file */
+        long suffix = Long.parseLong(last);
+        if (suffix <= 0 || total == 0) {
+          return UNSATISFIABLE;
+        }
+        return new ByteRange(Math.max(0, total - suffix), total - 1, total);
+      }
+      long start = Long.parseLong(first);
+      long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+      if (start < 0 || end < start) {
+        return null;
+      }
+      if (start >= total) {
+        return UNSATISFIABLE;
+      }
+      return new ByteRange(start, Math.min(end, total - 1), total);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  public long start() {
+    return start;
+  }
+
+  public long end() {
+    return end;
+  }
+
+  /**
+   * Number of bytes in the range.
+   *
+   * @return the length in bytes
+   */
+  public long length() {
+    return end - start + 1;
+  }
+
+  /**
+   * Value of the Content-Range header of the partial response.
+   *
+   * @return the content range
+   */
+  public String contentRange() {
+    return "bytes " + start + "-" + end + "/" + total;
+  }
+
+  /**
+   * Value of the Content-Range header of the response to an unsatisfiable range.
+   *
+   * @param total length of the file in bytes
+   * @return the content range
+   */
+  public static String unsatisfiedRange(long total) {
+    return "bytes */" + total;
+  }
+}
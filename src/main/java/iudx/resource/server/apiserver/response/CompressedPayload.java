@@ -0,0 +1,146 @@
+package iudx.resource.server.apiserver.response;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * The Compressed Payload.
+ * <h1>Compressed Payload</h1>
+ * <p>
+ * An encoded response body along with its content type and the bodies it has been compressed
+ * to, one per content encoding, each made the first time it is asked for. Sending a payload
+ * again writes the stored bytes, without encoding or compressing anything. Its entity tag, a
+ * digest of the body, is likewise computed once.
+ * </p>
+ * <p>
+ * A payload held by a {@link ResponseCache} is counted in the byte budget of the cache, which
+ * grows along with the payload as compressed bodies are added to it.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class CompressedPayload {
+
+  private static final String ETAG_DIGEST = "SHA-256";
+  private static final int ETAG_BYTES = 16;
+
+  private final String contentType;
+  private final Buffer body;
+  private final long lastModified;
+  private final ConcurrentMap<String, Buffer> encodedBodies = new ConcurrentHashMap<>(2);
+  private volatile String etag;
+  /* guarded by this */
+  private int size;
+  private AtomicLong budget;
+
+  /**
+   * Creates a payload.
+   *
+   * @param contentType content type of the body
+   * @param body the body
+   */
+  public CompressedPayload(String contentType, Buffer body) {
+    this(contentType, body, 0);
+  }
+
+  /**
+   * Creates a payload of data last modified at a known time.
+   *
+   * @param contentType content type of the body
+   * @param body the body
+   * @param lastModified epoch millisecond the data of the body was last modified, 0 if unknown
+   */
+  public CompressedPayload(String contentType, Buffer body, long lastModified) {
+    this.contentType = contentType;
+    this.body = body;
+    this.lastModified = lastModified;
+    this.size = body.length();
+  }
+
+  public String contentType() {
+    return contentType;
+  }
+
+  public Buffer body() {
+    return body;
+  }
+
+  public long lastModified() {
+    return lastModified;
+  }
+
+  /**
+   * Returns the weak entity tag of the payload, the same for all its encodings.
+   *
+   * @return the entity tag, quoted
+   */
+  public String etag() {
+    String tag = etag;
+    if (tag == null) {
+      try {
+        byte[] digest = MessageDigest.getInstance(ETAG_DIGEST).digest(body.getBytes());
+        tag = "W/\"" + Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(Arrays.copyOf(digest, ETAG_BYTES)) + "\"";
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+      etag = tag;
+    }
+    return tag;
+  }
+
+  /**
+   * Returns the body compressed with an encoding, compressing it on first use.
+   *
+   * @param encoding the content encoding
+   * @param compression the policy compressing the body
+   * @return the compressed body
+   */
+  public Buffer encoded(String encoding, ResponseCompression compression) {
+    return encodedBodies.computeIfAbsent(encoding, key -> added(compression.encode(body, key)));
+  }
+
+  private synchronized Buffer added(Buffer encoded) {
+    size += encoded.length();
+    if (budget != null) {
+      budget.addAndGet(encoded.length());
+    }
+    return encoded;
+  }
+
+  /**
+   * Number of bytes held by the payload, its body and its compressed bodies.
+   *
+   * @return the size in bytes
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Counts the payload in a byte budget, from now on along with the compressed bodies added to
+   * it, and no longer in the budget it was counted in before.
+   *
+   * @param budget bytes held by the cache holding the payload, null if it is no longer held
+   */
+  synchronized void countIn(AtomicLong budget) {
+    if (this.budget == budget) {
+      return;
+    }
+    if (this.budget != null) {
+      this.budget.addAndGet(-size);
+    }
+    if (budget != null) {
+      budget.addAndGet(size);
+    }
+    this.budget = budget;
+  }
+}
@@ -0,0 +1,147 @@
+package iudx.resource.server.apiserver.response;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * The Conditional Response.
+ * <h1>Conditional Response</h1>
+ * <p>
+ * Conditional GET support for search responses. A response carries the entity tag of its
+ * payload, and a GET or HEAD request whose If-None-Match shows that the client already has the
+ * response gets a 304 without a body. Search responses have no Last-Modified: the latest
+ * observation time of the results does not change with every change of the body. A payload
+ * whose modification time is known, such as a static file, is also revalidated with
+ * If-Modified-Since. Search responses must be revalidated before they are reused, and only by
+ * the client, as they are authorized per token.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class ConditionalResponse {
+
+  private static final String REVALIDATE = "private, no-cache";
+  private static final String ANY_TAG = "*";
+  private static final String WEAK_PREFIX = "W/";
+
+  private ConditionalResponse() {}
+
+  /**
+   * Sets the validators of a payload on a response, and ends the response with a 304 if the
+   * request shows that the client has the payload already.
+   *
+   * @param request the request being responded to
+   * @param response its response
+   * @param payload the payload the response would be sent with
+   * @return true if the response was ended, false if the payload has to be sent
+   */
+  public static boolean endIfNotModified(HttpServerRequest request, HttpServerResponse response,
+      CompressedPayload payload) {
+    return endIfNotModified(request, response, payload, REVALIDATE);
+  }
+
+  /**
+   * Sets the validators of a payload on a response, along with how long it may be reused, and
+   * ends the response with a 304 if the request shows that the client has the payload already.
+   *
+   * @param request the request being responded to
+   * @param response its response
+   * @param payload the payload the response would be sent with
+   * @param cacheControl value of the Cache-Control header of the response
+   * @return true if the response was ended, false if the payload has to be sent
+   */
+  public static boolean endIfNotModified(HttpServerRequest request, HttpServerResponse response,
+      CompressedPayload payload, String cacheControl) {
+    /* the preconditions do not apply to the responses of other methods, such as POST queries */
+    if (request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD) {
+      return false;
+    }
+    String etag = payload.etag();
+    response.putHeader(HttpHeaders.ETAG, etag).putHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+    if (payload.lastModified() > 0) {
+      response.putHeader(HttpHeaders.LAST_MODIFIED, httpDate(payload.lastModified()));
+    }
+    String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+    boolean notModified = ifNoneMatch != null
+        ? matches(ifNoneMatch, etag)
+        : notModifiedSince(request.getHeader(HttpHeaders.IF_MODIFIED_SINCE),
+            payload.lastModified());
+    if (!notModified) {
+      return false;
+    }
+    response.setStatusCode(ResponseType.NotModified.getCode()).end();
+    return true;
+  }
+
+  /**
+   * Ends a response with a 304 if the If-None-Match of a GET or HEAD request matches the entity
+   * tag the response would be sent with. The validators are to be set on the response already.
+   *
+   * @param request the request being responded to
+   * @param response its response
+   * @param etag entity tag of the response
+   * @return true if the response was ended, false if the body has to be sent
+   */
+  public static boolean endIfNoneMatch(HttpServerRequest request, HttpServerResponse response,
+      String etag) {
+    if (request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD) {
+      return false;
+    }
+    String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+    if (ifNoneMatch == null || !matches(ifNoneMatch, etag)) {
+      return false;
+    }
+    response.setStatusCode(ResponseType.NotModified.getCode()).end();
+    return true;
+  }
+
+  /**
+   * Formats a time as the value of an HTTP date header.
+   *
+   * @param epochMillis the epoch millisecond
+   * @return the date
+   */
+  public static String httpDate(long epochMillis) {
+    return DateTimeFormatter.RFC_1123_DATE_TIME
+        .format(Instant.ofEpochMilli(epochMillis).atZone(ZoneOffset.UTC));
+  }
+
+  /* Weak comparison of the entity tag against the tags of an If-None-Match */
+  private static boolean matches(String ifNoneMatch, String etag) {
+    String opaqueTag = opaque(etag);
+    for (String tag : ifNoneMatch.split(",")) {
+      String trimmed = tag.trim();
+      if (ANY_TAG.equals(trimmed) || opaque(trimmed).equals(opaqueTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String opaque(String tag) {
+    return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+  }
+
+  /* HTTP dates have second precision */
+  private static boolean notModifiedSince(String ifModifiedSince, long lastModified) {
+    if (ifModifiedSince == null || lastModified == 0) {
+      return false;
+    }
+    try {
+      long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME)
+          .toEpochSecond();
+      return lastModified / 1000 <= since;
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+}
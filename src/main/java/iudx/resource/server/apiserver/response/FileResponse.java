@@ -0,0 +1,67 @@
+package iudx.resource.server.apiserver.response;
+
+import static iudx.resource.server.apiserver.util.Constants.HEADER_RANGE;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * The File Response.
+ * <h1>File Response</h1>
+ * <p>
+ * Sends a file, or the byte range of it asked for by the request, with
+ * {@link HttpServerResponse#sendFile(String, long, long)}. Over plain HTTP/1.1 the bytes go from
+ * the file to the socket without being copied through the heap; over TLS or HTTP/2 the file is
+ * read in chunks as it is written, so memory stays bounded whatever the size of the file.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class FileResponse {
+
+  private static final Logger LOGGER = LogManager.getLogger(FileResponse.class);
+
+  private static final String BYTES = "bytes";
+
+  private FileResponse() {}
+
+  /**
+   * Ends a response with a file, or with the range of it asked for. Headers describing the file,
+   * its content type among them, are to be set beforehand.
+   *
+   * @param request the request being responded to
+   * @param response its response
+   * @param path path of the file
+   * @param size size of the file in bytes
+   */
+  public static void send(HttpServerRequest request, HttpServerResponse response, String path,
+      long size) {
+    response.putHeader(HttpHeaders.ACCEPT_RANGES, BYTES);
+    ByteRange range = ByteRange.parse(request.getHeader(HEADER_RANGE), size);
+    if (range == ByteRange.UNSATISFIABLE) {
+      response.setStatusCode(ResponseType.RangeNotSatisfiable.getCode())
+          .putHeader(HttpHeaders.CONTENT_RANGE, ByteRange.unsatisfiedRange(size)).end();
+      return;
+    }
+    long offset = 0;
+    long length = size;
+    if (range != null) {
+      offset = range.start();
+      length = range.length();
+      response.setStatusCode(ResponseType.PartialContent.getCode())
+          .putHeader(HttpHeaders.CONTENT_RANGE, range.contentRange());
+    }
+    response.sendFile(path, offset, length, sent -> {
+      if (sent.failed()) {
+        LOGGER.error("Fail: Sending {};{}", path, sent.cause().getMessage());
+        if (!response.headWritten()) {
+          response.setStatusCode(ResponseType.NotFound.getCode()).end();
+        }
+      }
+    });
+  }
+}
@@ -0,0 +1,297 @@
+package iudx.resource.server.apiserver.response;
+
+import static iudx.resource.server.apiserver.util.Constants.CLOSED_WINDOW_LAG_SECONDS;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_CLOSED_WINDOW_LAG_SECONDS;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_LATEST_CACHE_TTL_MILLIS;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_RESPONSE_CACHE_MAX_BYTES;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_RESPONSE_CACHE_MAX_ENTRIES;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_TEMPORAL_CACHE_TTL_SECONDS;
+import static iudx.resource.server.apiserver.util.Constants.JSON_BEFORE;
+import static iudx.resource.server.apiserver.util.Constants.JSON_DURING;
+import static iudx.resource.server.apiserver.util.Constants.JSON_ENDTIME;
+import static iudx.resource.server.apiserver.util.Constants.JSON_INSTANCEID;
+import static iudx.resource.server.apiserver.util.Constants.JSON_LATEST_SEARCH;
+import static iudx.resource.server.apiserver.util.Constants.JSON_SEARCH_TYPE;
+import static iudx.resource.server.apiserver.util.Constants.JSON_TEMPORAL_SEARCH;
+import static iudx.resource.server.apiserver.util.Constants.JSON_TIME;
+import static iudx.resource.server.apiserver.util.Constants.JSON_TIMEREL;
+import static iudx.resource.server.apiserver.util.Constants.LATEST_CACHE_TTL_MILLIS;
+import static iudx.resource.server.apiserver.util.Constants.RESPONSE_CACHE_MAX_BYTES;
+import static iudx.resource.server.apiserver.util.Constants.RESPONSE_CACHE_MAX_ENTRIES;
+import static iudx.resource.server.apiserver.util.Constants.TEMPORAL_CACHE_TTL_SECONDS;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import io.vertx.micrometer.backends.BackendRegistries;
+import iudx.resource.server.authenticator.ExpiringCache;
+
+/**
+ * The Response Cache.
+ * <h1>Response Cache</h1>
+ * <p>
+ * Caches the responses of search queries whose result cannot change, or only slowly: latest
+ * data queries for a short time, and temporal queries over a window that closed long enough ago
+ * for no more data to arrive in it for much longer. Responses are kept as
+ * {@link CompressedPayload}s, so a hit is written without encoding or compressing it again.
+ * Queries are keyed by their IUDX query json, which is only built for authorized requests, in a
+ * normal form: fields in name order, without the host the request was made to.
+ * </p>
+ * <p>
+ * The cache holds at most a budget of bytes, counting every cached payload with the compressed
+ * bodies added to it after it was cached. Once over the budget, expired entries and then the
+ * least recently used ones are evicted until it fits again.
+ * </p>
+ * <p>
+ * Concurrent requests for the same latest data query share one search: the first one runs it,
+ * the others wait for its response, and all are sent the same payload, encoded and compressed
+ * once. This holds whether the response is cached afterwards or not. Responses are only looked
+ * up and cached through {@link #getOrSearch(JsonObject, Supplier)}, so no search bypasses this.
+ * </p>
+ * <p>
+ * One cache is shared by all API server instances of the node.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class ResponseCache implements Shareable {
+
+  private static final String CACHES = "iudx.rs.response.caches";
+  private static final String CACHE = "cache";
+  public static final String COALESCED_COUNTER = "iudx.rs.response.coalesced";
+
+  private final Vertx vertx;
+  private final ExpiringCache<Cached> entries;
+  private final ConcurrentHashMap<String, Future<CompressedPayload>> inFlight =
+      new ConcurrentHashMap<>();
+  private final Counter coalesced;
+  private final AtomicLong bytes = new AtomicLong();
+  private final int maxBytes;
+  private final long latestTtlMillis;
+  private final long temporalTtlMillis;
+  private final long closedWindowLagMillis;
+
+  private ResponseCache(Vertx vertx, int maxEntries, int maxBytes, long latestTtlMillis,
+      long temporalTtlMillis, long closedWindowLagMillis) {
+    this.vertx = vertx;
+    this.entries = new ExpiringCache<>(maxEntries,
+        Math.max(latestTtlMillis, temporalTtlMillis), cached -> cached.expiresAt, 0,
+        cached -> cached.payload.countIn(null));
+    this.maxBytes = maxBytes;
+    this.latestTtlMillis = latestTtlMillis;
+    this.temporalTtlMillis = temporalTtlMillis;
+    this.closedWindowLagMillis = closedWindowLagMillis;
+    MeterRegistry registry = BackendRegistries.getDefaultNow();
+    this.coalesced =
+        registry != null ? Counter.builder(COALESCED_COUNTER).register(registry) : null;
+  }
+
+  /**
+   * Returns the cache of this node, creating it on first use.
+   *
+   * @param vertx the vertx instance
+   * @param config configuration of the API server
+   * @return the cache shared by the API server instances of this node
+   */
+  public static ResponseCache getOrCreate(Vertx vertx, JsonObject config) {
+    LocalMap<String, ResponseCache> caches = vertx.sharedData().getLocalMap(CACHES);
+    ResponseCache cache = caches.get(CACHE);
+    if (cache == null) {
+      ResponseCache created = new ResponseCache(vertx,
+          Integer.parseInt(config.getString(RESPONSE_CACHE_MAX_ENTRIES,
+              DEFAULT_RESPONSE_CACHE_MAX_ENTRIES)),
+          Integer.parseInt(
+              config.getString(RESPONSE_CACHE_MAX_BYTES, DEFAULT_RESPONSE_CACHE_MAX_BYTES)),
+          Long.parseLong(
+              config.getString(LATEST_CACHE_TTL_MILLIS, DEFAULT_LATEST_CACHE_TTL_MILLIS)),
+          TimeUnit.SECONDS.toMillis(Long.parseLong(
+              config.getString(TEMPORAL_CACHE_TTL_SECONDS, DEFAULT_TEMPORAL_CACHE_TTL_SECONDS))),
+          TimeUnit.SECONDS.toMillis(Long.parseLong(
+              config.getString(CLOSED_WINDOW_LAG_SECONDS, DEFAULT_CLOSED_WINDOW_LAG_SECONDS))));
+      cache = caches.putIfAbsent(CACHE, created);
+      if (cache == null) {
+        cache = created;
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Returns the response of a search query, cached, or from a search shared with the concurrent
+   * requests for the same latest data query, or else from a search of its own. The response is
+   * cached if the query is cacheable.
+   *
+   * @param query IUDX query json of the search
+   * @param search runs the search and builds its response
+   * @return future of the response, completed on the context of the caller
+   */
+  public Future<CompressedPayload> getOrSearch(JsonObject query,
+      Supplier<Future<CompressedPayload>> search) {
+    trim();
+    String key = key(query);
+    long ttlMillis = ttlMillis(query);
+    if (ttlMillis > 0) {
+      Cached cached = entries.get(key);
+      if (cached != null) {
+        return Future.succeededFuture(cached.payload);
+      }
+    }
+    if (!query.getString(JSON_SEARCH_TYPE, "").startsWith(JSON_LATEST_SEARCH)) {
+      return search.get().onSuccess(payload -> put(key, ttlMillis, payload));
+    }
+    Promise<CompressedPayload> searched = Promise.promise();
+    Future<CompressedPayload> pending = inFlight.putIfAbsent(key, searched.future());
+    if (pending != null) {
+      if (coalesced != null) {
+        coalesced.increment();
+      }
+      /* the search completes on the context of the request that runs it */
+      Context context = vertx.getOrCreateContext();
+      Promise<CompressedPayload> shared = Promise.promise();
+      pending.onComplete(result -> context.runOnContext(run -> shared.handle(result)));
+      return shared.future();
+    }
+    Future<CompressedPayload> result;
+    try {
+      result = search.get();
+    } catch (RuntimeException e) {
+      result = Future.failedFuture(e);
+    }
+    result.onComplete(done -> {
+      if (done.succeeded()) {
+        put(key, ttlMillis, done.result());
+      }
+      inFlight.remove(key, searched.future());
+      searched.handle(done);
+    });
+    return searched.future();
+  }
+
+  private void put(String key, long ttlMillis, CompressedPayload payload) {
+    if (ttlMillis == 0 || payload.size() > maxBytes) {
+      return;
+    }
+    payload.countIn(bytes);
+    entries.put(key, new Cached(payload, System.currentTimeMillis() + ttlMillis));
+    trim();
+  }
+
+  /* Evicts entries until the cached payloads fit in the byte budget */
+  private void trim() {
+    if (bytes.get() <= maxBytes) {
+      return;
+    }
+    entries.removeExpired();
+    while (bytes.get() > maxBytes) {
+      if (!entries.removeEldest()) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Number of bytes held by the cached payloads.
+   *
+   * @return the size in bytes
+   */
+  long bytes() {
+    return bytes.get();
+  }
+
+  /**
+   * Cache key of a search query, the same for queries with the same search.
+   *
+   * @param query IUDX query json of the search
+   * @return the key
+   */
+  static String key(JsonObject query) {
+    return ((JsonObject) normalized(query)).encode();
+  }
+
+  /* Fields in name order, the host of the request left out as it does not change the search */
+  private static Object normalized(Object value) {
+    if (value instanceof JsonObject) {
+      TreeMap<String, Object> fields = new TreeMap<>();
+      for (String name : ((JsonObject) value).fieldNames()) {
+        if (!JSON_INSTANCEID.equals(name)) {
+          fields.put(name, normalized(((JsonObject) value).getValue(name)));
+        }
+      }
+      return new JsonObject(fields);
+    }
+    if (value instanceof JsonArray) {
+      List<Object> items = new ArrayList<>(((JsonArray) value).size());
+      for (Object item : (JsonArray) value) {
+        items.add(normalized(item));
+      }
+      return new JsonArray(items);
+    }
+    return value;
+  }
+
+  /**
+   * Time for which the response of a search query may be cached.
+   *
+   * @param query IUDX query json of the search
+   * @return the time in milliseconds, 0 if it is not cached
+   */
+  long ttlMillis(JsonObject query) {
+    String searchType = query.getString(JSON_SEARCH_TYPE, "");
+    if (searchType.startsWith(JSON_LATEST_SEARCH)) {
+      return latestTtlMillis;
+    }
+    if (searchType.startsWith(JSON_TEMPORAL_SEARCH) && isClosedWindow(query)) {
+      return temporalTtlMillis;
+    }
+    return 0;
+  }
+
+  /* Whether the time window of a temporal query ended more than the lag ago */
+  private boolean isClosedWindow(JsonObject query) {
+    String timerel = query.getString(JSON_TIMEREL);
+    String end;
+    if (JSON_DURING.equalsIgnoreCase(timerel)) {
+      end = query.getString(JSON_ENDTIME);
+    } else if (JSON_BEFORE.equalsIgnoreCase(timerel)) {
+      end = query.getString(JSON_TIME);
+    } else {
+      return false;
+    }
+    if (end == null) {
+      return false;
+    }
+    try {
+      long endMillis = ZonedDateTime.parse(end).toInstant().toEpochMilli();
+      return endMillis + closedWindowLagMillis < System.currentTimeMillis();
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+
+  private static final class Cached {
+    private final CompressedPayload payload;
+    private final long expiresAt;
+
+    private Cached(CompressedPayload payload, long expiresAt) {
+      this.payload = payload;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,282 @@
+package iudx.resource.server.apiserver.response;
+
+import static iudx.resource.server.apiserver.util.Constants.COMPRESSION_CONTENT_TYPES;
+import static iudx.resource.server.apiserver.util.Constants.COMPRESSION_ENCODINGS;
+import static iudx.resource.server.apiserver.util.Constants.COMPRESSION_LEVEL;
+import static iudx.resource.server.apiserver.util.Constants.COMPRESSION_MIN_SIZE;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_COMPRESSION_CONTENT_TYPES;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_COMPRESSION_ENCODINGS;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_COMPRESSION_LEVEL;
+import static iudx.resource.server.apiserver.util.Constants.DEFAULT_COMPRESSION_MIN_SIZE;
+import static iudx.resource.server.apiserver.util.Constants.HEADER_VARY;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The Response Compression.
+ * <h1>Response Compression</h1>
+ * <p>
+ * Compression policy of the API server responses, applied by the server itself instead of the
+ * HTTP codec so that it can be selective: a body is compressed only if its content type is in
+ * the configured list and it is at least the minimum size, so error bodies and other short
+ * responses go out as they are. The encoding is negotiated from the Accept-Encoding of the
+ * request, among the configured encodings in order of preference. A {@link CompressedPayload}
+ * keeps the bodies it was encoded to, so a cached response is compressed once, however often it
+ * is sent.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class ResponseCompression {
+
+  private static final Logger LOGGER = LogManager.getLogger(ResponseCompression.class);
+
+  public static final String GZIP = "gzip";
+  public static final String DEFLATE = "deflate";
+  private static final List<String> SUPPORTED_ENCODINGS = List.of(GZIP, DEFLATE);
+  private static final String ANY_ENCODING = "*";
+  private static final String QUALITY = "q=";
+
+  private final int minSize;
+  private final int level;
+  private final Set<String> contentTypes;
+  private final List<String> encodings;
+
+  /**
+   * Creates the policy.
+   *
+   * @param minSize size in bytes under which a body is not compressed
+   * @param level deflate compression level, 1 (fastest) to 9 (smallest)
+   * @param contentTypes media types of the bodies to compress
+   * @param encodings content encodings to offer, most preferred first
+   */
+  public ResponseCompression(int minSize, int level, Set<String> contentTypes,
+      List<String> encodings) {
+    this.minSize = minSize;
+    this.level = level;
+    this.contentTypes = contentTypes;
+    this.encodings = encodings;
+  }
+
+  /**
+   * Creates the policy configured for the API server. Encodings the server has no encoder for are
+   * left out.
+   *
+   * @param config configuration of the API server
+   * @return the policy
+   */
+  public static ResponseCompression fromConfig(JsonObject config) {
+    Set<String> contentTypes = new HashSet<>();
+    for (String contentType : config
+        .getString(COMPRESSION_CONTENT_TYPES, DEFAULT_COMPRESSION_CONTENT_TYPES).split(",")) {
+      if (!contentType.isBlank()) {
+        contentTypes.add(contentType.trim().toLowerCase(Locale.ROOT));
+      }
+    }
+    List<String> encodings = new ArrayList<>();
+    for (String encoding : config
+        .getString(COMPRESSION_ENCODINGS, DEFAULT_COMPRESSION_ENCODINGS).split(",")) {
+      String name = encoding.trim().toLowerCase(Locale.ROOT);
+      if (SUPPORTED_ENCODINGS.contains(name)) {
+        encodings.add(name);
+      } else if (!name.isEmpty()) {
+        LOGGER.warn("Warning: No encoder for content encoding {}, it is not offered", name);
+      }
+    }
+    return new ResponseCompression(
+        Integer.parseInt(config.getString(COMPRESSION_MIN_SIZE, DEFAULT_COMPRESSION_MIN_SIZE)),
+        Integer.parseInt(config.getString(COMPRESSION_LEVEL, DEFAULT_COMPRESSION_LEVEL)),
+        contentTypes, encodings);
+  }
+
+  /**
+   * Whether a body of this type and size is compressed for clients accepting it.
+   *
+   * @param contentType content type of the body, parameters are ignored
+   * @param size size of the body in bytes
+   * @return true if it is compressed
+   */
+  public boolean isCompressible(String contentType, int size) {
+    return size >= minSize && !encodings.isEmpty()
+        && contentTypes.contains(mediaType(contentType));
+  }
+
+  /**
+   * Picks the encoding of a response from the Accept-Encoding of its request: the offered
+   * encoding with the highest quality, the most preferred one on a tie.
+   *
+   * @param acceptEncoding value of the Accept-Encoding header, may be null
+   * @return the encoding, null to send the body as it is
+   */
+  public String negotiate(String acceptEncoding) {
+    if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+      return null;
+    }
+    String best = null;
+    double bestQuality = 0;
+    double anyQuality = -1;
+    double[] qualities = new double[encodings.size()];
+    Arrays.fill(qualities, -1);
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      String name = parts[0].trim().toLowerCase(Locale.ROOT);
+      double quality = quality(parts);
+      if (ANY_ENCODING.equals(name)) {
+        anyQuality = quality;
+      } else {
+        int index = encodings.indexOf(name);
+        if (index >= 0) {
+          qualities[index] = quality;
+        }
+      }
+    }
+    for (int i = 0; i < qualities.length; i++) {
+      /* an encoding not listed is accepted with the quality of the wildcard, if any */
+      double quality = qualities[i] >= 0 ? qualities[i] : anyQuality;
+      if (quality > bestQuality) {
+        best = encodings.get(i);
+        bestQuality = quality;
+      }
+    }
+    return best;
+  }
+
+  private static double quality(String[] parts) {
+    for (int i = 1; i < parts.length; i++) {
+      String parameter = parts[i].trim();
+      if (parameter.startsWith(QUALITY)) {
+        try {
+          return Double.parseDouble(parameter.substring(QUALITY.length()));
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 1;
+  }
+
+  /**
+   * Encodes a body.
+   *
+   * @param body the body
+   * @param encoding one of the offered encodings
+   * @return the encoded body
+   */
+  public Buffer encode(Buffer body, String encoding) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, body.length() / 4));
+    if (GZIP.equals(encoding)) {
+      try (OutputStream out = new LeveledGzipStream(bytes, level)) {
+        out.write(body.getBytes());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    } else {
+      Deflater deflater = new Deflater(level);
+      try (OutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+        out.write(body.getBytes());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } finally {
+        deflater.end();
+      }
+    }
+    return Buffer.buffer(bytes.toByteArray());
+  }
+
+  /**
+   * Compresses a payload to every offered encoding ahead of its first use, if it is
+   * compressible.
+   *
+   * @param payload the payload
+   */
+  public void precompress(CompressedPayload payload) {
+    if (isCompressible(payload.contentType(), payload.body().length())) {
+      for (String encoding : encodings) {
+        payload.encoded(encoding, this);
+      }
+    }
+  }
+
+  /**
+   * Ends a response with a body, compressed if the policy and the client allow it.
+   *
+   * @param request the request being responded to
+   * @param response its response, status and content type set
+   * @param body the body
+   */
+  public void end(HttpServerRequest request, HttpServerResponse response, Buffer body) {
+    String contentType = response.headers().get(HttpHeaders.CONTENT_TYPE);
+    if (!isCompressible(contentType, body.length())) {
+      response.end(body);
+      return;
+    }
+    response.putHeader(HEADER_VARY, HttpHeaders.ACCEPT_ENCODING);
+    String encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    if (encoding == null) {
+      response.end(body);
+      return;
+    }
+    response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding).end(encode(body, encoding));
+  }
+
+  /**
+   * Ends a response with a payload, reusing its encoded bodies.
+   *
+   * @param request the request being responded to
+   * @param response its response, status set
+   * @param payload the payload
+   */
+  public void end(HttpServerRequest request, HttpServerResponse response,
+      CompressedPayload payload) {
+    response.putHeader(HttpHeaders.CONTENT_TYPE, payload.contentType());
+    if (!isCompressible(payload.contentType(), payload.body().length())) {
+      response.end(payload.body());
+      return;
+    }
+    response.putHeader(HEADER_VARY, HttpHeaders.ACCEPT_ENCODING);
+    String encoding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    if (encoding == null) {
+      response.end(payload.body());
+      return;
+    }
+    response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding)
+        .end(payload.encoded(encoding, this));
+  }
+
+  private static String mediaType(String contentType) {
+    if (contentType == null) {
+      return "";
+    }
+    int parameters = contentType.indexOf(';');
+    return (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim()
+        .toLowerCase(Locale.ROOT);
+  }
+
+  /* GZIPOutputStream with a compression level other than the default */
+  private static final class LeveledGzipStream extends GZIPOutputStream {
+    LeveledGzipStream(OutputStream out, int level) throws IOException {
+      super(out);
+      def.setLevel(level);
+    }
+  }
+}
@@ -7,7 +7,9 @@ import java.util.stream.Stream;
  *
  */
 public enum ResponseType {
-  Ok(200, "Ok"), Created(201, "created"), NoContent(204, "Already Exist"), 
+  Ok(200, "Ok"), Created(201, "created"), Accepted(202, "Accepted"),
+  NoContent(204, "Already Exist"), PartialContent(206, "Partial content"),
+  NotModified(304, "Not modified"),
   AuthenticationFailure(401, "Invalid credentials"), BadRequestData(400, "Bad Request Data"),
   TooComplexQuery(403, "Too complex query"), TooManyResults(403, "Too many results"),
   NotFound(404, "Not Found"), ResourceNotFound(404, "Resource not found"),
@@ -16,8 +18,10 @@ public enum ResponseType {
       "HTTP request provided by a client does not define the Content-Length HTTP header"),
   RequestEntityTooLarge(413, "HTTP input data stream is too large too many bytes"),
   UnsupportedMediaType(415, "Unsupported Media type"),
+  RangeNotSatisfiable(416, "Range not satisfiable"),
   OperationNotSupported(422, "Operation not supported"),
-  UnprocessableEntity(422, "Unprocessable Entity"), InternalError(500, "Internal error");
+  UnprocessableEntity(422, "Unprocessable Entity"), InternalError(500, "Internal error"),
+  ServiceUnavailable(503, "Service unavailable");
 
   private final int code;
   private final String message;
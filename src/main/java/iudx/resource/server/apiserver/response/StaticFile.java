@@ -0,0 +1,114 @@
+package iudx.resource.server.apiserver.response;
+
+import static iudx.resource.server.apiserver.util.Constants.HEADER_RANGE;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystemException;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+/**
+ * The Static File.
+ * <h1>Static File</h1>
+ * <p>
+ * A file served as it is, such as the API specification and documentation. The file is read
+ * once, and compressed to every offered encoding, off the event loop when the first server
+ * verticle of the node starts; the other instances share it. A request costs neither a read nor
+ * a compression. Responses carry its entity tag and modification time, and may be reused by any
+ * cache for the configured time; a request with a Range header is sent the range from the file.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class StaticFile implements Shareable {
+
+  private static final Logger LOGGER = LogManager.getLogger(StaticFile.class);
+  private static final String FILES = "iudx.rs.static.files";
+
+  private final String path;
+  private final CompressedPayload payload;
+  private final String cacheControl;
+
+  private StaticFile(String path, CompressedPayload payload, String cacheControl) {
+    this.path = path;
+    this.payload = payload;
+    this.cacheControl = cacheControl;
+  }
+
+  /**
+   * Returns the file shared by the verticles of this node, reading and compressing it on a worker
+   * thread if no instance has yet. To be called when the server starts.
+   *
+   * @param vertx the vertx instance
+   * @param path path of the file
+   * @param contentType content type of the file
+   * @param compression the compression policy of the server
+   * @param maxAgeSeconds time for which a response may be reused, in seconds
+   * @return future of the file, of null if it cannot be read
+   */
+  public static Future<StaticFile> getOrLoad(Vertx vertx, String path, String contentType,
+      ResponseCompression compression, long maxAgeSeconds) {
+    LocalMap<String, StaticFile> files = vertx.sharedData().getLocalMap(FILES);
+    StaticFile file = files.get(path);
+    if (file != null) {
+      return Future.succeededFuture(file);
+    }
+    Promise<StaticFile> promise = Promise.promise();
+    vertx.<StaticFile>executeBlocking(
+        blocking -> blocking.complete(load(vertx, path, contentType, compression, maxAgeSeconds)),
+        false, promise);
+    return promise.future().map(loaded -> {
+      if (loaded == null) {
+        return null;
+      }
+      StaticFile shared = files.putIfAbsent(path, loaded);
+      return shared != null ? shared : loaded;
+    });
+  }
+
+  private static StaticFile load(Vertx vertx, String path, String contentType,
+      ResponseCompression compression, long maxAgeSeconds) {
+    try {
+      Buffer body = vertx.fileSystem().readFileBlocking(path);
+      long lastModified = vertx.fileSystem().propsBlocking(path).lastModifiedTime();
+      CompressedPayload payload = new CompressedPayload(contentType, body, lastModified);
+      compression.precompress(payload);
+      return new StaticFile(path, payload, "public, max-age=" + maxAgeSeconds);
+    } catch (FileSystemException e) {
+      LOGGER.warn("Warning: {} is not served, it cannot be read;{}", path, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Ends a response with the file.
+   *
+   * @param request the request being responded to
+   * @param response its response
+   * @param compression the compression policy of the server
+   */
+  public void send(HttpServerRequest request, HttpServerResponse response,
+      ResponseCompression compression) {
+    if (ConditionalResponse.endIfNotModified(request, response, payload, cacheControl)) {
+      return;
+    }
+    if (request.getHeader(HEADER_RANGE) != null) {
+      /* ranges are of the file as it is, not of a compressed body */
+      response.putHeader(HttpHeaders.CONTENT_TYPE, payload.contentType());
+      FileResponse.send(request, response, path, payload.body().length());
+      return;
+    }
+    response.putHeader(HttpHeaders.ACCEPT_RANGES, "bytes")
+        .setStatusCode(ResponseType.Ok.getCode());
+    compression.end(request, response, payload);
+  }
+}
@@ -0,0 +1,266 @@
+package iudx.resource.server.apiserver.stream;
+
+import static iudx.resource.server.apiserver.util.Constants.APPLICATION_JSON;
+import static iudx.resource.server.apiserver.util.Constants.CONTENT_TYPE;
+import static iudx.resource.server.apiserver.util.Constants.ID;
+import static iudx.resource.server.apiserver.util.Constants.JSON_EXPIRY;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import iudx.resource.server.apiserver.response.ResponseType;
+import iudx.resource.server.apiserver.response.RestResponse;
+
+/**
+ * The Entity Stream Handler.
+ * <h1>Entity Stream Handler</h1>
+ * <p>
+ * Streams the updates of a resource, given by the id query parameter, to an authorized client as
+ * they are published to the data broker. A request upgrading to a WebSocket gets one text message
+ * per update, any other request gets a Server-Sent Events response with one event per update.
+ * Updates come from the {@link EntityStreamHub}, so the clients of a resource group share one
+ * broker queue. An update is dropped for a client whose connection cannot take it, so a slow
+ * client never holds back the others. Idle connections get a ping, or an SSE comment, at the
+ * heartbeat interval. A stream is authorized when it is opened, and closed when the token it was
+ * authorized with expires; the client has to reconnect with a new token.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public class EntityStreamHandler implements Handler<RoutingContext> {
+
+  private static final Logger LOGGER = LogManager.getLogger(EntityStreamHandler.class);
+
+  private static final String EVENT_STREAM = "text/event-stream";
+  private static final String WEBSOCKET = "websocket";
+  private static final String AUTH_INFO = "authInfo";
+  private static final int RESOURCE_ID_PARTS = 5;
+  private static final Buffer SSE_HEARTBEAT = Buffer.buffer(":\n\n");
+
+  private final Vertx vertx;
+  private final EntityStreamHub hub;
+  private final long heartbeatMillis;
+
+  /**
+   * Creates the handler.
+   *
+   * @param vertx the vertx instance
+   * @param hub the hub of this node
+   * @param heartbeatMillis interval of the heartbeats of idle connections
+   */
+  public EntityStreamHandler(Vertx vertx, EntityStreamHub hub, long heartbeatMillis) {
+    this.vertx = vertx;
+    this.hub = hub;
+    this.heartbeatMillis = heartbeatMillis;
+  }
+
+  @Override
+  public void handle(RoutingContext context) {
+    HttpServerRequest request = context.request();
+    String id = request.getParam(ID);
+    if (id == null || id.split("/").length != RESOURCE_ID_PARTS) {
+      fail(context.response(), ResponseType.BadRequestData, "id must be a resource id");
+      return;
+    }
+    String groupId = id.substring(0, id.lastIndexOf('/'));
+    long expiresAt = tokenExpiry((JsonObject) context.data().get(AUTH_INFO));
+    boolean websocket = WEBSOCKET.equalsIgnoreCase(request.getHeader(HttpHeaders.UPGRADE));
+    Context streamContext = vertx.getOrCreateContext();
+    hub.subscribe(groupId).onComplete(subscribed -> streamContext.runOnContext(run -> {
+      if (subscribed.failed()) {
+        LOGGER.error("Error: Stream of {} not available {}", id,
+            subscribed.cause().getMessage());
+        fail(context.response(), ResponseType.InternalError, "Stream not available");
+        return;
+      }
+      EntityStreamHub.Subscription subscription = subscribed.result();
+      Stream stream;
+      try {
+        stream = websocket ? new WebSocketStream(request.upgrade())
+            : new EventStream(context.response());
+      } catch (IllegalStateException e) {
+        /* the client went away while the stream was being set up */
+        subscription.close();
+        return;
+      }
+      LOGGER.debug("Info: Streaming {} over {}", id, websocket ? WEBSOCKET : EVENT_STREAM);
+      open(stream, subscription, id, groupId, expiresAt);
+    }));
+  }
+
+  /* Epoch millisecond at which the token of the request expires, if it is known */
+  private static long tokenExpiry(JsonObject authInfo) {
+    String expiry = authInfo != null ? authInfo.getString(JSON_EXPIRY) : null;
+    if (expiry == null) {
+      return Long.MAX_VALUE;
+    }
+    try {
+      return Instant.parse(expiry).toEpochMilli();
+    } catch (DateTimeParseException e) {
+      /* the stream is not kept past an expiry it cannot tell */
+      return 0;
+    }
+  }
+
+  private void open(Stream stream, EntityStreamHub.Subscription subscription, String id,
+      String groupId, long expiresAt) {
+    MessageConsumer<Buffer> updates =
+        vertx.eventBus().localConsumer(EntityStreamHub.address(id), message -> {
+          if (stream.writeQueueFull()) {
+            LOGGER.debug("Info: Dropped an update of {} for a slow client", id);
+          } else {
+            stream.write(message.body());
+          }
+        });
+    MessageConsumer<String> closed =
+        vertx.eventBus().localConsumer(EntityStreamHub.closedAddress(groupId),
+            message -> stream.close());
+    long heartbeat = vertx.setPeriodic(heartbeatMillis, timerId -> stream.heartbeat());
+    long expiry = expiresAt == Long.MAX_VALUE ? -1
+        : vertx.setTimer(Math.max(1, expiresAt - System.currentTimeMillis()), timerId -> {
+          LOGGER.debug("Info: Closing the stream of {}, its token expired", id);
+          stream.close();
+        });
+    stream.onClose(() -> {
+      updates.unregister();
+      closed.unregister();
+      vertx.cancelTimer(heartbeat);
+      if (expiry >= 0) {
+        vertx.cancelTimer(expiry);
+      }
+      subscription.close();
+    });
+  }
+
+  private static void fail(HttpServerResponse response, ResponseType responseType,
+      String message) {
+    if (response.closed() || response.ended()) {
+      return;
+    }
+    response.putHeader(CONTENT_TYPE, APPLICATION_JSON).setStatusCode(responseType.getCode())
+        .end(new RestResponse.Builder().withType(responseType.getCode())
+            .withTitle(responseType.getMessage()).withMessage(message).build().toJson()
+            .toString());
+  }
+
+  /* A connection updates are written to, on the event loop of its request */
+  private interface Stream {
+    void write(Buffer update);
+
+    void heartbeat();
+
+    boolean writeQueueFull();
+
+    void close();
+
+    /* runs once, whichever side closes the connection */
+    void onClose(Runnable closeHandler);
+  }
+
+  private static final class WebSocketStream implements Stream {
+    private final ServerWebSocket socket;
+
+    WebSocketStream(ServerWebSocket socket) {
+      this.socket = socket;
+    }
+
+    @Override
+    public void write(Buffer update) {
+      socket.writeTextMessage(update.toString());
+    }
+
+    @Override
+    public void heartbeat() {
+      socket.writePing(Buffer.buffer());
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return socket.writeQueueFull();
+    }
+
+    @Override
+    public void close() {
+      socket.close();
+    }
+
+    @Override
+    public void onClose(Runnable closeHandler) {
+      socket.closeHandler(closed -> closeHandler.run());
+    }
+  }
+
+  private static final class EventStream implements Stream {
+    private final HttpServerResponse response;
+    private Runnable closeHandler;
+
+    EventStream(HttpServerResponse response) {
+      if (response.closed()) {
+        throw new IllegalStateException("Connection closed");
+      }
+      this.response = response;
+      /* not compressed, so that every event is sent as soon as it is written */
+      response.setChunked(true)
+          .putHeader(HttpHeaders.CONTENT_TYPE, EVENT_STREAM)
+          .putHeader(HttpHeaders.CACHE_CONTROL, "no-cache")
+          .putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY)
+          .putHeader("X-Accel-Buffering", "no")
+          .write(SSE_HEARTBEAT);
+    }
+
+    /* Each line of the update is a data line of the event */
+    @Override
+    public void write(Buffer update) {
+      Buffer event = Buffer.buffer(update.length() + 16);
+      for (String line : update.toString().split("\n", -1)) {
+        event.appendString("data: ").appendString(line).appendString("\n");
+      }
+      response.write(event.appendString("\n"));
+    }
+
+    @Override
+    public void heartbeat() {
+      response.write(SSE_HEARTBEAT);
+    }
+
+    @Override
+    public boolean writeQueueFull() {
+      return response.writeQueueFull();
+    }
+
+    @Override
+    public void close() {
+      if (!response.ended() && !response.closed()) {
+        response.end();
+      }
+      closed();
+    }
+
+    @Override
+    public void onClose(Runnable closeHandler) {
+      this.closeHandler = closeHandler;
+      response.closeHandler(closed -> closed());
+    }
+
+    private void closed() {
+      if (closeHandler != null) {
+        Runnable handler = closeHandler;
+        closeHandler = null;
+        handler.run();
+      }
+    }
+  }
+}
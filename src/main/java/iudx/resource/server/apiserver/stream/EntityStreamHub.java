@@ -0,0 +1,269 @@
+package iudx.resource.server.apiserver.stream;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import io.vertx.micrometer.backends.BackendRegistries;
+import io.vertx.rabbitmq.QueueOptions;
+import io.vertx.rabbitmq.RabbitMQClient;
+import io.vertx.rabbitmq.RabbitMQConsumer;
+import io.vertx.rabbitmq.RabbitMQOptions;
+
+/**
+ * The Entity Stream Hub.
+ * <h1>Entity Stream Hub</h1>
+ * <p>
+ * Feeds the live entity streams of this node from the data broker. For each resource group with
+ * at least one stream open, the hub keeps one AMQP connection with one exclusive, auto delete
+ * queue bound to the exchange of the group, whatever the number of streams. Each message is
+ * published on the local event bus at the address of the resource id in its body, so the
+ * streams of that resource receive it on their own event loop; routing keys are chosen by the
+ * publishing adapter and are not taken for resource ids. A message without the id of a resource
+ * of the group is dropped. The consumer of a group is closed
+ * with its last stream; if it fails, a message on the closed address of the group tells its
+ * streams to close.
+ * </p>
+ * <p>
+ * One hub is shared by all API server instances of the node.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class EntityStreamHub implements Shareable {
+
+  private static final Logger LOGGER = LogManager.getLogger(EntityStreamHub.class);
+
+  public static final String GROUPS_GAUGE = "iudx.rs.stream.groups";
+  public static final String STREAMS_GAUGE = "iudx.rs.stream.connections";
+  private static final String HUBS = "iudx.rs.stream.hubs";
+  private static final String HUB = "hub";
+  private static final String ADDRESS_PREFIX = "iudx.rs.stream.";
+  private static final String CLOSED_SUFFIX = ".closed";
+  private static final String ALL_ROUTING_KEYS = "#";
+  private static final String RESOURCE_ID = "id";
+
+  private final Vertx vertx;
+  private final RabbitMQOptions options;
+  private final int queueSize;
+  private final DeliveryOptions localOnly = new DeliveryOptions().setLocalOnly(true);
+  /* Guarded by this */
+  private final Map<String, Group> groups = new HashMap<>();
+  private final AtomicInteger streams = new AtomicInteger();
+
+  private EntityStreamHub(Vertx vertx, RabbitMQOptions options, int queueSize) {
+    this.vertx = vertx;
+    this.options = options;
+    this.queueSize = queueSize;
+    MeterRegistry registry = BackendRegistries.getDefaultNow();
+    if (registry != null) {
+      Gauge.builder(GROUPS_GAUGE, this, EntityStreamHub::groupCount).register(registry);
+      Gauge.builder(STREAMS_GAUGE, streams, AtomicInteger::get).register(registry);
+    }
+  }
+
+  /**
+   * Returns the hub of this node, creating it on first use.
+   *
+   * @param vertx the vertx instance
+   * @param options connection options of the data broker
+   * @param queueSize number of messages of a group buffered in process, the most recent are kept
+   * @return the hub shared by the API server instances of this node
+   */
+  public static EntityStreamHub getOrCreate(Vertx vertx, RabbitMQOptions options, int queueSize) {
+    LocalMap<String, EntityStreamHub> hubs = vertx.sharedData().getLocalMap(HUBS);
+    EntityStreamHub hub = hubs.get(HUB);
+    if (hub == null) {
+      EntityStreamHub created = new EntityStreamHub(vertx, options, queueSize);
+      hub = hubs.putIfAbsent(HUB, created);
+      if (hub == null) {
+        hub = created;
+      }
+    }
+    return hub;
+  }
+
+  /**
+   * Event bus address of the messages of a resource.
+   *
+   * @param resourceId the resource id, as in the body of its messages
+   * @return the local address its messages are published at
+   */
+  public static String address(String resourceId) {
+    return ADDRESS_PREFIX + resourceId;
+  }
+
+  /**
+   * Event bus address told when the consumer of a group fails.
+   *
+   * @param groupId the resource group id, the exchange of its messages
+   * @return the local address its failure is published at
+   */
+  public static String closedAddress(String groupId) {
+    return ADDRESS_PREFIX + groupId + CLOSED_SUFFIX;
+  }
+
+  /**
+   * Registers a stream of a resource group, starting the consumer of the group if it is the
+   * first one.
+   *
+   * @param groupId the resource group id
+   * @return future of the subscription, completed once the consumer of the group receives
+   *         messages
+   */
+  public Future<Subscription> subscribe(String groupId) {
+    Group group;
+    synchronized (this) {
+      group = groups.computeIfAbsent(groupId, key -> new Group());
+      group.streams++;
+      if (group.ready == null) {
+        group.ready = open(groupId, group);
+      }
+    }
+    final Group subscribed = group;
+    return group.ready.map(started -> {
+      streams.incrementAndGet();
+      return new Subscription(groupId, subscribed);
+    });
+  }
+
+  /* The last stream of a group closes its consumer */
+  private void unsubscribe(String groupId, Group group) {
+    boolean last;
+    synchronized (this) {
+      if (groups.get(groupId) != group) {
+        /* the group failed and was dropped already */
+        return;
+      }
+      streams.decrementAndGet();
+      last = --group.streams == 0;
+      if (last) {
+        groups.remove(groupId);
+      }
+    }
+    if (last) {
+      LOGGER.debug("Info: Closing the stream consumer of {}", groupId);
+      group.client.stop(stopped -> {
+      });
+    }
+  }
+
+  private synchronized int groupCount() {
+    return groups.size();
+  }
+
+  private Future<Void> open(String groupId, Group group) {
+    group.client = RabbitMQClient.create(vertx, options);
+    Promise<Void> started = Promise.promise();
+    group.client.start(started);
+    return started.future().compose(connected -> {
+      Promise<String> declared = Promise.promise();
+      group.client.queueDeclare("", false, true, true,
+          declareOk -> declared.handle(declareOk.map(ok -> ok.getString("queue"))));
+      return declared.future();
+    }).compose(queue -> {
+      Promise<Void> bound = Promise.promise();
+      group.client.queueBind(queue, groupId, ALL_ROUTING_KEYS, bound);
+      return bound.future().map(queue);
+    }).compose(queue -> {
+      Promise<RabbitMQConsumer> consumer = Promise.promise();
+      group.client.basicConsumer(queue, new QueueOptions().setAutoAck(true)
+          .setKeepMostRecent(true).setMaxInternalQueueSize(queueSize), consumer);
+      return consumer.future();
+    }).map(consumer -> {
+      consumer.handler(message -> {
+        String resourceId = resourceId(groupId, message.body());
+        if (resourceId == null) {
+          LOGGER.debug("Info: Dropped a message of {} without a resource id of the group",
+              groupId);
+          return;
+        }
+        vertx.eventBus().publish(address(resourceId), message.body(), localOnly);
+      });
+      consumer.exceptionHandler(cause -> LOGGER.error("Error: Stream consumer of {} failed {}",
+          groupId, cause.getMessage()));
+      consumer.endHandler(ended -> close(groupId, group));
+      LOGGER.debug("Info: Streaming {}", groupId);
+      return (Void) null;
+    }).onFailure(cause -> {
+      LOGGER.error("Error: Stream consumer of {} could not start {}", groupId,
+          cause.getMessage());
+      close(groupId, group);
+    });
+  }
+
+  /* The id of a message body, null unless it is that of a resource of the group */
+  private static String resourceId(String groupId, Buffer body) {
+    String id;
+    try {
+      id = new JsonObject(body).getString(RESOURCE_ID);
+    } catch (DecodeException | ClassCastException e) {
+      return null;
+    }
+    return id != null && id.length() > groupId.length() + 1 && id.startsWith(groupId)
+        && id.charAt(groupId.length()) == '/' ? id : null;
+  }
+
+  /* Drops a failed group, its streams are closed and have to reconnect */
+  private void close(String groupId, Group group) {
+    synchronized (this) {
+      if (groups.get(groupId) != group) {
+        /* closed with its last stream */
+        return;
+      }
+      groups.remove(groupId);
+      if (group.ready.succeeded()) {
+        streams.addAndGet(-group.streams);
+      }
+    }
+    group.client.stop(stopped -> {
+    });
+    vertx.eventBus().publish(closedAddress(groupId), groupId, localOnly);
+  }
+
+  /**
+   * A stream registered with the hub.
+   */
+  public final class Subscription {
+    private final String groupId;
+    private final Group group;
+    private boolean closed;
+
+    private Subscription(String groupId, Group group) {
+      this.groupId = groupId;
+      this.group = group;
+    }
+
+    /**
+     * Unregisters the stream, stopping the consumer of its group if it was the last one. Closing
+     * twice has no effect.
+     */
+    public void close() {
+      if (!closed) {
+        closed = true;
+        unsubscribe(groupId, group);
+      }
+    }
+  }
+
+  /* Streams and consumer of a resource group */
+  private static final class Group {
+    private int streams;
+    private RabbitMQClient client;
+    private Future<Void> ready;
+  }
+}
@@ -17,13 +17,76 @@ public class Constants {
   
   // config
   public static final String CONFIG_FILE = "config.properties";
+  public static final String HTTP_PORT = "httpPort";
+  public static final String DEFAULT_HTTP_PORT = "80";
+  public static final String HTTP2 = "http2";
+  public static final String DEFAULT_HTTP2 = "true";
+  public static final String HTTP2_MAX_CONCURRENT_STREAMS = "http2MaxConcurrentStreams";
+  public static final String DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = "100";
+  public static final String TCP_NO_DELAY = "tcpNoDelay";
+  public static final String DEFAULT_TCP_NO_DELAY = "true";
+  public static final String TCP_FAST_OPEN = "tcpFastOpen";
+  public static final String DEFAULT_TCP_FAST_OPEN = "false";
+  public static final String REUSE_PORT = "reusePort";
+  public static final String DEFAULT_REUSE_PORT = "false";
+  public static final String IDLE_TIMEOUT_SECONDS = "idleTimeoutSeconds";
+  public static final String DEFAULT_IDLE_TIMEOUT_SECONDS = "120";
+  public static final String MAX_HEADER_SIZE = "maxHeaderSize";
+  public static final String DEFAULT_MAX_HEADER_SIZE = "8192";
+  public static final String MAX_INITIAL_LINE_LENGTH = "maxInitialLineLength";
+  public static final String DEFAULT_MAX_INITIAL_LINE_LENGTH = "4096";
+  public static final String COMPRESSION_LEVEL = "compressionLevel";
+  public static final String DEFAULT_COMPRESSION_LEVEL = "5";
+  public static final String COMPRESSION_MIN_SIZE = "compressionMinSize";
+  public static final String DEFAULT_COMPRESSION_MIN_SIZE = "1024";
+  public static final String COMPRESSION_CONTENT_TYPES = "compressionContentTypes";
+  public static final String DEFAULT_COMPRESSION_CONTENT_TYPES =
+      "application/json,application/ld+json,application/geo+json,application/yaml,text/plain,"
+          + "text/csv,text/html";
+  public static final String COMPRESSION_ENCODINGS = "compressionEncodings";
+  public static final String DEFAULT_COMPRESSION_ENCODINGS = "gzip,deflate";
+  public static final String RESPONSE_CACHE_MAX_ENTRIES = "responseCacheMaxEntries";
+  public static final String DEFAULT_RESPONSE_CACHE_MAX_ENTRIES = "1000";
+  public static final String RESPONSE_CACHE_MAX_BYTES = "responseCacheMaxBytes";
+  public static final String DEFAULT_RESPONSE_CACHE_MAX_BYTES = "67108864";
+  public static final String LATEST_CACHE_TTL_MILLIS = "latestCacheTtlMillis";
+  public static final String DEFAULT_LATEST_CACHE_TTL_MILLIS = "1000";
+  public static final String TEMPORAL_CACHE_TTL_SECONDS = "temporalCacheTtlSeconds";
+  public static final String DEFAULT_TEMPORAL_CACHE_TTL_SECONDS = "300";
+  public static final String CLOSED_WINDOW_LAG_SECONDS = "closedWindowLagSeconds";
+  public static final String DEFAULT_CLOSED_WINDOW_LAG_SECONDS = "300";
+  public static final String DATA_BROKER_IP = "dataBrokerIP";
+  public static final String DATA_BROKER_PORT = "dataBrokerPort";
+  public static final String DATA_BROKER_VHOST = "dataBrokerVhost";
+  public static final String DATA_BROKER_USERNAME = "dataBrokerUserName";
+  public static final String DATA_BROKER_PASSWORD = "dataBrokerPassword";
+  public static final String STREAM_QUEUE_SIZE = "streamQueueSize";
+  public static final String DEFAULT_STREAM_QUEUE_SIZE = "1000";
+  public static final String STREAM_HEARTBEAT_SECONDS = "streamHeartbeatSeconds";
+  public static final String DEFAULT_STREAM_HEARTBEAT_SECONDS = "30";
+  public static final String ASYNC_QUERY_WORKERS = "asyncQueryWorkers";
+  public static final String DEFAULT_ASYNC_QUERY_WORKERS = "4";
+  public static final String ASYNC_QUERY_QUEUE_SIZE = "asyncQueryQueueSize";
+  public static final String DEFAULT_ASYNC_QUERY_QUEUE_SIZE = "100";
+  public static final String ASYNC_QUERY_SPOOL_DIR = "asyncQuerySpoolDir";
+  public static final String DEFAULT_ASYNC_QUERY_SPOOL_DIR = "async-query-spool";
+  public static final String ASYNC_QUERY_RESULT_TTL_SECONDS = "asyncQueryResultTtlSeconds";
+  public static final String DEFAULT_ASYNC_QUERY_RESULT_TTL_SECONDS = "3600";
+  public static final String DOCS_MAX_AGE_SECONDS = "docsMaxAgeSeconds";
+  public static final String DEFAULT_DOCS_MAX_AGE_SECONDS = "3600";
   
   // NGSI-LD endpoints
   public static final String NGSILD_BASE_PATH = "/ngsi-ld/v1";
   public static final String NGSILD_ENTITIES_URL = NGSILD_BASE_PATH + "/entities";
+  public static final String NGSILD_ENTITIES_STREAM_URL = NGSILD_ENTITIES_URL + "/stream";
   public static final String NGSILD_TEMPORAL_URL = NGSILD_BASE_PATH + "/temporal/entities";
+  public static final String NGSILD_TEMPORAL_EXPORT_URL = NGSILD_TEMPORAL_URL + "/export";
   public static final String NGSILD_SUBSCRIPTION_URL = NGSILD_BASE_PATH + "/subscription";
   public static final String NGSILD_POST_QUERY_PATH = NGSILD_BASE_PATH + "/entityOperations/query";
+  public static final String NGSILD_ASYNC_URL = NGSILD_BASE_PATH + "/async";
+  public static final String NGSILD_ASYNC_QUERY_URL = NGSILD_ASYNC_URL + "/query";
+  public static final String NGSILD_ASYNC_STATUS_URL = NGSILD_ASYNC_URL + "/status";
+  public static final String NGSILD_ASYNC_RESULT_URL = NGSILD_ASYNC_URL + "/result";
 
   // IUDX management endpoints
   public static final String IUDX_MANAGEMENT_URL = "/management";
@@ -42,24 +105,18 @@ public class Constants {
   public static final List<String> bypassEndpoint = List.of(ROUTE_STATIC_SPEC, ROUTE_DOC);
   public static final List<String> openEndPoints = List.of("/ngsi-ld/v1/temporal/entities",
       "/ngsi-ld/v1/entities", "/ngsi-ld/v1/entityOperations/query");
-
-  // path regex
-  public static final String ENTITITES_URL_REGEX = NGSILD_ENTITIES_URL + "(.*)";
-  public static final String TEMPORAL_URL_REGEX = NGSILD_TEMPORAL_URL + "(.*)";
-  public static final String POST_QUERY_URL_REGEX = NGSILD_POST_QUERY_PATH + "(.*)";
-  public static final String SUBSCRIPTION_URL_REGEX = NGSILD_SUBSCRIPTION_URL + "(.*)";
-  public static final String ADAPTER_URL_REGEX = IUDX_MANAGEMENT_ADAPTER_URL + "(.*)";
-  public static final String EXCHANGE_URL_REGEX = IUDX_MANAGEMENT_EXCHANGE_URL + "(.*)";
-  public static final String QUEUE_URL_REGEX = IUDX_MANAGEMENT_QUEUE_URL + "(.*)";
-  public static final String VHOST_URL_REGEX = IUDX_MANAGEMENT_VHOST_URL + "(.*)";
-  public static final String BIND_URL_REGEX = IUDX_MANAGEMENT_BIND_URL + "(.*)";
-  public static final String UNBIND_URL_REGEX = IUDX_MANAGEMENT_UNBIND_URL + "(.*)";
-
-
+  /* In process cache of granted open endpoint requests, revocations are not signalled to it */
+  public static final int AUTH_CACHE_MAX_SIZE = 10000;
+  public static final long AUTH_CACHE_TIMEOUT_MILLIS = 10 * 1000;
+  public static final String JSON_EXPIRY = "expiry";
 
   /** Accept Headers and CORS */
   public static final String MIME_APPLICATION_JSON = "application/json";
   public static final String MIME_TEXT_HTML = "text/html";
+  public static final String MIME_APPLICATION_YAML = "application/yaml";
+  public static final String MIME_TEXT_CSV = "text/csv";
+  public static final String MIME_APPLICATION_NDJSON = "application/x-ndjson";
+  public static final String MIME_APPLICATION_GZIP = "application/gzip";
 
   // ngsi-ld/IUDX query paramaters
   public static final String NGSILDQUERY_ID = "id";
@@ -93,9 +150,23 @@ public class Constants {
   public static final String HEADER_REFERER = "Referer";
   public static final String HEADER_ALLOW_ORIGIN = "Access-Control-Allow-Origin";
   public static final String HEADER_OPTIONS = "options";
+  public static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+  public static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+  public static final String HEADER_ETAG = "ETag";
+  public static final String HEADER_LAST_MODIFIED = "Last-Modified";
+  public static final String HEADER_CACHE_CONTROL = "Cache-Control";
+  public static final String HEADER_VARY = "Vary";
+  public static final String HEADER_LOCATION = "Location";
+  public static final String HEADER_RANGE = "Range";
+  public static final String HEADER_ACCEPT_RANGES = "Accept-Ranges";
+  public static final String HEADER_CONTENT_RANGE = "Content-Range";
+  public static final String HEADER_CONTENT_DISPOSITION = "Content-Disposition";
 
   public static final String COUNT_HEADER = "Count";
   public static final String PUBLIC_TOKEN = "public";
+  /* routing context data: the query job of the request, and the resource to authorize */
+  public static final String CONTEXT_QUERY_JOB = "queryJob";
+  public static final String CONTEXT_RESOURCE_ID = "resourceId";
 
   // request/response params
   public static final String CONTENT_TYPE = "content-type";
@@ -123,6 +194,7 @@ public class Constants {
   public static final String JSON_MAXDISTANCE = "maxdistance";
   public static final String JSON_MINDISTANCE = "mindistance";
   public static final String JSON_DURING = "during";
+  public static final String JSON_BEFORE = "before";
   public static final String JSON_TIME = "time";
   public static final String JSON_ENDTIME = "endtime";
   public static final String JSON_TIMEREL = "timerel";
@@ -131,6 +203,9 @@ public class Constants {
   public static final String JSON_ATTRIBUTE = "attribute";
   public static final String JSON_OPERATOR = "operator";
   public static final String JSON_VALUE = "value";
+  public static final String JSON_VALUES = "values";
+  public static final String JSON_VALUE_LOWER = "valueLower";
+  public static final String JSON_VALUE_UPPER = "valueUpper";
   public static final String JSON_TITLE = "title";
   public static final String JSON_DETAIL = "detail";
   public static final String JSON_EXCHANGE_NAME = "exchangeName";
@@ -159,10 +234,13 @@ public class Constants {
   public static final String JSON_RESOURCE_SERVER = "resourceServer";
   public static final String JSON_RESOURCE_GROUP = "resourceGroup";
   public static final String JSON_RESOURCE_NAME = "resourceName";
+  public static final String JSON_RESULTS = "results";
+  public static final String JSON_OBSERVATION_DATE_TIME = "observationDateTime";
   
   // searchtype
   public static final String JSON_SEARCH_TYPE = "searchType";
   public static final String JSON_TEMPORAL_SEARCH = "temporalSearch_";
+  public static final String JSON_JOB_ID = "jobId";
   public static final String JSON_GEO_SEARCH = "geoSearch_";
   public static final String JSON_RESPONSE_FILTER_SEARCH = "responseFilter_";
   public static final String JSON_ATTRIBUTE_SEARCH = "attributeSearch_";
@@ -184,6 +262,10 @@ public class Constants {
   // messages (Error, Exception, messages..)
   public static final String MSG_INVALID_PARAM = "Invalid parameter in request.";
   public static final String MSG_PARAM_DECODE_ERROR = "Error while decoding query params.";
+  public static final String MSG_JOB_NOT_FOUND = "Query job not found";
+  public static final String MSG_JOB_NOT_COMPLETED = "Query job has not completed";
+  public static final String MSG_JOB_QUEUE_FULL = "Too many query jobs, retry later";
+  public static final String MSG_JOB_TOKEN_REQUIRED = "A token is required to submit a query job";
   public static final String MSG_INVALID_EXCHANGE_NAME = "Invalid exchange name";
   public static final String MSG_INVALID_QUEUE_NAME = "Invalid queue name";
   public static final String MSG_INVALID_VHOST_NAME = "Invalid vhost name";
@@ -7,6 +7,7 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.json.JsonObject;
 
 /**
@@ -40,6 +41,20 @@ public interface AuthenticationService {
     return new AuthenticationServiceVertxEBProxy(vertx, address);
   }
 
+  /**
+   * The createProxy with delivery options, e.g. a message codec, for the proxy requests.
+   *
+   * @param vertx which is the vertx instance
+   * @param address which is the proxy address
+   * @param options which are the delivery options of the proxy requests
+   * @return AuthenticationServiceVertxEBProxy which is a service proxy
+   */
+
+  @GenIgnore
+  static AuthenticationService createProxy(Vertx vertx, String address, DeliveryOptions options) {
+    return new AuthenticationServiceVertxEBProxy(vertx, address, options);
+  }
+
   /**
    * The tokenInterospect method implements the authentication and authorization module using IUDX
    * APIs. It caches the result of the TIP from the auth server for a duration specified by the
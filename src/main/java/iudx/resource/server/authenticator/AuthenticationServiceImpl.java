@@ -1,16 +1,14 @@
 package iudx.resource.server.authenticator;
 
-import java.time.Clock;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Set;
 import org.apache.http.HttpStatus;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,8 +23,8 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
-import io.vertx.ext.web.client.WebClientOptions;
 import io.vertx.ext.web.client.predicate.ResponsePredicate;
+import iudx.resource.server.common.BackendMetrics;
 import iudx.resource.server.databroker.util.Util;
 
 /**
@@ -44,11 +42,26 @@ import iudx.resource.server.databroker.util.Util;
 public class AuthenticationServiceImpl implements AuthenticationService {
 
   private static final Logger LOGGER = LogManager.getLogger(AuthenticationServiceImpl.class);
-  private static final ConcurrentHashMap<String, JsonObject> tipCache = new ConcurrentHashMap<>();
-  private static final ConcurrentHashMap<String, String> catCache = new ConcurrentHashMap<>();
-  private static final ConcurrentHashMap<String, String> catrIDCache = new ConcurrentHashMap<>();
+  /* Introspection responses with their grants compiled for matching, keyed by token */
+  private static final ExpiringCache<TokenGrants> tipCache =
+      new ExpiringCache<>(Constants.TIP_CACHE_MAX_SIZE, Constants.TIP_CACHE_TIMEOUT_UNIT
+          .getDuration().multipliedBy(Constants.TIP_CACHE_TIMEOUT_AMOUNT).toMillis(),
+          AuthenticationServiceImpl::tokenExpiry);
+  /* accessPolicy of catalogue resource groups, keyed by group ID, filled by resource lookups */
+  private static final ExpiringCache<String> catCache =
+      new ExpiringCache<>(Constants.CAT_CACHE_MAX_SIZE, Constants.CAT_CACHE_TIMEOUT_MILLIS,
+          AuthenticationServiceImpl::policyExpiry);
+  /* accessPolicy of catalogue resources, keyed by resource ID */
+  private static final ExpiringCache<String> catrIDCache =
+      new ExpiringCache<>(Constants.CAT_CACHE_MAX_SIZE, Constants.CAT_CACHE_TIMEOUT_MILLIS,
+          AuthenticationServiceImpl::policyExpiry, Constants.CAT_CACHE_REFRESH_AHEAD_MILLIS);
+  private static final TokenGrants PUBLIC_TOKEN_GRANTS =
+      new TokenGrants(Constants.JSON_PUBLIC_TIP_RESPONSE);
   private final WebClient webClient;
+  private final WebClient catWebClient;
   private final Vertx vertxObj;
+  /* Local signed token verification, null in introspect mode */
+  private final TokenVerifier tokenVerifier;
   private JsonObject config;
 
   /**
@@ -60,17 +73,57 @@ public class AuthenticationServiceImpl implements AuthenticationService {
    */
 
   public AuthenticationServiceImpl(Vertx vertx, WebClient client, JsonObject config) {
+    this(vertx, client, AuthenticationVerticle.createCatWebClient(vertx), config);
+  }
+
+  /**
+   * This is a constructor which is used by the Authentication Verticle to share its long lived
+   * auth server and catalogue clients.
+   * 
+   * @param vertx which is a vertx instance
+   * @param client which is a Vertx Web client for the auth server
+   * @param catClient which is a Vertx Web client for the catalogue server
+   * @param config which is the authenticator configuration
+   */
+
+  public AuthenticationServiceImpl(Vertx vertx, WebClient client, WebClient catClient,
+      JsonObject config) {
     webClient = client;
+    catWebClient = catClient;
     vertxObj = vertx;
     this.config = config;
 
+    if (Constants.AUTH_MODE_JWT.equalsIgnoreCase(
+        config.getString(Constants.AUTH_MODE, Constants.AUTH_MODE_INTROSPECT))) {
+      tokenVerifier = new TokenVerifier(vertx, client, config);
+      tokenVerifier.start().onFailure(
+          failure -> LOGGER.error("Error: Token verification keys not loaded {}", failure));
+    } else {
+      tokenVerifier = null;
+    }
+
     long cacheCleanupTime = 1000 * 60 * Constants.TIP_CACHE_TIMEOUT_AMOUNT;
-    vertx.setPeriodic(cacheCleanupTime, timerID -> tipCache.values().removeIf(entry -> {
-      Instant tokenExpiry = Instant.parse(entry.getString("expiry"));
-      Instant cacheExpiry = Instant.parse(entry.getString("cache-expiry"));
-      Instant now = Instant.now(Clock.systemUTC());
-      return (now.isAfter(tokenExpiry) || now.isAfter(cacheExpiry));
-    }));
+    vertx.setPeriodic(cacheCleanupTime, timerID -> {
+      tipCache.removeExpired();
+      catCache.removeExpired();
+      catrIDCache.removeExpired();
+    });
+  }
+
+  /* IDs unknown to the catalogue are cached only for the short negative timeout */
+  private static long policyExpiry(String accessPolicy) {
+    return Constants.CAT_POLICY_NOT_FOUND.equals(accessPolicy)
+        ? System.currentTimeMillis() + Constants.CAT_CACHE_NEGATIVE_TIMEOUT_MILLIS
+        : Long.MAX_VALUE;
+  }
+
+  /* Epoch millisecond at which an introspected token expires */
+  private static long tokenExpiry(TokenGrants tokenGrants) {
+    try {
+      return Instant.parse(tokenGrants.getTipResponse().getString("expiry")).toEpochMilli();
+    } catch (NullPointerException | DateTimeParseException e) {
+      return Long.MAX_VALUE;
+    }
   }
 
   /**
@@ -80,11 +133,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
   public AuthenticationService tokenInterospect(JsonObject request, JsonObject authenticationInfo,
       Handler<AsyncResult<JsonObject>> handler) {
 
-    System.out.println(authenticationInfo);
     String token = authenticationInfo.getString("token");
     String requestEndpoint = authenticationInfo.getString("apiEndpoint");
 
-    LOGGER.debug("Info: requested endpoint :" + requestEndpoint);
+    LOGGER.debug("Info: requested endpoint :{}", requestEndpoint);
 
     if (config.getString(Constants.SERVER_MODE).equalsIgnoreCase("testing")) {
       if (token.equals(Constants.PUBLIC_TOKEN)
@@ -102,7 +154,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         return this;
       } else if (!token.equals(Constants.PUBLIC_TOKEN)) {
         // Perform TIP with Auth Server
-        Future<JsonObject> tipResponseFut = retrieveTipResponse(token);
+        Future<TokenGrants> tipResponseFut = retrieveTipResponse(token);
         // Check if resource is Open or Secure with Catalogue Server
         Future<HashMap<String, Boolean>> catResponseFut =
             isOpenResource(request.getJsonArray("ids"), requestEndpoint);
@@ -113,20 +165,22 @@ public class AuthenticationServiceImpl implements AuthenticationService {
           result.put("message", failedHandler.getMessage());
           handler.handle(Future.failedFuture(result.toString()));
         }).onSuccess(successHandler -> {
-          JsonObject tipResponse = successHandler.resultAt(0);
+          TokenGrants tokenGrants = successHandler.resultAt(0);
+          /* the cached response, validateAccess copies it where it adds fields */
+          JsonObject tipResponse = tokenGrants.getTipResponse();
           HashMap<String, Boolean> catResponse = successHandler.resultAt(1);
-          LOGGER.debug("Info: TIP Response is : " + tipResponse);
-          LOGGER.debug("Info: CAT Response is : " + Collections.singletonList(catResponse));
+          LOGGER.debug("Info: TIP Response is : {}", tipResponse);
+          LOGGER.debug("Info: CAT Response is : {}", catResponse);
           
-          Future<JsonObject> validateAPI = validateAccess(tipResponse, catResponse, authenticationInfo, request);
+          Future<JsonObject> validateAPI = validateAccess(tipResponse, tokenGrants, catResponse, authenticationInfo, request);
           
           validateAPI.onComplete(validateAPIResponseHandler -> {
             if(validateAPIResponseHandler.succeeded()) {
-              LOGGER.debug("Info: Success :: TIP Response is : " + tipResponse);
+              LOGGER.debug("Info: Success :: TIP Response is : {}", tipResponse);
               JsonObject response = validateAPIResponseHandler.result();
               handler.handle(Future.succeededFuture(response));
             } else if (validateAPIResponseHandler.failed()){
-              LOGGER.debug("Info: Failure :: TIP Response is : " + tipResponse);
+              LOGGER.debug("Info: Failure :: TIP Response is : {}", tipResponse);
               String response = validateAPIResponseHandler.cause().getMessage();
               handler.handle(Future.failedFuture(response));
             }
@@ -146,7 +200,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
       } else {
         // Based on API perform TIP. 
         // For management and subscription no need to look-up at catalogue
-        Future<JsonObject> tipResponseFut = retrieveTipResponse(token);
+        Future<TokenGrants> tipResponseFut = retrieveTipResponse(token);
         Future<HashMap<String, Boolean>> catResponseFut =
             isOpenResource(request.getJsonArray("ids"), requestEndpoint);
         // Based on catalogue item accessPolicy, decide the TIP
@@ -157,19 +211,21 @@ public class AuthenticationServiceImpl implements AuthenticationService {
           result.put("message", throwable.getMessage());
           handler.handle(Future.failedFuture(result.toString()));
         }).onSuccess(compositeFuture -> {
-          JsonObject tipResponse = compositeFuture.resultAt(0);
+          TokenGrants tokenGrants = compositeFuture.resultAt(0);
+          /* the cached response, validateAccess copies it where it adds fields */
+          JsonObject tipResponse = tokenGrants.getTipResponse();
           HashMap<String, Boolean> catResponse = compositeFuture.resultAt(1);
-          LOGGER.debug("Info: TIP Response is : " + tipResponse);
-          LOGGER.debug("Info: CAT Response is : " + Collections.singletonList(catResponse));
+          LOGGER.debug("Info: TIP Response is : {}", tipResponse);
+          LOGGER.debug("Info: CAT Response is : {}", catResponse);
           
-          Future<JsonObject> validateAPI = validateAccess(tipResponse, catResponse, authenticationInfo, request);
+          Future<JsonObject> validateAPI = validateAccess(tipResponse, tokenGrants, catResponse, authenticationInfo, request);
           validateAPI.onComplete(validateAPIResponseHandler -> {
             if(validateAPIResponseHandler.succeeded()) {
-              LOGGER.debug("Info: Success :: TIP Response is : " + tipResponse);
+              LOGGER.debug("Info: Success :: TIP Response is : {}", tipResponse);
               JsonObject response = validateAPIResponseHandler.result();
               handler.handle(Future.succeededFuture(response));
             } else if (validateAPIResponseHandler.failed()){
-              LOGGER.debug("Info: Failure :: TIP Response is : " + tipResponse);
+              LOGGER.debug("Info: Failure :: TIP Response is : {}", tipResponse);
               String response = validateAPIResponseHandler.cause().getMessage();
               handler.handle(Future.failedFuture(response));
             }
@@ -181,75 +237,26 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     return this;
   }
 
-  private boolean isValidEndpoint(String requestEndpoint, JsonArray apis) {
-    for (Object es : apis) {
-      String endpoint = (String) es;
-      if (endpoint.equals("/*") || endpoint.equals(requestEndpoint)) {
-        return true;
-      }
+  private Future<TokenGrants> retrieveTipResponse(String token) {
+    if(token.equalsIgnoreCase("public")) {
+      return Future.succeededFuture(PUBLIC_TOKEN_GRANTS);
     }
-    return false;
+
+    /* One verification and grant compilation per token and cache lifetime */
+    return tipCache.getOrLoad(token,
+        key -> verifyToken(key).map(TokenGrants::new));
   }
 
-  private JsonObject retrieveTipRequest(String requestID, JsonObject tipResponse) {
-    for (Object r : tipResponse.getJsonArray("request")) {
-      JsonObject tipRequest = (JsonObject) r;
-      String responseID = tipRequest.getString("id");
-      if (requestID.equals(responseID)) {
-        return tipRequest;
-      }
-      String escapedResponseID =
-          responseID.replace("/", "\\/").replace(".", "\\.").replace("*", ".*");
-      Pattern pattern = Pattern.compile(escapedResponseID);
-      if (pattern.matcher(requestID).matches()) {
-        return tipRequest;
-      }
+  /* Signed tokens are verified locally in jwt mode, any other token is introspected */
+  private Future<JsonObject> verifyToken(String token) {
+    if (tokenVerifier != null && TokenVerifier.isSignedToken(token)) {
+      return tokenVerifier.verify(token);
     }
-    return new JsonObject();
+    return introspectToken(token);
   }
 
-  private Future<JsonObject> retrieveTipResponse(String token) {
+  private Future<JsonObject> introspectToken(String token) {
     Promise<JsonObject> promise = Promise.promise();
-
-    if(token.equalsIgnoreCase("public")) {
-      promise.complete(Constants.JSON_PUBLIC_TIP_RESPONSE);
-      return promise.future();
-    }
-    
-    JsonObject cacheResponse = tipCache.getOrDefault(token, new JsonObject());
-    if (!cacheResponse.isEmpty()) {
-      try {
-        Instant tokenExpiry = Instant.parse(cacheResponse.getString("expiry"));
-        Instant cacheExpiry = Instant.parse(cacheResponse.getString("cache-expiry"));
-        Instant now = Instant.now(Clock.systemUTC());
-        if (tokenExpiry.isBefore(now)) {
-          if (!tipCache.remove(token, cacheResponse)) {
-            throw new ConcurrentModificationException("TIP cache premature invalidation");
-          }
-          LOGGER.debug("Info: Token has expired");
-          promise.fail(new Throwable("Token has expired"));
-        }
-        if (cacheExpiry.isAfter(now)) {
-          String extendedCacheExpiry =
-              now.plus(Constants.TIP_CACHE_TIMEOUT_AMOUNT, Constants.TIP_CACHE_TIMEOUT_UNIT)
-                  .toString();
-          JsonObject newCacheEntry = cacheResponse.copy();
-          newCacheEntry.put("cache-expiry", extendedCacheExpiry);
-          if (!tipCache.replace(token, cacheResponse, newCacheEntry)) {
-            throw new ConcurrentModificationException("TIP cache premature invalidation");
-          }
-          promise.complete(newCacheEntry);
-          return promise.future();
-        } else {
-          if (!tipCache.remove(token, cacheResponse)) {
-            throw new ConcurrentModificationException("TIP cache premature invalidation");
-          }
-        }
-      } catch (DateTimeParseException | ConcurrentModificationException e) {
-        LOGGER.error(e.getMessage());
-      }
-    }
-
     JsonObject body = new JsonObject();
     body.put("token", token);
     webClient.post(443, config.getString(Constants.AUTH_SERVER_HOST), Constants.AUTH_TIP_PATH)
@@ -266,14 +273,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             return;
           }
           JsonObject responseBody = response.bodyAsJsonObject();
-          String cacheExpiry = Instant.now(Clock.systemUTC())
-              .plus(Constants.TIP_CACHE_TIMEOUT_AMOUNT, Constants.TIP_CACHE_TIMEOUT_UNIT)
-              .toString();
-          responseBody.put("cache-expiry", cacheExpiry);
-          tipCache.put(token, responseBody);
           promise.complete(responseBody);
         });
-    return promise.future();
+    return BackendMetrics.time(BackendMetrics.AUTH_SERVER, promise.future());
   }
 
   /**
@@ -284,13 +286,11 @@ public class AuthenticationServiceImpl implements AuthenticationService {
    *         open or not
    * 
    *         <p>
-   *         There is a known problem with the caching mechanism in this function. If an invalid ID
-   *         is received, the CAT is called and the result is not cached. The result is cached only
-   *         if a valid ID exists in the CAT. If every ID is stored then the cache can balloon in
-   *         size until a server reload. Also a non existent ID will get cached and later if the ID
-   *         entry is done on the CAT, it does not get auto propagated to the RS. However, in the
-   *         current mechanism, there is a DDoS attack vector where an attacker can send multiple
-   *         requests for invalid IDs.
+   *         Access policies are cached per resource ID and per group ID in bounded, TTL evicted
+   *         caches that are refreshed ahead of expiry, so a known resource is a map lookup. IDs
+   *         unknown to the catalogue are cached for a short negative timeout, which bounds the
+   *         catalogue calls an attacker can cause with invalid IDs and still picks up new
+   *         catalogue entries.
    *         </p>
    */
   private Future<HashMap<String, Boolean>> isOpenResource(JsonArray requestIDs,
@@ -298,107 +298,36 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     Promise<HashMap<String, Boolean>> promise = Promise.promise();
     HashMap<String, Boolean> result = new HashMap<>();
     if (Constants.OPEN_ENDPOINTS.contains(requestEndpoint)) {
-      List<Future> catResponses = new ArrayList<>();
-      Promise prom = Promise.promise();
-      catResponses.add(prom.future());
-      // Check if the resource is already fetched in the cache
-      String resID = requestIDs.getString(0);
-      if (catrIDCache.contains(resID)) {
-        result.put(resID, catrIDCache.get(resID).equalsIgnoreCase("OPEN"));
-        prom.complete();
-      } else {
-        WebClientOptions options =
-            new WebClientOptions().setTrustAll(true).setVerifyHost(false).setSsl(true);
-        WebClient catWebClient = WebClient.create(vertxObj, options);
-        for (Object rID : requestIDs) {
-          String resourceID = (String) rID;
-          String[] idComponents = resourceID.split("/");
-          if (idComponents.length < 4) {
-            continue;
-          }
-          String groupID = (idComponents.length == 4) ? resourceID
-              : String.join("/", Arrays.copyOfRange(idComponents, 0, 4));
-
-          String catHost = config.getString("catServerHost");
-          int catPort = Integer.parseInt(config.getString("catServerPort"));
-          String catPath = Constants.CAT_RSG_PATH;
-          LOGGER.debug("Info: Host " + catHost + " Port " + catPort + " Path " + catPath);
-          // Check if resourceID is available
-          catWebClient.get(catPort, catHost, catPath).addQueryParam("property", "[id]")
-              .addQueryParam("value", "[[" + resourceID + "]]").addQueryParam("filter", "[id]")
-              .expect(ResponsePredicate.JSON).send(httpResponserIDAsyncResult -> {
-                if (httpResponserIDAsyncResult.failed()) {
-                  result.put(resourceID, false);
-                  prom.fail("Not Found");
-                  return;
-                }
-                HttpResponse<Buffer> rIDResponse = httpResponserIDAsyncResult.result();
-                JsonObject rIDResponseBody = rIDResponse.bodyAsJsonObject();
-
-                if (rIDResponse.statusCode() != HttpStatus.SC_OK) {
-                  LOGGER.debug("Info: Catalogue Query failed");
-                  result.put(resourceID, false);
-                  prom.fail("Not Found");
-                  return;
-                } else if (!rIDResponseBody.getString("status").equals("success")) {
-                  LOGGER.debug("Info: Catalogue Query failed");
-                  result.put(resourceID, false);
-                  prom.fail("Not Found");
-                  return;
-                } else if (rIDResponseBody.getInteger("totalHits") == 0) {
-                  LOGGER.debug("Info: Resource ID invalid : Catalogue item Not Found");
-                  result.put(resourceID, false);
-                  prom.fail("Not Found");
-                  return;
-                } else {
-                  LOGGER.debug("Info: Resource ID valid : Catalogue item Found");
-                  catWebClient.get(catPort, catHost, catPath).addQueryParam("property", "[id]")
-                      .addQueryParam("value", "[[" + groupID + "]]")
-                      .addQueryParam("filter", "[accessPolicy]").expect(ResponsePredicate.JSON)
-                      .send(httpResponseAsyncResult -> {
-                        if (httpResponseAsyncResult.failed()) {
-                          result.put(resourceID, false);
-                          prom.fail("Not Found");
-                          return;
-                        }
-                        HttpResponse<Buffer> response = httpResponseAsyncResult.result();
-                        if (response.statusCode() != HttpStatus.SC_OK) {
-                          result.put(resourceID, false);
-                          prom.fail("Not Found");
-                          return;
-                        }
-                        JsonObject responseBody = response.bodyAsJsonObject();
-                        if (!responseBody.getString("status").equals("success")) {
-                          result.put(resourceID, false);
-                          prom.fail("Not Found");
-                          return;
-                        }
-                        String resourceACL = "SECURE";
-                        try {
-                          resourceACL = responseBody.getJsonArray("results").getJsonObject(0)
-                              .getString("accessPolicy");
-                          result.put(resourceID, resourceACL.equals("OPEN"));
-                          catCache.put(groupID, resourceACL);
-                          catrIDCache.put(resourceID, resourceACL);
-                          LOGGER.debug("Info: Group ID valid : Catalogue item Found");
-                        } catch (IndexOutOfBoundsException ignored) {
-                          LOGGER.error(ignored.getMessage());
-                          LOGGER.debug(
-                              "Info: Group ID invalid : Empty response in results from Catalogue");
-                        }
-                        prom.complete();
-                      });
-                }
-              });
+      List<String> resourceIDs = new ArrayList<>();
+      for (Object rID : requestIDs) {
+        String resourceID = (String) rID;
+        if (resourceID.split("/").length < 4) {
+          continue;
         }
+        resourceIDs.add(resourceID);
       }
-      CompositeFuture.all(catResponses).onSuccess(compositeFuture -> promise.complete(result))
-          .onFailure(failedhandler -> {
-            LOGGER.debug("Info: TIP / Cat Failed");
+      // All cache misses of the request are looked up with one catalogue query
+      List<Future> catResponses =
+          new ArrayList<>(catrIDCache.getOrLoadAll(resourceIDs, this::fetchResourcePolicies));
+      CompositeFuture.all(catResponses).onSuccess(compositeFuture -> {
+        for (int i = 0; i < resourceIDs.size(); i++) {
+          String resourceACL = compositeFuture.resultAt(i);
+          if (Constants.CAT_POLICY_NOT_FOUND.equals(resourceACL)) {
+            LOGGER.debug("Info: Resource ID invalid : Catalogue item Not Found");
             JsonObject failedresult = new JsonObject();
             failedresult.put("status", "Not Found");
             promise.fail(failedresult.toString());
-          });
+            return;
+          }
+          result.put(resourceIDs.get(i), resourceACL.equals("OPEN"));
+        }
+        promise.complete(result);
+      }).onFailure(failedhandler -> {
+        LOGGER.debug("Info: TIP / Cat Failed");
+        JsonObject failedresult = new JsonObject();
+        failedresult.put("status", "Not Found");
+        promise.fail(failedresult.toString());
+      });
 
     } else {
       result.put("Closed End Point", true);
@@ -408,46 +337,137 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     return promise.future();
   }
 
-  private Future<JsonObject> validateAccess(JsonObject result, HashMap<String, Boolean> catResponse, JsonObject authenticationInfo,
+  /**
+   * Looks up resources and their resource groups with a single catalogue query.
+   * 
+   * @param resourceIDs resource IDs missing from the cache
+   * @return A future of a map from resource ID to the accessPolicy of its resource group, or
+   *         NOT_FOUND when the resource or its group is unknown to the catalogue
+   */
+  private Future<Map<String, String>> fetchResourcePolicies(List<String> resourceIDs) {
+    Promise<Map<String, String>> promise = Promise.promise();
+    Map<String, String> groupIDs = new HashMap<>();
+    Set<String> fetchedGroupIDs = new LinkedHashSet<>();
+    Set<String> queryIDs = new LinkedHashSet<>(resourceIDs);
+    for (String resourceID : resourceIDs) {
+      String[] idComponents = resourceID.split("/");
+      String groupID = (idComponents.length == 4) ? resourceID
+          : String.join("/", Arrays.copyOfRange(idComponents, 0, 4));
+      groupIDs.put(resourceID, groupID);
+      // Group policy is fetched only when not already cached
+      if (catCache.get(groupID) == null) {
+        fetchedGroupIDs.add(groupID);
+        queryIDs.add(groupID);
+      }
+    }
+
+    searchCatalogue(new ArrayList<>(queryIDs), "[id,accessPolicy]").onComplete(catHandler -> {
+      if (catHandler.failed()) {
+        promise.fail(catHandler.cause());
+        return;
+      }
+      Map<String, String> found = new HashMap<>();
+      JsonArray results = catHandler.result().getJsonArray("results", new JsonArray());
+      for (Object item : results) {
+        if (item instanceof JsonObject && ((JsonObject) item).getString("id") != null) {
+          JsonObject catItem = (JsonObject) item;
+          found.put(catItem.getString("id"), catItem.getString("accessPolicy", ""));
+        }
+      }
+
+      for (String groupID : fetchedGroupIDs) {
+        String groupACL = found.get(groupID);
+        catCache.put(groupID,
+            groupACL == null || groupACL.isEmpty() ? Constants.CAT_POLICY_NOT_FOUND : groupACL);
+      }
+
+      Map<String, String> policies = new HashMap<>();
+      for (String resourceID : resourceIDs) {
+        String resourceACL = catCache.get(groupIDs.get(resourceID));
+        if (!found.containsKey(resourceID) || resourceACL == null) {
+          LOGGER.debug("Info: Resource ID invalid : Catalogue item Not Found");
+          resourceACL = Constants.CAT_POLICY_NOT_FOUND;
+        }
+        policies.put(resourceID, resourceACL);
+      }
+      promise.complete(policies);
+    });
+    return promise.future();
+  }
+
+  private Future<JsonObject> searchCatalogue(List<String> ids, String filter) {
+    Promise<JsonObject> promise = Promise.promise();
+    String catHost = config.getString("catServerHost");
+    int catPort = Integer.parseInt(config.getString("catServerPort"));
+    String catPath = Constants.CAT_RSG_PATH;
+    LOGGER.debug("Info: Host {} Port {} Path {}", catHost, catPort, catPath);
+    catWebClient.get(catPort, catHost, catPath).addQueryParam("property", "[id]")
+        .addQueryParam("value", "[[" + String.join(",", ids) + "]]")
+        .addQueryParam("filter", filter)
+        .expect(ResponsePredicate.JSON).send(httpResponseAsyncResult -> {
+          if (httpResponseAsyncResult.failed()) {
+            promise.fail("Not Found");
+            return;
+          }
+          HttpResponse<Buffer> response = httpResponseAsyncResult.result();
+          JsonObject responseBody = response.bodyAsJsonObject();
+          if (response.statusCode() != HttpStatus.SC_OK
+              || !"success".equals(responseBody.getString("status"))) {
+            LOGGER.debug("Info: Catalogue Query failed");
+            promise.fail("Not Found");
+            return;
+          }
+          promise.complete(responseBody);
+        });
+    return BackendMetrics.time(BackendMetrics.CATALOGUE, promise.future());
+  }
+
+  /* A granted decision is valid until the token expires, callers may cache it until then */
+  private static JsonObject withExpiry(JsonObject response, JsonObject tipResponse) {
+    String expiry = tipResponse.getString("expiry");
+    return expiry != null ? response.put("expiry", expiry) : response;
+  }
+
+  private Future<JsonObject> validateAccess(JsonObject result, TokenGrants tokenGrants,
+      HashMap<String, Boolean> catResponse, JsonObject authenticationInfo,
       JsonObject userRequest) {
 
     Promise<JsonObject> promise = Promise.promise();
 
-    LOGGER.debug("Info: TIP response is " + result);
-    LOGGER.debug("Info: Authentication Info is " + authenticationInfo);
-    LOGGER.debug("Info: catResponse is " + catResponse);
+    LOGGER.debug("Info: TIP response is {}", result);
+    LOGGER.debug("Info: Authentication Info is {}", authenticationInfo);
+    LOGGER.debug("Info: catResponse is {}", catResponse);
     String requestEndpoint = authenticationInfo.getString("apiEndpoint");
     String requestMethod = authenticationInfo.getString("method");
 
-    LOGGER.debug("Info: requested endpoint :" + requestEndpoint);
+    LOGGER.debug("Info: requested endpoint :{}", requestEndpoint);
 
     // 1. Check the API requested.
     if (Constants.OPEN_ENDPOINTS.contains(requestEndpoint)) {
       JsonObject response = new JsonObject();
-      LOGGER.info(Constants.OPEN_ENDPOINTS);
 
       // 1.1. Check with catalogue if resource is open or secure.
       // 1.2. If open respond success.
       // 1.3. If closed, check if auth response has access to the requested resource.
 
-      LOGGER.debug("Info: TIP response is " + result);
+      LOGGER.debug("Info: TIP response is {}", result);
 
       String allowedID = result.getJsonArray("request").getJsonObject(0).getString("id");
       String allowedGroupID = allowedID.substring(0, allowedID.lastIndexOf("/"));
 
-      LOGGER.debug("Info: allowedID is " + allowedID);
-      LOGGER.debug("Info: allowedGroupID is " + allowedGroupID);
+      LOGGER.debug("Info: allowedID is {}", allowedID);
+      LOGGER.debug("Info: allowedGroupID is {}", allowedGroupID);
       
-      LOGGER.debug("Info: userRequest is " + userRequest);
+      LOGGER.debug("Info: userRequest is {}", userRequest);
       
       String requestedID = userRequest.getJsonArray("ids").getString(0);
       String requestedGroupID = requestedID.substring(0, requestedID.lastIndexOf("/"));
 
-      LOGGER.debug("Info: requestedID is " + requestedID);
-      LOGGER.debug("Info: requestedGroupID is " + requestedGroupID);
+      LOGGER.debug("Info: requestedID is {}", requestedID);
+      LOGGER.debug("Info: requestedGroupID is {}", requestedGroupID);
       
-      // Check if resource is available in Catalogue
-      if (catResponse.isEmpty()) {
+      // Check if resource is available in Catalogue, IDs of less than 4 parts are not looked up
+      if (!catResponse.containsKey(requestedID)) {
         LOGGER.debug("Info: No such catalogue item");
         response.put("item", "Not Found");
         promise.fail(response.toString());
@@ -455,14 +475,15 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         if (catResponse.get(requestedID)) {
           LOGGER.debug("Info: Catalogue item is OPEN");
           response.put(Constants.JSON_CONSUMER, result.getString(Constants.JSON_CONSUMER));
-          promise.complete(response);
+          promise.complete(withExpiry(response, result));
         } else {
           // Check if the token has access to the requestedID
           LOGGER.debug("Info: Catalogue item is SECURE");
-          if (requestedGroupID.equalsIgnoreCase(allowedGroupID)) {
+          if (tokenGrants.match(requestedID) != null
+              || requestedGroupID.equalsIgnoreCase(allowedGroupID)) {
             LOGGER.debug("Info: Catalogue item is SECURE and User has ACCESS");
             response.put(Constants.JSON_CONSUMER, result.getString(Constants.JSON_CONSUMER));
-            promise.complete(response);
+            promise.complete(withExpiry(response, result));
           } else {
             LOGGER.debug("Info: Catalogue item is SECURE and User does not have ACCESS");
             response.put(Constants.JSON_CONSUMER, result.getString(Constants.JSON_PUBLIC_CONSUMER));
@@ -472,16 +493,16 @@ public class AuthenticationServiceImpl implements AuthenticationService {
       }
       
     } else if (Constants.ADAPTER_ENDPOINT.contains(requestEndpoint)) {
-      LOGGER.debug("Info: Requested access for " + requestEndpoint);
+      LOGGER.debug("Info: Requested access for {}", requestEndpoint);
       JsonArray tipresult = result.getJsonArray("request");
       JsonObject tipresponse = tipresult.getJsonObject(0);
-      LOGGER.debug("Info: Allowed APIs " + tipresponse);
+      LOGGER.debug("Info: Allowed APIs {}", tipresponse);
       JsonArray allowedAPIs = tipresponse.getJsonArray("apis");
       int total = allowedAPIs.size();
       boolean allowedAccess = false;
       for (int i = 0; i < total; i++) {
         if (Constants.ADAPTER_ENDPOINT.contains(allowedAPIs.getString(i))) {
-          LOGGER.debug("Info: Success :: User has access to " + requestEndpoint + " API");
+          LOGGER.debug("Info: Success :: User has access to {} API", requestEndpoint);
           allowedAccess = true;
           break;
         }
@@ -491,44 +512,40 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         String adapterID = providerID.substring(0, providerID.lastIndexOf("/"));
         String[] id = providerID.split("/");
         String providerSHA = id[0] + "/" + id[1];
-        LOGGER.debug("Info: Success :: Provider SHA is " + providerSHA);
+        LOGGER.debug("Info: Success :: Provider SHA is {}", providerSHA);
         if (requestMethod.equalsIgnoreCase("POST")) {
           String resourceGroup = userRequest.getString("resourceGroup");
           String resourceServer = userRequest.getString("resourceServer");
-          System.out.println(providerID);
-          System.out.println(resourceGroup);
-          System.out.println(resourceServer);
           if (providerID.contains(resourceServer + "/" + resourceGroup)) {
-            LOGGER.info(
-                "Success :: Has access to " + requestEndpoint + " API and Adapter " + adapterID);
-            result.put("provider", providerSHA);
-            promise.complete(result);
+            LOGGER.info("Success :: Has access to {} API and Adapter {}", requestEndpoint,
+                adapterID);
+            promise.complete(result.copy().put("provider", providerSHA));
           } else {
-            LOGGER.debug("Info: Failure :: Has access to " + requestEndpoint + " API but not for Adapter "
-                + adapterID);
+            LOGGER.debug("Info: Failure :: Has access to {} API but not for Adapter {}",
+                requestEndpoint, adapterID);
             promise.fail(result.toString());
           }
         } else {
           String requestId = authenticationInfo.getString("id");
           if (requestId.contains(adapterID)) {
-            LOGGER.info(
-                "Success :: Has access to " + requestEndpoint + " API and Adapter " + requestId);
+            LOGGER.info("Success :: Has access to {} API and Adapter {}", requestEndpoint,
+                requestId);
             promise.complete(result);
           } else {
-            LOGGER.debug("Info: Failure :: Has access to " + requestEndpoint + " API but not for Adapter "
-                + requestId);
+            LOGGER.debug("Info: Failure :: Has access to {} API but not for Adapter {}",
+                requestEndpoint, requestId);
             promise.fail(result.toString());
           }
         }
       } else {
-        LOGGER.debug("Info: Failure :: No access to " + requestEndpoint + " API");
+        LOGGER.debug("Info: Failure :: No access to {} API", requestEndpoint);
         promise.fail(result.toString());
       }
     } else if (Constants.SUBSCRIPTION_ENDPOINT.contains(requestEndpoint)) {
-      LOGGER.debug("Info: Requested access for " + requestEndpoint);
+      LOGGER.debug("Info: Requested access for {}", requestEndpoint);
       JsonArray tipresult = result.getJsonArray("request");
       JsonObject tipresponse = tipresult.getJsonObject(0);
-      LOGGER.debug("Info: Allowed APIs " + tipresponse);
+      LOGGER.debug("Info: Allowed APIs {}", tipresponse);
       JsonArray allowedAPIs = tipresponse.getJsonArray("apis");
       int total = allowedAPIs.size();
       boolean allowedAccess = false;
@@ -547,11 +564,12 @@ public class AuthenticationServiceImpl implements AuthenticationService {
           String requestedId = id.substring(0, id.lastIndexOf("/"));
 
           if (allowedId.contains(requestedId)) {
-            LOGGER.debug("Info: Success :: Has access to " + requestEndpoint + " API and entity " + id);
+            LOGGER.debug("Info: Success :: Has access to {} API and entity {}",
+                requestEndpoint, id);
             promise.complete(result);
           } else {
-            LOGGER.info(
-                "Failure :: Has access to " + requestEndpoint + " API but not for entity " + id);
+            LOGGER.info("Failure :: Has access to {} API but not for entity {}", requestEndpoint,
+                id);
             promise.fail(result.toString());
           }
         } else if (requestMethod.equalsIgnoreCase("PUT")
@@ -562,14 +580,17 @@ public class AuthenticationServiceImpl implements AuthenticationService {
           String id = userRequest.getJsonArray("entities").getString(0);
           String requestedId = id.substring(0, id.lastIndexOf("/"));
           if (requestId.contains(Util.getSha(email))) {
-            LOGGER.debug("Info: Success :: Has access to " + requestEndpoint + " API and Subscription ID " + requestId);
+            LOGGER.debug("Info: Success :: Has access to {} API and Subscription ID {}",
+                requestEndpoint, requestId);
             if (allowedId.contains(requestedId)) {
-              LOGGER.debug("Info: Success :: Has access to " + requestEndpoint + " API and Subscription ID " + requestId
-                  + " and entity " + id);
+              LOGGER.debug(
+                  "Info: Success :: Has access to {} API and Subscription ID {} and entity {}",
+                  requestEndpoint, requestId, id);
               promise.complete(result);
             } else {
-              LOGGER.debug("Info: Failure :: Has access to " + requestEndpoint + " API and Subscription ID " + requestId
-                  + " but not for entity " + id);
+              LOGGER.debug(
+                  "Info: Failure :: Has access to {} API and Subscription ID {} but not for entity {}",
+                  requestEndpoint, requestId, id);
               promise.fail(result.toString());
             }
           } else {
@@ -580,23 +601,24 @@ public class AuthenticationServiceImpl implements AuthenticationService {
           String requestId = authenticationInfo.getString("id");
           String email = result.getString("consumer");
           if (requestId.contains(Util.getSha(email))) {
-            LOGGER.debug("Info: Success :: Has access to " + requestEndpoint + " API and Subscription ID " + requestId);
+            LOGGER.debug("Info: Success :: Has access to {} API and Subscription ID {}",
+                requestEndpoint, requestId);
             promise.complete(result);
           } else {
-            LOGGER.info(
-                "Failure :: Has access to " + requestEndpoint + " API but not for Subscription ID " + requestId);
+            LOGGER.info("Failure :: Has access to {} API but not for Subscription ID {}",
+                requestEndpoint, requestId);
             promise.fail(result.toString());
           }
         }
       } else {
-        LOGGER.debug("Info: Failure :: No access to " + requestEndpoint + " API");
+        LOGGER.debug("Info: Failure :: No access to {} API", requestEndpoint);
         promise.fail(result.toString());
       }
     } else if (Constants.MANAGEMENT_ENDPOINTS.contains(requestEndpoint)) {
-      LOGGER.debug("Info: Requested access for " + requestEndpoint);
+      LOGGER.debug("Info: Requested access for {}", requestEndpoint);
       JsonArray tipresult = result.getJsonArray("request");
       JsonObject tipresponse = tipresult.getJsonObject(0);
-      LOGGER.debug("Info: Allowed APIs " + tipresponse);
+      LOGGER.debug("Info: Allowed APIs {}", tipresponse);
       JsonArray allowedAPIs = tipresponse.getJsonArray("apis");
       int total = allowedAPIs.size();
       boolean allowedAccess = false;
@@ -607,7 +629,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
       if (providerSHA.equalsIgnoreCase(Constants.JSON_IUDX_ADMIN_SHA)) {
         for (int i = 0; i < total; i++) {
           if (Constants.MANAGEMENT_ENDPOINT.contains(allowedAPIs.getString(i))) {
-            LOGGER.debug("Info: Success :: User " + email + " has access to API");
+            LOGGER.debug("Info: Success :: User {} has access to API", email);
             allowedAccess = true;
             break;
           }
@@ -615,10 +637,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
       }
 
       if (allowedAccess) {
-        LOGGER.debug("Info: Success :: Has access to " + requestEndpoint + " API");
+        LOGGER.debug("Info: Success :: Has access to {} API", requestEndpoint);
         promise.complete(result);
       } else {
-        LOGGER.debug("Info: Failure :: No access to " + requestEndpoint + " API");
+        LOGGER.debug("Info: Failure :: No access to {} API", requestEndpoint);
         promise.fail(result.toString());
       }
     }
@@ -10,7 +10,7 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.JksOptions;
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.client.WebClientOptions;
-import io.vertx.serviceproxy.ServiceBinder;
+import iudx.resource.server.common.EventBusServices;
 
 /**
  * The Authentication Verticle.
@@ -45,6 +45,14 @@ public class AuthenticationVerticle extends AbstractVerticle {
     return WebClient.create(vertxObj, webClientOptions);
   }
 
+  /* One keep-alive client for all catalogue lookups of this verticle */
+  static WebClient createCatWebClient(Vertx vertxObj) {
+    WebClientOptions webClientOptions =
+        new WebClientOptions().setTrustAll(true).setVerifyHost(false).setSsl(true)
+            .setKeepAlive(true);
+    return WebClient.create(vertxObj, webClientOptions);
+  }
+
   /**
    * This method is used to start the Verticle. It deploys a verticle in a cluster, registers the
    * service with the Event bus against an address, publishes the service with the service discovery
@@ -56,11 +64,12 @@ public class AuthenticationVerticle extends AbstractVerticle {
   @Override
   public void start() throws Exception {
 
-    authentication = new AuthenticationServiceImpl(vertx, createWebClient(vertx, config()), config());
+    authentication = new AuthenticationServiceImpl(vertx, createWebClient(vertx, config()),
+        createCatWebClient(vertx), config());
 
     /* Publish the Authentication service with the Event Bus against an address. */
 
-    new ServiceBinder(vertx).setAddress(AUTH_SERVICE_ADDRESS)
-      .register(AuthenticationService.class, authentication);
+    EventBusServices.register(vertx, AUTH_SERVICE_ADDRESS, AuthenticationService.class,
+        authentication);
   }
 }
@@ -24,8 +24,27 @@ public class Constants {
   public static final String MANAGEMENT_ENDPOINT = "/management/*";
   public static final long TIP_CACHE_TIMEOUT_AMOUNT = 30;
   public static final ChronoUnit TIP_CACHE_TIMEOUT_UNIT = ChronoUnit.MINUTES;
+  public static final int TIP_CACHE_MAX_SIZE = 10000;
   public static final String CAT_RSG_PATH = "/iudx/cat/v1/search";
+  public static final int CAT_CACHE_MAX_SIZE = 10000;
+  public static final long CAT_CACHE_TIMEOUT_MILLIS = 1000 * 60 * 60;
+  public static final long CAT_CACHE_NEGATIVE_TIMEOUT_MILLIS = 1000 * 60;
+  public static final long CAT_CACHE_REFRESH_AHEAD_MILLIS = 1000 * 60 * 5;
+  /* Cached for IDs unknown to the catalogue, with the short negative timeout */
+  public static final String CAT_POLICY_NOT_FOUND = "NOT_FOUND";
   public static final String SERVER_MODE = "serverMode";
+  /* "introspect" (token introspection on the auth server) or "jwt" (local signature check) */
+  public static final String AUTH_MODE = "authMode";
+  public static final String AUTH_MODE_INTROSPECT = "introspect";
+  public static final String AUTH_MODE_JWT = "jwt";
+  public static final String JWKS = "jwks";
+  public static final String JWKS_PATH = "jwksPath";
+  public static final String DEFAULT_JWKS_PATH = "/auth/v1/jwks";
+  public static final String JWKS_REFRESH_INTERVAL = "jwksRefreshIntervalMinutes";
+  public static final String DEFAULT_JWKS_REFRESH_INTERVAL = "60";
+  /* Issuer of accepted tokens, the auth server host by default, and their audience, this RS */
+  public static final String JWT_ISSUER = "jwtIssuer";
+  public static final String JWT_AUDIENCE = "jwtAudience";
   public static final String JSON_CONSUMER = "consumer"; 
   public static final String JSON_PROVIDER = "provider"; 
   public static final String JSON_TEST_CONSUMER = "vasanth.rajaraman@datakaveri.org";
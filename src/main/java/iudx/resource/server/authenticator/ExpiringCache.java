@@ -0,0 +1,346 @@
+package iudx.resource.server.authenticator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+/**
+ * The Expiring Cache.
+ * <h1>Expiring Cache</h1>
+ * <p>
+ * A size bounded, least recently used cache whose entries expire after a fixed time to live, or
+ * earlier when the value carries its own expiry (e.g. the expiry of an introspected token). Expiry
+ * is kept as a primitive epoch millisecond per entry, so a hit is a map lookup and a comparison.
+ * Loads through {@link #getOrLoad(String, Function)} are single-flight: concurrent misses for the
+ * same key share one loader call. With a refresh-ahead window, a hit close to expiry still returns
+ * the cached value and reloads it in the background, so hot keys never miss. A removal listener, if
+ * given, is told of every value that leaves the cache, whether evicted, expired, replaced or
+ * invalidated.
+ * </p>
+ *
+ * @param <V> type of the cached values
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public class ExpiringCache<V> {
+
+  private final int maxSize;
+  private final long ttlMillis;
+  private final ToLongFunction<V> valueExpiry;
+  private final long refreshAheadMillis;
+  private final Consumer<V> removalListener;
+  private final Map<String, Entry<V>> entries;
+  private final ConcurrentHashMap<String, Future<V>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a cache whose entries live for ttlMillis.
+   *
+   * @param maxSize maximum number of entries, least recently used entries are evicted first
+   * @param ttlMillis time to live of an entry in milliseconds
+   */
+  public ExpiringCache(int maxSize, long ttlMillis) {
+    this(maxSize, ttlMillis, value -> Long.MAX_VALUE);
+  }
+
+  /**
+   * Creates a cache whose entries live for ttlMillis or until the expiry of their value.
+   *
+   * @param maxSize maximum number of entries, least recently used entries are evicted first
+   * @param ttlMillis time to live of an entry in milliseconds
+   * @param valueExpiry epoch millisecond after which a value is no longer valid
+   */
+  public ExpiringCache(int maxSize, long ttlMillis, ToLongFunction<V> valueExpiry) {
+    this(maxSize, ttlMillis, valueExpiry, 0);
+  }
+
+  /**
+   * Creates a cache whose entries live for ttlMillis or until the expiry of their value, and are
+   * reloaded in the background when hit within refreshAheadMillis of their expiry.
+   *
+   * @param maxSize maximum number of entries, least recently used entries are evicted first
+   * @param ttlMillis time to live of an entry in milliseconds
+   * @param valueExpiry epoch millisecond after which a value is no longer valid
+   * @param refreshAheadMillis window before expiry in which a hit triggers a background reload
+   */
+  public ExpiringCache(int maxSize, long ttlMillis, ToLongFunction<V> valueExpiry,
+      long refreshAheadMillis) {
+    this(maxSize, ttlMillis, valueExpiry, refreshAheadMillis, value -> {});
+  }
+
+  /**
+   * Creates a cache whose entries live for ttlMillis or until the expiry of their value, and
+   * which tells a listener of every value removed from it. The listener is called while the
+   * cache is locked, so it must not call back into the cache.
+   *
+   * @param maxSize maximum number of entries, least recently used entries are evicted first
+   * @param ttlMillis time to live of an entry in milliseconds
+   * @param valueExpiry epoch millisecond after which a value is no longer valid
+   * @param refreshAheadMillis window before expiry in which a hit triggers a background reload
+   * @param removalListener called with each value removed from the cache
+   */
+  public ExpiringCache(int maxSize, long ttlMillis, ToLongFunction<V> valueExpiry,
+      long refreshAheadMillis, Consumer<V> removalListener) {
+    this.maxSize = maxSize;
+    this.ttlMillis = ttlMillis;
+    this.valueExpiry = valueExpiry;
+    this.refreshAheadMillis = refreshAheadMillis;
+    this.removalListener = removalListener;
+    this.entries = new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+        if (size() <= ExpiringCache.this.maxSize) {
+          return false;
+        }
+        removalListener.accept(eldest.getValue().value);
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached value of key, or null when it is absent or expired.
+   *
+   * @param key cache key
+   * @return cached value or null
+   */
+  public V get(String key) {
+    Entry<V> entry = getEntry(key, System.currentTimeMillis());
+    return entry != null ? entry.value : null;
+  }
+
+  private Entry<V> getEntry(String key, long now) {
+    synchronized (entries) {
+      Entry<V> entry = entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (now >= entry.expiresAt) {
+        entries.remove(key);
+        removalListener.accept(entry.value);
+        return null;
+      }
+      return entry;
+    }
+  }
+
+  /**
+   * Caches value for the time to live of the cache, capped by the expiry of the value.
+   *
+   * @param key cache key
+   * @param value value to cache
+   */
+  public void put(String key, V value) {
+    long now = System.currentTimeMillis();
+    long expiresAt = Math.min(now + ttlMillis, valueExpiry.applyAsLong(value));
+    /* Short lived entries, e.g. negative entries, are not refreshed ahead */
+    long refreshAt = refreshAheadMillis > 0 && expiresAt - now > refreshAheadMillis
+        ? expiresAt - refreshAheadMillis
+        : Long.MAX_VALUE;
+    synchronized (entries) {
+      Entry<V> replaced = entries.put(key, new Entry<V>(value, expiresAt, refreshAt));
+      if (replaced != null) {
+        removalListener.accept(replaced.value);
+      }
+    }
+  }
+
+  /**
+   * Removes key from the cache.
+   *
+   * @param key cache key
+   */
+  public void invalidate(String key) {
+    synchronized (entries) {
+      Entry<V> removed = entries.remove(key);
+      if (removed != null) {
+        removalListener.accept(removed.value);
+      }
+    }
+  }
+
+  /**
+   * Returns the cached value of key, loading it on a miss. Only one load per key is in flight at
+   * a time; concurrent callers get the same future. Failed loads are not cached.
+   *
+   * @param key cache key
+   * @param loader loads the value of a key
+   * @return Future of the cached or loaded value
+   */
+  public Future<V> getOrLoad(String key, Function<String, Future<V>> loader) {
+    long now = System.currentTimeMillis();
+    Entry<V> entry = getEntry(key, now);
+    if (entry == null) {
+      return load(key, loader);
+    }
+    if (now >= entry.refreshAt) {
+      /* Stale soon, serve the cached value and refresh it in the background */
+      load(key, loader);
+    }
+    return Future.succeededFuture(entry.value);
+  }
+
+  /**
+   * Loads key and caches the result, sharing an already running load of the same key.
+   *
+   * @param key cache key
+   * @param loader loads the value of a key
+   * @return Future of the loaded value
+   */
+  public Future<V> load(String key, Function<String, Future<V>> loader) {
+    Promise<V> promise = Promise.promise();
+    Future<V> pending = inFlight.putIfAbsent(key, promise.future());
+    if (pending != null) {
+      return pending;
+    }
+    Future<V> loaded;
+    try {
+      loaded = loader.apply(key);
+    } catch (RuntimeException e) {
+      loaded = Future.failedFuture(e);
+    }
+    loaded.onComplete(loadHandler -> {
+      if (loadHandler.succeeded() && loadHandler.result() != null) {
+        put(key, loadHandler.result());
+      }
+      inFlight.remove(key, promise.future());
+      promise.handle(loadHandler);
+    });
+    return promise.future();
+  }
+
+  /**
+   * Returns the cached values of keys, loading every miss (and every hit due for refresh-ahead)
+   * with a single call to the batch loader. Keys already being loaded share that load.
+   *
+   * @param keys cache keys
+   * @param loader loads the values of a list of keys, keys missing from its result fail
+   * @return Futures of the cached or loaded values, in the order of keys
+   */
+  public List<Future<V>> getOrLoadAll(List<String> keys,
+      Function<List<String>, Future<Map<String, V>>> loader) {
+    long now = System.currentTimeMillis();
+    List<Future<V>> results = new ArrayList<>(keys.size());
+    Map<String, Promise<V>> batch = new LinkedHashMap<>();
+    for (String key : keys) {
+      Entry<V> entry = getEntry(key, now);
+      if (entry != null) {
+        results.add(Future.succeededFuture(entry.value));
+        if (now >= entry.refreshAt && !batch.containsKey(key)) {
+          /* Stale soon, serve the cached value and refresh it with the batch */
+          Promise<V> promise = Promise.promise();
+          if (inFlight.putIfAbsent(key, promise.future()) == null) {
+            batch.put(key, promise);
+          }
+        }
+        continue;
+      }
+      Promise<V> batched = batch.get(key);
+      if (batched != null) {
+        results.add(batched.future());
+        continue;
+      }
+      Promise<V> promise = Promise.promise();
+      Future<V> pending = inFlight.putIfAbsent(key, promise.future());
+      if (pending != null) {
+        results.add(pending);
+        continue;
+      }
+      batch.put(key, promise);
+      results.add(promise.future());
+    }
+    if (batch.isEmpty()) {
+      return results;
+    }
+
+    Future<Map<String, V>> loaded;
+    try {
+      loaded = loader.apply(new ArrayList<>(batch.keySet()));
+    } catch (RuntimeException e) {
+      loaded = Future.failedFuture(e);
+    }
+    loaded.onComplete(loadHandler -> batch.forEach((key, promise) -> {
+      V value = loadHandler.succeeded() ? loadHandler.result().get(key) : null;
+      if (value != null) {
+        put(key, value);
+      }
+      inFlight.remove(key, promise.future());
+      if (value != null) {
+        promise.complete(value);
+      } else if (loadHandler.failed()) {
+        promise.fail(loadHandler.cause());
+      } else {
+        promise.fail("No value loaded for " + key);
+      }
+    }));
+    return results;
+  }
+
+  /**
+   * Removes every expired entry.
+   */
+  public void removeExpired() {
+    long now = System.currentTimeMillis();
+    synchronized (entries) {
+      Iterator<Entry<V>> iterator = entries.values().iterator();
+      while (iterator.hasNext()) {
+        Entry<V> entry = iterator.next();
+        if (now >= entry.expiresAt) {
+          iterator.remove();
+          removalListener.accept(entry.value);
+        }
+      }
+    }
+  }
+
+  /**
+   * Removes the least recently used entry.
+   *
+   * @return false if the cache is empty
+   */
+  public boolean removeEldest() {
+    synchronized (entries) {
+      Iterator<Entry<V>> iterator = entries.values().iterator();
+      if (!iterator.hasNext()) {
+        return false;
+      }
+      Entry<V> eldest = iterator.next();
+      iterator.remove();
+      removalListener.accept(eldest.value);
+      return true;
+    }
+  }
+
+  /**
+   * Returns the number of cached entries, including expired entries not yet removed.
+   *
+   * @return number of entries
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private static final class Entry<V> {
+    private final V value;
+    private final long expiresAt;
+    private final long refreshAt;
+
+    private Entry(V value, long expiresAt, long refreshAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+      this.refreshAt = refreshAt;
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package iudx.resource.server.authenticator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The Token Grants.
+ * <h1>Token Grants</h1>
+ * <p>
+ * The resource and API grants of a token introspection response, compiled once when the response
+ * is cached. Literal resource IDs are kept in a hash map and wildcard IDs (e.g.
+ * "provider/rs.iudx.io/group/*") in a prefix trie over their literal prefix, so matching a
+ * requested ID walks the ID once and allocates nothing. The allowed APIs of each grant are kept
+ * in a hash set.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public class TokenGrants {
+
+  private static final String WILDCARD = "*";
+  private static final String ALL_APIS = "/*";
+
+  private final JsonObject tipResponse;
+  private final Map<String, Grant> literalIDs = new HashMap<>();
+  private final TrieNode wildcardIDs = new TrieNode();
+
+  /**
+   * Compiles the grants of a token introspection response.
+   *
+   * @param tipResponse which is a token introspection response
+   */
+  public TokenGrants(JsonObject tipResponse) {
+    this.tipResponse = tipResponse;
+    JsonArray requests = tipResponse.getJsonArray("request", new JsonArray());
+    for (int i = 0; i < requests.size(); i++) {
+      JsonObject request = requests.getJsonObject(i);
+      String id = request.getString("id");
+      if (id == null) {
+        continue;
+      }
+      Grant grant = new Grant(i, request);
+      if (id.contains(WILDCARD)) {
+        wildcardIDs.insert(grant);
+      } else {
+        literalIDs.putIfAbsent(id, grant);
+      }
+    }
+  }
+
+  /**
+   * Returns the token introspection response the grants were compiled from.
+   *
+   * @return token introspection response, not to be modified
+   */
+  public JsonObject getTipResponse() {
+    return tipResponse;
+  }
+
+  /**
+   * Returns the first grant, in the order of the introspection response, whose ID is the
+   * requested ID or a wildcard ID matching it.
+   *
+   * @param resourceID which is a requested resource ID
+   * @return the matching grant, or null if the token has no grant for the ID
+   */
+  public Grant match(String resourceID) {
+    Grant best = literalIDs.get(resourceID);
+    TrieNode node = wildcardIDs;
+    int depth = 0;
+    while (node != null) {
+      for (int i = 0; i < node.grants.size(); i++) {
+        Grant grant = node.grants.get(i);
+        if ((best == null || grant.index < best.index) && grant.matches(resourceID)) {
+          best = grant;
+        }
+      }
+      if (depth == resourceID.length()) {
+        break;
+      }
+      node = node.child(resourceID.charAt(depth++));
+    }
+    return best;
+  }
+
+  /**
+   * A single resource grant of a token.
+   */
+  public static final class Grant {
+    private final int index;
+    private final JsonObject request;
+    private final Set<String> apis = new HashSet<>();
+    /* ID split at its wildcards, the first segment is a prefix and the last a suffix */
+    private final String[] segments;
+
+    private Grant(int index, JsonObject request) {
+      this.index = index;
+      this.request = request;
+      this.segments = request.getString("id").split("\\*", -1);
+      JsonArray allowedAPIs = request.getJsonArray("apis", new JsonArray());
+      for (int i = 0; i < allowedAPIs.size(); i++) {
+        apis.add(allowedAPIs.getString(i));
+      }
+    }
+
+    /**
+     * Returns the grant as listed in the introspection response.
+     *
+     * @return request object of the grant, not to be modified
+     */
+    public JsonObject getRequest() {
+      return request;
+    }
+
+    /**
+     * Returns true if the grant allows the API, either by name or by "/*".
+     *
+     * @param endpoint which is a requested API endpoint
+     * @return true if the API is allowed
+     */
+    public boolean allowsApi(String endpoint) {
+      return apis.contains(ALL_APIS) || apis.contains(endpoint);
+    }
+
+    private boolean matches(String resourceID) {
+      if (!resourceID.startsWith(segments[0])) {
+        return false;
+      }
+      int position = segments[0].length();
+      int last = segments.length - 1;
+      for (int i = 1; i < last; i++) {
+        int found = resourceID.indexOf(segments[i], position);
+        if (found < 0) {
+          return false;
+        }
+        position = found + segments[i].length();
+      }
+      return resourceID.length() - segments[last].length() >= position
+          && resourceID.endsWith(segments[last]);
+    }
+  }
+
+  /* Prefix trie node, children are kept in parallel arrays sorted by character */
+  private static final class TrieNode {
+    private final List<Grant> grants = new ArrayList<>(1);
+    private char[] keys = new char[0];
+    private TrieNode[] children = new TrieNode[0];
+
+    private TrieNode child(char key) {
+      int low = 0;
+      int high = keys.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (keys[mid] < key) {
+          low = mid + 1;
+        } else if (keys[mid] > key) {
+          high = mid - 1;
+        } else {
+          return children[mid];
+        }
+      }
+      return null;
+    }
+
+    private void insert(Grant grant) {
+      String prefix = grant.segments[0];
+      TrieNode node = this;
+      for (int i = 0; i < prefix.length(); i++) {
+        char key = prefix.charAt(i);
+        TrieNode next = node.child(key);
+        if (next == null) {
+          next = node.addChild(key);
+        }
+        node = next;
+      }
+      node.grants.add(grant);
+    }
+
+    private TrieNode addChild(char key) {
+      int position = 0;
+      while (position < keys.length && keys[position] < key) {
+        position++;
+      }
+      char[] newKeys = new char[keys.length + 1];
+      TrieNode[] newChildren = new TrieNode[children.length + 1];
+      System.arraycopy(keys, 0, newKeys, 0, position);
+      System.arraycopy(children, 0, newChildren, 0, position);
+      System.arraycopy(keys, position, newKeys, position + 1, keys.length - position);
+      System.arraycopy(children, position, newChildren, position + 1,
+          children.length - position);
+      TrieNode node = new TrieNode();
+      newKeys[position] = key;
+      newChildren[position] = node;
+      keys = newKeys;
+      children = newChildren;
+      return node;
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package iudx.resource.server.authenticator;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.http.HttpStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.jwt.JWTAuth;
+import io.vertx.ext.auth.jwt.JWTAuthOptions;
+import io.vertx.ext.jwt.JWTOptions;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.predicate.ResponsePredicate;
+
+/**
+ * The Token Verifier.
+ * <h1>Token Verifier</h1>
+ * <p>
+ * Verifies signed (JWT) tokens locally against the public keys of the auth server, so that an
+ * authenticated request does not need a token introspection round trip. Keys are read from the
+ * "jwks" config entry when present (e.g. a local key in tests), otherwise fetched from the JWKS
+ * endpoint of the auth server and refreshed periodically to pick up key rotation. A token must be
+ * issued by the configured issuer, the auth server by default, for the configured audience, this
+ * resource server, so a token meant for another server is not accepted here. The claims of a
+ * verified token (consumer, request[].id, request[].apis) have the shape of a token introspection
+ * response and are evaluated by the same access checks.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public class TokenVerifier {
+
+  private static final Logger LOGGER = LogManager.getLogger(TokenVerifier.class);
+  private final Vertx vertx;
+  private final WebClient webClient;
+  private final JsonObject config;
+  private final JWTOptions jwtOptions;
+  private volatile JWTAuth jwtAuth;
+
+  /**
+   * This is a constructor which is used by the Authentication Service.
+   *
+   * @param vertx which is a vertx instance
+   * @param client which is a Vertx Web client for the auth server
+   * @param config which is the authenticator configuration
+   */
+  public TokenVerifier(Vertx vertx, WebClient client, JsonObject config) {
+    this.vertx = vertx;
+    this.webClient = client;
+    this.config = config;
+    this.jwtOptions = new JWTOptions().setIssuer(
+        config.getString(Constants.JWT_ISSUER, config.getString(Constants.AUTH_SERVER_HOST)));
+    if (config.getString(Constants.JWT_AUDIENCE) != null) {
+      jwtOptions.addAudience(config.getString(Constants.JWT_AUDIENCE));
+    }
+  }
+
+  /**
+   * Loads the signing keys and schedules their refresh.
+   *
+   * @return Future which completes once the first set of keys is loaded
+   */
+  public Future<Void> start() {
+    if (jwtOptions.getAudience() == null || jwtOptions.getAudience().isEmpty()) {
+      LOGGER.error("Error: {} is not configured, no token can be verified",
+          Constants.JWT_AUDIENCE);
+      return Future.failedFuture(Constants.JWT_AUDIENCE + " is not configured");
+    }
+    if (config.containsKey(Constants.JWKS)) {
+      return updateKeys(config.getValue(Constants.JWKS));
+    }
+    long refreshInterval = 1000 * 60 * Long.parseLong(
+        config.getString(Constants.JWKS_REFRESH_INTERVAL, Constants.DEFAULT_JWKS_REFRESH_INTERVAL));
+    vertx.setPeriodic(refreshInterval, timerID -> fetchKeys());
+    return fetchKeys();
+  }
+
+  /**
+   * Verifies the signature, expiry, issuer and audience of a token.
+   *
+   * @param token which is a signed token
+   * @return A future of the token claims, with "expiry" set as in an introspection response
+   */
+  public Future<JsonObject> verify(String token) {
+    Promise<JsonObject> promise = Promise.promise();
+    JWTAuth auth = jwtAuth;
+    if (auth == null) {
+      promise.fail("Token verification keys not loaded");
+      return promise.future();
+    }
+    auth.authenticate(new JsonObject().put("jwt", token), authHandler -> {
+      if (authHandler.failed()) {
+        LOGGER.debug("Info: Token verification failed {}", authHandler.cause().getMessage());
+        promise.fail(new Throwable("Invalid token"));
+        return;
+      }
+      JsonObject claims = authHandler.result().principal().copy();
+      if (!claims.containsKey("expiry") && claims.getLong("exp") != null) {
+        claims.put("expiry", Instant.ofEpochSecond(claims.getLong("exp")).toString());
+      }
+      promise.complete(claims);
+    });
+    return promise.future();
+  }
+
+  /**
+   * Returns true if the token has the header.payload.signature shape of a JWT.
+   *
+   * @param token which is a token
+   * @return true if the token looks like a JWT
+   */
+  public static boolean isSignedToken(String token) {
+    int first = token.indexOf('.');
+    return first > 0 && token.indexOf('.', first + 1) > first + 1;
+  }
+
+  private Future<Void> fetchKeys() {
+    Promise<Void> promise = Promise.promise();
+    String path = config.getString(Constants.JWKS_PATH, Constants.DEFAULT_JWKS_PATH);
+    webClient.get(443, config.getString(Constants.AUTH_SERVER_HOST), path)
+        .expect(ResponsePredicate.JSON).send(httpResponseAsyncResult -> {
+          if (httpResponseAsyncResult.failed()) {
+            LOGGER.error("Error: JWKS fetch failed {}", httpResponseAsyncResult.cause());
+            promise.fail(httpResponseAsyncResult.cause());
+            return;
+          }
+          HttpResponse<Buffer> response = httpResponseAsyncResult.result();
+          if (response.statusCode() != HttpStatus.SC_OK) {
+            LOGGER.error("Error: JWKS fetch failed with status {}", response.statusCode());
+            promise.fail("JWKS fetch failed");
+            return;
+          }
+          updateKeys(response.bodyAsJsonObject()).onComplete(promise);
+        });
+    return promise.future();
+  }
+
+  /* Swaps in a verifier for a JWKS ({"keys": [...]}) or a plain array of JWKs */
+  private Future<Void> updateKeys(Object jwks) {
+    JsonArray keys = jwks instanceof JsonObject ? ((JsonObject) jwks).getJsonArray("keys")
+        : (JsonArray) jwks;
+    if (keys == null || keys.isEmpty()) {
+      LOGGER.error("Error: JWKS has no keys, keeping the current keys");
+      return Future.failedFuture("JWKS has no keys");
+    }
+    List<JsonObject> jwkList = new ArrayList<>();
+    for (Object key : keys) {
+      jwkList.add((JsonObject) key);
+    }
+    try {
+      jwtAuth = JWTAuth.create(vertx,
+          new JWTAuthOptions().setJwks(jwkList).setJWTOptions(jwtOptions));
+      LOGGER.info("Info: Loaded {} token verification keys", jwkList.size());
+      return Future.succeededFuture();
+    } catch (RuntimeException e) {
+      LOGGER.error("Error: Invalid JWKS, keeping the current keys {}", e.getMessage());
+      return Future.failedFuture(e);
+    }
+  }
+}
@@ -1,9 +1,17 @@
 package iudx.resource.server.callback;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.http.HttpStatus;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -12,18 +20,23 @@ import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.Lock;
 import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
+import io.vertx.micrometer.backends.BackendRegistries;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgPool;
+import io.vertx.pgclient.pubsub.PgSubscriber;
 import io.vertx.rabbitmq.QueueOptions;
 import io.vertx.rabbitmq.RabbitMQClient;
 import io.vertx.rabbitmq.RabbitMQConsumer;
+import io.vertx.rabbitmq.RabbitMQMessage;
 import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
 
 /**
  * <h1>Callback Service Service Implementation.</h1>
@@ -38,6 +51,8 @@ import io.vertx.sqlclient.SqlConnection;
 public class CallbackServiceImpl implements CallbackService {
 
   private static final Logger LOGGER = LogManager.getLogger(CallbackServiceImpl.class);
+  /* Numbers the instances of a node, their consumer meters are tagged with it */
+  private static final AtomicInteger instanceCounter = new AtomicInteger();
   private RabbitMQClient client;
   private WebClient webClient;
   private Vertx vertx;
@@ -50,9 +65,36 @@ public class CallbackServiceImpl implements CallbackService {
   private PgPool pgClient;
   private PoolOptions poolOptions;
   private PgConnectOptions connectOptions;
+  private PgSubscriber pgSubscriber;
+  private String cacheRefreshMode = Constants.CACHE_REFRESH_QUEUE;
+
+  /* callback.data consumer flow control */
+  private String backpressureMode = Constants.BACKPRESSURE_PAUSE;
+  private int prefetchCount = Constants.DEFAULT_PREFETCH_COUNT;
+  private int maxInFlight = Constants.DEFAULT_PREFETCH_COUNT;
+  private int maxInternalQueueSize = Constants.DEFAULT_MAX_INTERNAL_QUEUE_SIZE;
+  private volatile boolean consumerPaused = false;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong deliveredCounter = new AtomicLong();
+  private final AtomicLong droppedCounter = new AtomicLong();
+  private final AtomicLong requeuedCounter = new AtomicLong();
+  private MeterRegistry meterRegistry;
+  private final List<Meter> meters = new ArrayList<>();
+  private final String instanceId = String.valueOf(instanceCounter.getAndIncrement());
+
+  /* Partitioned callback.data consumers, cache holds only the entities routed here */
+  private String partitionExchange;
+  private int partitionCount = 1;
+  private int partitionId = -1;
+  private Lock partitionLock;
+  private boolean closed = false;
+  /* routingKey to its last pending delivery, keeps deliveries of an entity in order */
+  private final HashMap<String, Future<Void>> deliveryChains = new HashMap<String, Future<Void>>();
 
   /* Cache */
   private HashMap<String, JsonObject> pgCache;
+  /* subscriptionID to its cached callback object and entities, for row level deltas */
+  private HashMap<String, JsonObject> subscriptionCache;
 
   /**
    * This is a constructor which is used by the Callback Verticle to instantiate a RabbitMQ client.
@@ -67,14 +109,8 @@ public class CallbackServiceImpl implements CallbackService {
 
     LOGGER.info("Got the RabbitMQ Client instance");
     client = clientInstance;
-
-    JsonObject reqNotification = new JsonObject();
-    reqNotification.put(Constants.QUEUE_NAME, "callback.notification");
-    connectToCallbackNotificationQueue(reqNotification);
-
-    JsonObject reqData = new JsonObject();
-    reqData.put(Constants.QUEUE_NAME, "callback.data");
-    connectToCallbackDataQueue(reqData);
+    webClient = webClientInstance;
+    vertx = vertxInstance;
 
     if (propObj != null && !propObj.isEmpty()) {
       databaseIP = propObj.getString("callbackDatabaseIP");
@@ -83,10 +119,53 @@ public class CallbackServiceImpl implements CallbackService {
       databaseUserName = propObj.getString("callbackDatabaseUserName");
       databasePassword = propObj.getString("callbackDatabasePassword");
       databasePoolSize = propObj.getInteger("callbackpoolSize");
+      cacheRefreshMode =
+          propObj.getString(Constants.CACHE_REFRESH_MODE, Constants.CACHE_REFRESH_QUEUE);
+      backpressureMode =
+          propObj.getString(Constants.BACKPRESSURE_MODE, Constants.BACKPRESSURE_PAUSE);
+      prefetchCount =
+          propObj.getInteger(Constants.PREFETCH_COUNT, Constants.DEFAULT_PREFETCH_COUNT);
+      maxInFlight = propObj.getInteger(Constants.MAX_IN_FLIGHT, prefetchCount);
+      maxInternalQueueSize = propObj.getInteger(Constants.MAX_INTERNAL_QUEUE_SIZE,
+          Constants.DEFAULT_MAX_INTERNAL_QUEUE_SIZE);
+      partitionExchange = propObj.getString(Constants.PARTITION_EXCHANGE);
+      partitionCount = propObj.getInteger(Constants.PARTITION_COUNT, 1);
+      partitionId = propObj.getInteger(Constants.PARTITION_ID, -1);
     }
+    registerMetrics();
 
-    webClient = webClientInstance;
-    vertx = vertxInstance;
+    if (isPartitioned()
+        && !Constants.CACHE_REFRESH_PG_NOTIFY.equalsIgnoreCase(cacheRefreshMode)) {
+      /* a partition caches only its own entities, which only row level deltas keep current */
+      LOGGER.warn(Constants.PARTITION_REFRESH_MODE + Constants.COLON + "{}", cacheRefreshMode);
+      cacheRefreshMode = Constants.CACHE_REFRESH_PG_NOTIFY;
+    }
+
+    if (Constants.CACHE_REFRESH_PG_NOTIFY.equalsIgnoreCase(cacheRefreshMode)) {
+      /* Row level deltas from Postgres LISTEN/NOTIFY, no notification queue needed */
+      listenToCallbackTableChanges();
+    } else {
+      JsonObject reqNotification = new JsonObject();
+      reqNotification.put(Constants.QUEUE_NAME, "callback.notification");
+      connectToCallbackNotificationQueue(reqNotification);
+    }
+
+    if (isPartitioned()) {
+      joinCallbackDataPartition().onComplete(partitionHandler -> {
+        if (partitionHandler.succeeded()) {
+          JsonObject reqData = new JsonObject();
+          reqData.put(Constants.QUEUE_NAME, partitionHandler.result());
+          connectToCallbackDataQueue(reqData);
+        } else {
+          LOGGER.error(Constants.PARTITION_JOIN_FAIL + Constants.COLON + "{}",
+              partitionHandler.cause());
+        }
+      });
+    } else {
+      JsonObject reqData = new JsonObject();
+      reqData.put(Constants.QUEUE_NAME, "callback.data");
+      connectToCallbackDataQueue(reqData);
+    }
   }
 
   @Override
@@ -99,8 +178,8 @@ public class CallbackServiceImpl implements CallbackService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("connectToCallbackNotificationQueue resultHandler failed : "
-              + resultHandler.cause().getMessage().toString());
+          LOGGER.error("connectToCallbackNotificationQueue resultHandler failed : {}",
+              resultHandler.cause().getMessage());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage().toString()));
         }
       });
@@ -143,7 +222,7 @@ public class CallbackServiceImpl implements CallbackService {
               mqConsumer.handler(message -> {
                 /* Message from Queue */
                 Buffer body = message.body();
-                LOGGER.info(Constants.MESSAGE + Constants.COLON + message.body());
+                LOGGER.info(Constants.MESSAGE + Constants.COLON + "{}", message.body());
                 if (body != null) {
                   JsonObject currentBodyJsonObj = null;
                   String operation = null;
@@ -151,7 +230,7 @@ public class CallbackServiceImpl implements CallbackService {
                     /* Convert message body to JsonObject */
                     currentBodyJsonObj = new JsonObject(body.toString());
                   } catch (Exception e) {
-                    LOGGER.info(Constants.JSON_PARSE_EXCEPTION + e.getCause());
+                    LOGGER.info(Constants.JSON_PARSE_EXCEPTION + "{}", e.getCause());
                     finalResponse.put(Constants.MESSAGE, Constants.JSON_PARSE_EXCEPTION);
                     promise.fail(finalResponse.toString());
                   }
@@ -172,12 +251,13 @@ public class CallbackServiceImpl implements CallbackService {
                       Future<JsonObject> result = queryCallBackDataBase(requestObj);
                       result.onComplete(resultHandler -> {
                         if (resultHandler.succeeded()) {
-                          LOGGER.info(Constants.DATABASE_QUERY_RESULT + resultHandler.result());
+                          LOGGER.info(Constants.DATABASE_QUERY_RESULT + "{}",
+                              resultHandler.result());
                           finalResponse.put(Constants.DATABASE_QUERY_RESULT,
                               Constants.CACHE_UPDATE_SUCCESS);
                         } else {
-                          LOGGER.error(Constants.DATABASE_QUERY_RESULT + Constants.COLON
-                              + resultHandler.cause());
+                          LOGGER.error(Constants.DATABASE_QUERY_RESULT + Constants.COLON + "{}",
+                              resultHandler.cause());
                           finalResponse.put(Constants.DATABASE_QUERY_RESULT,
                               Constants.DATABASE_QUERY_FAIL);
                           promise.fail(finalResponse.toString());
@@ -200,15 +280,16 @@ public class CallbackServiceImpl implements CallbackService {
                   Constants.CONNECT_TO_CALLBACK_NOTIFICATION_QUEUE);
               promise.complete(finalResponse);
             } else {
-              LOGGER.error(Constants.CONSUME_QUEUE_MESSAGE_FAIL + Constants.COLON + queueName);
-              LOGGER.error(Constants.ERROR + rabbitMQConsumerAsyncResult.cause());
+              LOGGER.error(Constants.CONSUME_QUEUE_MESSAGE_FAIL + Constants.COLON + "{}",
+                  queueName);
+              LOGGER.error(Constants.ERROR + "{}", rabbitMQConsumerAsyncResult.cause());
               finalResponse.put(Constants.ERROR,
                   Constants.CONSUME_QUEUE_MESSAGE_FAIL + Constants.COLON + queueName);
               promise.fail(finalResponse.toString());
             }
           });
         } else {
-          LOGGER.error(Constants.QUEUE_CONNECTION_FAIL + Constants.COLON + queueName);
+          LOGGER.error(Constants.QUEUE_CONNECTION_FAIL + Constants.COLON + "{}", queueName);
           finalResponse.put(Constants.ERROR,
               Constants.QUEUE_CONNECTION_FAIL + Constants.COLON + queueName);
           promise.fail(finalResponse.toString());
@@ -228,8 +309,8 @@ public class CallbackServiceImpl implements CallbackService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("connectToCallbackDataQueue resultHandler failed : "
-              + resultHandler.cause().getMessage().toString());
+          LOGGER.error("connectToCallbackDataQueue resultHandler failed : {}",
+              resultHandler.cause().getMessage());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage().toString()));
         }
       });
@@ -242,10 +323,11 @@ public class CallbackServiceImpl implements CallbackService {
    * <p>
    * <h1>This method execute tasks</h1>
    * <li>Connect to RabbitMQ callback.data Queue (callback.data)</li>
+   * <li>In pause mode, set the basicQos prefetch and disable autoAck</li>
    * <li>Create RabbitMQConsumer for consuming queue messages</li>
-   * <li>Get the routing key of message</li>
-   * <li>Get callbackUrl JsonObject from cache using routingKey</li>
-   * <li>Send message data to callbackUrl</li>
+   * <li>Hand every message to handleCallbackDataMessage, pausing the consumer while maxInFlight
+   * deliveries are outstanding; in drop mode, a message received while maxInFlight deliveries
+   * are outstanding is dropped and counted instead</li>
    * </p>
    *
    * @param request which is a JSON object
@@ -259,103 +341,416 @@ public class CallbackServiceImpl implements CallbackService {
 
     if (request != null && !request.isEmpty()) {
       /* Set Queue Options */
-      QueueOptions options =
-          new QueueOptions().setMaxInternalQueueSize(1000).setKeepMostRecent(true);
+      boolean manualAck = isBackpressurePause();
+      QueueOptions options = new QueueOptions().setMaxInternalQueueSize(maxInternalQueueSize)
+          .setKeepMostRecent(!manualAck).setAutoAck(!manualAck);
       /* Get Queue Name from request */
       String queueName = request.getString(Constants.QUEUE_NAME);
 
       client.start(startHandler -> {
         if (startHandler.succeeded()) {
-          /* Create a stream of messages from a queue */
-          client.basicConsumer(queueName, options, rabbitMQConsumerAsyncResult -> {
-            if (rabbitMQConsumerAsyncResult.succeeded()) {
-              LOGGER.info(Constants.RABBITMQ_CONSUMER_CREATED);
-              RabbitMQConsumer mqConsumer = rabbitMQConsumerAsyncResult.result();
-              mqConsumer.handler(message -> {
-                /* Message from Queue */
-                Buffer body = message.body();
-                LOGGER.info(Constants.MESSAGE + Constants.COLON + message.body());
-                if (body != null) {
-                  String routingKey = null;
-                  JsonObject currentBodyJsonObj = null;
-
-                  /* Convert body message to JsonObject */
-                  try {
-                    currentBodyJsonObj = new JsonObject(body.toString());
-                  } catch (Exception e) {
-                    LOGGER.error(Constants.ERROR + Constants.COLON + e.getCause());
-                    finalResponse.put(Constants.ERROR, Constants.JSON_PARSE_EXCEPTION);
-                    promise.fail(finalResponse.toString());
+          /* Bound unacked deliveries before the consumer is created */
+          setPrefetch(manualAck).onComplete(qosHandler -> {
+            /* Create a stream of messages from a queue */
+            client.basicConsumer(queueName, options, rabbitMQConsumerAsyncResult -> {
+              if (rabbitMQConsumerAsyncResult.succeeded()) {
+                LOGGER.info(Constants.RABBITMQ_CONSUMER_CREATED);
+                RabbitMQConsumer mqConsumer = rabbitMQConsumerAsyncResult.result();
+                mqConsumer.handler(message -> {
+                  if (!manualAck && inFlight.get() >= maxInFlight) {
+                    countDroppedMessage(Constants.REASON_OVERFLOW);
+                    return;
                   }
+                  onDeliveryStarted(mqConsumer);
+                  chainDelivery(message, manualAck).onComplete(
+                      deliveryHandler -> onDeliveryCompleted(mqConsumer));
+                });
+                LOGGER.info(Constants.QUEUE_EMPTY);
+                finalResponse.put(Constants.DATABASE_QUERY_RESULT,
+                    Constants.CONNECT_TO_CALLBACK_DATA_QUEUE);
+                promise.complete(finalResponse);
+              } else {
+                LOGGER.error(Constants.ERROR + Constants.CONSUME_QUEUE_MESSAGE_FAIL
+                    + Constants.COLON + "{}", queueName);
+                finalResponse.put(Constants.ERROR,
+                    Constants.CONSUME_QUEUE_MESSAGE_FAIL + queueName);
+                promise.fail(finalResponse.toString());
+              }
+            });
+          });
+        } else {
+          LOGGER.error(Constants.QUEUE_CONNECTION_FAIL + Constants.COLON + "{}", queueName);
+          finalResponse.put(Constants.ERROR, Constants.QUEUE_CONNECTION_FAIL + queueName);
+          promise.fail(finalResponse.toString());
+        }
+      });
+    }
+    return promise.future();
+  }
+
+  /**
+   * handleCallbackDataMessage Method.
+   * <p>
+   * <h1>This method execute tasks</h1>
+   * <li>Get the routing key of message</li>
+   * <li>Get callbackUrl JsonObject from cache using routingKey</li>
+   * <li>Send message data to callbackUrl</li>
+   * <li>In manual ack mode, ack after a successful delivery; requeue a failed delivery once and
+   * reject it (dead-letter, if configured on the queue) after that</li>
+   * </p>
+   *
+   * @param message which is a RabbitMQMessage
+   * @param manualAck whether the consumer was created with autoAck disabled
+   * @return Future which completes once the message has been settled
+   */
+  Future<Void> handleCallbackDataMessage(RabbitMQMessage message, boolean manualAck) {
+    Promise<Void> promise = Promise.promise();
+
+    /* Message from Queue */
+    Buffer body = message.body();
+    LOGGER.debug(Constants.MESSAGE + Constants.COLON + "{}", body);
+    if (body == null) {
+      LOGGER.error(Constants.ERROR + Constants.COLON + Constants.MESSAGE_BODY_NULL);
+      rejectMessage(message, manualAck, Constants.REASON_PARSE, false);
+      promise.complete();
+      return promise.future();
+    }
+
+    /* Convert body message to JsonObject */
+    JsonObject currentBodyJsonObj;
+    try {
+      currentBodyJsonObj = new JsonObject(body.toString());
+    } catch (Exception e) {
+      LOGGER.error(Constants.JSON_PARSE_EXCEPTION + Constants.COLON + "{}", e.getMessage());
+      rejectMessage(message, manualAck, Constants.REASON_PARSE, false);
+      promise.complete();
+      return promise.future();
+    }
+
+    /* Get callback Object from Cache using routingKey */
+    String routingKey = message.envelope().routingKey();
+    LOGGER.debug(Constants.ROUTING_KEY + Constants.COLON + "{}", routingKey);
+    getCallbackForRoutingKey(routingKey).onComplete(lookupHandler -> {
+      if (lookupHandler.failed()) {
+        /* Cache miss could not be loaded, let the broker redeliver it once */
+        rejectMessage(message, manualAck, Constants.REASON_NO_CALLBACK,
+            !message.envelope().isRedelivery());
+        promise.complete();
+        return;
+      }
+      JsonObject callBackJsonObj = lookupHandler.result();
+      if (callBackJsonObj == null || callBackJsonObj.isEmpty()) {
+        LOGGER.error(Constants.NO_CALLBACK_URL_FOR_ROUTING_KEY + Constants.COLON + "{}",
+            routingKey);
+        rejectMessage(message, manualAck, Constants.REASON_NO_CALLBACK, false);
+        promise.complete();
+        return;
+      }
+      deliverCallbackData(message, manualAck, callBackJsonObj, currentBodyJsonObj, promise);
+    });
+    return promise.future();
+  }
+
+  /* Send the message to its callback url and settle it */
+  private void deliverCallbackData(RabbitMQMessage message, boolean manualAck,
+      JsonObject callBackJsonObj, JsonObject currentBodyJsonObj, Promise<Void> promise) {
+    /* Creating Request Object */
+    JsonObject requestObj = new JsonObject();
+    requestObj.put(Constants.CALLBACK_JSON_OBJECT, callBackJsonObj);
+    requestObj.put(Constants.CURRENT_MESSAGE_JSON_OBJECT, currentBodyJsonObj);
+
+    /* Send data to callback Url */
+    sendDataToCallBackSubscriber(requestObj).onComplete(resultHandler -> {
+      if (resultHandler.succeeded()) {
+        LOGGER.debug(Constants.CALLBACK_URL_RESPONSE + Constants.COLON + "{}",
+            resultHandler.result());
+        deliveredCounter.incrementAndGet();
+        if (manualAck) {
+          client.basicAck(message.envelope().deliveryTag(), false, ackHandler -> {
+            if (ackHandler.failed()) {
+              LOGGER.error(Constants.MESSAGE_ACK_FAIL + Constants.COLON + "{}", ackHandler.cause());
+            }
+          });
+        }
+      } else {
+        LOGGER.error(Constants.CALLBACK_URL_RESPONSE + Constants.COLON + "{}",
+            resultHandler.cause());
+        rejectMessage(message, manualAck, Constants.REASON_DELIVERY,
+            !message.envelope().isRedelivery());
+      }
+      promise.complete();
+    });
+  }
+
+  /* Run deliveries of one routingKey one after another, other keys stay concurrent */
+  private Future<Void> chainDelivery(RabbitMQMessage message, boolean manualAck) {
+    String routingKey = message.envelope().routingKey();
+    Future<Void> previous = routingKey != null ? deliveryChains.get(routingKey) : null;
+    if (previous == null) {
+      Future<Void> current = handleCallbackDataMessage(message, manualAck);
+      trackDeliveryChain(routingKey, current);
+      return current;
+    }
+    Promise<Void> promise = Promise.promise();
+    trackDeliveryChain(routingKey, promise.future());
+    previous.onComplete(previousHandler -> handleCallbackDataMessage(message, manualAck)
+        .onComplete(currentHandler -> promise.complete()));
+    return promise.future();
+  }
 
-                  /* Get routingKey and currentMessageData from Message */
-                  routingKey = message.envelope().routingKey();
-                  currentBodyJsonObj = new JsonObject(message.body().toString());
-
-                  JsonObject callBackJsonObj = null;
-
-                  /* Get callback Object from Cache */
-                  callBackJsonObj = pgCache.get(routingKey);
-
-                  LOGGER.info(
-                      Constants.ROUTING_KEY + Constants.COLON + message.envelope().routingKey());
-                  LOGGER.info(Constants.MESSAGE + Constants.COLON + currentBodyJsonObj);
-
-                  /* Creating Request Object */
-                  if (callBackJsonObj != null && !callBackJsonObj.isEmpty()) {
-                    JsonObject requestObj = new JsonObject();
-                    requestObj.put(Constants.CALLBACK_JSON_OBJECT, callBackJsonObj);
-                    requestObj.put(Constants.CURRENT_MESSAGE_JSON_OBJECT, currentBodyJsonObj);
-
-                    /* Send data to callback Url */
-                    Future<JsonObject> result = sendDataToCallBackSubscriber(requestObj);
-                    result.onComplete(resultHandler -> {
-                      if (resultHandler.succeeded()) {
-                        LOGGER.info(Constants.CALLBACK_URL_RESPONSE + Constants.COLON
-                            + resultHandler.result());
-                        finalResponse.put(Constants.SUCCESS,
-                            Constants.DATA_SEND_TO_CALLBACK_URL_SUCCESS);
+  private void trackDeliveryChain(String routingKey, Future<Void> current) {
+    if (routingKey == null || current.isComplete()) {
+      return;
+    }
+    deliveryChains.put(routingKey, current);
+    current.onComplete(completed -> deliveryChains.remove(routingKey, current));
+  }
+
+  /**
+   * getCallbackForRoutingKey Method.
+   * <p>
+   * <h1>This method execute tasks</h1>
+   * <li>Return the cached callback object of the routingKey</li>
+   * <li>When partitioned, load a cache miss from database; an empty object is cached for
+   * entities without a callback so that they are not queried again</li>
+   * </p>
+   *
+   * @param routingKey which is the entity id of the message
+   * @return response which is a Future object of promise of JSON type
+   */
+  private Future<JsonObject> getCallbackForRoutingKey(String routingKey) {
+    Promise<JsonObject> promise = Promise.promise();
+    if (pgCache == null) {
+      createCache();
+    }
+    if (!isPartitioned() || routingKey == null || pgCache.containsKey(routingKey)) {
+      promise.complete(routingKey != null ? pgCache.get(routingKey) : null);
+      return promise.future();
+    }
+    getPgPool().preparedQuery(Constants.SELECT_CALLBACK_BY_ENTITY)
+        .execute(Tuple.of(new JsonArray().add(routingKey)), action -> {
+          if (action.succeeded()) {
+            /* Marks the entity as owned by this partition */
+            pgCache.putIfAbsent(routingKey, new JsonObject());
+            for (Row row : action.result()) {
+              updateCacheFromRow(row);
+            }
+            promise.complete(pgCache.get(routingKey));
+          } else {
+            LOGGER.error(Constants.EXECUTE_QUERY_FAIL + Constants.COLON + "{}", action.cause());
+            promise.fail(action.cause());
+          }
+        });
+    return promise.future();
+  }
+
+  private boolean isPartitioned() {
+    return partitionExchange != null && !partitionExchange.isBlank();
+  }
+
+  /**
+   * joinCallbackDataPartition Method.
+   * <p>
+   * <h1>This method execute tasks</h1>
+   * <li>Declare the consistent-hash exchange that resource group exchanges are bound to</li>
+   * <li>Take partitionId from config, or claim the first partition whose cluster wide lock is
+   * free; the lock is held until the verticle is undeployed, or its node leaves the cluster</li>
+   * <li>Declare callback.data.[partitionId] and bind it to the exchange, RabbitMQ then routes
+   * each entity (routing key) to exactly one partition queue</li>
+   * </p>
+   *
+   * @return the name of the partition queue to consume from
+   */
+  private Future<String> joinCallbackDataPartition() {
+    Promise<String> promise = Promise.promise();
+    claimPartitionId().onComplete(claimHandler -> {
+      if (claimHandler.failed()) {
+        promise.fail(claimHandler.cause());
+        return;
+      }
+      String queueName = Constants.PARTITION_QUEUE_PREFIX + claimHandler.result();
+      client.start(startHandler -> {
+        if (startHandler.failed()) {
+          promise.fail(startHandler.cause());
+          return;
+        }
+        client.exchangeDeclare(partitionExchange, Constants.CONSISTENT_HASH_EXCHANGE, true,
+            false, exchangeHandler -> {
+              if (exchangeHandler.failed()) {
+                promise.fail(exchangeHandler.cause());
+                return;
+              }
+              client.queueDeclare(queueName, true, false, false, queueHandler -> {
+                if (queueHandler.failed()) {
+                  promise.fail(queueHandler.cause());
+                  return;
+                }
+                client.queueBind(queueName, partitionExchange, Constants.PARTITION_WEIGHT,
+                    bindHandler -> {
+                      if (bindHandler.succeeded()) {
+                        LOGGER.info(Constants.PARTITION_JOINED + Constants.COLON + "{}", queueName);
+                        promise.complete(queueName);
                       } else {
-                        LOGGER.error(Constants.CALLBACK_URL_RESPONSE + resultHandler.cause());
-                        finalResponse.put(Constants.ERROR,
-                            Constants.DATA_SEND_TO_CALLBACK_URL_FAIL);
-                        promise.fail(finalResponse.toString());
+                        promise.fail(bindHandler.cause());
                       }
                     });
-                  } else {
-                    LOGGER.error(
-                        Constants.NO_CALLBACK_URL_FOR_ROUTING_KEY + Constants.COLON + routingKey);
-                    finalResponse.put(Constants.ERROR,
-                        Constants.NO_CALLBACK_URL_FOR_ROUTING_KEY + routingKey);
-                    promise.fail(finalResponse.toString());
-                  }
-                } else {
-                  LOGGER.error(Constants.ERROR + Constants.COLON + Constants.MESSAGE_BODY_NULL);
-                  finalResponse.put(Constants.ERROR, Constants.MESSAGE_BODY_NULL);
-                  promise.fail(finalResponse.toString());
-                }
               });
-              LOGGER.info(Constants.QUEUE_EMPTY);
-              finalResponse.put(Constants.DATABASE_QUERY_RESULT,
-                  Constants.CONNECT_TO_CALLBACK_DATA_QUEUE);
-              promise.complete(finalResponse);
-            } else {
-              LOGGER.error(Constants.ERROR + Constants.CONSUME_QUEUE_MESSAGE_FAIL + Constants.COLON
-                  + queueName);
-              finalResponse.put(Constants.ERROR, Constants.CONSUME_QUEUE_MESSAGE_FAIL + queueName);
-              promise.fail(finalResponse.toString());
-            }
-          });
-        } else {
-          LOGGER.error(Constants.QUEUE_CONNECTION_FAIL + Constants.COLON + queueName);
-          finalResponse.put(Constants.ERROR, Constants.QUEUE_CONNECTION_FAIL + queueName);
-          promise.fail(finalResponse.toString());
+            });
+      });
+    });
+    return promise.future();
+  }
+
+  private Future<Integer> claimPartitionId() {
+    Promise<Integer> promise = Promise.promise();
+    int partitions = Math.max(partitionCount, 1);
+    if (partitionId >= 0) {
+      promise.complete(partitionId % partitions);
+      return promise.future();
+    }
+    claimFreePartition(0, partitions, promise);
+    return promise.future();
+  }
+
+  /* Takes the lock of the first free partition from candidate on, or stands by for one */
+  private void claimFreePartition(int candidate, int partitions, Promise<Integer> promise) {
+    if (closed) {
+      promise.fail(Constants.PARTITION_JOIN_FAIL);
+      return;
+    }
+    if (candidate == partitions) {
+      LOGGER.warn(Constants.PARTITION_STANDBY);
+      vertx.setTimer(Constants.PARTITION_RETRY_MILLIS,
+          timer -> claimFreePartition(0, partitions, promise));
+      return;
+    }
+    vertx.sharedData().getLockWithTimeout(Constants.PARTITION_LOCK_PREFIX + candidate,
+        Constants.PARTITION_LOCK_TIMEOUT_MILLIS, lockHandler -> {
+          if (lockHandler.failed()) {
+            claimFreePartition(candidate + 1, partitions, promise);
+          } else if (closed) {
+            lockHandler.result().release();
+            promise.fail(Constants.PARTITION_JOIN_FAIL);
+          } else {
+            partitionLock = lockHandler.result();
+            partitionId = candidate;
+            promise.complete(candidate);
+          }
+        });
+  }
+
+  /**
+   * Releases the callback.data partition claimed by this instance, for another instance to take
+   * over, and removes the consumer meters of the instance. To be called when the verticle is
+   * undeployed.
+   */
+  public void close() {
+    closed = true;
+    for (Meter meter : meters) {
+      meterRegistry.remove(meter);
+    }
+    meters.clear();
+    if (partitionLock != null) {
+      partitionLock.release();
+      partitionLock = null;
+    }
+  }
+
+  /* Nack (requeue or reject) a message and count it */
+  private void rejectMessage(RabbitMQMessage message, boolean manualAck, String reason,
+      boolean requeue) {
+    if (requeue && manualAck) {
+      requeuedCounter.incrementAndGet();
+    } else {
+      LOGGER.warn(Constants.MESSAGE_DROPPED + Constants.COLON + "{}", reason);
+      countDroppedMessage(reason);
+    }
+    if (manualAck) {
+      client.basicNack(message.envelope().deliveryTag(), false, requeue, nackHandler -> {
+        if (nackHandler.failed()) {
+          LOGGER.error(Constants.MESSAGE_NACK_FAIL + Constants.COLON + "{}", nackHandler.cause());
         }
       });
     }
+  }
+
+  /* Set basicQos prefetch for consumers created with manual ack */
+  private Future<Void> setPrefetch(boolean manualAck) {
+    Promise<Void> promise = Promise.promise();
+    if (!manualAck || prefetchCount <= 0) {
+      promise.complete();
+      return promise.future();
+    }
+    client.basicQos(prefetchCount, qosHandler -> {
+      if (qosHandler.succeeded()) {
+        LOGGER.info(Constants.PREFETCH_SET + Constants.COLON + "{}", prefetchCount);
+      } else {
+        /* Consumer is still created, in flight limit keeps it bounded */
+        LOGGER.error(Constants.PREFETCH_FAIL + Constants.COLON + "{}", qosHandler.cause());
+      }
+      promise.complete();
+    });
     return promise.future();
   }
 
+  /* Pause the consumer once maxInFlight deliveries are outstanding */
+  private void onDeliveryStarted(RabbitMQConsumer mqConsumer) {
+    int current = inFlight.incrementAndGet();
+    if (isBackpressurePause() && current >= maxInFlight && !consumerPaused) {
+      consumerPaused = true;
+      mqConsumer.pause();
+      LOGGER.debug(Constants.CONSUMER_PAUSED + Constants.COLON + "{}", current);
+    }
+  }
+
+  /* Resume the consumer once half of maxInFlight deliveries are settled */
+  private void onDeliveryCompleted(RabbitMQConsumer mqConsumer) {
+    int current = inFlight.decrementAndGet();
+    if (consumerPaused && current <= maxInFlight / 2) {
+      consumerPaused = false;
+      mqConsumer.resume();
+      LOGGER.debug(Constants.CONSUMER_RESUMED + Constants.COLON + "{}", current);
+    }
+  }
+
+  private boolean isBackpressurePause() {
+    return Constants.BACKPRESSURE_PAUSE.equalsIgnoreCase(backpressureMode);
+  }
+
+  /*
+   * Register callback consumer gauges and counters with the vertx micrometer registry, tagged
+   * with the instance, as a meter of the same name and tags is registered only once
+   */
+  private void registerMetrics() {
+    meterRegistry = BackendRegistries.getDefaultNow();
+    if (meterRegistry == null) {
+      return;
+    }
+    meters.add(Gauge.builder(Constants.METRIC_IN_FLIGHT, inFlight, AtomicInteger::get)
+        .description("callback.data messages received and not yet settled")
+        .tag(Constants.INSTANCE, instanceId).register(meterRegistry));
+    meters.add(
+        Gauge.builder(Constants.METRIC_CONSUMER_PAUSED, this, impl -> impl.consumerPaused ? 1 : 0)
+            .description("1 when the callback.data consumer is paused for backpressure")
+            .tag(Constants.INSTANCE, instanceId).register(meterRegistry));
+    meters.add(
+        FunctionCounter.builder(Constants.METRIC_DELIVERED, deliveredCounter, AtomicLong::get)
+            .description("callback.data messages delivered to callback urls")
+            .tag(Constants.INSTANCE, instanceId).register(meterRegistry));
+    meters.add(
+        FunctionCounter.builder(Constants.METRIC_REQUEUED, requeuedCounter, AtomicLong::get)
+            .description("callback.data messages requeued after a failed delivery")
+            .tag(Constants.INSTANCE, instanceId).register(meterRegistry));
+  }
+
+  private void countDroppedMessage(String reason) {
+    droppedCounter.incrementAndGet();
+    if (meterRegistry != null) {
+      meterRegistry.counter(Constants.METRIC_DROPPED, Constants.REASON, reason,
+          Constants.INSTANCE, instanceId).increment();
+    }
+  }
+
   @Override
   public CallbackService sendDataToCallBackSubscriber(JsonObject request,
       Handler<AsyncResult<JsonObject>> handler) {
@@ -366,8 +761,8 @@ public class CallbackServiceImpl implements CallbackService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("sendDataToCallBackSubscriber resultHandler failed : "
-              + resultHandler.cause().getMessage().toString());
+          LOGGER.error("sendDataToCallBackSubscriber resultHandler failed : {}",
+              resultHandler.cause().getMessage());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage().toString()));
         }
       });
@@ -431,36 +826,36 @@ public class CallbackServiceImpl implements CallbackService {
                   if (status == HttpStatus.SC_OK) {
                     /* Callback URL 200 OK Status */
                     String responseBody = result.bodyAsString();
-                    LOGGER.info(Constants.RESPONSE_BODY + Constants.COLON + Constants.NEW_LINE
-                        + responseBody);
-                    LOGGER.info(Constants.STATUS + Constants.COLON + status);
+                    LOGGER.debug(Constants.RESPONSE_BODY + Constants.COLON + Constants.NEW_LINE
+                        + "{}", responseBody);
+                    LOGGER.debug(Constants.STATUS + Constants.COLON + "{}", status);
                     finalResponse.put(Constants.TYPE, status);
                     finalResponse.put(Constants.TITLE, Constants.SUCCESS);
                     finalResponse.put(Constants.DETAIL, Constants.CALLBACK_SUCCESS);
-                    LOGGER.info(Constants.CALLBACK_URL_RESPONSE + finalResponse);
+                    LOGGER.debug(Constants.CALLBACK_URL_RESPONSE + "{}", finalResponse);
                     promise.complete(finalResponse);
                   } else if (status == HttpStatus.SC_NOT_FOUND) {
                     /* Callback URL not found */
                     finalResponse.put(Constants.TYPE, status);
                     finalResponse.put(Constants.TITLE, Constants.FAILURE);
                     finalResponse.put(Constants.DETAIL, Constants.CALLBACK_URL_NOT_FOUND);
-                    LOGGER.info(Constants.CALLBACK_URL_RESPONSE + finalResponse);
+                    LOGGER.debug(Constants.CALLBACK_URL_RESPONSE + "{}", finalResponse);
                     promise.fail(finalResponse.toString());
                   } else {
                     /* some other issue */
                     finalResponse.put(Constants.TYPE, status);
                     finalResponse.put(Constants.TITLE, Constants.FAILURE);
                     finalResponse.put(Constants.DETAIL, result.statusMessage());
-                    LOGGER.info(Constants.CALLBACK_URL_RESPONSE + finalResponse);
+                    LOGGER.debug(Constants.CALLBACK_URL_RESPONSE + "{}", finalResponse);
                     promise.fail(finalResponse.toString());
                   }
                 } else {
-                  LOGGER.error(Constants.ERROR + handler.cause().getMessage());
+                  LOGGER.error(Constants.ERROR + "{}", handler.cause().getMessage());
                   finalResponse.put(Constants.ERROR, Constants.CALLBACK_URL_RESPONSE_NULL);
                   promise.fail(finalResponse.toString());
                 }
               } else {
-                LOGGER.error(Constants.ERROR + handler.cause().getMessage());
+                LOGGER.error(Constants.ERROR + "{}", handler.cause().getMessage());
                 finalResponse.put(Constants.ERROR, Constants.CONNECT_TO_CALLBACK_URL_FAIL);
                 promise.fail(finalResponse.toString());
               }
@@ -477,7 +872,7 @@ public class CallbackServiceImpl implements CallbackService {
           promise.fail(finalResponse.toString());
         }
       } catch (Exception e) {
-        LOGGER.error(Constants.DATA_SEND_TO_CALLBACK_URL_FAIL + e.getCause());
+        LOGGER.error(Constants.DATA_SEND_TO_CALLBACK_URL_FAIL + "{}", e.getCause());
         finalResponse.put(Constants.ERROR, Constants.DATA_SEND_TO_CALLBACK_URL_FAIL);
         promise.fail(finalResponse.toString());
       }
@@ -503,7 +898,214 @@ public class CallbackServiceImpl implements CallbackService {
 
   /* Delete Cache for callback */
   private void clearCacheData() {
-    pgCache.clear();
+    if (pgCache != null) {
+      pgCache.clear();
+    }
+    if (subscriptionCache != null) {
+      subscriptionCache.clear();
+    }
+  }
+
+  /* Update Cache with the entities of one registercallback row */
+  private void updateCacheFromRow(Row row) {
+    /* Getting subscriptionID, entities, callBackUrl, userName and password from row */
+    JsonObject callBackDataObj = new JsonObject();
+    String subscriptionID = row.getString(0);
+    String callBackUrl = row.getString(1);
+    JsonArray entities = (JsonArray) row.getValue(2);
+    String userName = row.getString(6);
+    String password = row.getString(7);
+
+    /* Creating entityData */
+    callBackDataObj.put(Constants.CALLBACK_URL, callBackUrl);
+    callBackDataObj.put(Constants.USER_NAME, userName);
+    callBackDataObj.put(Constants.PASSWORD, password);
+
+    if (pgCache == null) {
+      createCache();
+    }
+    if (subscriptionCache == null) {
+      subscriptionCache = new HashMap<String, JsonObject>();
+    }
+
+    /* Entities already loaded for this subscription, a partition loads them one by one */
+    JsonArray cachedEntities = new JsonArray();
+    JsonObject subscription = subscriptionID != null ? subscriptionCache.get(subscriptionID) : null;
+    if (subscription != null
+        && callBackDataObj.equals(subscription.getJsonObject(Constants.CALLBACK_JSON_OBJECT))) {
+      cachedEntities = subscription.getJsonArray(Constants.ENTITIES);
+    }
+
+    /* Iterating entities JsonArray for updating Cache */
+    if (entities != null) {
+      for (Object entity : entities) {
+        /* Update Cache for each entity, only entities routed here when partitioned */
+        if (entity != null && (!isPartitioned() || pgCache.containsKey(entity.toString()))) {
+          updateCache(entity.toString(), callBackDataObj);
+          if (!cachedEntities.contains(entity.toString())) {
+            cachedEntities.add(entity.toString());
+          }
+        }
+      }
+    }
+    if (subscriptionID != null) {
+      subscriptionCache.put(subscriptionID,
+          new JsonObject().put(Constants.CALLBACK_JSON_OBJECT, callBackDataObj)
+              .put(Constants.ENTITIES, cachedEntities));
+    }
+  }
+
+  /* Remove the entities of one subscription from Cache, returns the removed entities */
+  private JsonArray removeSubscriptionFromCache(String subscriptionID) {
+    if (subscriptionCache == null || pgCache == null) {
+      return new JsonArray();
+    }
+    JsonObject subscription = subscriptionCache.remove(subscriptionID);
+    if (subscription == null) {
+      return new JsonArray();
+    }
+    JsonObject callBackDataObj = subscription.getJsonObject(Constants.CALLBACK_JSON_OBJECT);
+    JsonArray entities = subscription.getJsonArray(Constants.ENTITIES);
+    /* Entities overwritten by another subscription are left untouched */
+    entities.forEach(entity -> pgCache.remove(entity.toString(), callBackDataObj));
+    return entities;
+  }
+
+  /* Single, long lived pool shared by full cache loads and row level delta queries */
+  private PgPool getPgPool() {
+    if (pgClient == null) {
+      /* Set Connection Object */
+      if (connectOptions == null) {
+        connectOptions = new PgConnectOptions().setPort(databasePort).setHost(databaseIP)
+            .setDatabase(databaseName).setUser(databaseUserName).setPassword(databasePassword);
+      }
+
+      /* Pool options */
+      if (poolOptions == null) {
+        poolOptions = new PoolOptions().setMaxSize(databasePoolSize);
+      }
+
+      /* Create the client pool */
+      pgClient = PgPool.pool(vertx, connectOptions, poolOptions);
+    }
+    return pgClient;
+  }
+
+  /**
+   * listenToCallbackTableChanges Method.
+   * <p>
+   * <h1>This method execute tasks</h1>
+   * <li>LISTEN on the callback cache channel using PgSubscriber; the registercallback trigger
+   * that notifies it is installed by scripts/db/registercallback_notify_trigger.sql</li>
+   * <li>Reload the full cache whenever the channel is (re)subscribed, since notifications sent
+   * while disconnected are lost</li>
+   * <li>Apply every notification as a row level delta to the cache</li>
+   * </p>
+   */
+  private void listenToCallbackTableChanges() {
+    /* connectOptions are set up with the pool */
+    getPgPool();
+    pgSubscriber = PgSubscriber.subscriber(vertx, connectOptions);
+    pgSubscriber.reconnectPolicy(retries -> Constants.PG_NOTIFY_RECONNECT_INTERVAL);
+    pgSubscriber.channel(Constants.CALLBACK_NOTIFY_CHANNEL).subscribeHandler(subscribed -> {
+      if (isPartitioned()) {
+        /* A partition reloads its entities lazily on the next message */
+        clearCacheData();
+        return;
+      }
+      JsonObject requestObj = new JsonObject();
+      requestObj.put(Constants.TABLE_NAME, "registercallback");
+      queryCallBackDataBase(requestObj).onComplete(resultHandler -> {
+        if (resultHandler.failed()) {
+          LOGGER.error(Constants.DATABASE_QUERY_RESULT + Constants.COLON + "{}",
+              resultHandler.cause());
+        }
+      });
+    }).handler(payload -> {
+      LOGGER.debug(Constants.MESSAGE + Constants.COLON + "{}", payload);
+      try {
+        applyCacheDelta(new JsonObject(payload));
+      } catch (Exception e) {
+        LOGGER.error(Constants.JSON_PARSE_EXCEPTION + Constants.COLON + "{}", e.getMessage());
+      }
+    });
+    pgSubscriber.connect(connectHandler -> {
+      if (connectHandler.succeeded()) {
+        LOGGER.info(Constants.CONNECT_TO_CALLBACK_NOTIFY_CHANNEL);
+      } else {
+        LOGGER.error(Constants.CONNECT_TO_CALLBACK_NOTIFY_CHANNEL_FAIL + Constants.COLON + "{}",
+            connectHandler.cause());
+      }
+    });
+  }
+
+  /**
+   * applyCacheDelta Method.
+   * <p>
+   * <h1>This method execute tasks</h1>
+   * <li>Get the database operation and subscriptionID from the notification</li>
+   * <li>delete: remove the entities of the subscription from cache</li>
+   * <li>create|update: query only the changed row and replace its entities in cache</li>
+   * </p>
+   *
+   * @param notification which is a JSON object
+   * @return response which is a Future object of promise of JSON type
+   */
+  Future<JsonObject> applyCacheDelta(JsonObject notification) {
+    JsonObject finalResponse = new JsonObject();
+    Promise<JsonObject> promise = Promise.promise();
+
+    String operation = notification.getString(Constants.OPERATION);
+    String subscriptionID = notification.getString(Constants.SUBSCRIPTION_ID);
+
+    if (operation == null || subscriptionID == null) {
+      LOGGER.info(Constants.DATABASE_OPERATION_NOT_FOUND);
+      finalResponse.put(Constants.ERROR, Constants.DATABASE_OPERATION_NOT_FOUND);
+      promise.fail(finalResponse.toString());
+      return promise.future();
+    }
+
+    if (pgCache == null) {
+      createCache();
+    }
+
+    if (operation.equals(Constants.DELETE)) {
+      removeSubscriptionFromCache(subscriptionID);
+      finalResponse.put(Constants.SUCCESS, Constants.CACHE_UPDATE_SUCCESS);
+      promise.complete(finalResponse);
+    } else if (operation.equals(Constants.CREATE) || operation.equals(Constants.UPDATE)) {
+      getPgPool().preparedQuery(Constants.SELECT_CALLBACK_BY_ID)
+          .execute(Tuple.of(subscriptionID), action -> {
+            if (action.succeeded()) {
+              JsonArray previousEntities = removeSubscriptionFromCache(subscriptionID);
+              /* Keep entities routed to this partition eligible for the updated row */
+              if (isPartitioned()) {
+                previousEntities.forEach(
+                    entity -> pgCache.putIfAbsent(entity.toString(), new JsonObject()));
+              }
+              for (Row row : action.result()) {
+                updateCacheFromRow(row);
+              }
+              /* Entities dropped from the subscription are loaded again on the next message */
+              if (isPartitioned()) {
+                previousEntities
+                    .forEach(entity -> pgCache.remove(entity.toString(), new JsonObject()));
+              }
+              LOGGER.debug(Constants.CACHE_DATA + Constants.COLON + "{}", pgCache);
+              finalResponse.put(Constants.SUCCESS, Constants.CACHE_UPDATE_SUCCESS);
+              promise.complete(finalResponse);
+            } else {
+              LOGGER.error(Constants.EXECUTE_QUERY_FAIL + Constants.COLON + "{}", action.cause());
+              finalResponse.put(Constants.ERROR, Constants.EXECUTE_QUERY_FAIL);
+              promise.fail(finalResponse.toString());
+            }
+          });
+    } else {
+      LOGGER.info(Constants.DATABASE_OPERATION_INVALID);
+      finalResponse.put(Constants.ERROR, Constants.DATABASE_OPERATION_INVALID);
+      promise.fail(finalResponse.toString());
+    }
+    return promise.future();
   }
 
   @Override
@@ -516,8 +1118,7 @@ public class CallbackServiceImpl implements CallbackService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("queryCallBackDataBase resultHandler failed : "
-              + resultHandler.cause());
+          LOGGER.error("queryCallBackDataBase resultHandler failed : {}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -544,19 +1145,8 @@ public class CallbackServiceImpl implements CallbackService {
     /* Get table name for request object */
     String tableName = request.getString(Constants.TABLE_NAME);
 
-    /* Set Connection Object */
-    if (connectOptions == null) {
-      connectOptions = new PgConnectOptions().setPort(databasePort).setHost(databaseIP)
-          .setDatabase(databaseName).setUser(databaseUserName).setPassword(databasePassword);
-    }
-
-    /* Pool options */
-    if (poolOptions == null) {
-      poolOptions = new PoolOptions().setMaxSize(databasePoolSize);
-    }
-
-    /* Create the client pool */
-    pgClient = PgPool.pool(vertx, connectOptions, poolOptions);
+    /* Get the client pool */
+    pgClient = getPgPool();
 
     if (pgClient != null) {
       try {
@@ -566,11 +1156,11 @@ public class CallbackServiceImpl implements CallbackService {
             SqlConnection pgConnection = handler.result();
             pgConnection.preparedQuery("SELECT * FROM " + tableName).execute(action -> {
               if (action.succeeded()) {
-                LOGGER.info(Constants.EXECUTING_SQL_QUERY + Constants.COLON + tableName);
+                LOGGER.info(Constants.EXECUTING_SQL_QUERY + Constants.COLON + "{}", tableName);
                 /* Rows in Table */
                 RowSet<Row> rows = action.result();
                 LOGGER.info(Constants.FETCH_DATA_FROM_DATABASE);
-                LOGGER.info(Constants.ROWS + Constants.COLON + rows.size());
+                LOGGER.info(Constants.ROWS + Constants.COLON + "{}", rows.size());
 
                 /* Clear Cache Data */
                 if (pgCache != null) {
@@ -580,51 +1170,31 @@ public class CallbackServiceImpl implements CallbackService {
 
                 /* Iterating Rows */
                 for (Row row : rows) {
-                  /* Getting entities, callBackUrl, userName and password from row */
-                  JsonObject callBackDataObj = new JsonObject();
-                  String callBackUrl = row.getString(1);
-                  JsonArray entities = (JsonArray) row.getValue(2);
-                  String userName = row.getString(6);
-                  String password = row.getString(7);
-
-                  /* Iterating entities JsonArray for updating Cache */
-                  if (entities != null) {
-                    entities.forEach(entity -> {
-                      /* Creating entityData */
-                      callBackDataObj.put(Constants.CALLBACK_URL, callBackUrl);
-                      callBackDataObj.put(Constants.USER_NAME, userName);
-                      callBackDataObj.put(Constants.PASSWORD, password);
-                      /* Update Cache for each entity */
-                      if (entity != null) {
-                        updateCache(entity.toString(), callBackDataObj);
-                      }
-                    });
-                  }
+                  updateCacheFromRow(row);
                 }
                 LOGGER.info(Constants.SUCCESS + Constants.COLON + Constants.CACHE_UPDATE_SUCCESS);
-                LOGGER.info(Constants.CACHE_DATA + Constants.COLON + pgCache);
+                LOGGER.info(Constants.CACHE_DATA + Constants.COLON + "{}", pgCache);
                 finalResponse.put(Constants.SUCCESS, Constants.CACHE_UPDATE_SUCCESS);
                 promise.complete(finalResponse);
               } else {
-                LOGGER.info(Constants.ERROR + action.cause());
+                LOGGER.info(Constants.ERROR + "{}", action.cause());
                 LOGGER.error("", action.cause());
                 finalResponse.put(Constants.ERROR, Constants.EXECUTE_QUERY_FAIL);
                 promise.fail(finalResponse.toString());
               }
+              pgConnection.close();
             });
           } else {
-            LOGGER.error(Constants.CONNECT_DATABASE_FAIL + handler.cause().getMessage());
+            LOGGER.error(Constants.CONNECT_DATABASE_FAIL + "{}", handler.cause().getMessage());
             finalResponse.put(Constants.ERROR, Constants.CONNECT_DATABASE_FAIL);
             promise.fail(finalResponse.toString());
           }
         });
 
       } catch (Exception e) {
-        LOGGER.info(Constants.CONNECT_DATABASE_FAIL + e.getCause());
+        LOGGER.info(Constants.CONNECT_DATABASE_FAIL + "{}", e.getCause());
         finalResponse.put(Constants.ERROR, Constants.CONNECT_DATABASE_FAIL);
         promise.fail(finalResponse.toString());
-      } finally {
-        pgClient.close();
       }
     } else {
       LOGGER.info(Constants.ERROR + Constants.COLON + Constants.CREATE_PG_CLIENT_OBJECT_FAIL);
@@ -27,7 +27,7 @@ public class CallbackVerticle extends AbstractVerticle {
   private int handshakeTimeout;
   private int requestedChannelMax;
   private int networkRecoveryInterval;
-  private CallbackService callback;
+  private CallbackServiceImpl callback;
   private WebClient webClient;
   private WebClientOptions webConfig;
   /* Database Properties */
@@ -37,6 +37,13 @@ public class CallbackVerticle extends AbstractVerticle {
   private String databaseUserName;
   private String databasePassword;
   private int poolSize;
+  private String cacheRefreshMode;
+  private String backpressureMode;
+  private int prefetchCount;
+  private int maxInFlight;
+  private int maxInternalQueueSize;
+  private String partitionExchange;
+  private int partitionCount;
 
   /**
    * This method is used to start the Verticle. It deploys a verticle in a cluster.
@@ -64,6 +71,15 @@ public class CallbackVerticle extends AbstractVerticle {
     databaseUserName = config().getString("callbackDatabaseUserName");
     databasePassword = config().getString("callbackDatabasePassword");
     poolSize = Integer.parseInt(config().getString("callbackpoolSize"));
+    cacheRefreshMode = config().getString("callbackCacheRefreshMode", "queue");
+    backpressureMode = config().getString("callbackBackpressureMode", "pause");
+    prefetchCount = Integer.parseInt(config().getString("callbackPrefetchCount", "100"));
+    maxInFlight = Integer.parseInt(
+        config().getString("callbackMaxInFlight", String.valueOf(prefetchCount)));
+    maxInternalQueueSize =
+        Integer.parseInt(config().getString("callbackMaxInternalQueueSize", "1000"));
+    partitionExchange = config().getString("callbackPartitionExchange");
+    partitionCount = Integer.parseInt(config().getString("callbackPartitionCount", "1"));
 
 
     /* Configure the RabbitMQ Data Broker client with input from config files. */
@@ -111,6 +127,17 @@ public class CallbackVerticle extends AbstractVerticle {
     propObj.put("callbackDatabaseUserName", databaseUserName);
     propObj.put("callbackDatabasePassword", databasePassword);
     propObj.put("callbackpoolSize", poolSize);
+    propObj.put("callbackCacheRefreshMode", cacheRefreshMode);
+    propObj.put("callbackBackpressureMode", backpressureMode);
+    propObj.put("callbackPrefetchCount", prefetchCount);
+    propObj.put("callbackMaxInFlight", maxInFlight);
+    propObj.put("callbackMaxInternalQueueSize", maxInternalQueueSize);
+    propObj.put("callbackPartitionExchange", partitionExchange);
+    propObj.put("callbackPartitionCount", partitionCount);
+    if (config().containsKey("callbackPartitionId")) {
+      propObj.put("callbackPartitionId",
+          Integer.parseInt(config().getString("callbackPartitionId")));
+    }
 
     /* Call the callback constructor with the RabbitMQ client. */
     callback = new CallbackServiceImpl(client, webClient, propObj, vertx);
@@ -122,4 +149,11 @@ public class CallbackVerticle extends AbstractVerticle {
 
     LOGGER.info("Callback Verticle started");
   }
+
+  @Override
+  public void stop() {
+    if (callback != null) {
+      callback.close();
+    }
+  }
 }
@@ -27,6 +27,58 @@ public class Constants {
 
   public static final String POOL_SIZE = "poolSize";
 
+  public static final String SUBSCRIPTION_ID = "subscriptionID";
+  public static final String ENTITIES = "entities";
+
+  /* Callback cache refresh: "queue" (callback.notification) or "pg-notify" (LISTEN/NOTIFY) */
+  public static final String CACHE_REFRESH_MODE = "callbackCacheRefreshMode";
+  public static final String CACHE_REFRESH_QUEUE = "queue";
+  public static final String CACHE_REFRESH_PG_NOTIFY = "pg-notify";
+  /* Notified by the trigger of scripts/db/registercallback_notify_trigger.sql */
+  public static final String CALLBACK_NOTIFY_CHANNEL = "callback_cache";
+  public static final long PG_NOTIFY_RECONNECT_INTERVAL = 5000;
+  public static final String SELECT_CALLBACK_BY_ID =
+      "SELECT * FROM registercallback WHERE subscriptionID = $1";
+
+  /* callback.data consumer flow control: "pause" (manual ack, prefetch) or "drop" (auto ack) */
+  public static final String PREFETCH_COUNT = "callbackPrefetchCount";
+  public static final String MAX_IN_FLIGHT = "callbackMaxInFlight";
+  public static final String MAX_INTERNAL_QUEUE_SIZE = "callbackMaxInternalQueueSize";
+  public static final String BACKPRESSURE_MODE = "callbackBackpressureMode";
+  public static final String BACKPRESSURE_PAUSE = "pause";
+  public static final String BACKPRESSURE_DROP = "drop";
+  public static final int DEFAULT_PREFETCH_COUNT = 100;
+  public static final int DEFAULT_MAX_INTERNAL_QUEUE_SIZE = 1000;
+
+  /* Partitioned callback.data consumers behind a RabbitMQ consistent-hash exchange */
+  public static final String PARTITION_EXCHANGE = "callbackPartitionExchange";
+  public static final String PARTITION_COUNT = "callbackPartitionCount";
+  public static final String PARTITION_ID = "callbackPartitionId";
+  public static final String PARTITION_QUEUE_PREFIX = "callback.data.";
+  /* A partition is consumed by the instance holding its cluster wide lock */
+  public static final String PARTITION_LOCK_PREFIX = "iudx.rs.callback.partition.";
+  public static final long PARTITION_LOCK_TIMEOUT_MILLIS = 100;
+  public static final long PARTITION_RETRY_MILLIS = 30000;
+  public static final String CONSISTENT_HASH_EXCHANGE = "x-consistent-hash";
+  /* Binding key of a queue on a consistent-hash exchange is its weight on the hash ring */
+  public static final String PARTITION_WEIGHT = "1";
+  public static final String SELECT_CALLBACK_BY_ENTITY =
+      "SELECT * FROM registercallback WHERE entities::jsonb @> $1::jsonb";
+
+  /* Callback consumer metrics */
+  public static final String METRIC_IN_FLIGHT = "iudx.callback.data.inflight";
+  public static final String METRIC_CONSUMER_PAUSED = "iudx.callback.data.consumer.paused";
+  public static final String METRIC_DELIVERED = "iudx.callback.data.delivered";
+  public static final String METRIC_DROPPED = "iudx.callback.data.dropped";
+  public static final String METRIC_REQUEUED = "iudx.callback.data.requeued";
+  public static final String REASON = "reason";
+  /* Instances of a node register their consumer meters apart */
+  public static final String INSTANCE = "instance";
+  public static final String REASON_PARSE = "parse";
+  public static final String REASON_NO_CALLBACK = "no_callback";
+  public static final String REASON_DELIVERY = "delivery";
+  public static final String REASON_OVERFLOW = "overflow";
+
   public static final String CONTENT_TYPE = "content-type";
   public static final String APPLICATION_JSON = "application/json";
 
@@ -51,6 +103,11 @@ public class Constants {
   public static final String CONNECT_TO_CALLBACK_NOTIFICATION_QUEUE_FAIL =
       "Failed to connect with callback.notification queue";
 
+  public static final String CONNECT_TO_CALLBACK_NOTIFY_CHANNEL =
+      "Listening to callback cache notifications from database";
+  public static final String CONNECT_TO_CALLBACK_NOTIFY_CHANNEL_FAIL =
+      "Failed to listen to callback cache notifications from database";
+
   public static final String CONNECT_TO_CALLBACK_DATA_QUEUE = "Connected to callback.data queue";
   public static final String CONNECT_TO_CALLBACK_DATA_QUEUE_FAIL =
       "Failed to connect with callback.data queue";
@@ -62,6 +119,19 @@ public class Constants {
   public static final String MESSAGE_BODY_NULL = "Message body is NULL";
   public static final String GET_QUEUE_MESSAGE_FAIL = "Failed to get message from queue";
   public static final String QUEUE_EMPTY = "Queue is Empty";
+  public static final String PREFETCH_SET = "Prefetch count set for callback consumer";
+  public static final String PREFETCH_FAIL = "Failed to set prefetch count for callback consumer";
+  public static final String CONSUMER_PAUSED = "Callback consumer paused, deliveries in flight";
+  public static final String CONSUMER_RESUMED = "Callback consumer resumed, deliveries in flight";
+  public static final String MESSAGE_ACK_FAIL = "Failed to ack message";
+  public static final String MESSAGE_NACK_FAIL = "Failed to nack message";
+  public static final String MESSAGE_DROPPED = "Callback message dropped";
+  public static final String PARTITION_JOINED = "Consuming callback.data partition";
+  public static final String PARTITION_JOIN_FAIL = "Failed to join callback.data partition";
+  public static final String PARTITION_STANDBY =
+      "All callback.data partitions are consumed, standing by";
+  public static final String PARTITION_REFRESH_MODE =
+      "Partitioned callback.data requires pg-notify cache refresh, ignoring mode";
 
   public static final String DATABASE_QUERY_RESULT = "Database Query Result";
   public static final String DATABASE_QUERY_SUCCESS = "Database Query Successfully Done";
@@ -0,0 +1,117 @@
+package iudx.resource.server.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.Future;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+/**
+ * The Backend Metrics.
+ * <h1>Backend Metrics</h1>
+ * <p>
+ * Latency timers, with p50/p95/p99, and in-flight gauges of the calls the server makes to its
+ * backends, tagged by backend and outcome. Meters are exported through the registry of the vert.x
+ * Micrometer metrics, and timing is a no-op when metrics are not enabled.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class BackendMetrics {
+
+  public static final String ELASTICSEARCH = "elasticsearch";
+  public static final String RABBITMQ_MANAGEMENT = "rabbitmq-management";
+  public static final String POSTGRES = "postgres";
+  public static final String AUTH_SERVER = "auth-server";
+  public static final String CATALOGUE = "catalogue";
+
+  public static final String REQUEST_TIMER = "iudx.rs.backend.requests";
+  public static final String IN_FLIGHT_GAUGE = "iudx.rs.backend.inflight";
+  public static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+  private static final String BACKEND = "backend";
+  private static final String OUTCOME = "outcome";
+  private static final String SUCCESS = "success";
+  private static final String FAILURE = "failure";
+
+  private static final ConcurrentHashMap<String, AtomicInteger> inFlight =
+      new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+  private BackendMetrics() {}
+
+  /**
+   * Starts timing a call to a backend.
+   *
+   * @param backend which is the backend called
+   * @return the sample to stop when the call completes
+   */
+  public static Sample start(String backend) {
+    MeterRegistry registry = BackendRegistries.getDefaultNow();
+    if (registry == null) {
+      return Sample.NOOP;
+    }
+    AtomicInteger backendInFlight = inFlight.computeIfAbsent(backend, key -> {
+      AtomicInteger counter = new AtomicInteger();
+      Gauge.builder(IN_FLIGHT_GAUGE, counter, AtomicInteger::get).tag(BACKEND, key)
+          .register(registry);
+      return counter;
+    });
+    backendInFlight.incrementAndGet();
+    return new Sample(registry, backend, backendInFlight, System.nanoTime());
+  }
+
+  /**
+   * Times a call to a backend until its future completes.
+   *
+   * @param <T> type of the result
+   * @param backend which is the backend called
+   * @param future which completes with the call
+   * @return the future
+   */
+  public static <T> Future<T> time(String backend, Future<T> future) {
+    Sample sample = start(backend);
+    future.onComplete(result -> sample.stop(result.succeeded()));
+    return future;
+  }
+
+  /**
+   * A running backend call.
+   */
+  public static final class Sample {
+    private static final Sample NOOP = new Sample(null, null, null, 0);
+    private final MeterRegistry registry;
+    private final String backend;
+    private final AtomicInteger backendInFlight;
+    private final long startNanos;
+
+    private Sample(MeterRegistry registry, String backend, AtomicInteger backendInFlight,
+        long startNanos) {
+      this.registry = registry;
+      this.backend = backend;
+      this.backendInFlight = backendInFlight;
+      this.startNanos = startNanos;
+    }
+
+    /**
+     * Records the latency of the call.
+     *
+     * @param succeeded whether the call succeeded
+     */
+    public void stop(boolean succeeded) {
+      if (registry == null) {
+        return;
+      }
+      backendInFlight.decrementAndGet();
+      String outcome = succeeded ? SUCCESS : FAILURE;
+      timers.computeIfAbsent(backend + '|' + outcome,
+          key -> Timer.builder(REQUEST_TIMER).tag(BACKEND, backend).tag(OUTCOME, outcome)
+              .publishPercentiles(PERCENTILES).register(registry))
+          .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
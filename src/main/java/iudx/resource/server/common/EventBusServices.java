@@ -0,0 +1,71 @@
+package iudx.resource.server.common;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.serviceproxy.ServiceBinder;
+
+/**
+ * The Event Bus Services.
+ * <h1>Event Bus Services</h1>
+ * <p>
+ * Binds services to the event bus and resolves the address proxies should use. A service is bound
+ * at its cluster wide address and, for callers on the same node, at a local only address that is
+ * never propagated to the cluster. A proxy created after the service was deployed on its node
+ * uses the local address, so its requests are not routed round robin to other nodes and are not
+ * serialized. Proxies send their requests with the {@link CborJsonMessageCodec}.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class EventBusServices {
+
+  public static final String LOCAL_ADDRESS_SUFFIX = ".local";
+  private static final String LOCAL_SERVICES = "iudx.rs.local.services";
+
+  private EventBusServices() {}
+
+  /**
+   * Binds a service at its cluster wide address and at its local only address.
+   *
+   * @param <T> type of the service
+   * @param vertx which is the vertx instance
+   * @param address which is the service address
+   * @param serviceClass which is the service interface
+   * @param service which is the service implementation
+   */
+  public static <T> void register(Vertx vertx, String address, Class<T> serviceClass, T service) {
+    CborJsonMessageCodec.register(vertx);
+    new ServiceBinder(vertx).setAddress(address).register(serviceClass, service);
+    new ServiceBinder(vertx).setAddress(address + LOCAL_ADDRESS_SUFFIX)
+        .registerLocal(serviceClass, service);
+    LocalMap<String, Boolean> localServices = vertx.sharedData().getLocalMap(LOCAL_SERVICES);
+    localServices.put(address, Boolean.TRUE);
+  }
+
+  /**
+   * Returns the local only address of a service if it is bound on this node, else its cluster
+   * wide address.
+   *
+   * @param vertx which is the vertx instance
+   * @param address which is the service address
+   * @return address for proxies of the service
+   */
+  public static String proxyAddress(Vertx vertx, String address) {
+    LocalMap<String, Boolean> localServices = vertx.sharedData().getLocalMap(LOCAL_SERVICES);
+    return localServices.containsKey(address) ? address + LOCAL_ADDRESS_SUFFIX : address;
+  }
+
+  /**
+   * Returns the delivery options of service proxies.
+   *
+   * @param vertx which is the vertx instance
+   * @return delivery options using the {@link CborJsonMessageCodec}
+   */
+  public static DeliveryOptions proxyOptions(Vertx vertx) {
+    CborJsonMessageCodec.register(vertx);
+    return new DeliveryOptions().setCodecName(CborJsonMessageCodec.NAME);
+  }
+}
@@ -0,0 +1,120 @@
+package iudx.resource.server.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+/**
+ * The Query Metrics.
+ * <h1>Query Metrics</h1>
+ * <p>
+ * Splits the latency of an entities query into its phases (decode of the Elasticsearch query,
+ * Elasticsearch round trip, parse of the Elasticsearch response and encode of the HTTP response),
+ * tagged by search type, along with the number of hits and the size of the Elasticsearch
+ * response. Meters are exported through the registry of the vert.x Micrometer metrics, and
+ * recording is a no-op when metrics are not enabled.
+ * </p>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+
+public final class QueryMetrics {
+
+  public static final String DECODE = "decode";
+  public static final String ELASTICSEARCH = "elasticsearch";
+  public static final String PARSE = "parse";
+  public static final String ENCODE = "encode";
+
+  public static final String LATEST = "latest";
+  public static final String TEMPORAL = "temporal";
+  public static final String GEO = "geo";
+  public static final String ATTRIBUTE = "attribute";
+  public static final String OTHER = "other";
+
+  public static final String PHASE_TIMER = "iudx.rs.query.phase";
+  public static final String HITS_SUMMARY = "iudx.rs.query.hits";
+  public static final String PAYLOAD_SUMMARY = "iudx.rs.query.payload.bytes";
+  private static final String PHASE = "phase";
+  private static final String SEARCH_TYPE = "searchType";
+
+  private static final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, DistributionSummary> hits =
+      new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, DistributionSummary> payloads =
+      new ConcurrentHashMap<>();
+
+  private QueryMetrics() {}
+
+  /**
+   * Maps the searchType of a query, e.g. geoSearch_temporalSearch_, to its tag. A query combining
+   * several searches is tagged by the one which decides the cost of the query: latest, then
+   * temporal, then geo, then attribute.
+   *
+   * @param searchType which is the searchType of the query
+   * @return the tag
+   */
+  public static String searchType(String searchType) {
+    if (searchType == null) {
+      return OTHER;
+    }
+    if (searchType.contains("latestSearch")) {
+      return LATEST;
+    }
+    if (searchType.contains("temporalSearch")) {
+      return TEMPORAL;
+    }
+    if (searchType.contains("geoSearch")) {
+      return GEO;
+    }
+    if (searchType.contains("attributeSearch")) {
+      return ATTRIBUTE;
+    }
+    return OTHER;
+  }
+
+  /**
+   * Records the duration of a phase.
+   *
+   * @param phase which is the phase of the query
+   * @param searchType which is the tag of the query, see {@link #searchType(String)}
+   * @param startNanos which is the {@link System#nanoTime()} the phase started at
+   */
+  public static void record(String phase, String searchType, long startNanos) {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    MeterRegistry registry = BackendRegistries.getDefaultNow();
+    if (registry == null) {
+      return;
+    }
+    timers.computeIfAbsent(phase + '|' + searchType,
+        key -> Timer.builder(PHASE_TIMER).tag(PHASE, phase).tag(SEARCH_TYPE, searchType)
+            .publishPercentiles(BackendMetrics.PERCENTILES).register(registry))
+        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Records the number of hits and the size of the Elasticsearch response of a query.
+   *
+   * @param searchType which is the tag of the query, see {@link #searchType(String)}
+   * @param hitCount which is the number of hits returned
+   * @param payloadBytes which is the size of the Elasticsearch response
+   */
+  public static void recordResponse(String searchType, int hitCount, long payloadBytes) {
+    MeterRegistry registry = BackendRegistries.getDefaultNow();
+    if (registry == null) {
+      return;
+    }
+    hits.computeIfAbsent(searchType,
+        key -> DistributionSummary.builder(HITS_SUMMARY).tag(SEARCH_TYPE, key)
+            .publishPercentiles(BackendMetrics.PERCENTILES).register(registry))
+        .record(hitCount);
+    payloads.computeIfAbsent(searchType,
+        key -> DistributionSummary.builder(PAYLOAD_SUMMARY).baseUnit("bytes")
+            .tag(SEARCH_TYPE, key).publishPercentiles(BackendMetrics.PERCENTILES)
+            .register(registry))
+        .record(payloadBytes);
+  }
+}
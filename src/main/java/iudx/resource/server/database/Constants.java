@@ -25,6 +25,13 @@ public class Constants {
   static final String RANGE_KEY = "range";
   static final String TERM_KEY = "term";
   static final String TERMS_KEY = "terms";
+  static final String REGEXP_KEY = "regexp";
+  static final String REGEXP_FLAGS_KEY = "flags";
+  static final String MAX_DETERMINIZED_STATES_KEY = "max_determinized_states";
+  /* plain regular expressions only, without the optional operators such as complement */
+  static final String REGEXP_FLAGS = "NONE";
+  static final int REGEXP_MAX_LENGTH = 256;
+  static final int REGEXP_MAX_DETERMINIZED_STATES = 1000;
   static final String FILTER_PATH = "filter_path";
   static final String FILTER_PATH_VAL = "took,hits.hits._source";
   static final String FILTER_PATH_VAL_LATEST = "docs._source";
@@ -43,6 +50,21 @@ public class Constants {
   static final String DOCS_KEY = "docs";
   static final String SEARCH_REQ_PARAM = "/_search";
   static final String COUNT_REQ_PARAM = "/_count";
+  /* Export */
+  static final String REQUEST_POST = "POST";
+  static final String REQUEST_DELETE = "DELETE";
+  static final String SCROLL_REQ_PATH = "/_search/scroll";
+  static final String SCROLL_KEY = "scroll";
+  /* how long a scroll is kept between pages, a slow client of an export may stall longer */
+  static final String SCROLL_KEEP_ALIVE = "scrollKeepAlive";
+  static final String DEFAULT_SCROLL_KEEP_ALIVE = "5m";
+  static final String SCROLL_ID_KEY = "scroll_id";
+  static final String SCROLL_ID_RESPONSE_KEY = "_scroll_id";
+  static final String SCROLL_ID = "scrollId";
+  static final String FILTER_PATH_VAL_SCROLL = "_scroll_id,hits.hits._source";
+  static final String SORT_KEY = "sort";
+  static final String SORT_INDEX_ORDER = "_doc";
+  static final int EXPORT_PAGE_SIZE = 1000;
   static final String TIME_FIELD_DB = "observationDateTime";
   /* Request Params */
   /* Temporal */
@@ -72,6 +94,7 @@ public class Constants {
   static final String VALUE = "value";
   static final String VALUE_LOWER = "valueLower";
   static final String VALUE_UPPER = "valueUpper";
+  static final String VALUES = "values";
   static final String GREATER_THAN_OP = ">";
   static final String LESS_THAN_OP = "<";
   static final String GREATER_THAN_EQ_OP = ">=";
@@ -79,8 +102,12 @@ public class Constants {
   static final String EQUAL_OP = "==";
   static final String NOT_EQUAL_OP = "!=";
   static final String BETWEEN_OP = "<==>";
+  static final String PATTERN_OP = "~=";
+  static final String NOT_PATTERN_OP = "!~=";
   /* Errors */
   static final String INVALID_OPERATOR = "Invalid operator";
+  static final String PATTERN_TOO_LONG =
+      "Pattern is longer than " + REGEXP_MAX_LENGTH + " characters";
   static final String INVALID_SEARCH = "Invalid search request";
   static final String INVALID_DATE = "Invalid date format";
   static final String MISSING_ATTRIBUTE_FIELDS = "Missing attribute query fields";
@@ -89,6 +116,7 @@ public class Constants {
   static final String MISSING_GEO_FIELDS = "Missing/Invalid geo parameters";
   static final String COORDINATE_MISMATCH = "Coordinate mismatch (Polygon)";
   static final String COUNT_UNSUPPORTED = "Count is not supported with filtering";
+  static final String EXPORT_UNSUPPORTED = "Export is only supported for temporal queries";
   static final String EMPTY_RESPONSE = "Empty response";
   static final String DB_ERROR = "DB request has failed";
   static final String DB_ERROR_2XX = "Status code is not 2xx";
@@ -114,15 +142,5 @@ public class Constants {
   public static final String ATTRIBUTE_SEARCH_REGEX = "(.*)attributeSearch(.*)";
   public static final String TEMPORAL_SEARCH_REGEX = "(.*)temporalSearch(.*)";
   static final String LATEST_SEARCH = "latestSearch";
-  /* Query templates */
-  static final String GEO_SHAPE_QUERY =
-      "{ \"geo_shape\": { \"$4\": { \"shape\": { \"type\": \"$1\", \"coordinates\": $2 },"
-          + " \"relation\": \"$3\" } } }";
-  static final String TIME_QUERY = "{\"range\":{\"observationDateTime\":{\"$1\":\"$2\"}}}";
-  static final String TERM_QUERY = "{\"term\":{\"$1\":\"$2\"}}";
-  static final String TERMS_QUERY = "{\"terms\":{\"$1\":$2}}";
-  static final String RANGE_QUERY = "{\"range\":{\"$1\":{\"$2\":$3}}}";
-  static final String RANGE_QUERY_BW = "{\"range\":{\"$1\":{\"$2\":$3,\"$4\":$5}}}";
-  public static final String MUST_NOT_QUERY = "{\"must_not\":[$1]}";
 
 }
@@ -7,6 +7,7 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.json.JsonObject;
 
 /**
@@ -49,6 +50,40 @@ public interface DatabaseService {
   @Fluent
   DatabaseService countQuery(JsonObject request, Handler<AsyncResult<JsonObject>> handler);
 
+  /**
+   * The exportQuery opens a cursor over all the results of a temporal search, and gets its
+   * first page. A page carries the scrollId to get the next page with, unless it is the last.
+   *
+   * @param request which is a JsonObject
+   * @param handler which is a Request Handler
+   * @return DatabaseService which is a Service
+   */
+
+  @Fluent
+  DatabaseService exportQuery(JsonObject request, Handler<AsyncResult<JsonObject>> handler);
+
+  /**
+   * The exportNext gets the next page of the results of an export.
+   *
+   * @param scrollId which is the scrollId of the previous page
+   * @param handler which is a Request Handler
+   * @return DatabaseService which is a Service
+   */
+
+  @Fluent
+  DatabaseService exportNext(String scrollId, Handler<AsyncResult<JsonObject>> handler);
+
+  /**
+   * The exportClose releases the cursor of an export that is given up before its last page.
+   *
+   * @param scrollId which is the scrollId of the last page received
+   * @param handler which is a Request Handler
+   * @return DatabaseService which is a Service
+   */
+
+  @Fluent
+  DatabaseService exportClose(String scrollId, Handler<AsyncResult<JsonObject>> handler);
+
   /**
    * The create implements the count operation with the database.
    * @param client RestClient to perform ES queries.
@@ -71,4 +106,18 @@ public interface DatabaseService {
   static DatabaseService createProxy(Vertx vertx, String address) {
     return new DatabaseServiceVertxEBProxy(vertx, address);
   }
+
+  /**
+   * The createProxy with delivery options, e.g. a message codec, for the proxy requests.
+   *
+   * @param vertx which is the vertx instance
+   * @param address which is the proxy address
+   * @param options which are the delivery options of the proxy requests
+   * @return DatabaseServiceVertxEBProxy which is a service proxy
+   */
+
+  @GenIgnore
+  static DatabaseService createProxy(Vertx vertx, String address, DeliveryOptions options) {
+    return new DatabaseServiceVertxEBProxy(vertx, address, options);
+  }
 }
@@ -3,7 +3,9 @@ package iudx.resource.server.database;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import iudx.resource.server.common.QueryMetrics;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -45,54 +47,25 @@ public class DatabaseServiceImpl implements DatabaseService {
   @Override
   public DatabaseService searchQuery(JsonObject request, Handler<AsyncResult<JsonObject>> handler) {
 
-    LOGGER.debug("Info: searchQuery;" + request.toString());
+    LOGGER.debug("Info: searchQuery;{}", request);
 
     request.put(SEARCH_KEY, true);
     // TODO : only for testing comment after testing.
     request.put("isTest", true);
 
-    if (!request.containsKey(ID)) {
-      LOGGER.debug("Info: " + ID_NOT_FOUND);
-      responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400).setMessage(ID_NOT_FOUND);
-      handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
-      return null;
-    }
-
-    if (request.getJsonArray(ID).isEmpty()) {
-      LOGGER.debug("Info: " + EMPTY_RESOURCE_ID);
-      responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400)
-          .setMessage(EMPTY_RESOURCE_ID);
-      handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
-      return null;
-    }
-
-    if (!request.containsKey(SEARCH_TYPE)) {
-      LOGGER.debug("Info: " + SEARCHTYPE_NOT_FOUND);
-      responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400)
-          .setMessage(SEARCHTYPE_NOT_FOUND);
-      handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
+    String index = resourceIndex(request, handler);
+    if (index == null) {
       return null;
     }
-
-    if (request.getJsonArray(ID).getString(0).split("/").length != 5) {
-      LOGGER.error("Malformed ID: " + request.getJsonArray(ID).getString(0));
-      responseBuilder =
-          new ResponseBuilder(FAILED).setTypeAndTitle(400)
-              .setMessage(MALFORMED_ID + request.getJsonArray(ID));
-      handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
-      return null;
-    }
-
-    List<String> splitId = new LinkedList<>(Arrays.asList(request.getJsonArray(ID)
-        .getString(0).split("/")));
-    splitId.remove(splitId.size() - 1);
-    String index = String.join("__", splitId);
     index = index.concat(SEARCH_REQ_PARAM);
-    LOGGER.debug("Index name: " + index);
+    LOGGER.debug("Index name: {}", index);
 
+    String searchType = QueryMetrics.searchType(request.getString(SEARCH_TYPE));
+    long decodeStartNanos = System.nanoTime();
     query = queryDecoder.queryDecoder(request);
+    QueryMetrics.record(QueryMetrics.DECODE, searchType, decodeStartNanos);
     if (query.containsKey(ERROR)) {
-      LOGGER.error("Fail: Query returned with an error: " + query.getString(ERROR));
+      LOGGER.error("Fail: Query returned with an error: {}", query.getString(ERROR));
       responseBuilder =
           new ResponseBuilder(FAILED).setTypeAndTitle(400)
               .setMessage(query.getString(ERROR));
@@ -100,26 +73,26 @@ public class DatabaseServiceImpl implements DatabaseService {
       return null;
     }
 
-    LOGGER.debug("Info: Query constructed: " + query.toString());
+    LOGGER.debug("Info: Query constructed: {}", query);
     if (LATEST_SEARCH.equalsIgnoreCase(request.getString(SEARCH_TYPE))) {
       client.searchAsync(LATEST_RESOURCE_INDEX, FILTER_PATH_VAL_LATEST, query.toString(),
-          searchRes -> {
+          searchType, searchRes -> {
             if (searchRes.succeeded()) {
               LOGGER.debug("Success: Successful DB request");
               handler.handle(Future.succeededFuture(searchRes.result()));
             } else {
-              LOGGER.error("Fail: DB Request;" + searchRes.cause().getMessage());
+              LOGGER.error("Fail: DB Request;{}", searchRes.cause().getMessage());
               handler.handle(Future.failedFuture(searchRes.cause().getMessage()));
             }
           });
     } else {
       client.searchAsync(index, FILTER_PATH_VAL, query.toString(),
-          searchRes -> {
+          searchType, searchRes -> {
           if (searchRes.succeeded()) {
             LOGGER.debug("Success: Successful DB request");
             handler.handle(Future.succeededFuture(searchRes.result()));
           } else {
-            LOGGER.error("Fail: DB Request;" + searchRes.cause().getMessage());
+            LOGGER.error("Fail: DB Request;{}", searchRes.cause().getMessage());
             handler.handle(Future.failedFuture(searchRes.cause().getMessage()));
           }
         });
@@ -137,19 +110,171 @@ public class DatabaseServiceImpl implements DatabaseService {
   @Override
   public DatabaseService countQuery(JsonObject request, Handler<AsyncResult<JsonObject>> handler) {
 
-    LOGGER.debug("Info: countQuery;" + request.toString());
+    LOGGER.debug("Info: countQuery;{}", request);
 
     request.put(SEARCH_KEY, false);
 
+    String index = resourceIndex(request, handler);
+    if (index == null) {
+      return null;
+    }
+    index = index.concat(COUNT_REQ_PARAM);
+    LOGGER.debug("Index name: {}", index);
+
+    query = queryDecoder.queryDecoder(request);
+    if (query.containsKey(ERROR)) {
+      LOGGER.error("Fail: Query returned with an error: {}", query.getString(ERROR));
+      responseBuilder =
+          new ResponseBuilder(FAILED).setTypeAndTitle(400)
+              .setMessage(query.getString(ERROR));
+      handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
+      return null;
+    }
+
+    LOGGER.debug("Info: Query constructed: {}", query);
+
+    client.countAsync(index, query.toString(), countRes -> {
+      if (countRes.succeeded()) {
+        LOGGER.debug("Success: Successful DB request");
+        handler.handle(Future.succeededFuture(countRes.result()));
+      } else {
+        LOGGER.error("Fail: DB Request;{}", countRes.cause().getMessage());
+        handler.handle(Future.failedFuture(countRes.cause().getMessage()));
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Performs a ElasticSearch search query with a scroll, to get all the results of a temporal
+   * query page by page.
+   * 
+   * @param request Json object received from the ApiServerVerticle
+   * @param handler Handler to return the first page of results in case of success and
+   *        appropriate error message in case of failure
+   */
+  @Override
+  public DatabaseService exportQuery(JsonObject request, Handler<AsyncResult<JsonObject>> handler) {
+
+    LOGGER.debug("Info: exportQuery;{}", request);
+
+    request.put(SEARCH_KEY, true);
+
+    String index = resourceIndex(request, handler);
+    if (index == null) {
+      return null;
+    }
+    index = index.concat(SEARCH_REQ_PARAM);
+
+    if (!request.getString(SEARCH_TYPE).matches(TEMPORAL_SEARCH_REGEX)) {
+      LOGGER.debug("Info: {}", EXPORT_UNSUPPORTED);
+      responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400)
+          .setMessage(EXPORT_UNSUPPORTED);
+      handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
+      return null;
+    }
+
+    JsonObject exportQuery = queryDecoder.queryDecoder(request);
+    if (exportQuery.containsKey(ERROR)) {
+      LOGGER.error("Fail: Query returned with an error: {}", exportQuery.getString(ERROR));
+      responseBuilder =
+          new ResponseBuilder(FAILED).setTypeAndTitle(400)
+              .setMessage(exportQuery.getString(ERROR));
+      handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
+      return null;
+    }
+    /* Pages in index order, the cheapest order to scroll in */
+    exportQuery.put(SIZE_KEY, EXPORT_PAGE_SIZE)
+        .put(SORT_KEY, new JsonArray().add(SORT_INDEX_ORDER));
+
+    LOGGER.debug("Info: Export query constructed: {}", exportQuery);
+    client.scrollAsync(index, exportQuery.toString(), scrollRes -> {
+      if (scrollRes.failed()) {
+        LOGGER.error("Fail: DB Request;{}", scrollRes.cause().getMessage());
+        handler.handle(Future.failedFuture(scrollRes.cause().getMessage()));
+      } else if (scrollRes.result().getJsonArray(RESULTS).isEmpty()) {
+        clearScroll(scrollRes.result().getString(SCROLL_ID));
+        responseBuilder =
+            new ResponseBuilder(FAILED).setTypeAndTitle(204).setMessage(EMPTY_RESPONSE);
+        handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
+      } else {
+        handler.handle(Future.succeededFuture(lastPageClosed(scrollRes.result())));
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Gets the next page of an export.
+   * 
+   * @param scrollId scroll id of the previous page
+   * @param handler Handler to return the page in case of success and appropriate error message
+   *        in case of failure
+   */
+  @Override
+  public DatabaseService exportNext(String scrollId, Handler<AsyncResult<JsonObject>> handler) {
+    client.scrollNextAsync(scrollId, scrollRes -> {
+      if (scrollRes.succeeded()) {
+        handler.handle(Future.succeededFuture(lastPageClosed(scrollRes.result())));
+      } else {
+        LOGGER.error("Fail: DB Request;{}", scrollRes.cause().getMessage());
+        clearScroll(scrollId);
+        handler.handle(Future.failedFuture(scrollRes.cause().getMessage()));
+      }
+    });
+    return this;
+  }
+
+  /**
+   * Releases the scroll of an export given up before its last page.
+   * 
+   * @param scrollId scroll id of the last page received
+   * @param handler Handler completed once the scroll is released
+   */
+  @Override
+  public DatabaseService exportClose(String scrollId, Handler<AsyncResult<JsonObject>> handler) {
+    client.clearScrollAsync(scrollId, clearRes -> {
+      if (clearRes.succeeded()) {
+        handler.handle(Future.succeededFuture(new JsonObject()));
+      } else {
+        handler.handle(Future.failedFuture(clearRes.cause()));
+      }
+    });
+    return this;
+  }
+
+  /* A page short of a full page is the last one, its scroll is released right away */
+  private JsonObject lastPageClosed(JsonObject page) {
+    if (page.getJsonArray(RESULTS).size() < EXPORT_PAGE_SIZE) {
+      clearScroll((String) page.remove(SCROLL_ID));
+    }
+    return page;
+  }
+
+  private void clearScroll(String scrollId) {
+    if (scrollId != null) {
+      client.clearScrollAsync(scrollId, clearRes -> {
+      });
+    }
+  }
+
+  /**
+   * Validates the id and search type of a request and derives the index of its resource group.
+   * 
+   * @param request Json object received from the ApiServerVerticle
+   * @param handler Handler failed with the appropriate error message if the request is invalid
+   * @return index name, without the request path, or null if the request is invalid
+   */
+  private String resourceIndex(JsonObject request, Handler<AsyncResult<JsonObject>> handler) {
     if (!request.containsKey(ID)) {
-      LOGGER.debug("Info: " + ID_NOT_FOUND);
+      LOGGER.debug("Info: {}", ID_NOT_FOUND);
       responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400).setMessage(ID_NOT_FOUND);
       handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
       return null;
     }
 
     if (request.getJsonArray(ID).isEmpty()) {
-      LOGGER.debug("Info: " + EMPTY_RESOURCE_ID);
+      LOGGER.debug("Info: {}", EMPTY_RESOURCE_ID);
       responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400)
           .setMessage(EMPTY_RESOURCE_ID);
       handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
@@ -157,7 +282,7 @@ public class DatabaseServiceImpl implements DatabaseService {
     }
 
     if (!request.containsKey(SEARCH_TYPE)) {
-      LOGGER.debug("Info: " + SEARCHTYPE_NOT_FOUND);
+      LOGGER.debug("Info: {}", SEARCHTYPE_NOT_FOUND);
       responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400)
           .setMessage(SEARCHTYPE_NOT_FOUND);
       handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
@@ -165,7 +290,7 @@ public class DatabaseServiceImpl implements DatabaseService {
     }
 
     if (request.getJsonArray(ID).getString(0).split("/").length != 5) {
-      LOGGER.error("Malformed ID: " + request.getJsonArray(ID).getString(0));
+      LOGGER.error("Malformed ID: {}", request.getJsonArray(ID).getString(0));
       responseBuilder =
           new ResponseBuilder(FAILED).setTypeAndTitle(400)
               .setMessage(MALFORMED_ID + request.getJsonArray(ID));
@@ -176,31 +301,6 @@ public class DatabaseServiceImpl implements DatabaseService {
     List<String> splitId = new LinkedList<>(Arrays.asList(request.getJsonArray(ID)
         .getString(0).split("/")));
     splitId.remove(splitId.size() - 1);
-    String index = String.join("__", splitId);
-    index = index.concat(COUNT_REQ_PARAM);
-    LOGGER.debug("Index name: " + index);
-
-    query = queryDecoder.queryDecoder(request);
-    if (query.containsKey(ERROR)) {
-      LOGGER.error("Fail: Query returned with an error: " + query.getString(ERROR));
-      responseBuilder =
-          new ResponseBuilder(FAILED).setTypeAndTitle(400)
-              .setMessage(query.getString(ERROR));
-      handler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
-      return null;
-    }
-
-    LOGGER.debug("Info: Query constructed: " + query.toString());
-
-    client.countAsync(index, query.toString(), countRes -> {
-      if (countRes.succeeded()) {
-        LOGGER.debug("Success: Successful DB request");
-        handler.handle(Future.succeededFuture(countRes.result()));
-      } else {
-        LOGGER.error("Fail: DB Request;" + countRes.cause().getMessage());
-        handler.handle(Future.failedFuture(countRes.cause().getMessage()));
-      }
-    });
-    return this;
+    return String.join("__", splitId);
   }
 }
@@ -1,7 +1,9 @@
 package iudx.resource.server.database;
 
 import io.vertx.core.AbstractVerticle;
-import io.vertx.serviceproxy.ServiceBinder;
+import iudx.resource.server.common.EventBusServices;
+import static iudx.resource.server.database.Constants.DEFAULT_SCROLL_KEEP_ALIVE;
+import static iudx.resource.server.database.Constants.SCROLL_KEEP_ALIVE;
 import java.io.InputStream;
 import java.util.Properties;
 import org.apache.logging.log4j.Logger;
@@ -45,10 +47,10 @@ public class DatabaseVerticle extends AbstractVerticle {
     user = config().getString("dbUser");
     password = config().getString("dbPassword");
 
-    client = new ElasticClient(databaseIP, databasePort, user, password);    
+    client = new ElasticClient(databaseIP, databasePort, user, password,
+        config().getString(SCROLL_KEEP_ALIVE, DEFAULT_SCROLL_KEEP_ALIVE));
     database = new DatabaseServiceImpl(client);
 
-    new ServiceBinder(vertx).setAddress(DATABASE_SERVICE_ADDRESS)
-        .register(DatabaseService.class, database);
+    EventBusServices.register(vertx, DATABASE_SERVICE_ADDRESS, DatabaseService.class, database);
   }
 }
@@ -3,10 +3,14 @@ package iudx.resource.server.database;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import iudx.resource.server.common.BackendMetrics;
+import iudx.resource.server.common.QueryMetrics;
 import java.io.IOException;
+import java.util.ArrayList;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
@@ -25,6 +29,7 @@ import static iudx.resource.server.database.Constants.*;
 public class ElasticClient {
 
   private final RestClient client;
+  private final String scrollKeepAlive;
   private ResponseBuilder responseBuilder;
   private static final Logger LOGGER = LogManager.getLogger(ElasticClient.class);
   /**
@@ -35,6 +40,20 @@ public class ElasticClient {
    */
 
   public ElasticClient(String databaseIP, int databasePort, String user, String password) {
+    this(databaseIP, databasePort, user, password, DEFAULT_SCROLL_KEEP_ALIVE);
+  }
+
+  /**
+   * ElasticClient - Elastic Low level wrapper, keeping scrolls between pages for the given time.
+   * 
+   * @param databaseIP IP of the ElasticDB
+   * @param databasePort Port of the ElasticDB
+   * @param scrollKeepAlive Time a scroll is kept between pages, in Elasticsearch time units
+   */
+
+  public ElasticClient(String databaseIP, int databasePort, String user, String password,
+      String scrollKeepAlive) {
+    this.scrollKeepAlive = scrollKeepAlive;
     CredentialsProvider credentials = new BasicCredentialsProvider();
     credentials.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(user, password));
     client = RestClient.builder(new HttpHost(databaseIP, databasePort)).setHttpClientConfigCallback(
@@ -46,42 +65,40 @@ public class ElasticClient {
    * 
    * @param index Index to search on
    * @param query Query
+   * @param searchType Search type the phases of the query are tagged with
    * @param searchHandler JsonObject result {@link AsyncResult}
    */
   public ElasticClient searchAsync(String index, String filterPathValue, String query,
-      Handler<AsyncResult<JsonObject>> searchHandler) {
+      String searchType, Handler<AsyncResult<JsonObject>> searchHandler) {
 
     Request queryRequest = new Request(REQUEST_GET, index);
     queryRequest.addParameter(FILTER_PATH, filterPathValue);
     queryRequest.setJsonEntity(query);
 
+    long startNanos = System.nanoTime();
+    BackendMetrics.Sample sample = BackendMetrics.start(BackendMetrics.ELASTICSEARCH);
     client.performRequestAsync(queryRequest, new ResponseListener() {
       @Override
       public void onSuccess(Response response) {
-        JsonArray dbResponse = new JsonArray();
+        sample.stop(true);
+        QueryMetrics.record(QueryMetrics.ELASTICSEARCH, searchType, startNanos);
+        long parseStartNanos = System.nanoTime();
         try {
-          JsonObject responseJson = new JsonObject(EntityUtils.toString(response.getEntity()));
-          if (!responseJson.containsKey(HITS) && !responseJson.containsKey(DOCS_KEY)) {
+          byte[] responseBody = EntityUtils.toByteArray(response.getEntity());
+          JsonArray dbResponse = searchResults(new JsonObject(Buffer.buffer(responseBody)));
+          if (dbResponse == null) {
             responseBuilder =
                 new ResponseBuilder(FAILED).setTypeAndTitle(204).setMessage(EMPTY_RESPONSE);
             searchHandler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
             return;
           }
           responseBuilder = new ResponseBuilder(SUCCESS).setTypeAndTitle(200);
-          JsonArray responseHits = new JsonArray();
-          if (responseJson.containsKey(HITS)) {
-            responseHits = responseJson.getJsonObject(HITS).getJsonArray(HITS);
-          } else if (responseJson.containsKey(DOCS_KEY)) {
-            responseHits = responseJson.getJsonArray(DOCS_KEY);
-          }
-          for (Object json : responseHits) {
-            JsonObject jsonTemp = (JsonObject) json;
-            dbResponse.add(jsonTemp.getJsonObject(SOURCE_FILTER_KEY));
-          }
           responseBuilder.setMessage(dbResponse);
+          QueryMetrics.record(QueryMetrics.PARSE, searchType, parseStartNanos);
+          QueryMetrics.recordResponse(searchType, dbResponse.size(), responseBody.length);
           searchHandler.handle(Future.succeededFuture(responseBuilder.getResponse()));
         } catch (IOException e) {
-          LOGGER.error("IO Execption from Database: " + e.getMessage());
+          LOGGER.error("IO Execption from Database: {}", e.getMessage());
           JsonObject ioError = new JsonObject(e.getMessage());
           responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400).setMessage(ioError);
           searchHandler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
@@ -90,6 +107,7 @@ public class ElasticClient {
 
       @Override
       public void onFailure(Exception e) {
+        sample.stop(false);
         LOGGER.error(e.getLocalizedMessage());
         try {
           String error = e.getMessage().substring(e.getMessage().indexOf("{"),
@@ -98,7 +116,7 @@ public class ElasticClient {
           responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400).setMessage(dbError);
           searchHandler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
         } catch (DecodeException jsonError) {
-          LOGGER.error("Json parsing exception: " + jsonError);
+          LOGGER.error("Json parsing exception: {}", jsonError);
           responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400)
               .setMessage(BAD_PARAMETERS);
           searchHandler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
@@ -108,6 +126,136 @@ public class ElasticClient {
     return this;
   }
 
+  /**
+   * searchResults - Sources of the hits of a search, or of the docs of a multi get.
+   * 
+   * @param responseJson Elasticsearch response
+   * @return JsonArray of sources, null if the response has neither hits nor docs
+   */
+  static JsonArray searchResults(JsonObject responseJson) {
+    JsonArray responseHits;
+    if (responseJson.containsKey(HITS)) {
+      responseHits = responseJson.getJsonObject(HITS).getJsonArray(HITS);
+    } else if (responseJson.containsKey(DOCS_KEY)) {
+      responseHits = responseJson.getJsonArray(DOCS_KEY);
+    } else {
+      return null;
+    }
+    JsonArray dbResponse = new JsonArray(new ArrayList<>(responseHits.size()));
+    for (Object json : responseHits) {
+      JsonObject jsonTemp = (JsonObject) json;
+      dbResponse.add(jsonTemp.getJsonObject(SOURCE_FILTER_KEY));
+    }
+    return dbResponse;
+  }
+
+  /**
+   * scrollAsync - Opens a scroll over the hits of a search and gets its first page.
+   * 
+   * @param index Index to search on
+   * @param query Query, its size is the size of a page
+   * @param scrollHandler JsonObject page of results and scroll id {@link AsyncResult}
+   */
+  public ElasticClient scrollAsync(String index, String query,
+      Handler<AsyncResult<JsonObject>> scrollHandler) {
+
+    Request queryRequest = new Request(REQUEST_POST, index);
+    queryRequest.addParameter(SCROLL_KEY, scrollKeepAlive);
+    queryRequest.addParameter(FILTER_PATH, FILTER_PATH_VAL_SCROLL);
+    queryRequest.setJsonEntity(query);
+    scrollPageAsync(queryRequest, scrollHandler);
+    return this;
+  }
+
+  /**
+   * scrollNextAsync - Gets the next page of a scroll.
+   * 
+   * @param scrollId Id of the scroll
+   * @param scrollHandler JsonObject page of results and scroll id {@link AsyncResult}
+   */
+  public ElasticClient scrollNextAsync(String scrollId,
+      Handler<AsyncResult<JsonObject>> scrollHandler) {
+
+    Request queryRequest = new Request(REQUEST_POST, SCROLL_REQ_PATH);
+    queryRequest.addParameter(FILTER_PATH, FILTER_PATH_VAL_SCROLL);
+    queryRequest.setJsonEntity(new JsonObject().put(SCROLL_KEY, scrollKeepAlive)
+        .put(SCROLL_ID_KEY, scrollId).encode());
+    scrollPageAsync(queryRequest, scrollHandler);
+    return this;
+  }
+
+  /**
+   * clearScrollAsync - Releases the search context of a scroll before it expires.
+   * 
+   * @param scrollId Id of the scroll
+   * @param clearHandler completion of the request {@link AsyncResult}
+   */
+  public ElasticClient clearScrollAsync(String scrollId,
+      Handler<AsyncResult<Void>> clearHandler) {
+
+    Request clearRequest = new Request(REQUEST_DELETE, SCROLL_REQ_PATH);
+    clearRequest.setJsonEntity(new JsonObject().put(SCROLL_ID_KEY, scrollId).encode());
+
+    BackendMetrics.Sample sample = BackendMetrics.start(BackendMetrics.ELASTICSEARCH);
+    client.performRequestAsync(clearRequest, new ResponseListener() {
+      @Override
+      public void onSuccess(Response response) {
+        sample.stop(true);
+        clearHandler.handle(Future.succeededFuture());
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        sample.stop(false);
+        LOGGER.error("Fail: Clearing scroll;{}", e.getMessage());
+        clearHandler.handle(Future.failedFuture(e.getMessage()));
+      }
+    });
+    return this;
+  }
+
+  /* A page of hits of a scroll, with the id of the scroll to get the next page with */
+  private void scrollPageAsync(Request scrollRequest,
+      Handler<AsyncResult<JsonObject>> scrollHandler) {
+
+    BackendMetrics.Sample sample = BackendMetrics.start(BackendMetrics.ELASTICSEARCH);
+    client.performRequestAsync(scrollRequest, new ResponseListener() {
+      @Override
+      public void onSuccess(Response response) {
+        sample.stop(true);
+        try {
+          JsonObject responseJson =
+              new JsonObject(Buffer.buffer(EntityUtils.toByteArray(response.getEntity())));
+          JsonArray dbResponse = searchResults(responseJson);
+          JsonObject page = new ResponseBuilder(SUCCESS).setTypeAndTitle(200)
+              .setMessage(dbResponse != null ? dbResponse : new JsonArray()).getResponse();
+          page.put(SCROLL_ID, responseJson.getString(SCROLL_ID_RESPONSE_KEY));
+          scrollHandler.handle(Future.succeededFuture(page));
+        } catch (IOException e) {
+          LOGGER.error("IO Execption from Database: {}", e.getMessage());
+          scrollHandler.handle(Future.failedFuture(new ResponseBuilder(FAILED)
+              .setTypeAndTitle(400).setMessage(DB_ERROR).getResponse().toString()));
+        }
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        sample.stop(false);
+        LOGGER.error(e.getLocalizedMessage());
+        ResponseBuilder failure = new ResponseBuilder(FAILED).setTypeAndTitle(400);
+        try {
+          String error = e.getMessage().substring(e.getMessage().indexOf("{"),
+              e.getMessage().lastIndexOf("}") + 1);
+          failure.setMessage(new JsonObject(error));
+        } catch (DecodeException | StringIndexOutOfBoundsException jsonError) {
+          LOGGER.error("Json parsing exception: {}", jsonError.getMessage());
+          failure.setMessage(BAD_PARAMETERS);
+        }
+        scrollHandler.handle(Future.failedFuture(failure.getResponse().toString()));
+      }
+    });
+  }
+
   /**
    * countAsync - Wrapper around elasticsearch async count requests.
    * 
@@ -121,9 +269,11 @@ public class ElasticClient {
     Request queryRequest = new Request(REQUEST_GET, index);
     queryRequest.setJsonEntity(query);
 
+    BackendMetrics.Sample sample = BackendMetrics.start(BackendMetrics.ELASTICSEARCH);
     client.performRequestAsync(queryRequest, new ResponseListener() {
       @Override
       public void onSuccess(Response response) {
+        sample.stop(true);
 
         try {
           int statusCode = response.getStatusLine().getStatusCode();
@@ -147,7 +297,7 @@ public class ElasticClient {
                   .setCount(responseJson.getInteger(COUNT));
           countHandler.handle(Future.succeededFuture(responseBuilder.getResponse()));
         } catch (IOException e) {
-          LOGGER.error("IO Execption from Database: " + e.getMessage());
+          LOGGER.error("IO Execption from Database: {}", e.getMessage());
           JsonObject ioError = new JsonObject(e.getMessage());
           responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400).setMessage(ioError);
           countHandler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
@@ -156,6 +306,7 @@ public class ElasticClient {
 
       @Override
       public void onFailure(Exception e) {
+        sample.stop(false);
         LOGGER.error(e.getLocalizedMessage());
         try {
           String error = e.getMessage().substring(e.getMessage().indexOf("{"),
@@ -164,7 +315,7 @@ public class ElasticClient {
           responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400).setMessage(dbError);
           countHandler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
         } catch (DecodeException jsonError) {
-          LOGGER.error("Json parsing exception: " + jsonError);
+          LOGGER.error("Json parsing exception: {}", jsonError);
           responseBuilder = new ResponseBuilder(FAILED).setTypeAndTitle(400)
               .setMessage(BAD_PARAMETERS);
           countHandler.handle(Future.failedFuture(responseBuilder.getResponse().toString()));
@@ -2,17 +2,18 @@ package iudx.resource.server.database;
 
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import io.vertx.core.logging.Logger;
-import io.vertx.core.logging.LoggerFactory;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.Objects;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import static iudx.resource.server.database.Constants.*;
 
 public class QueryDecoder {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(QueryDecoder.class);
+  private static final Logger LOGGER = LogManager.getLogger(QueryDecoder.class);
 
   /**
    * Decodes and constructs ElasticSearch Search/Count query based on the parameters passed in the
@@ -28,11 +29,10 @@ public class QueryDecoder {
     JsonObject elasticQuery = new JsonObject();
     JsonArray id = request.getJsonArray(ID);
     JsonArray filterQuery = new JsonArray();
-    String queryGeoShape = null;
+    JsonObject queryGeoShape = null;
 
     JsonObject boolObject = new JsonObject().put(BOOL_KEY, new JsonObject());
-    filterQuery.add(new JsonObject(
-        TERMS_QUERY.replace("$1", RESOURCE_ID_KEY).replace("$2", id.encode())));
+    filterQuery.add(termsQuery(RESOURCE_ID_KEY, id));
 
     /* TODO: Pagination for large result set */
     if (request.containsKey(SEARCH_KEY) && request.getBoolean(SEARCH_KEY)) {
@@ -77,11 +77,9 @@ public class QueryDecoder {
         relation = request.containsKey(GEOREL) ? request.getString(GEOREL) : WITHIN;
 
         coordinates = new JsonArray().add(lon).add(lat);
-        String radiusStr = ",\"radius\": \"$1m\"".replace("$1", Double.toString(radius));
-
-        queryGeoShape = GEO_SHAPE_QUERY.replace("$1", GEO_CIRCLE)
-            .replace("$2", coordinates.toString().concat(radiusStr)).replace("$3", relation)
-            .replace("$4", GEO_KEY);
+        queryGeoShape = geoShapeQuery(GEO_CIRCLE, coordinates, relation);
+        queryGeoShape.getJsonObject(GEO_SHAPE_KEY).getJsonObject(GEO_KEY)
+            .getJsonObject(SHAPE_KEY).put(GEO_RADIUS, radius + "m");
 
       } else if (request.containsKey(GEOMETRY)
           && (request.getString(GEOMETRY).equalsIgnoreCase(POLYGON)
@@ -103,8 +101,7 @@ public class QueryDecoder {
 
         }
 
-        queryGeoShape = GEO_SHAPE_QUERY.replace("$1", geometry)
-            .replace("$2", coordinates.toString()).replace("$3", relation).replace("$4", GEO_KEY);
+        queryGeoShape = geoShapeQuery(geometry, coordinates, relation);
 
       } else if (request.containsKey(GEOMETRY) && request.getString(GEOMETRY).equalsIgnoreCase(BBOX)
           && request.containsKey(GEOREL) && request.containsKey(COORDINATES_KEY)
@@ -112,21 +109,20 @@ public class QueryDecoder {
         relation = request.getString(GEOREL);
         coordinates = new JsonArray(request.getString(COORDINATES_KEY));
 
-        queryGeoShape = GEO_SHAPE_QUERY.replace("$1", GEO_BBOX)
-            .replace("$2", coordinates.toString()).replace("$3", relation).replace("$4", GEO_KEY);
+        queryGeoShape = geoShapeQuery(GEO_BBOX, coordinates, relation);
 
       } else {
         return new JsonObject().put(ERROR, MISSING_GEO_FIELDS);
       }
 
-      filterQuery.add(new JsonObject(queryGeoShape));
+      filterQuery.add(queryGeoShape);
     }
 
     /* Temporal Search */
     if (searchType.matches(TEMPORAL_SEARCH_REGEX) && request.containsKey(REQ_TIMEREL)
         && request.containsKey(TIME_KEY)) {
 
-      LOGGER.info("Info: Temporal Search block");
+      LOGGER.debug("Info: Temporal Search block");
 
       match = true;
       String timeRelation = request.getString(REQ_TIMEREL);
@@ -136,34 +132,34 @@ public class QueryDecoder {
 
       try {
         ZonedDateTime zdt = ZonedDateTime.parse(time);
-        LOGGER.debug("Parsed time: " + zdt.toString());
+        LOGGER.debug("Parsed time: {}", zdt);
       } catch (DateTimeParseException e) {
-        LOGGER.error("Invalid Date exception: " + e.getMessage());
+        LOGGER.error("Invalid Date exception: {}", e.getMessage());
         return new JsonObject().put(ERROR, INVALID_DATE);
       }
 
-      String rangeTimeQuery = "";
+      JsonObject rangeTimeQuery;
       if (DURING.equalsIgnoreCase(timeRelation)) {
         String endTime = request.getString(END_TIME);
-        String endTemp = "\",\"lte\":" + "\"" + endTime + "\"";
         rangeTimeQuery =
-            TIME_QUERY.replace("$1", GREATER_THAN_EQ).replace("$2\"", time.concat(endTemp));
+            rangeQuery(TIME_FIELD_DB, new JsonObject().put(GREATER_THAN_EQ, time)
+                .put(LESS_THAN_EQ, endTime));
 
       } else if (BEFORE.equalsIgnoreCase(timeRelation)) {
-        rangeTimeQuery = TIME_QUERY.replace("$1", LESS_THAN).replace("$2", time);
+        rangeTimeQuery = rangeQuery(TIME_FIELD_DB, new JsonObject().put(LESS_THAN, time));
 
       } else if (AFTER.equalsIgnoreCase(timeRelation)) {
-        rangeTimeQuery = TIME_QUERY.replace("$1", GREATER_THAN).replace("$2", time);
+        rangeTimeQuery = rangeQuery(TIME_FIELD_DB, new JsonObject().put(GREATER_THAN, time));
 
       } else if (TEQUALS.equalsIgnoreCase(timeRelation)) {
-        rangeTimeQuery = TERM_QUERY.replace("$1", TIME_FIELD_DB).replace("$2", time);
+        rangeTimeQuery = termQuery(TIME_FIELD_DB, time);
 
       } else {
         return new JsonObject().put(ERROR, MISSING_TEMPORAL_FIELDS);
 
       }
-      System.out.println(rangeTimeQuery);
-      filterQuery.add(new JsonObject(rangeTimeQuery));
+      LOGGER.debug("Info: Time query {}", rangeTimeQuery);
+      filterQuery.add(rangeTimeQuery);
     }
 
     /* Attribute Search */
@@ -176,60 +172,79 @@ public class QueryDecoder {
 
       if (request.containsKey(ATTRIBUTE_QUERY_KEY)) {
         attrQuery = request.getJsonArray(ATTRIBUTE_QUERY_KEY);
+        JsonArray mustNotQuery = new JsonArray();
 
         /* Multi-Attribute */
         for (Object obj : attrQuery) {
           JsonObject attrObj = (JsonObject) obj;
-          String attrElasticQuery = "";
+          JsonObject attrElasticQuery = null;
 
           try {
             String attribute = attrObj.getString(ATTRIBUTE_KEY);
             String operator = attrObj.getString(OPERATOR);
             String attributeValue = attrObj.getString(VALUE);
+            /* a list of values, any of which matches */
+            JsonArray attributeValues = attrObj.getJsonArray(VALUES);
 
             if (GREATER_THAN_OP.equalsIgnoreCase(operator)) {
-              attrElasticQuery = RANGE_QUERY.replace("$1", attribute).replace("$2", GREATER_THAN)
-                  .replace("$3", attributeValue);
+              attrElasticQuery = rangeQuery(attribute,
+                  new JsonObject().put(GREATER_THAN, rangeValue(attributeValue)));
 
             } else if (LESS_THAN_OP.equalsIgnoreCase(operator)) {
-              attrElasticQuery = RANGE_QUERY.replace("$1", attribute).replace("$2", LESS_THAN)
-                  .replace("$3", attributeValue);
+              attrElasticQuery = rangeQuery(attribute,
+                  new JsonObject().put(LESS_THAN, rangeValue(attributeValue)));
 
             } else if (GREATER_THAN_EQ_OP.equalsIgnoreCase(operator)) {
-              attrElasticQuery = RANGE_QUERY.replace("$1", attribute).replace("$2", GREATER_THAN_EQ)
-                  .replace("$3", attributeValue);
+              attrElasticQuery = rangeQuery(attribute,
+                  new JsonObject().put(GREATER_THAN_EQ, rangeValue(attributeValue)));
 
             } else if (LESS_THAN_EQ_OP.equalsIgnoreCase(operator)) {
-              attrElasticQuery = RANGE_QUERY.replace("$1", attribute).replace("$2", LESS_THAN_EQ)
-                  .replace("$3", attributeValue);
+              attrElasticQuery = rangeQuery(attribute,
+                  new JsonObject().put(LESS_THAN_EQ, rangeValue(attributeValue)));
 
             } else if (EQUAL_OP.equalsIgnoreCase(operator)) {
-              attrElasticQuery = TERM_QUERY.replace("$1", attribute).replace("$2", attributeValue);
+              attrElasticQuery = attributeValues != null
+                  ? termsQuery(attribute, attributeValues)
+                  : termQuery(attribute, attributeValue);
 
             } else if (BETWEEN_OP.equalsIgnoreCase(operator)) {
-              attrElasticQuery = RANGE_QUERY_BW.replace("$1", attribute)
-                  .replace("$2", GREATER_THAN_EQ).replace("$3", attrObj.getString(VALUE_LOWER))
-                  .replace("$4", LESS_THAN_EQ).replace("$5", attrObj.getString(VALUE_UPPER));
+              attrElasticQuery = betweenQuery(attribute, attrObj);
 
             } else if (NOT_EQUAL_OP.equalsIgnoreCase(operator)) {
-
-              boolObject.getJsonObject(BOOL_KEY).put(MUST_NOT,
-                  new JsonObject(TERM_QUERY.replace("$1", attribute)
-                      .replace("$2", attributeValue)));
+              if (attributeValues != null) {
+                mustNotQuery.add(termsQuery(attribute, attributeValues));
+              } else if (attrObj.containsKey(VALUE_LOWER)) {
+                mustNotQuery.add(betweenQuery(attribute, attrObj));
+              } else {
+                mustNotQuery.add(termQuery(attribute, attributeValue));
+              }
+
+            } else if (PATTERN_OP.equals(operator) || NOT_PATTERN_OP.equals(operator)) {
+              if (attributeValue.length() > REGEXP_MAX_LENGTH) {
+                return new JsonObject().put(ERROR, PATTERN_TOO_LONG);
+              }
+              if (PATTERN_OP.equals(operator)) {
+                attrElasticQuery = regexpQuery(attribute, attributeValue);
+              } else {
+                mustNotQuery.add(regexpQuery(attribute, attributeValue));
+              }
 
             } else {
               return new JsonObject().put(ERROR, INVALID_OPERATOR);
             }
 
-            if (!attrElasticQuery.isBlank()) {
-              filterQuery.add(new JsonObject(attrElasticQuery));
+            if (attrElasticQuery != null) {
+              filterQuery.add(attrElasticQuery);
             }
 
           } catch (NullPointerException e) {
-            LOGGER.error("Fail: " + MISSING_ATTRIBUTE_FIELDS + ";" + e.getMessage());
+            LOGGER.error("Fail: {};{}", MISSING_ATTRIBUTE_FIELDS, e.getMessage());
             return new JsonObject().put(ERROR, MISSING_ATTRIBUTE_FIELDS);
           }
         }
+        if (!mustNotQuery.isEmpty()) {
+          boolObject.getJsonObject(BOOL_KEY).put(MUST_NOT, mustNotQuery);
+        }
       }
     }
 
@@ -259,4 +274,51 @@ public class QueryDecoder {
       return elasticQuery.put(QUERY_KEY, boolObject);
     }
   }
+
+  private static JsonObject termQuery(String field, String value) {
+    return new JsonObject().put(TERM_KEY,
+        new JsonObject().put(field, Objects.requireNonNull(value, VALUE)));
+  }
+
+  private static JsonObject termsQuery(String field, JsonArray values) {
+    return new JsonObject().put(TERMS_KEY, new JsonObject().put(field, values));
+  }
+
+  private static JsonObject rangeQuery(String field, JsonObject bounds) {
+    return new JsonObject().put(RANGE_KEY, new JsonObject().put(field, bounds));
+  }
+
+  private static JsonObject betweenQuery(String field, JsonObject attrObj) {
+    return rangeQuery(field,
+        new JsonObject().put(GREATER_THAN_EQ, rangeValue(attrObj.getString(VALUE_LOWER)))
+            .put(LESS_THAN_EQ, rangeValue(attrObj.getString(VALUE_UPPER))));
+  }
+
+  /* Bounds the automaton the pattern compiles to, which may otherwise grow exponentially */
+  private static JsonObject regexpQuery(String field, String pattern) {
+    JsonObject regexp = new JsonObject().put(VALUE, pattern).put(REGEXP_FLAGS_KEY, REGEXP_FLAGS)
+        .put(MAX_DETERMINIZED_STATES_KEY, REGEXP_MAX_DETERMINIZED_STATES);
+    return new JsonObject().put(REGEXP_KEY, new JsonObject().put(field, regexp));
+  }
+
+  private static JsonObject geoShapeQuery(String type, JsonArray coordinates, String relation) {
+    JsonObject shape = new JsonObject().put(TYPE_KEY, type).put(COORDINATES_KEY, coordinates);
+    return new JsonObject().put(GEO_SHAPE_KEY, new JsonObject().put(GEO_KEY,
+        new JsonObject().put(SHAPE_KEY, shape).put(GEO_RELATION_KEY, relation)));
+  }
+
+  /* A bound of a range, written as a number when it is one */
+  private static Object rangeValue(String value) {
+    Objects.requireNonNull(value, VALUE);
+    try {
+      return Long.valueOf(value);
+    } catch (NumberFormatException e) {
+      try {
+        Double number = Double.valueOf(value);
+        return number.isNaN() || number.isInfinite() ? value : number;
+      } catch (NumberFormatException notNumber) {
+        return value;
+      }
+    }
+  }
 }
@@ -7,6 +7,7 @@ import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.json.JsonObject;
 
 /**
@@ -362,6 +363,20 @@ public interface DataBrokerService {
     return new DataBrokerServiceVertxEBProxy(vertx, address);
   }
 
+  /**
+   * The createProxy with delivery options, e.g. a message codec, for the proxy requests.
+   *
+   * @param vertx which is the vertx instance
+   * @param address which is the proxy address
+   * @param options which are the delivery options of the proxy requests
+   * @return DataBrokerServiceVertxEBProxy which is a service proxy
+   */
+
+  @GenIgnore
+  static DataBrokerService createProxy(Vertx vertx, String address, DeliveryOptions options) {
+    return new DataBrokerServiceVertxEBProxy(vertx, address, options);
+  }
+
   @Fluent
   DataBrokerService getExchange(JsonObject request,
       Handler<AsyncResult<JsonObject>> handler);
@@ -47,11 +47,16 @@ public class DataBrokerServiceImpl implements DataBrokerService {
 
   public DataBrokerServiceImpl(RabbitClient webClient,
       PostgresClient pgClient, String vhost) {
+    this(webClient, pgClient, vhost, null);
+  }
+
+  public DataBrokerServiceImpl(RabbitClient webClient,
+      PostgresClient pgClient, String vhost, String callbackPartitionExchange) {
     this.webClient = webClient;
     this.pgClient = pgClient;
     this.vhost = vhost;
-    this.subscriptionService =
-        new SubscriptionService(this.webClient, pgClient, this.vhost);
+    this.subscriptionService = new SubscriptionService(this.webClient, pgClient, this.vhost,
+        callbackPartitionExchange);
 
   }
 
@@ -71,7 +76,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("registerAdaptor resultHandler failed : " + resultHandler.cause());
+          LOGGER.error("registerAdaptor resultHandler failed : {}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -107,7 +112,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("getExchange resultHandler failed : " + resultHandler.cause());
+          LOGGER.error("getExchange resultHandler failed : {}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -135,7 +140,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("getExchange resultHandler failed : " + resultHandler.cause());
+          LOGGER.error("getExchange resultHandler failed : {}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -162,7 +167,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("deleteAdaptor - resultHandler failed : " + resultHandler.cause());
+          LOGGER.error("deleteAdaptor - resultHandler failed : {}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -187,8 +192,8 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error(
-              "registerStreamingSubscription - resultHandler failed : " + resultHandler.cause());
+          LOGGER.error("registerStreamingSubscription - resultHandler failed : {}",
+              resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -212,8 +217,8 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error(
-              "updateStreamingSubscription - resultHandler failed : " + resultHandler.cause());
+          LOGGER.error("updateStreamingSubscription - resultHandler failed : {}",
+              resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -238,8 +243,8 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error(
-              "appendStreamingSubscription - resultHandler failed : " + resultHandler.cause());
+          LOGGER.error("appendStreamingSubscription - resultHandler failed : {}",
+              resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -263,9 +268,8 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error(
-              "deleteStreamingSubscription - resultHandler failed : "
-                  + resultHandler.cause().getMessage());
+          LOGGER.error("deleteStreamingSubscription - resultHandler failed : {}",
+              resultHandler.cause().getMessage());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -315,8 +319,8 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error(
-              "registerCallbackSubscription - resultHandler failed : " + resultHandler.cause());
+          LOGGER.error("registerCallbackSubscription - resultHandler failed : {}",
+              resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -340,8 +344,8 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error(
-              "updateCallbackSubscription - resultHandler failed : " + resultHandler.cause());
+          LOGGER.error("updateCallbackSubscription - resultHandler failed : {}",
+              resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -365,8 +369,8 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error(
-              "deleteCallbackSubscription - resultHandler failed : " + resultHandler.cause());
+          LOGGER.error("deleteCallbackSubscription - resultHandler failed : {}",
+              resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -415,7 +419,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -448,7 +452,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -470,7 +474,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -492,7 +496,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -526,7 +530,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -547,7 +551,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -571,7 +575,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -595,7 +599,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -629,7 +633,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -651,7 +655,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -685,7 +689,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
           handler.handle(Future.succeededFuture(resultHandler.result()));
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
         }
       });
@@ -705,12 +709,12 @@ public class DataBrokerServiceImpl implements DataBrokerService {
     if (request != null && !request.isEmpty()) {
       json.put("body", request.toString());
       String resourceGroupId = request.getString("id");
-      LOGGER.debug("Info : resourceGroupId  " + resourceGroupId);
+      LOGGER.debug("Info : resourceGroupId  {}", resourceGroupId);
       String routingKey = resourceGroupId;
       if (resourceGroupId != null && !resourceGroupId.isBlank()) {
         resourceGroupId = resourceGroupId.substring(0, resourceGroupId.lastIndexOf("/"));
-        LOGGER.debug("Info : resourceGroupId  " + resourceGroupId);
-        LOGGER.debug("Info : routingKey  " + routingKey);
+        LOGGER.debug("Info : resourceGroupId  {}", resourceGroupId);
+        LOGGER.debug("Info : routingKey  {}", routingKey);
         webClient.getRabbitMQClient().basicPublish(resourceGroupId, routingKey, json,
             resultHandler -> {
           if (resultHandler.succeeded()) {
@@ -719,7 +723,7 @@ public class DataBrokerServiceImpl implements DataBrokerService {
             handler.handle(Future.succeededFuture(finalResponse));
           } else {
             finalResponse.put(TYPE, HttpStatus.SC_BAD_REQUEST);
-            LOGGER.error("Fail : " + resultHandler.cause().toString());
+            LOGGER.error("Fail : {}", resultHandler.cause());
             handler.handle(Future.failedFuture(resultHandler.cause().getMessage()));
           }
         });
@@ -762,17 +766,18 @@ public class DataBrokerServiceImpl implements DataBrokerService {
                       webClient.getRabbitMQClient().basicPublish(adaptor, routingKey, message,
                           resultHandler -> {
                         if (resultHandler.succeeded()) {
-                          LOGGER.info("publishHeartbeat - message published to queue [ " + queueName
-                              + " ] for routingKey [ " + routingKey + " ]");
+                          LOGGER.info(
+                              "publishHeartbeat - message published to queue [ {} ] "
+                                  + "for routingKey [ {} ]",
+                              queueName, routingKey);
                           response.put("type", "success");
                           response.put("queueName", queueName);
                           response.put("routingKey", rk.toString());
                           response.put("detail", "routingKey matched");
                           handler.handle(Future.succeededFuture(response));
                         } else {
-                          LOGGER.error(
-                              "publishHeartbeat - some error in publishing message to queue [ "
-                                  + queueName + " ]. cause : " + resultHandler.cause());
+                          LOGGER.error("publishHeartbeat - some error in publishing message to "
+                              + "queue [ {} ]. cause : {}", queueName, resultHandler.cause());
                           response.put("messagePublished", "failed");
                           response.put("type", "error");
                           response.put("detail", "routingKey not matched");
@@ -780,9 +785,8 @@ public class DataBrokerServiceImpl implements DataBrokerService {
                         }
                       });
                     } else {
-                      LOGGER.error(
-                          "publishHeartbeat - routingKey [ " + routingKey + " ] not matched with [ "
-                              + rk.toString() + " ] for queue [ " + queueName + " ]");
+                      LOGGER.error("publishHeartbeat - routingKey [ {} ] not matched with [ {} ] "
+                          + "for queue [ {} ]", routingKey, rk, queueName);
                       handler.handle(Future.failedFuture(
                           "publishHeartbeat - routingKey [ " + routingKey + " ] not matched with [ "
                               + rk.toString() + " ] for queue [ " + queueName + " ]"));
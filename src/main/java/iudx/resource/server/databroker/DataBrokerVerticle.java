@@ -10,8 +10,8 @@ import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgPool;
 import io.vertx.rabbitmq.RabbitMQClient;
 import io.vertx.rabbitmq.RabbitMQOptions;
-import io.vertx.serviceproxy.ServiceBinder;
 import io.vertx.sqlclient.PoolOptions;
+import iudx.resource.server.common.EventBusServices;
 
 /**
  * The Data Broker Verticle.
@@ -155,13 +155,14 @@ public class DataBrokerVerticle extends AbstractVerticle {
     rabbitClient =
         new RabbitClient(vertx, config, rabbitWebClient, pgClient);
 
-    databroker = new DataBrokerServiceImpl(rabbitClient, pgClient, dataBrokerVhost);
+    databroker = new DataBrokerServiceImpl(rabbitClient, pgClient, dataBrokerVhost,
+        config().getString("callbackPartitionExchange"));
 
 
     /* Publish the Data Broker service with the Event Bus against an address. */
 
-    new ServiceBinder(vertx).setAddress(BROKER_SERVICE_ADDRESS)
-      .register(DataBrokerService.class, databroker);
+    EventBusServices.register(vertx, BROKER_SERVICE_ADDRESS, DataBrokerService.class,
+        databroker);
 
   }
 }
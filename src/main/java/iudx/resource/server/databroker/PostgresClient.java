@@ -11,6 +11,7 @@ import io.vertx.sqlclient.PoolOptions;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowSet;
 import io.vertx.sqlclient.SqlConnection;
+import iudx.resource.server.common.BackendMetrics;
 
 public class PostgresClient {
   private static final Logger LOGGER = LogManager.getLogger(PostgresClient.class);
@@ -24,7 +25,7 @@ public class PostgresClient {
 
   public Future<RowSet<Row>> executeAsync(String preparedQuerySQL) {
     LOGGER.debug("Info : PostgresQLClient#executeAsync() started");
-    LOGGER.debug("Info : Query is : " + preparedQuerySQL);
+    LOGGER.debug("Info : Query is : {}", preparedQuerySQL);
     Promise<RowSet<Row>> promise = Promise.promise();
     pgPool.getConnection(connectionHandler -> {
       if (connectionHandler.succeeded()) {
@@ -35,13 +36,16 @@ public class PostgresClient {
             promise.complete(handler.result());
           } else {
             pgConnection.close();
-            LOGGER.fatal("Fail : " + handler.cause());
+            LOGGER.fatal("Fail : {}", handler.cause());
             promise.fail(handler.cause());
           }          
         });
+      } else {
+        LOGGER.fatal("Fail : {}", connectionHandler.cause());
+        promise.fail(connectionHandler.cause());
       }
     });
     
-    return promise.future();
+    return BackendMetrics.time(BackendMetrics.POSTGRES, promise.future());
   }
 }
@@ -2,11 +2,14 @@ package iudx.resource.server.databroker;
 
 import static iudx.resource.server.databroker.util.Constants.*;
 import static iudx.resource.server.databroker.util.Util.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.apache.http.HttpStatus;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -69,7 +72,7 @@ public class RabbitClient {
           JsonObject responseJson = new JsonObject();
           HttpResponse<Buffer> response = requestHandler.result();
           int statusCode = response.statusCode();
-          System.out.println(statusCode);
+          LOGGER.debug("Info : Status code {}", statusCode);
           if (statusCode == HttpStatus.SC_CREATED) {
             responseJson.put(EXCHANGE, exchangeName);
           } else if (statusCode == HttpStatus.SC_NO_CONTENT) {
@@ -78,12 +81,12 @@ public class RabbitClient {
             responseJson = Util.getResponseJson(statusCode, FAILURE,
                 EXCHANGE_EXISTS_WITH_DIFFERENT_PROPERTIES);
           }
-          LOGGER.debug("Success : " + responseJson);
+          LOGGER.debug("Success : {}", responseJson);
           promise.complete(responseJson);
         } else {
           JsonObject errorJson = Util.getResponseJson(HttpStatus.SC_INTERNAL_SERVER_ERROR, ERROR,
               EXCHANGE_CREATE_ERROR);
-          LOGGER.error("Fail : " + requestHandler.cause());
+          LOGGER.error("Fail : {}", requestHandler.cause());
           promise.fail(errorJson.toString());
         }
       });
@@ -107,12 +110,12 @@ public class RabbitClient {
           } else {
             responseJson = Util.getResponseJson(statusCode, FAILURE, EXCHANGE_NOT_FOUND);
           }
-          LOGGER.debug("Success : " + responseJson);
+          LOGGER.debug("Success : {}", responseJson);
           promise.complete(responseJson);
         } else {
           JsonObject errorJson =
               Util.getResponseJson(HttpStatus.SC_INTERNAL_SERVER_ERROR, ERROR, EXCHANGE_NOT_FOUND);
-          LOGGER.error("Error : " + requestHandler.cause());
+          LOGGER.error("Error : {}", requestHandler.cause());
           promise.fail(errorJson.toString());
         }
       });
@@ -145,7 +148,7 @@ public class RabbitClient {
           response.put("getExchange_error", result.cause());
           promise.fail("getExchange_error" + result.cause());
         }
-        LOGGER.info("getExchange method response : " + response);
+        LOGGER.info("getExchange method response : {}", response);
         promise.complete(response);
       });
 
@@ -179,13 +182,13 @@ public class RabbitClient {
             responseJson.put(EXCHANGE, exchangeName);
           } else {
             responseJson = Util.getResponseJson(statusCode, FAILURE, EXCHANGE_NOT_FOUND);
-            LOGGER.debug("Success : " + responseJson);
+            LOGGER.debug("Success : {}", responseJson);
           }
           promise.complete(responseJson);
         } else {
           JsonObject errorJson = Util.getResponseJson(HttpStatus.SC_INTERNAL_SERVER_ERROR, ERROR,
               EXCHANGE_DELETE_ERROR);
-          LOGGER.error("Error : " + requestHandler.cause());
+          LOGGER.error("Error : {}", requestHandler.cause());
           promise.fail(errorJson.toString());
         }
       });
@@ -221,9 +224,9 @@ public class RabbitClient {
                     .collect(Collectors.toMap(json -> json.getString("destination"),
                         json -> new JsonArray().add(json.getString("routing_key")),
                         Util.bindingMergeOperator));
-                LOGGER.debug("Info : exchange subscribers : " + jsonBody);
+                LOGGER.debug("Info : exchange subscribers : {}", jsonBody);
                 finalResponse.clear().mergeIn(new JsonObject(res));
-                LOGGER.debug("Info : final Response : " + finalResponse);
+                LOGGER.debug("Info : final Response : {}", finalResponse);
                 if (finalResponse.isEmpty()) {
                   finalResponse.clear().mergeIn(
                       Util.getResponseJson(HttpStatus.SC_NOT_FOUND, FAILURE, EXCHANGE_NOT_FOUND),
@@ -236,9 +239,9 @@ public class RabbitClient {
             }
           }
           promise.complete(finalResponse);
-          LOGGER.debug("Success :" + finalResponse);
+          LOGGER.debug("Success :{}", finalResponse);
         } else {
-          LOGGER.error("Fail : Listing of Exchange failed - " + ar.cause());
+          LOGGER.error("Fail : Listing of Exchange failed - {}", ar.cause());
           JsonObject error = Util.getResponseJson(500, FAILURE, "Internal server error");
           promise.fail(error.toString());
         }
@@ -285,9 +288,9 @@ public class RabbitClient {
             }
           }
           promise.complete(finalResponse);
-          LOGGER.info("Success : " + finalResponse);
+          LOGGER.info("Success : {}", finalResponse);
         } else {
-          LOGGER.error("Fail : Creation of Queue failed - " + ar.cause());
+          LOGGER.error("Fail : Creation of Queue failed - {}", ar.cause());
           finalResponse.mergeIn(Util.getResponseJson(500, FAILURE, QUEUE_CREATE_ERROR));
           promise.fail(finalResponse.toString());
         }
@@ -310,7 +313,7 @@ public class RabbitClient {
     JsonObject finalResponse = new JsonObject();
     if (request != null && !request.isEmpty()) {
       String queueName = request.getString("queueName");
-      LOGGER.debug("Info : queuName" + queueName);
+      LOGGER.debug("Info : queuName{}", queueName);
       String url = "/api/queues/" + vhost + "/" + encodeValue(queueName);
       webClient.requestAsync(REQUEST_DELETE, url).onComplete(ar -> {
         if (ar.succeeded()) {
@@ -326,7 +329,7 @@ public class RabbitClient {
           LOGGER.info(finalResponse);
           promise.complete(finalResponse);
         } else {
-          LOGGER.error("Fail : deletion of queue failed - " + ar.cause());
+          LOGGER.error("Fail : deletion of queue failed - {}", ar.cause());
           finalResponse.mergeIn(Util.getResponseJson(500, FAILURE, QUEUE_DELETE_ERROR));
           promise.fail(finalResponse.toString());
         }
@@ -361,7 +364,7 @@ public class RabbitClient {
             HttpResponse<Buffer> response = ar.result();
             if (response != null && !response.equals(" ")) {
               int status = response.statusCode();
-              LOGGER.info("Info : Binding " + rkey.toString() + "Success. Status is " + status);
+              LOGGER.info("Info : Binding {}Success. Status is {}", rkey, status);
               if (status == HttpStatus.SC_CREATED) {
                 finalResponse.put(Constants.EXCHANGE, exchangeName);
                 finalResponse.put(Constants.QUEUE, queueName);
@@ -372,11 +375,11 @@ public class RabbitClient {
               }
             }
             if (rkey == entities.getValue(arrayPos)) {
-              LOGGER.debug("Success : " + finalResponse);
+              LOGGER.debug("Success : {}", finalResponse);
               promise.complete(finalResponse);
             }
           } else {
-            LOGGER.error("Fail : Binding of Queue failed - " + ar.cause());
+            LOGGER.error("Fail : Binding of Queue failed - {}", ar.cause());
             finalResponse.mergeIn(Util.getResponseJson(500, FAILURE, QUEUE_BIND_ERROR));
             promise.fail(finalResponse.toString());
           }
@@ -386,6 +389,58 @@ public class RabbitClient {
     return promise.future();
   }
 
+  /**
+   * The bindExchange implements the bind exchange to exchange by routing key.
+   * 
+   * @param request which is a Json object
+   * @param vhost virtual-host
+   * @return response which is a Future object of promise of Json type
+   */
+  Future<JsonObject> bindExchange(JsonObject request, String vhost) {
+    LOGGER.debug("Info : RabbitClient#bindExchange() started");
+    JsonObject finalResponse = new JsonObject();
+    Promise<JsonObject> promise = Promise.promise();
+    if (request != null && !request.isEmpty()) {
+      String exchangeName = request.getString(EXCHANGE_NAME);
+      String destinationExchangeName = request.getString(DESTINATION_EXCHANGE_NAME);
+      JsonArray entities = request.getJsonArray(ENTITIES);
+      String url = "/api/bindings/" + vhost + "/e/" + encodeValue(exchangeName) + "/e/"
+          + encodeValue(destinationExchangeName);
+      /* one binding per routing key, the response is built once all of them are done */
+      List<Future> bindings = new ArrayList<>(entities.size());
+      for (Object rkey : entities) {
+        JsonObject requestBody = new JsonObject().put("routing_key", rkey.toString());
+        bindings.add(webClient.requestAsync(REQUEST_POST, url, requestBody));
+      }
+      CompositeFuture.all(bindings).onComplete(ar -> {
+        if (ar.failed()) {
+          LOGGER.error("Fail : Binding of Exchange failed - {}", ar.cause());
+          finalResponse.mergeIn(Util.getResponseJson(500, FAILURE, EXCHANGE_BIND_ERROR));
+          promise.fail(finalResponse.toString());
+          return;
+        }
+        for (int i = 0; i < entities.size(); i++) {
+          HttpResponse<Buffer> response = ar.result().resultAt(i);
+          if (response == null) {
+            continue;
+          }
+          int status = response.statusCode();
+          LOGGER.info("Info : Binding {} Success. Status is {}", entities.getValue(i), status);
+          if (status == HttpStatus.SC_CREATED) {
+            finalResponse.put(Constants.EXCHANGE, exchangeName);
+            finalResponse.put(DESTINATION_EXCHANGE_NAME, destinationExchangeName);
+            finalResponse.put(Constants.ENTITIES, entities);
+          } else if (status == HttpStatus.SC_NOT_FOUND) {
+            finalResponse.mergeIn(Util.getResponseJson(status, FAILURE, EXCHANGE_NOT_FOUND));
+          }
+        }
+        LOGGER.debug("Success : {}", finalResponse);
+        promise.complete(finalResponse);
+      });
+    }
+    return promise.future();
+  }
+
   /**
    * The unbindQueue implements the unbind queue to exchange by routing key.
    * 
@@ -419,11 +474,11 @@ public class RabbitClient {
               }
             }
             if (rkey == entities.getValue(arrayPos)) {
-              LOGGER.debug("Success : " + finalResponse);
+              LOGGER.debug("Success : {}", finalResponse);
               promise.complete(finalResponse);
             }
           } else {
-            LOGGER.error("Fail : Unbinding of Queue failed" + ar.cause());
+            LOGGER.error("Fail : Unbinding of Queue failed{}", ar.cause());
             finalResponse.mergeIn(Util.getResponseJson(500, FAILURE, QUEUE_BIND_ERROR));
             promise.fail(finalResponse.toString());
           }
@@ -459,9 +514,9 @@ public class RabbitClient {
             }
           }
           promise.complete(finalResponse);
-          LOGGER.info("Success : " + finalResponse);
+          LOGGER.info("Success : {}", finalResponse);
         } else {
-          LOGGER.error(" Fail : Creation of vHost failed" + ar.cause());
+          LOGGER.error(" Fail : Creation of vHost failed{}", ar.cause());
           finalResponse.mergeIn(Util.getResponseJson(500, FAILURE, VHOST_CREATE_ERROR));
           promise.fail(finalResponse.toString());
         }
@@ -488,7 +543,7 @@ public class RabbitClient {
           HttpResponse<Buffer> response = ar.result();
           if (response != null && !response.equals(" ")) {
             int status = response.statusCode();
-            LOGGER.debug("Info : statusCode" + status);
+            LOGGER.debug("Info : statusCode{}", status);
             if (status == HttpStatus.SC_NO_CONTENT) {
               finalResponse.put(Constants.VHOST, vhost);
             } else if (status == HttpStatus.SC_NOT_FOUND) {
@@ -496,9 +551,9 @@ public class RabbitClient {
             }
           }
           promise.complete(finalResponse);
-          LOGGER.info("Success : " + finalResponse);
+          LOGGER.info("Success : {}", finalResponse);
         } else {
-          LOGGER.error("Fail : Deletion of vHost failed -" + ar.cause());
+          LOGGER.error("Fail : Deletion of vHost failed -{}", ar.cause());
           finalResponse.mergeIn(Util.getResponseJson(500, FAILURE, VHOST_DELETE_ERROR));
           promise.fail(finalResponse.toString());
         }
@@ -526,7 +581,7 @@ public class RabbitClient {
           HttpResponse<Buffer> response = ar.result();
           if (response != null && !response.equals(" ")) {
             int status = response.statusCode();
-            LOGGER.debug("Info : statusCode" + status);
+            LOGGER.debug("Info : statusCode{}", status);
             if (status == HttpStatus.SC_OK) {
               Buffer body = response.body();
               if (body != null) {
@@ -544,10 +599,10 @@ public class RabbitClient {
               finalResponse.mergeIn(Util.getResponseJson(status, FAILURE, VHOST_NOT_FOUND));
             }
           }
-          LOGGER.info("Success : " + finalResponse);
+          LOGGER.info("Success : {}", finalResponse);
           promise.complete(finalResponse);
         } else {
-          LOGGER.error("Fail : Listing of vHost failed - " + ar.cause());
+          LOGGER.error("Fail : Listing of vHost failed - {}", ar.cause());
           finalResponse.mergeIn(Util.getResponseJson(500, FAILURE, VHOST_LIST_ERROR));
           promise.fail(finalResponse.toString());
         }
@@ -575,7 +630,7 @@ public class RabbitClient {
           HttpResponse<Buffer> response = ar.result();
           if (response != null && !response.equals(" ")) {
             int status = response.statusCode();
-            LOGGER.debug("Info : statusCode " + status);
+            LOGGER.debug("Info : statusCode {}", status);
             if (status == HttpStatus.SC_OK) {
               Buffer body = response.body();
               if (body != null) {
@@ -599,10 +654,10 @@ public class RabbitClient {
                   .mergeIn(Util.getResponseJson(status, FAILURE, QUEUE_DOES_NOT_EXISTS));
             }
           }
-          LOGGER.debug("Info : " + finalResponse);
+          LOGGER.debug("Info : {}", finalResponse);
           promise.complete(finalResponse);
         } else {
-          LOGGER.error("Error : Listing of Queue failed - " + ar.cause());
+          LOGGER.error("Error : Listing of Queue failed - {}", ar.cause());
           finalResponse.mergeIn(Util.getResponseJson(500, FAILURE, QUEUE_LIST_ERROR));
           promise.fail(finalResponse.toString());
         }
@@ -660,7 +715,7 @@ public class RabbitClient {
           LOGGER.debug("Success : Adapter created successfully.");
           promise.complete(response);
         }).onFailure(failure -> {
-          LOGGER.info("Error : " + failure);
+          LOGGER.info("Error : {}", failure);
           promise.fail(failure);
         });
       } else {
@@ -694,16 +749,16 @@ public class RabbitClient {
   public Future<JsonObject> registerAdaptor_V1(JsonObject request, String vhost) {
     LOGGER.debug("Info : RabbitClient#registerAdaptor() started");
     Promise<JsonObject> promise = Promise.promise();
-    System.out.println(request.toString());
+    LOGGER.debug("Info : Request {}", request);
     /* Get the ID and userName from the request */
     String id = request.getString("resourceGroup");
     String resourceServer = request.getString("resourceServer");
     String userName = request.getString(CONSUMER);
 
     String provider = request.getString("provider");
-    LOGGER.debug("Info : Resource Group Name given by user is : " + id);
-    LOGGER.debug("Info : Resource Server Name by user is : " + resourceServer);
-    LOGGER.debug("Info : User Name is : " + userName);
+    LOGGER.debug("Info : Resource Group Name given by user is : {}", id);
+    LOGGER.debug("Info : Resource Server Name by user is : {}", resourceServer);
+    LOGGER.debug("Info : User Name is : {}", userName);
     /* Construct a response object */
     JsonObject registerResponse = new JsonObject();
     /* Validate the request object */
@@ -721,16 +776,16 @@ public class RabbitClient {
               if (rh.succeeded()) {
                 /* Obtain the result of user creation */
                 JsonObject result = rh.result();
-                LOGGER.debug("Info : Response of createUserIfNotExist is : " + result);
+                LOGGER.debug("Info : Response of createUserIfNotExist is : {}", result);
                 /* Construct the domain, userNameSHA, userID and adaptorID */
                 String domain = userName.substring(userName.indexOf("@") + 1, userName.length());
                 String userNameSha = Util.getSha(userName);
                 String userID = domain + "/" + userNameSha;
                 String adaptorID = provider + "/" + resourceServer + "/" + id;
                 String apikey = result.getString(APIKEY);
-                LOGGER.debug("Info : userID is : " + userID);
-                LOGGER.debug("Info : adaptorID is : " + adaptorID);
-                LOGGER.debug("Info : apikey is : " + apikey);
+                LOGGER.debug("Info : userID is : {}", userID);
+                LOGGER.debug("Info : adaptorID is : {}", adaptorID);
+                LOGGER.debug("Info : apikey is : {}", apikey);
                 if (adaptorID != null && !adaptorID.isBlank() && !adaptorID.isEmpty()) {
                   JsonObject json = new JsonObject();
                   json.put(EXCHANGE_NAME, adaptorID);
@@ -741,24 +796,23 @@ public class RabbitClient {
                     if (ar.succeeded()) {
                       /* Obtain the result of exchange creation */
                       JsonObject obj = ar.result();
-                      LOGGER.debug("Info : Response of createExchange is : " + obj);
-                      LOGGER.debug("Info : exchange name provided : " + adaptorID);
-                      LOGGER.debug("Info : exchange name received : " + obj.getString("exchange"));
+                      LOGGER.debug("Info : Response of createExchange is : {}", obj);
+                      LOGGER.debug("Info : exchange name provided : {}", adaptorID);
+                      LOGGER.debug("Info : exchange name received : {}", obj.getString("exchange"));
                       // if exchange just registered then set topic permission and bind with queues
                       if (!obj.containsKey("detail")) {
                         Future<JsonObject> topicPermissionFuture =
                             setTopicPermissions(vhost, adaptorID, userID);
                         topicPermissionFuture.onComplete(topicHandler -> {
                           if (topicHandler.succeeded()) {
-                            LOGGER.debug("Success : Write permission set on topic for exchange "
-                                + obj.getString("exchange"));
+                            LOGGER.debug("Success : Write permission set on topic for exchange {}",
+                                obj.getString("exchange"));
                             /* Bind the exchange with the database and adaptorLogs queue */
                             Future<JsonObject> queueBindFuture = queueBinding(adaptorID);
                             queueBindFuture.onComplete(res -> {
                               if (res.succeeded()) {
-                                LOGGER.debug(
-                                    "Success : Queue_Database, Queue_adaptorLogs binding done with "
-                                        + obj.getString("exchange") + " exchange");
+                                LOGGER.debug("Success : Queue_Database, Queue_adaptorLogs binding "
+                                    + "done with {} exchange", obj.getString("exchange"));
                                 /* Construct the response for registration of adaptor */
                                 registerResponse.put(USER_NAME, userID);
                                 /*
@@ -773,12 +827,12 @@ public class RabbitClient {
                                     Constants.BROKER_PRODUCTION_PORT);
                                 registerResponse.put(Constants.VHOST, Constants.VHOST_IUDX);
 
-                                LOGGER.debug("Info : registerResponse : " + registerResponse);
+                                LOGGER.debug("Info : registerResponse : {}", registerResponse);
                                 promise.complete(registerResponse);
                               } else {
                                 /* Handle Queue Error */
-                                LOGGER.error(
-                                    "Error : error in queue binding with adaptor - " + res.cause());
+                                LOGGER.error("Error : error in queue binding with adaptor - {}",
+                                    res.cause());
                                 registerResponse.clear().mergeIn(
                                     getResponseJson(BAD_REQUEST_CODE, ERROR, QUEUE_BIND_ERROR));
                                 promise.fail(registerResponse.toString());
@@ -786,9 +840,9 @@ public class RabbitClient {
                             });
                           } else {
                             /* Handle Topic Permission Error */
-                            LOGGER.error("Error : topic permissions not set for exchange "
-                                + obj.getString("exchange") + " - cause : "
-                                + topicHandler.cause().getMessage());
+                            LOGGER.error("Error : topic permissions not set for exchange {} - "
+                                + "cause : {}", obj.getString("exchange"),
+                                topicHandler.cause().getMessage());
                             registerResponse.clear().mergeIn(getResponseJson(BAD_REQUEST_CODE,
                                 ERROR, TOPIC_PERMISSION_SET_ERROR));
                             promise.fail(registerResponse.toString());
@@ -798,8 +852,8 @@ public class RabbitClient {
                           && !obj.getString("detail").isEmpty()
                           && obj.getString("detail").equalsIgnoreCase("Exchange already exists")) {
                         /* Handle Exchange Error */
-                        LOGGER.error(
-                            "Error : something wrong in exchange declaration : " + ar.cause());
+                        LOGGER.error("Error : something wrong in exchange declaration : {}",
+                            ar.cause());
                         registerResponse.clear()
                             .mergeIn(getResponseJson(BAD_REQUEST_CODE, ERROR, EXCHANGE_EXISTS));
                         promise.fail(registerResponse.toString());
@@ -820,13 +874,13 @@ public class RabbitClient {
                 }
               } else if (rh.failed()) {
                 /* Handle User Creation Error */
-                LOGGER.error("Error : User creation failed. " + rh.cause());
+                LOGGER.error("Error : User creation failed. {}", rh.cause());
                 registerResponse.clear()
                     .mergeIn(getResponseJson(BAD_REQUEST_CODE, ERROR, USER_CREATION_ERROR));
                 promise.fail(registerResponse.toString());
               } else {
                 /* Handle User Creation Error */
-                LOGGER.error("Error : User creation failed. " + rh.cause());
+                LOGGER.error("Error : User creation failed. {}", rh.cause());
                 registerResponse.clear()
                     .mergeIn(getResponseJson(BAD_REQUEST_CODE, ERROR, USER_CREATION_ERROR));
                 promise.fail(registerResponse.toString());
@@ -864,7 +918,7 @@ public class RabbitClient {
     LOGGER.debug("Info : RabbitClient#deleteAdapter() started");
     Promise<JsonObject> promise = Promise.promise();
     JsonObject finalResponse = new JsonObject();
-    System.out.println(json.toString());
+    LOGGER.debug("Info : Request {}", json);
     Future<JsonObject> result = getExchange(json, vhost);
     result.onComplete(resultHandler -> {
       if (resultHandler.succeeded()) {
@@ -873,16 +927,16 @@ public class RabbitClient {
           String exchangeID = json.getString("id");
           client.exchangeDelete(exchangeID, rh -> {
             if (rh.succeeded()) {
-              LOGGER.debug("Info : " + exchangeID + " adaptor deleted successfully");
+              LOGGER.debug("Info : {} adaptor deleted successfully", exchangeID);
               finalResponse.mergeIn(getResponseJson(200, "success", "adaptor deleted"));
             } else if (rh.failed()) {
               finalResponse.clear()
                   .mergeIn(getResponseJson(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Adaptor deleted",
                       rh.cause().toString()));
-              LOGGER.error("Error : Adaptor deletion failed cause - " + rh.cause());
+              LOGGER.error("Error : Adaptor deletion failed cause - {}", rh.cause());
               promise.fail(finalResponse.toString());
             } else {
-              LOGGER.error("Error : Something wrong in deleting adaptor" + rh.cause());
+              LOGGER.error("Error : Something wrong in deleting adaptor{}", rh.cause());
               finalResponse.mergeIn(getResponseJson(400, "bad request", "nothing to delete"));
               promise.fail(finalResponse.toString());
             }
@@ -901,7 +955,7 @@ public class RabbitClient {
         }
       }
       if (resultHandler.failed()) {
-        LOGGER.error("Error : deleteAdaptor - resultHandler failed : " + resultHandler.cause());
+        LOGGER.error("Error : deleteAdaptor - resultHandler failed : {}", resultHandler.cause());
         finalResponse
             .mergeIn(getResponseJson(INTERNAL_ERROR_CODE, "bad request", "nothing to delete"));
         promise.fail(finalResponse.toString());
@@ -950,7 +1004,7 @@ public class RabbitClient {
               response.put(VHOST_PERMISSIONS, vhost);
               promise.complete(response);
             } else {
-              LOGGER.error("Error : Error in user creation. Cause : " + handler.cause());
+              LOGGER.error("Error : Error in user creation. Cause : {}", handler.cause());
               response.mergeIn(getResponseJson(INTERNAL_ERROR_CODE, ERROR, USER_CREATION_ERROR));
               promise.fail(response.toString());
             }
@@ -983,8 +1037,8 @@ public class RabbitClient {
 
       } else {
         /* Handle API error */
-        LOGGER.error(
-            "Error : Something went wrong while finding user using mgmt API: " + reply.cause());
+        LOGGER.error("Error : Something went wrong while finding user using mgmt API: {}",
+            reply.cause());
         promise.fail(reply.cause().toString());
       }
     });
@@ -1029,21 +1083,22 @@ public class RabbitClient {
                   promise.complete(response);
                 } else {
                   /* Handle error */
-                  LOGGER.error("Error : error in saving credentials. Cause : "
-                      + createUserinDbHandler.cause());
+                  LOGGER.error("Error : error in saving credentials. Cause : {}",
+                      createUserinDbHandler.cause());
                   promise.fail("Error : error in saving credentials");
                 }
               });
             } else {
               /* Handle error */
-              LOGGER.error("Error : error in setting vhostPermissions. Cause : " + handler.cause());
+              LOGGER.error("Error : error in setting vhostPermissions. Cause : {}",
+                  handler.cause());
               promise.fail("Error : error in setting vhostPermissions");
             }
           });
 
         } else {
           /* Handle error */
-          LOGGER.error("Error : createUser method - Some network error. cause" + ar.cause());
+          LOGGER.error("Error : createUser method - Some network error. cause{}", ar.cause());
           response.put(FAILURE, NETWORK_ISSUE);
           promise.fail(response.toString());
         }
@@ -1064,7 +1119,6 @@ public class RabbitClient {
     JsonObject response = new JsonObject();
 
     String query = INSERT_DATABROKER_USER.replace("$1", shaUsername).replace("$2", password);
-    System.out.println(query);
 
     // Check in DB, get username and password
     pgSQLClient.executeAsync(query).onComplete(db -> {
@@ -1087,7 +1141,7 @@ public class RabbitClient {
     Promise<JsonObject> promise = Promise.promise();
     JsonObject response = new JsonObject();
     String query = SELECT_DATABROKER_USER.replace("$1", shaUsername);
-    LOGGER.debug("Info : " + query);
+    LOGGER.debug("Info : {}", query);
     // Check in DB, get username and password
     pgSQLClient.executeAsync(query).onComplete(db -> {
       LOGGER.debug("Info : RabbitClient#getUserInDb()executeAsync completed");
@@ -1145,14 +1199,14 @@ public class RabbitClient {
               getResponseJson(SUCCESS_CODE, TOPIC_PERMISSION, TOPIC_PERMISSION_ALREADY_SET));
           promise.complete(response);
         } else { /* Check if request has an error */
-          LOGGER.error(
-              "Error : error in setting topic permissions" + result.result().statusMessage());
+          LOGGER.error("Error : error in setting topic permissions{}",
+              result.result().statusMessage());
           response.mergeIn(
               getResponseJson(INTERNAL_ERROR_CODE, TOPIC_PERMISSION, TOPIC_PERMISSION_SET_ERROR));
           promise.fail(response.toString());
         }
       } else { /* Check if request has an error */
-        LOGGER.error("Error : error in setting topic permission : " + result.cause());
+        LOGGER.error("Error : error in setting topic permission : {}", result.cause());
         response.mergeIn(
             getResponseJson(INTERNAL_ERROR_CODE, TOPIC_PERMISSION, TOPIC_PERMISSION_SET_ERROR));
         promise.fail(response.toString());
@@ -1185,22 +1239,22 @@ public class RabbitClient {
       if (handler.succeeded()) {
         /* Check if permission was set */
         if (handler.result().statusCode() == HttpStatus.SC_CREATED) {
-          LOGGER.debug("Success :write permission set for user [ " + shaUsername + " ] in vHost [ "
-              + vhost + "]");
+          LOGGER.debug("Success :write permission set for user [ {} ] in vHost [ {}]", shaUsername,
+              vhost);
           vhostPermissionResponse
               .mergeIn(getResponseJson(SUCCESS_CODE, VHOST_PERMISSIONS, VHOST_PERMISSIONS_WRITE));
           promise.complete(vhostPermissionResponse);
         } else {
-          LOGGER.error("Error : error in write permission set for user [ " + shaUsername
-              + " ] in vHost [ " + vhost + " ]");
+          LOGGER.error("Error : error in write permission set for user [ {} ] in vHost [ {} ]",
+              shaUsername, vhost);
           vhostPermissionResponse.mergeIn(
               getResponseJson(INTERNAL_ERROR_CODE, VHOST_PERMISSIONS, VHOST_PERMISSION_SET_ERROR));
           promise.fail(vhostPermissions.toString());
         }
       } else {
         /* Check if request has an error */
-        LOGGER.error("Error : error in write permission set for user [ " + shaUsername
-            + " ] in vHost [ " + vhost + " ]");
+        LOGGER.error("Error : error in write permission set for user [ {} ] in vHost [ {} ]",
+            shaUsername, vhost);
         vhostPermissionResponse.mergeIn(
             getResponseJson(INTERNAL_ERROR_CODE, VHOST_PERMISSIONS, VHOST_PERMISSION_SET_ERROR));
         promise.fail(vhostPermissions.toString());
@@ -1230,10 +1284,10 @@ public class RabbitClient {
           JsonObject response = new JsonObject();
           response.mergeIn(getResponseJson(SUCCESS_CODE, "Queue_Database",
               QUEUE_DATA + " queue bound to " + adaptorID));
-          LOGGER.debug("Success : " + response);
+          LOGGER.debug("Success : {}", response);
           promise.complete(response);
         }).onFailure(failureHandler -> {
-          LOGGER.error("Error : queue bind error : " + failureHandler.getCause().toString());
+          LOGGER.error("Error : queue bind error : {}", failureHandler.getCause());
           JsonObject response = getResponseJson(INTERNAL_ERROR_CODE, ERROR, QUEUE_BIND_ERROR);
           promise.fail(response.toString());
         });
@@ -1242,13 +1296,13 @@ public class RabbitClient {
 
   Future<Void> bindQueue(String data, String adaptorID, String topics) {
     LOGGER.debug("Info : RabbitClient#bindQueue() started");
-    LOGGER.debug("Info : data : " + data + " adaptorID : " + adaptorID + " topics : " + topics);
+    LOGGER.debug("Info : data : {} adaptorID : {} topics : {}", data, adaptorID, topics);
     Promise<Void> promise = Promise.promise();
     client.queueBind(data, adaptorID, topics, handler -> {
       if (handler.succeeded()) {
         promise.complete();
       } else {
-        LOGGER.error("Error : Queue" + data + " binding error : " + handler.cause());
+        LOGGER.error("Error : Queue{} binding error : {}", data, handler.cause());
         promise.fail(handler.cause());
       }
     });
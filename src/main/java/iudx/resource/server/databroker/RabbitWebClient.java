@@ -13,6 +13,7 @@ import io.vertx.ext.web.client.HttpResponse;
 
 import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.client.WebClientOptions;
+import iudx.resource.server.common.BackendMetrics;
 
 public class RabbitWebClient {
   private static final Logger LOGGER = LogManager.getLogger(RabbitWebClient.class);
@@ -34,7 +35,7 @@ public class RabbitWebClient {
   public Future<HttpResponse<Buffer>> requestAsync(String requestType, String url,
       JsonObject requestJson) {
     LOGGER.debug("Info : RabbitMQClientImpl#requestAsync() started");
-    LOGGER.debug("Info : " + requestType + " : " + url + " : " + requestJson);
+    LOGGER.debug("Info : {} : {} : {}", requestType, url, requestJson);
     Promise<HttpResponse<Buffer>> promise = Promise.promise();
     HttpRequest<Buffer> webRequest = createRequest(requestType, url);
     webRequest.sendJsonObject(requestJson, ar -> {
@@ -45,7 +46,7 @@ public class RabbitWebClient {
         promise.fail(ar.cause());
       }
     });
-    return promise.future();
+    return BackendMetrics.time(BackendMetrics.RABBITMQ_MANAGEMENT, promise.future());
   }
 
   public Future<HttpResponse<Buffer>> requestAsync(String requestType, String url) {
@@ -60,7 +61,7 @@ public class RabbitWebClient {
         promise.fail(ar.cause());
       }
     });
-    return promise.future();
+    return BackendMetrics.time(BackendMetrics.RABBITMQ_MANAGEMENT, promise.future());
   }
 
   private HttpRequest<Buffer> createRequest(String requestType, String url) {
@@ -33,11 +33,28 @@ public class SubscriptionService {
 
   private RabbitClient rabbitClient;
   private PostgresClient pgSQLClient;
+  /* When set, callback bindings target this consistent-hash exchange instead of the queue */
+  private String callbackPartitionExchange;
 
   SubscriptionService(RabbitClient rabbitClient, PostgresClient pgSQLClient, String vhost) {
+    this(rabbitClient, pgSQLClient, vhost, null);
+  }
+
+  SubscriptionService(RabbitClient rabbitClient, PostgresClient pgSQLClient, String vhost,
+      String callbackPartitionExchange) {
     this.rabbitClient = rabbitClient;
     this.pgSQLClient = pgSQLClient;
     this.vhost = vhost;
+    this.callbackPartitionExchange = callbackPartitionExchange;
+  }
+
+  /* Bind a resource group exchange to the callback queue, or to the partition exchange */
+  private Future<JsonObject> bindCallback(JsonObject json) {
+    if (callbackPartitionExchange == null || callbackPartitionExchange.isBlank()) {
+      return rabbitClient.bindQueue(json, vhost);
+    }
+    json.put(Constants.DESTINATION_EXCHANGE_NAME, callbackPartitionExchange);
+    return rabbitClient.bindExchange(json, vhost);
   }
 
   Future<JsonObject> registerStreamingSubscription(JsonObject request) {
@@ -53,31 +70,31 @@ public class SubscriptionService {
       resultCreateUser.onComplete(resultCreateUserhandler -> {
         if (resultCreateUserhandler.succeeded()) {
           JsonObject result = resultCreateUserhandler.result();
-          LOGGER.debug("success :: createUserIfNotExist " + result);
+          LOGGER.debug("success :: createUserIfNotExist {}", result);
           String streamingUserName = result.getString("shaUsername");
           String apiKey = result.getString("apiKey");
           
           JsonArray entitites = request.getJsonArray(ENTITIES);
-          LOGGER.debug("Info : Request Access for " + entitites);
-          LOGGER.debug("Info : No of bindings to do : " + entitites.size());
+          LOGGER.debug("Info : Request Access for {}", entitites);
+          LOGGER.debug("Info : No of bindings to do : {}", entitites.size());
           totalBindCount = entitites.size();
           totalBindSuccess = 0;
           requestjson.put(QUEUE_NAME, queueName);
           Future<JsonObject> resultqueue = rabbitClient.createQueue(requestjson, vhost);
           resultqueue.onComplete(resultHandlerqueue -> {
             if (resultHandlerqueue.succeeded()) {
-              LOGGER.debug("success :: Create Queue " + resultHandlerqueue.result());
+              LOGGER.debug("success :: Create Queue {}", resultHandlerqueue.result());
               JsonObject createQueueResponse = (JsonObject) resultHandlerqueue.result();
               if (createQueueResponse.containsKey(TITLE)
                   && createQueueResponse.getString(TITLE).equalsIgnoreCase(FAILURE)) {
-                LOGGER.error("failed ::" + resultHandlerqueue.cause());
+                LOGGER.error("failed ::{}", resultHandlerqueue.cause());
                 promise.fail(createQueueResponse.toString());
               } else {
                 LOGGER.debug("Success : Success Queue Created");
 
                 for (Object currentEntity : entitites) {
                   String routingKey = (String) currentEntity;
-                  LOGGER.debug("Info : routingKey is " + routingKey);
+                  LOGGER.debug("Info : routingKey is {}", routingKey);
                   if (routingKey != null) {
                     if (routingKey.isEmpty() || routingKey.isBlank() || routingKey == ""
                         || routingKey.split("/").length != 5) {
@@ -103,13 +120,13 @@ public class SubscriptionService {
                         if (resultHandlerbind.succeeded()) {
                           // count++
                           totalBindSuccess += 1;
-                          LOGGER.debug("sucess :: totalBindSuccess " + totalBindSuccess
-                              + resultHandlerbind.result());
+                          LOGGER.debug("sucess :: totalBindSuccess {}{}", totalBindSuccess,
+                              resultHandlerbind.result());
 
                           JsonObject bindResponse = (JsonObject) resultHandlerbind.result();
                           if (bindResponse.containsKey(TITLE)
                               && bindResponse.getString(TITLE).equalsIgnoreCase(FAILURE)) {
-                            LOGGER.error("failed ::" + resultHandlerbind.cause());
+                            LOGGER.error("failed ::{}", resultHandlerbind.cause());
                             Future<JsonObject> resultDeletequeue =
                                 rabbitClient.deleteQueue(requestjson, vhost);
                             resultDeletequeue.onComplete(resultHandlerDeletequeue -> {
@@ -135,7 +152,7 @@ public class SubscriptionService {
                             promise.complete(registerStreamingSubscriptionResponse);
                           }
                         } else if (resultHandlerbind.failed()) {
-                          LOGGER.error("failed ::" + resultHandlerbind.cause());
+                          LOGGER.error("failed ::{}", resultHandlerbind.cause());
                           Future<JsonObject> resultDeletequeue =
                               rabbitClient.deleteQueue(requestjson, vhost);
                           resultDeletequeue.onComplete(resultHandlerDeletequeue -> {
@@ -161,7 +178,7 @@ public class SubscriptionService {
                 }
               }
             } else if (resultHandlerqueue.failed()) {
-              LOGGER.error("Fail ::" + resultHandlerqueue.cause());
+              LOGGER.error("Fail ::{}", resultHandlerqueue.cause());
               promise.fail(resultHandlerqueue.cause().getMessage());
             }
           });
@@ -187,34 +204,34 @@ public class SubscriptionService {
       resultCreateUser.onComplete(resultCreateUserhandler -> {
         if (resultCreateUserhandler.succeeded()) {
           JsonObject result = resultCreateUserhandler.result();
-          LOGGER.debug("success :: createUserIfNotExist " + result);
+          LOGGER.debug("success :: createUserIfNotExist {}", result);
           String streamingUserName = result.getString("shaUsername");
           String apiKey = result.getString("apiKey");
 
           JsonArray entitites = request.getJsonArray(ENTITIES);
-          LOGGER.debug("Info : Request Access for " + entitites);
-          LOGGER.debug("Info : No of bindings to do : " + entitites.size());
+          LOGGER.debug("Info : Request Access for {}", entitites);
+          LOGGER.debug("Info : No of bindings to do : {}", entitites.size());
           totalBindCount = entitites.size();
           totalBindSuccess = 0;
           requestjson.put(QUEUE_NAME, queueName);
           Future<JsonObject> deleteQueue = rabbitClient.deleteQueue(requestjson, vhost);
           deleteQueue.onComplete(deleteQueuehandler -> {
             if (deleteQueuehandler.succeeded()) {
-              LOGGER.debug("success :: Deleted Queue " + deleteQueuehandler.result());
+              LOGGER.debug("success :: Deleted Queue {}", deleteQueuehandler.result());
               Future<JsonObject> resultqueue = rabbitClient.createQueue(requestjson, vhost);
               resultqueue.onComplete(resultHandlerqueue -> {
                 if (resultHandlerqueue.succeeded()) {
-                  LOGGER.debug("success :: Create Queue " + resultHandlerqueue.result());
+                  LOGGER.debug("success :: Create Queue {}", resultHandlerqueue.result());
                   JsonObject createQueueResponse = (JsonObject) resultHandlerqueue.result();
                   if (createQueueResponse.containsKey(TITLE)
                       && createQueueResponse.getString(TITLE).equalsIgnoreCase(FAILURE)) {
-                    LOGGER.error("failed ::" + resultHandlerqueue.cause());
+                    LOGGER.error("failed ::{}", resultHandlerqueue.cause());
                     promise.fail(createQueueResponse.toString());
                   } else {
                     LOGGER.debug("Success : Queue Created");
                     for (Object currentEntity : entitites) {
                       String routingKey = (String) currentEntity;
-                      LOGGER.debug("Info : routingKey is " + routingKey);
+                      LOGGER.debug("Info : routingKey is {}", routingKey);
                       if (routingKey != null) {
                         if (routingKey.isEmpty() || routingKey.isBlank() || routingKey == ""
                             || routingKey.split("/").length != 5) {
@@ -244,13 +261,13 @@ public class SubscriptionService {
                             if (resultHandlerbind.succeeded()) {
                               // count++
                               totalBindSuccess += 1;
-                              LOGGER.info("sucess :: totalBindSuccess " + totalBindSuccess
-                                  + resultHandlerbind.result());
+                              LOGGER.info("sucess :: totalBindSuccess {}{}", totalBindSuccess,
+                                  resultHandlerbind.result());
 
                               JsonObject bindResponse = (JsonObject) resultHandlerbind.result();
                               if (bindResponse.containsKey(TITLE)
                                   && bindResponse.getString(TITLE).equalsIgnoreCase(FAILURE)) {
-                                LOGGER.error("failed ::" + resultHandlerbind.cause());
+                                LOGGER.error("failed ::{}", resultHandlerbind.cause());
                                 Future<JsonObject> resultDeletequeue =
                                     rabbitClient.deleteQueue(requestjson, vhost);
                                 resultDeletequeue.onComplete(resultHandlerDeletequeue -> {
@@ -265,7 +282,7 @@ public class SubscriptionService {
                                 promise.complete(updateStreamingSubscriptionResponse);
                               }
                             } else if (resultHandlerbind.failed()) {
-                              LOGGER.error("failed ::" + resultHandlerbind.cause());
+                              LOGGER.error("failed ::{}", resultHandlerbind.cause());
                               Future<JsonObject> resultDeletequeue =
                                   rabbitClient.deleteQueue(requestjson, vhost);
                               resultDeletequeue.onComplete(resultHandlerDeletequeue -> {
@@ -293,13 +310,13 @@ public class SubscriptionService {
                     }
                   }
                 } else if (resultHandlerqueue.failed()) {
-                  LOGGER.error("failed ::" + resultHandlerqueue.cause());
+                  LOGGER.error("failed ::{}", resultHandlerqueue.cause());
                   promise.fail(
                       getResponseJson(INTERNAL_ERROR_CODE, ERROR, QUEUE_CREATE_ERROR).toString());
                 }
               });
             } else if (deleteQueuehandler.failed()) {
-              LOGGER.error("failed ::" + deleteQueuehandler.cause());
+              LOGGER.error("failed ::{}", deleteQueuehandler.cause());
               promise
                   .fail(getResponseJson(INTERNAL_ERROR_CODE, ERROR, QUEUE_DELETE_ERROR).toString());
             }
@@ -320,8 +337,8 @@ public class SubscriptionService {
     JsonObject requestjson = new JsonObject();
     if (request != null && !request.isEmpty()) {
       JsonArray entitites = request.getJsonArray(ENTITIES);
-      LOGGER.debug("Info : Request Access for " + entitites);
-      LOGGER.debug("Info : No of bindings to do : " + entitites.size());
+      LOGGER.debug("Info : Request Access for {}", entitites);
+      LOGGER.debug("Info : No of bindings to do : {}", entitites.size());
       totalBindCount = entitites.size();
       totalBindSuccess = 0;
       String queueName = request.getString(SUBSCRIPTION_ID);
@@ -330,14 +347,14 @@ public class SubscriptionService {
       result.onComplete(resultHandlerqueue -> {
         if (resultHandlerqueue.succeeded()) {
           JsonObject listQueueResponse = (JsonObject) resultHandlerqueue.result();
-          LOGGER.debug("Info : " + listQueueResponse);
+          LOGGER.debug("Info : {}", listQueueResponse);
           if (listQueueResponse.containsKey(TITLE)
               && listQueueResponse.getString(TITLE).equalsIgnoreCase(FAILURE)) {
             promise.fail(listQueueResponse.toString());
           } else {
             for (Object currentEntity : entitites) {
               String routingKey = (String) currentEntity;
-              LOGGER.debug("Info : routingKey is " + routingKey);
+              LOGGER.debug("Info : routingKey is {}", routingKey);
               if (routingKey != null) {
                 if (routingKey.isEmpty() || routingKey.isBlank() || routingKey == ""
                     || routingKey.split("/").length != 5) {
@@ -358,20 +375,20 @@ public class SubscriptionService {
                     if (resultHandlerbind.succeeded()) {
                       // count++
                       totalBindSuccess += 1;
-                      LOGGER.info("sucess :: totalBindSuccess " + totalBindSuccess
-                          + resultHandlerbind.result());
+                      LOGGER.info("sucess :: totalBindSuccess {}{}", totalBindSuccess,
+                          resultHandlerbind.result());
 
                       JsonObject bindResponse = (JsonObject) resultHandlerbind.result();
                       if (bindResponse.containsKey(TITLE)
                           && bindResponse.getString(TITLE).equalsIgnoreCase(FAILURE)) {
-                        LOGGER.error("failed ::" + resultHandlerbind.cause());
+                        LOGGER.error("failed ::{}", resultHandlerbind.cause());
                         promise.fail(new JsonObject().put(ERROR, "Binding Failed").toString());
                       } else if (totalBindSuccess == totalBindCount) {
                         appendStreamingSubscriptionResponse.put(Constants.ENTITIES, entitites);
                         promise.complete(appendStreamingSubscriptionResponse);
                       }
                     } else if (resultHandlerbind.failed()) {
-                      LOGGER.error("failed ::" + resultHandlerbind.cause());
+                      LOGGER.error("failed ::{}", resultHandlerbind.cause());
                       promise.fail(
                           getResponseJson(BAD_REQUEST_CODE, ERROR, BINDING_FAILED).toString());
                     }
@@ -415,7 +432,7 @@ public class SubscriptionService {
           JsonObject deleteQueueResponse = (JsonObject) resultHandler.result();
           if (deleteQueueResponse.containsKey(TITLE)
               && deleteQueueResponse.getString(TITLE).equalsIgnoreCase(FAILURE)) {
-            LOGGER.debug("failed :: Response is " + deleteQueueResponse);
+            LOGGER.debug("failed :: Response is {}", deleteQueueResponse);
             promise.fail(deleteQueueResponse.toString());
           } else {
             deleteStreamingSubscription.mergeIn(getResponseJson(HttpStatus.SC_OK, SUCCESS,
@@ -424,7 +441,7 @@ public class SubscriptionService {
           }
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           promise.fail(getResponseJson(INTERNAL_ERROR_CODE, ERROR, QUEUE_DELETE_ERROR).toString());
         }
       });
@@ -445,7 +462,7 @@ public class SubscriptionService {
           JsonObject listQueueResponse = (JsonObject) resultHandler.result();
           if (listQueueResponse.containsKey(TITLE)
               && listQueueResponse.getString(TITLE).equalsIgnoreCase(FAILURE)) {
-            LOGGER.error("failed :: Response is " + listQueueResponse);
+            LOGGER.error("failed :: Response is {}", listQueueResponse);
             promise.fail(listQueueResponse.toString());
           } else {
             LOGGER.debug(listQueueResponse);
@@ -453,7 +470,7 @@ public class SubscriptionService {
           }
         }
         if (resultHandler.failed()) {
-          LOGGER.error("failed ::" + resultHandler.cause());
+          LOGGER.error("failed ::{}", resultHandler.cause());
           promise.fail(getResponseJson(BAD_REQUEST_CODE, ERROR, QUEUE_LIST_ERROR).toString());
         }
       });
@@ -477,7 +494,7 @@ public class SubscriptionService {
 
       LOGGER.debug("Info : Call Back registration ID check starts");
       String query = SELECT_CALLBACK.replace("$1", subscriptionID);
-      LOGGER.debug("Info : " + query);
+      LOGGER.debug("Info : {}", query);
       pgSQLClient.executeAsync(query).onComplete(resultHandlerSelectID -> {
         if (resultHandlerSelectID.succeeded()) {
           RowSet<Row> result = resultHandlerSelectID.result();
@@ -504,7 +521,7 @@ public class SubscriptionService {
 
             for (Object currentEntity : entitites) {
               String routingKey = (String) currentEntity;
-              LOGGER.info("routingKey is " + routingKey);
+              LOGGER.info("routingKey is {}", routingKey);
               if (routingKey != null) {
                 if (routingKey.isEmpty() || routingKey.isBlank() || routingKey == ""
                     || routingKey.split("/").length != 5) {
@@ -522,16 +539,16 @@ public class SubscriptionService {
                   json.put(Constants.QUEUE_NAME, queueName);
                   json.put(Constants.ENTITIES, array);
 
-                  Future<JsonObject> resultbind = rabbitClient.bindQueue(json, vhost);
+                  Future<JsonObject> resultbind = bindCallback(json);
                   resultbind.onComplete(resultHandlerbind -> {
                     if (resultHandlerbind.succeeded()) {
                       totalBindSuccess += 1;
-                      LOGGER.debug("sucess :: totalBindSuccess " + totalBindSuccess
-                          + resultHandlerbind.result());
+                      LOGGER.debug("sucess :: totalBindSuccess {}{}", totalBindSuccess,
+                          resultHandlerbind.result());
                       JsonObject bindResponse = (JsonObject) resultHandlerbind.result();
                       if (bindResponse.containsKey(Constants.TITLE) && bindResponse
                           .getString(Constants.TITLE).equalsIgnoreCase(Constants.FAILURE)) {
-                        LOGGER.error("failed ::" + resultHandlerbind.cause());
+                        LOGGER.error("failed ::{}", resultHandlerbind.cause());
                         String deleteQuery = DELETE_CALLBACK.replace("$1", subscriptionID);
                         pgSQLClient.executeAsync(deleteQuery).onComplete(resulthandlerdel -> {
                           if (resulthandlerdel.succeeded()) {
@@ -574,7 +591,7 @@ public class SubscriptionService {
                                   }
                                 });
                           } else {
-                            LOGGER.error("failed ::" + ar.cause().getMessage());
+                            LOGGER.error("failed ::{}", ar.cause().getMessage());
                             String deleteQuery = DELETE_CALLBACK.replace("$1", subscriptionID);
                             pgSQLClient.executeAsync(deleteQuery)
                                 .onComplete(resultHandlerDeletequeuepg -> {
@@ -589,7 +606,7 @@ public class SubscriptionService {
                         });
                       }
                     } else if (resultHandlerbind.failed()) {
-                      LOGGER.error("failed ::" + resultHandlerbind.cause());
+                      LOGGER.error("failed ::{}", resultHandlerbind.cause());
                       registerCallbackSubscriptionResponse.clear()
                           .mergeIn(getResponseJson(BAD_REQUEST_CODE, ERROR, BINDING_FAILED));
                       promise.fail(registerCallbackSubscriptionResponse.toString());
@@ -635,7 +652,7 @@ public class SubscriptionService {
       requestjson.put(Constants.QUEUE_NAME, queueName);
       for (Object currentEntity : entities) {
         String routingKey = (String) currentEntity;
-        LOGGER.debug("Info : routingKey is " + routingKey);
+        LOGGER.debug("Info : routingKey is {}", routingKey);
         if (routingKey != null) {
           if (routingKey.isEmpty() || routingKey.isBlank() || routingKey == ""
               || routingKey.split("/").length != 5) {
@@ -652,17 +669,17 @@ public class SubscriptionService {
             json.put(Constants.EXCHANGE_NAME, exchangeName);
             json.put(Constants.QUEUE_NAME, queueName);
             json.put(Constants.ENTITIES, array);
-            Future<JsonObject> resultbind = rabbitClient.bindQueue(json, vhost);
+            Future<JsonObject> resultbind = bindCallback(json);
             resultbind.onComplete(resultHandlerbind -> {
               if (resultHandlerbind.succeeded()) {
                 // count++
                 totalBindSuccess += 1;
-                LOGGER.debug(
-                    "sucess :: totalBindSuccess " + totalBindSuccess + resultHandlerbind.result());
+                LOGGER.debug("sucess :: totalBindSuccess {}{}", totalBindSuccess,
+                    resultHandlerbind.result());
                 JsonObject bindResponse = (JsonObject) resultHandlerbind.result();
                 if (bindResponse.containsKey(Constants.TITLE) && bindResponse
                     .getString(Constants.TITLE).equalsIgnoreCase(Constants.FAILURE)) {
-                  LOGGER.error("failed ::" + resultHandlerbind.cause());
+                  LOGGER.error("failed ::{}", resultHandlerbind.cause());
 
                   updateCallbackSubscriptionResponse.put(Constants.ERROR, "Binding Failed");
                   updateCallbackSubscriptionResponse.clear()
@@ -694,7 +711,7 @@ public class SubscriptionService {
                             }
                           });
                     } else {
-                      LOGGER.error("failed ::" + ar.cause().getMessage());
+                      LOGGER.error("failed ::{}", ar.cause().getMessage());
                       updateCallbackSubscriptionResponse.clear()
                           .mergeIn(getResponseJson(INTERNAL_ERROR_CODE, SQL_ERROR, DUPLICATE_KEY));
                       promise.fail(updateCallbackSubscriptionResponse.toString());
@@ -702,7 +719,7 @@ public class SubscriptionService {
                   });
                 }
               } else if (resultHandlerbind.failed()) {
-                LOGGER.error("failed ::" + resultHandlerbind.cause());
+                LOGGER.error("failed ::{}", resultHandlerbind.cause());
                 updateCallbackSubscriptionResponse.clear()
                     .mergeIn(getResponseJson(BAD_REQUEST_CODE, ERROR, BINDING_FAILED));
                 promise.fail(updateCallbackSubscriptionResponse.toString());
@@ -744,7 +761,7 @@ public class SubscriptionService {
           String subscriptionIDdb = null;
           for (Row row : result) {
             subscriptionIDdb = row.getString(0);
-            LOGGER.debug("Info : " + subscriptionIDdb);
+            LOGGER.debug("Info : {}", subscriptionIDdb);
           }
           if (!subscriptionID.equalsIgnoreCase(subscriptionIDdb)) {
             LOGGER.debug("Info : Call Back ID not found");
@@ -775,7 +792,7 @@ public class SubscriptionService {
                       promise.complete(deleteCallbackSubscriptionResponse);
                     });
               } else {
-                LOGGER.error("failed ::" + ar.cause().getMessage());
+                LOGGER.error("failed ::{}", ar.cause().getMessage());
                 deleteCallbackSubscriptionResponse.put(Constants.ERROR, "delete failed");
                 deleteCallbackSubscriptionResponse.clear()
                     .mergeIn(getResponseJson(INTERNAL_ERROR_CODE, ERROR, FAILURE));
@@ -807,7 +824,7 @@ public class SubscriptionService {
       pgSQLClient.executeAsync(selectQuery).onComplete(ar -> {
         if (ar.succeeded()) {
           RowSet<Row> result = ar.result();
-          LOGGER.debug("Info : " + ar.result().size() + " rows");
+          LOGGER.debug("Info : {} rows", ar.result().size());
           /* Iterating Rows for getting entity, callbackurl, username and password */
           if (ar.result().size() > 0) {
             for (Row row : result) {
@@ -820,13 +837,13 @@ public class SubscriptionService {
             }
             promise.complete(listCallbackSubscriptionResponse);
           } else {
-            LOGGER.error("Error :payload error" + ar.cause());
+            LOGGER.error("Error :payload error{}", ar.cause());
             listCallbackSubscriptionResponse.clear()
                 .mergeIn(getResponseJson(BAD_REQUEST_CODE, ERROR, PAYLOAD_ERROR));
             promise.fail(listCallbackSubscriptionResponse.toString());
           }
         } else {
-          LOGGER.error("Error :payload error" + ar.cause());
+          LOGGER.error("Error :payload error{}", ar.cause());
           listCallbackSubscriptionResponse.clear()
               .mergeIn(getResponseJson(BAD_REQUEST_CODE, ERROR, PAYLOAD_ERROR));
           promise.fail(listCallbackSubscriptionResponse.toString());
@@ -46,6 +46,9 @@ public class Constants {
   public static final String EXCHANGE_CREATE_ERROR = "Creation of Exchange failed";
   public static final String EXCHANGE = "exchange";
   public static final String EXCHANGE_NAME = "exchangeName";
+  public static final String DESTINATION_EXCHANGE_NAME = "destinationExchangeName";
+  public static final String EXCHANGE_BIND_ERROR = "error in exchange binding";
+  public static final String CALLBACK_PARTITION_EXCHANGE = "callbackPartitionExchange";
   public static final String ERROR = "error";
   public static final String EXCHANGE_DECLARATION_ERROR = "something wrong in exchange declaration";
   public static final String EXCHANGE_NOT_FOUND = "Exchange not found";
@@ -40,7 +40,7 @@ public class Util {
     try {
       encodedValue = DigestUtils.sha1Hex(plainUserName);
     } catch (Exception e) {
-      LOGGER.error("Unable to encode username using SHA" + e.getLocalizedMessage());
+      LOGGER.error("Unable to encode username using SHA{}", e.getLocalizedMessage());
     }
     return encodedValue;
   }
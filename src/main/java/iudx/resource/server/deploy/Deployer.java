@@ -57,10 +57,10 @@ public class Deployer {
                                   .setConfig(config),
                           ar -> {
       if (ar.succeeded()) {
-        LOGGER.info("Deployed " + moduleName);
+        LOGGER.info("Deployed {}", moduleName);
         recursiveDeploy(vertx, configs, i+1);
       } else {
-        LOGGER.fatal("Failed to deploy " + moduleName + " cause:", ar.cause());
+        LOGGER.fatal("Failed to deploy {} cause:", moduleName, ar.cause());
       }
     });
   }
@@ -90,10 +90,12 @@ public class Deployer {
     return new MicrometerMetricsOptions()
         .setPrometheusOptions(
             new VertxPrometheusOptions().setEnabled(true).setStartEmbeddedServer(true)
-                .setEmbeddedServerOptions(new HttpServerOptions().setPort(9000)))
-        // .setPublishQuantiles(true))
+                .setEmbeddedServerOptions(new HttpServerOptions().setPort(9000))
+                .setPublishQuantiles(true))
+        // No HTTP_PATH label: request paths embed resource IDs. Per route latency is
+        // exported by the API server with the route path template instead.
         .setLabels(EnumSet.of(Label.EB_ADDRESS, Label.EB_FAILURE, Label.HTTP_CODE,
-            Label.HTTP_METHOD, Label.HTTP_PATH))
+            Label.HTTP_METHOD))
         .setEnabled(true);
   }
 
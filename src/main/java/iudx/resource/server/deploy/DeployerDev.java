@@ -10,6 +10,7 @@ import io.vertx.core.cli.Option;
 import io.vertx.core.cli.CommandLine;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Promise;
 
 
 import java.util.Arrays;
@@ -28,8 +29,22 @@ public class DeployerDev {
   private static final Logger LOGGER = LogManager.getLogger(DeployerDev.class);
 
   public static void recursiveDeploy(Vertx vertx, JsonObject configs, int i) {
+    recursiveDeploy(vertx, configs, i, Promise.promise());
+  }
+
+  /**
+   * Deploys the modules of the configuration in order, starting from the i-th one.
+   *
+   * @param vertx the vertx instance to deploy on
+   * @param configs the configuration with the modules to deploy
+   * @param i index of the first module to deploy
+   * @param promise completed once all modules are deployed, failed on the first failure
+   */
+  public static void recursiveDeploy(Vertx vertx, JsonObject configs, int i,
+      Promise<Void> promise) {
     if (i >= configs.getJsonArray("modules").size()) {
       LOGGER.info("Deployed all");
+      promise.complete();
       return;
     }
     JsonObject config = configs.getJsonArray("modules").getJsonObject(i);
@@ -41,10 +56,11 @@ public class DeployerDev {
                             .setConfig(config),
                           ar -> {
       if (ar.succeeded()) {
-        LOGGER.info("Deployed " + moduleName);
-        recursiveDeploy(vertx, configs, i+1);
+        LOGGER.info("Deployed {}", moduleName);
+        recursiveDeploy(vertx, configs, i+1, promise);
       } else {
-        LOGGER.fatal("Failed to deploy " + moduleName + " cause:", ar.cause());
+        LOGGER.fatal("Failed to deploy {} cause:", moduleName, ar.cause());
+        promise.fail(ar.cause());
       }
     });
   }
@@ -0,0 +1,81 @@
+package iudx.resource.server.apiserver.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.List;
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import iudx.resource.server.apiserver.util.Constants;
+import org.junit.jupiter.api.Test;
+
+public class QueryParserTest {
+
+  @Test
+  public void testDecodeParams() {
+    MultiMap params = QueryParser.decodeParams("/ngsi-ld/v1/entities?id=iisc.ac.in%2Fsurat,b"
+        + "&q=speed%3E%3D30;time%3E2020-09-18T00:00:00+05:30&georel=near;maxDistance==360&attrs");
+    assertEquals("iisc.ac.in/surat,b", params.get(Constants.NGSILDQUERY_ID));
+    assertEquals("speed>=30;time>2020-09-18T00:00:00+05:30", params.get(Constants.NGSILDQUERY_Q));
+    assertEquals("near;maxDistance==360", params.get(Constants.NGSILDQUERY_GEOREL));
+    assertEquals("", params.get(Constants.NGSILDQUERY_ATTRIBUTE));
+    assertTrue(QueryParser.decodeParams("/ngsi-ld/v1/entities").isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> QueryParser.decodeParams("/a?q=%4"));
+    assertThrows(IllegalArgumentException.class, () -> QueryParser.decodeParams("/a?q=%zz"));
+  }
+
+  @Test
+  public void testParseQOperators() {
+    List<QueryTerm> terms =
+        QueryParser.parseQ("speed>-5;name~=\"bus.*\";status!=\"a;b\";level<=3;trip!~=x");
+    assertEquals(5, terms.size());
+    assertEquals(new JsonObject().put("attribute", "speed").put("operator", ">")
+        .put("value", "-5"), terms.get(0).toJson());
+    assertEquals(QueryTerm.Operator.PATTERN, terms.get(1).getOperator());
+    assertEquals("bus.*", terms.get(1).getValues().get(0));
+    assertEquals("a;b", terms.get(2).getValues().get(0));
+    assertEquals(QueryTerm.Operator.LESS_THAN_EQ, terms.get(3).getOperator());
+    assertEquals("!~=", terms.get(4).toJson().getString(Constants.JSON_OPERATOR));
+  }
+
+  @Test
+  public void testParseQRangesAndLists() {
+    JsonObject between = QueryParser.parseQ("level==1.5..3").get(0).toJson();
+    assertEquals("<==>", between.getString(Constants.JSON_OPERATOR));
+    assertEquals("1.5", between.getString(Constants.JSON_VALUE_LOWER));
+    assertEquals("3", between.getString(Constants.JSON_VALUE_UPPER));
+    JsonObject outside = QueryParser.parseQ("level!=1..3").get(0).toJson();
+    assertEquals("!=", outside.getString(Constants.JSON_OPERATOR));
+    assertEquals("1", outside.getString(Constants.JSON_VALUE_LOWER));
+    JsonObject list = QueryParser.parseQ("mode==bus,\"car,taxi\"").get(0).toJson();
+    assertEquals(new JsonArray().add("bus").add("car,taxi"),
+        list.getJsonArray(Constants.JSON_VALUES));
+    assertNull(list.getString(Constants.JSON_VALUE));
+  }
+
+  @Test
+  public void testParseQMalformed() {
+    for (String q : new String[] {"speed", "speed>=", "speed>1..5", "a==1..2..3", "a==1,2..3",
+        "a==\"open", "a==1|b==2", "(a==1)", "a==1;;b==2", ""}) {
+      assertThrows(IllegalArgumentException.class, () -> QueryParser.parseQ(q), q);
+    }
+  }
+
+  @Test
+  public void testParseGeoRelAndPoint() {
+    GeoRelation near = QueryParser.parseGeoRel("near;maxDistance==360");
+    assertEquals("near", near.getRelation());
+    assertEquals(360.0, near.getMaxDistance());
+    assertEquals(10.0, QueryParser.parseGeoRel("near;mindistance=10").getMinDistance());
+    assertNull(QueryParser.parseGeoRel("within").getMaxDistance());
+    assertThrows(IllegalArgumentException.class,
+        () -> QueryParser.parseGeoRel("near;maxDistance==far"));
+    double[] point = QueryParser.parsePoint("[8.684628009796143, 49.406062179606515]");
+    assertEquals(8.684628009796143, point[0]);
+    assertEquals(49.406062179606515, point[1]);
+    assertThrows(IllegalArgumentException.class, () -> QueryParser.parsePoint("[8.68]"));
+    assertThrows(IllegalArgumentException.class, () -> QueryParser.parsePoint("[1,2,3]"));
+  }
+}
@@ -0,0 +1,32 @@
+package iudx.resource.server.apiserver.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.Test;
+
+public class ByteRangeTest {
+
+  @Test
+  public void testParsesSingleRanges() {
+    ByteRange range = ByteRange.parse("bytes=100-199", 1000);
+    assertEquals(100, range.start());
+    assertEquals(100, range.length());
+    assertEquals("bytes 100-199/1000", range.contentRange());
+    assertEquals("bytes 900-999/1000", ByteRange.parse("bytes=900-", 1000).contentRange());
+    assertEquals("bytes 950-999/1000", ByteRange.parse("bytes=-50", 1000).contentRange());
+    assertEquals("bytes 0-999/1000", ByteRange.parse("bytes=-5000", 1000).contentRange());
+    assertEquals("bytes 990-999/1000", ByteRange.parse("bytes=990-5000", 1000).contentRange());
+  }
+
+  @Test
+  public void testIgnoresOtherRanges() {
+    assertNull(ByteRange.parse(null, 1000));
+    assertNull(ByteRange.parse("bytes=0-10,20-30", 1000));
+    assertNull(ByteRange.parse("items=0-10", 1000));
+    assertNull(ByteRange.parse("bytes=20-10", 1000));
+    assertNull(ByteRange.parse("bytes=a-b", 1000));
+    assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=1000-", 1000));
+    assertSame(ByteRange.UNSATISFIABLE, ByteRange.parse("bytes=-0", 1000));
+  }
+}
@@ -0,0 +1,22 @@
+package iudx.resource.server.apiserver.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+public class ConditionalResponseTest {
+
+  @Test
+  public void testEtagFollowsBody() {
+    CompressedPayload payload =
+        new CompressedPayload("application/json", Buffer.buffer("{\"results\":[]}"));
+    String etag = payload.etag();
+    assertTrue(etag.startsWith("W/\"") && etag.endsWith("\""));
+    assertEquals(etag,
+        new CompressedPayload("application/json", Buffer.buffer("{\"results\":[]}")).etag());
+    assertNotEquals(etag,
+        new CompressedPayload("application/json", Buffer.buffer("{\"results\":[{}]}")).etag());
+  }
+}
@@ -0,0 +1,121 @@
+package iudx.resource.server.apiserver.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.concurrent.atomic.AtomicInteger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(VertxExtension.class)
+public class ResponseCacheTest {
+
+  private static final String RESOURCE =
+      "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/rs.iudx.io/"
+          + "surat-itms-realtime-information/surat-itms-live-eta";
+
+  @Test
+  public void testKeyIgnoresFieldOrderAndHost() {
+    JsonObject query = new JsonObject().put("id", new JsonArray().add(RESOURCE))
+        .put("searchType", "latestSearch_").put("instanceID", "rs.iudx.io");
+    JsonObject same = new JsonObject().put("instanceID", "localhost")
+        .put("searchType", "latestSearch_").put("id", new JsonArray().add(RESOURCE));
+    assertEquals(ResponseCache.key(query), ResponseCache.key(same));
+    assertNotEquals(ResponseCache.key(query),
+        ResponseCache.key(same.copy().put("attrs", new JsonArray().add("speed"))));
+  }
+
+  @Test
+  public void testPayloadsFitInByteBudget(Vertx vertx) {
+    ResponseCache cache = ResponseCache.getOrCreate(vertx,
+        new JsonObject().put("responseCacheMaxBytes", "300"));
+    ResponseCompression compression =
+        ResponseCompression.fromConfig(new JsonObject().put("compressionMinSize", "0"));
+    AtomicInteger searches = new AtomicInteger();
+    CompressedPayload[] payloads = new CompressedPayload[4];
+    for (int i = 0; i < payloads.length; i++) {
+      payloads[i] = new CompressedPayload("application/json", Buffer.buffer("x".repeat(100)));
+      latestSearch(cache, i, payloads[i], searches);
+    }
+    assertEquals(4, searches.get());
+    assertEquals(300, cache.bytes());
+    latestSearch(cache, 3, payloads[3], searches);
+    assertEquals(4, searches.get());
+
+    /* compressed bodies count once added, an evicted payload no longer counts */
+    int gzip = payloads[3].encoded("gzip", compression).length();
+    assertEquals(300 + gzip, cache.bytes());
+    payloads[0].encoded("gzip", compression);
+    assertEquals(300 + gzip, cache.bytes());
+    latestSearch(cache, 3, payloads[3], searches);
+    assertEquals(200 + gzip, cache.bytes());
+    assertTrue(cache.bytes() <= 300);
+  }
+
+  private static void latestSearch(ResponseCache cache, int resource, CompressedPayload payload,
+      AtomicInteger searches) {
+    JsonObject query = new JsonObject().put("id", new JsonArray().add(RESOURCE + resource))
+        .put("searchType", "latestSearch_");
+    cache.getOrSearch(query, () -> {
+      searches.incrementAndGet();
+      return Future.succeededFuture(payload);
+    });
+  }
+
+  @Test
+  public void testConcurrentLatestQueriesShareOneSearch(Vertx vertx,
+      VertxTestContext testContext) {
+    ResponseCache cache = ResponseCache.getOrCreate(vertx,
+        new JsonObject().put("latestCacheTtlMillis", "0"));
+    JsonObject query = new JsonObject().put("id", new JsonArray().add(RESOURCE))
+        .put("searchType", "latestSearch_");
+    AtomicInteger searches = new AtomicInteger();
+    Promise<CompressedPayload> backend = Promise.promise();
+    CompressedPayload payload =
+        new CompressedPayload("application/json", Buffer.buffer("{\"results\":[]}"));
+    Checkpoint responses = testContext.checkpoint(3);
+    for (int i = 0; i < 3; i++) {
+      cache.getOrSearch(query.copy().put("instanceID", "host" + i), () -> {
+        searches.incrementAndGet();
+        return backend.future();
+      }).onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+        assertSame(payload, response);
+        assertEquals(1, searches.get());
+        responses.flag();
+      })));
+    }
+    backend.complete(payload);
+  }
+
+  @Test
+  public void testSearchAfterCompletionIsNotShared(Vertx vertx, VertxTestContext testContext) {
+    ResponseCache cache = ResponseCache.getOrCreate(vertx,
+        new JsonObject().put("latestCacheTtlMillis", "0"));
+    JsonObject query = new JsonObject().put("id", new JsonArray().add(RESOURCE))
+        .put("searchType", "latestSearch_");
+    AtomicInteger searches = new AtomicInteger();
+    cache.getOrSearch(query, () -> {
+      searches.incrementAndGet();
+      return Future.failedFuture("{\"type\":400}");
+    }).onComplete(testContext.failing(failure -> {
+      cache.getOrSearch(query, () -> {
+        searches.incrementAndGet();
+        return Future.succeededFuture(
+            new CompressedPayload("application/json", Buffer.buffer("{}")));
+      }).onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+        assertEquals(2, searches.get());
+        testContext.completeNow();
+      })));
+    }));
+  }
+}
@@ -0,0 +1,67 @@
+package iudx.resource.server.apiserver.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+public class ResponseCompressionTest {
+
+  private final ResponseCompression compression =
+      ResponseCompression.fromConfig(new JsonObject().put("compressionMinSize", "100")
+          .put("compressionEncodings", "br,gzip,deflate"));
+
+  @Test
+  public void testCompressesLargeJsonOnly() {
+    assertTrue(compression.isCompressible("application/json; charset=utf-8", 100));
+    assertFalse(compression.isCompressible("application/json", 99));
+    assertFalse(compression.isCompressible("image/png", 4096));
+    assertFalse(compression.isCompressible(null, 4096));
+  }
+
+  @Test
+  public void testNegotiatesOfferedEncodings() {
+    assertEquals("gzip", compression.negotiate("gzip, deflate, br"));
+    assertEquals("deflate", compression.negotiate("gzip;q=0.5, deflate"));
+    assertEquals("gzip", compression.negotiate("*"));
+    assertEquals("deflate", compression.negotiate("gzip;q=0, *;q=0.1"));
+    assertNull(compression.negotiate("br"));
+    assertNull(compression.negotiate("identity"));
+    assertNull(compression.negotiate(null));
+  }
+
+  @Test
+  public void testPayloadCompressedOnce() throws IOException {
+    Buffer body = Buffer.buffer("{\"results\":[" + "{\"speed\":20.5},".repeat(50) + "{}]}");
+    CompressedPayload payload = new CompressedPayload("application/json", body);
+    Buffer gzip = payload.encoded("gzip", compression);
+    assertSame(gzip, payload.encoded("gzip", compression));
+    assertTrue(gzip.length() < body.length());
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getBytes()))) {
+      assertEquals(body, Buffer.buffer(in.readAllBytes()));
+    }
+    assertEquals(body.length() + gzip.length(), payload.size());
+  }
+
+  @Test
+  public void testPrecompressesOfferedEncodings() {
+    Buffer body = Buffer.buffer("openapi: 3.0.0\n" + "paths: {}\n".repeat(50));
+    CompressedPayload image = new CompressedPayload("image/png", body);
+    compression.precompress(image);
+    assertEquals(body.length(), image.size());
+    CompressedPayload spec = new CompressedPayload("application/yaml", body);
+    compression.precompress(spec);
+    int size = spec.size();
+    assertTrue(size > body.length());
+    spec.encoded("gzip", compression);
+    spec.encoded("deflate", compression);
+    assertEquals(size, spec.size());
+  }
+}
@@ -0,0 +1,95 @@
+package iudx.resource.server.authenticator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(VertxExtension.class)
+public class ExpiringCacheTest {
+
+  @Test
+  public void testEvictsLeastRecentlyUsed(Vertx vertx, VertxTestContext testContext) {
+    ExpiringCache<String> cache = new ExpiringCache<>(2, 60000);
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.get("a");
+    cache.put("c", "3");
+    assertEquals("1", cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals("3", cache.get("c"));
+    assertEquals(2, cache.size());
+    testContext.completeNow();
+  }
+
+  @Test
+  public void testRemovalListenerSeesEveryRemoval() {
+    List<String> removed = new ArrayList<>();
+    ExpiringCache<String> cache =
+        new ExpiringCache<>(2, 60000, value -> Long.MAX_VALUE, 0, removed::add);
+    cache.put("a", "1");
+    cache.put("a", "2");
+    cache.put("b", "3");
+    cache.put("c", "4");
+    cache.invalidate("b");
+    cache.removeEldest();
+    assertFalse(cache.removeEldest());
+    assertEquals(Arrays.asList("1", "2", "3", "4"), removed);
+  }
+
+  @Test
+  public void testValueExpiryCapsTtl(Vertx vertx, VertxTestContext testContext) {
+    ExpiringCache<JsonObject> cache =
+        new ExpiringCache<>(10, 60000, value -> value.getLong("expiry"));
+    cache.put("expired", new JsonObject().put("expiry", System.currentTimeMillis() - 1));
+    cache.put("valid", new JsonObject().put("expiry", System.currentTimeMillis() + 60000));
+    assertNull(cache.get("expired"));
+    assertEquals(1, cache.size());
+    cache.removeExpired();
+    assertEquals(1, cache.size());
+    testContext.completeNow();
+  }
+
+  @Test
+  public void testConcurrentMissesLoadOnce(Vertx vertx, VertxTestContext testContext) {
+    ExpiringCache<String> cache = new ExpiringCache<>(10, 60000);
+    AtomicInteger loads = new AtomicInteger();
+    Promise<String> pending = Promise.promise();
+    Future<String> first = cache.getOrLoad("token", key -> {
+      loads.incrementAndGet();
+      return pending.future();
+    });
+    Future<String> second = cache.getOrLoad("token", key -> {
+      loads.incrementAndGet();
+      return Future.succeededFuture("other");
+    });
+    assertSame(first, second);
+    pending.complete("tip");
+    assertEquals("tip", second.result());
+    assertEquals("tip", cache.get("token"));
+    assertEquals(1, loads.get());
+    testContext.completeNow();
+  }
+
+  @Test
+  public void testFailedLoadIsNotCached(Vertx vertx, VertxTestContext testContext) {
+    ExpiringCache<String> cache = new ExpiringCache<>(10, 60000);
+    cache.getOrLoad("token", key -> Future.failedFuture("invalid token"))
+        .onComplete(testContext.failing(failure -> testContext.verify(() -> {
+          assertNull(cache.get("token"));
+          testContext.completeNow();
+        })));
+  }
+}
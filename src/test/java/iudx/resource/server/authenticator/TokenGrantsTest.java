@@ -0,0 +1,69 @@
+package iudx.resource.server.authenticator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(VertxExtension.class)
+public class TokenGrantsTest {
+
+  private static final String GROUP = "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/"
+      + "rs.iudx.io/surat-itms-realtime-information";
+
+  private static JsonObject grant(String id, String... apis) {
+    return new JsonObject().put("id", id).put("apis", new JsonArray(Arrays.asList(apis)));
+  }
+
+  @Test
+  public void testMatchLiteralAndWildcardIDs(Vertx vertx, VertxTestContext testContext) {
+    TokenGrants tokenGrants = new TokenGrants(new JsonObject().put("request", new JsonArray()
+        .add(grant(GROUP + "/surat-itms-live-eta", "/ngsi-ld/v1/entities"))
+        .add(grant(GROUP + "/*", "/ngsi-ld/v1/temporal/entities"))
+        .add(grant("iisc.ac.in/*/rs.iudx.io/*-aqm", "/*"))));
+
+    assertEquals(GROUP + "/surat-itms-live-eta",
+        tokenGrants.match(GROUP + "/surat-itms-live-eta").getRequest().getString("id"));
+    assertTrue(tokenGrants.match(GROUP + "/surat-itms-live-eta")
+        .allowsApi("/ngsi-ld/v1/entities"));
+    assertTrue(tokenGrants.match(GROUP + "/surat-itms-live-location")
+        .allowsApi("/ngsi-ld/v1/temporal/entities"));
+    assertFalse(tokenGrants.match(GROUP + "/surat-itms-live-location")
+        .allowsApi("/ngsi-ld/v1/entities"));
+    assertTrue(tokenGrants.match("iisc.ac.in/abc/rs.iudx.io/pune-env-aqm")
+        .allowsApi("/ngsi-ld/v1/subscription"));
+    assertNull(tokenGrants.match("iisc.ac.in/abc/rs.iudx.io/pune-env-flood"));
+    assertNull(tokenGrants.match("datakaveri.org/abc/rs.iudx.io/pune-env-aqm"));
+    testContext.completeNow();
+  }
+
+  @Test
+  public void testFirstMatchingGrantWins(Vertx vertx, VertxTestContext testContext) {
+    TokenGrants tokenGrants = new TokenGrants(new JsonObject().put("request", new JsonArray()
+        .add(grant(GROUP + "/*", "/ngsi-ld/v1/temporal/entities"))
+        .add(grant(GROUP + "/surat-itms-live-eta", "/ngsi-ld/v1/entities"))));
+
+    assertTrue(tokenGrants.match(GROUP + "/surat-itms-live-eta")
+        .allowsApi("/ngsi-ld/v1/temporal/entities"));
+    testContext.completeNow();
+  }
+
+  @Test
+  public void testWildcardDoesNotMatchShorterID(Vertx vertx, VertxTestContext testContext) {
+    TokenGrants tokenGrants = new TokenGrants(new JsonObject().put("request", new JsonArray()
+        .add(grant("provider/group/*-aqm", "/*"))));
+
+    assertNull(tokenGrants.match("provider/group-aqm"));
+    assertNull(tokenGrants.match("provider/group/"));
+    assertTrue(tokenGrants.match("provider/group/-aqm").allowsApi("/any"));
+    testContext.completeNow();
+  }
+}
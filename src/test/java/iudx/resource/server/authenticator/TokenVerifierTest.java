@@ -0,0 +1,100 @@
+package iudx.resource.server.authenticator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.jwt.JWTAuth;
+import io.vertx.ext.auth.jwt.JWTAuthOptions;
+import io.vertx.ext.jwt.JWTOptions;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(VertxExtension.class)
+public class TokenVerifierTest {
+
+  private static final String ISSUER = "auth.example.com";
+  private static final String AUDIENCE = "rs.example.com";
+
+  private static JsonObject hmacKey(String secret) {
+    return new JsonObject().put("kty", "oct").put("alg", "HS256").put("k",
+        Base64.getUrlEncoder().withoutPadding().encodeToString(secret.getBytes()));
+  }
+
+  private static String signToken(Vertx vertx, JsonObject key, JsonObject claims) {
+    return signToken(vertx, key, claims, AUDIENCE);
+  }
+
+  private static String signToken(Vertx vertx, JsonObject key, JsonObject claims,
+      String audience) {
+    JWTAuth issuer = JWTAuth.create(vertx,
+        new JWTAuthOptions().setJwks(Collections.singletonList(key)));
+    return issuer.generateToken(claims, new JWTOptions().setAlgorithm("HS256")
+        .setExpiresInMinutes(10).setIssuer(ISSUER).addAudience(audience));
+  }
+
+  private static TokenVerifier verifier(Vertx vertx, JsonObject key) {
+    JsonObject config = new JsonObject().put(Constants.AUTH_MODE, Constants.AUTH_MODE_JWT)
+        .put(Constants.JWKS, new JsonObject().put("keys", new JsonArray().add(key)))
+        .put(Constants.JWT_ISSUER, ISSUER).put(Constants.JWT_AUDIENCE, AUDIENCE);
+    return new TokenVerifier(vertx, null, config);
+  }
+
+  @Test
+  public void testVerifySignedToken(Vertx vertx, VertxTestContext testContext) {
+    JsonObject key = hmacKey("resource-server-test-signing-key");
+    JsonObject claims = new JsonObject().put("consumer", "consumer@iudx.org")
+        .put("request", new JsonArray().add(new JsonObject().put("id", "example.com/rs/item")
+            .put("apis", new JsonArray().add("/ngsi-ld/v1/entities"))));
+    String token = signToken(vertx, key, claims);
+    assertTrue(TokenVerifier.isSignedToken(token));
+
+    TokenVerifier tokenVerifier = verifier(vertx, key);
+    tokenVerifier.start()
+        .compose(started -> tokenVerifier.verify(token))
+        .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+          assertEquals("consumer@iudx.org", response.getString("consumer"));
+          assertEquals("example.com/rs/item",
+              response.getJsonArray("request").getJsonObject(0).getString("id"));
+          assertTrue(Instant.parse(response.getString("expiry")).isAfter(Instant.now()));
+          testContext.completeNow();
+        })));
+  }
+
+  @Test
+  public void testRejectTokenSignedWithOtherKey(Vertx vertx, VertxTestContext testContext) {
+    String token = signToken(vertx, hmacKey("some-other-signing-key-of-issuer"),
+        new JsonObject().put("consumer", "consumer@iudx.org"));
+
+    TokenVerifier tokenVerifier = verifier(vertx, hmacKey("resource-server-test-signing-key"));
+    tokenVerifier.start()
+        .compose(started -> tokenVerifier.verify(token))
+        .onComplete(testContext.failing(failure -> testContext.completeNow()));
+  }
+
+  @Test
+  public void testRejectTokenForOtherAudience(Vertx vertx, VertxTestContext testContext) {
+    JsonObject key = hmacKey("resource-server-test-signing-key");
+    String token = signToken(vertx, key, new JsonObject().put("consumer", "consumer@iudx.org"),
+        "rs.other.example.com");
+
+    TokenVerifier tokenVerifier = verifier(vertx, key);
+    tokenVerifier.start()
+        .compose(started -> tokenVerifier.verify(token))
+        .onComplete(testContext.failing(failure -> testContext.completeNow()));
+  }
+
+  @Test
+  public void testOpaqueTokenIsNotSigned(Vertx vertx, VertxTestContext testContext) {
+    assertFalse(TokenVerifier.isSignedToken("auth.local/1a2b3c4d5e6f"));
+    assertFalse(TokenVerifier.isSignedToken("public"));
+    testContext.completeNow();
+  }
+}
@@ -0,0 +1,76 @@
+package iudx.resource.server.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Instant;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(VertxExtension.class)
+public class CborJsonMessageCodecTest {
+
+  private static JsonObject searchResponse() {
+    JsonArray results = new JsonArray();
+    for (int i = 0; i < 50; i++) {
+      results.add(new JsonObject()
+          .put("id", "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/rs.iudx.io/"
+              + "surat-itms-realtime-information/surat-itms-live-eta")
+          .put("observationDateTime", "2020-10-19T10:00:0" + (i % 10) + "+05:30")
+          .put("speed", 22.5 + i).put("tripCount", i).put("active", i % 2 == 0)
+          .put("location", new JsonObject().put("type", "Point")
+              .put("coordinates", new JsonArray().add(72.81).add(21.16)))
+          .putNull("license"));
+    }
+    return new JsonObject().put("type", 200).put("title", "Success")
+        .put("totalHits", 12345678901L).put("results", results);
+  }
+
+  @Test
+  public void testWireRoundTrip(Vertx vertx, VertxTestContext testContext) {
+    CborJsonMessageCodec codec = new CborJsonMessageCodec();
+    JsonObject response = searchResponse();
+    Buffer buffer = Buffer.buffer().appendString("header");
+    codec.encodeToWire(buffer, response);
+
+    JsonObject decoded = codec.decodeFromWire("header".length(), buffer);
+    assertEquals(response, decoded);
+    assertEquals(12345678901L, decoded.getLong("totalHits"));
+    assertEquals(23.5, decoded.getJsonArray("results").getJsonObject(1).getDouble("speed"));
+    assertTrue(buffer.length() < "header".length() + response.encode().length());
+    testContext.completeNow();
+  }
+
+  @Test
+  public void testValuesReadAsWithJsonCodec(Vertx vertx, VertxTestContext testContext) {
+    Instant now = Instant.now();
+    JsonObject request = new JsonObject().put("time", now).put("binary", new byte[] {1, 2, 3});
+    JsonObject decoded = CborJsonMessageCodec.decode(CborJsonMessageCodec.encode(request));
+    assertEquals(now, decoded.getInstant("time"));
+    assertEquals(3, decoded.getBinary("binary").length);
+    testContext.completeNow();
+  }
+
+  @Test
+  public void testLocalDeliveryCopies(Vertx vertx, VertxTestContext testContext) {
+    CborJsonMessageCodec.register(vertx);
+    CborJsonMessageCodec.register(vertx);
+    JsonObject request = new JsonObject().put("id", "item");
+    vertx.eventBus().<JsonObject>consumer("iudx.rs.codec.test", message -> {
+      testContext.verify(() -> {
+        assertEquals(request, message.body());
+        assertNotSame(request, message.body());
+      });
+      testContext.completeNow();
+    });
+    vertx.eventBus().send("iudx.rs.codec.test", request,
+        new DeliveryOptions().setCodecName(CborJsonMessageCodec.NAME));
+  }
+}
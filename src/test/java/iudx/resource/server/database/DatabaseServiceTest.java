@@ -870,6 +870,43 @@ public class DatabaseServiceTest {
       testContext.completeNow();
     })));
   }
+
+  @Test
+  @DisplayName("Testing Temporal Export (During) paged through a scroll")
+  void exportDuringTemporal(VertxTestContext testContext) {
+    JsonObject request =
+        new JsonObject()
+            .put("id",
+                new JsonArray().add(
+                    "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/rs.iudx.io/surat-itms-realtime-information/surat-itms-live-eta"))
+            .put("searchType", "temporalSearch_").put("timerel", "during")
+            .put("time","2020-09-18T00:00:00Z").put("endtime","2020-09-22T00:00:00Z");
+
+    dbService.exportQuery(request, testContext.succeeding(page -> testContext.verify(() -> {
+      assertTrue(page.getJsonArray("results").size() > 0);
+      String scrollId = page.getString("scrollId");
+      if (scrollId == null) {
+        testContext.completeNow();
+        return;
+      }
+      dbService.exportClose(scrollId, testContext.succeeding(closed -> testContext.completeNow()));
+    })));
+  }
+
+  @Test
+  @DisplayName("Testing Export Exceptions (Not a temporal query)")
+  void exportNotTemporal(VertxTestContext testContext) {
+    JsonObject request = new JsonObject()
+        .put("id",new JsonArray()
+            .add("iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/rs.iudx.io/surat-itms-realtime-information/surat-itms-live-eta"))
+        .put("searchType","geoSearch_").put("lon", 72.8296).put("lat",  21.2)
+        .put("radius", 10);
+    dbService.exportQuery(request, testContext.failing(response -> testContext.verify(() -> {
+      assertEquals("Export is only supported for temporal queries",
+          new JsonObject(response.getMessage()).getString("detail"));
+      testContext.completeNow();
+    })));
+  }
 }
 
 
@@ -0,0 +1,55 @@
+package iudx.resource.server.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+public class QueryDecoderTest {
+
+  private static final String RESOURCE =
+      "iisc.ac.in/89a36273d77dac4cf38114fca1bbe64392547f86/rs.iudx.io/"
+          + "surat-itms-realtime-information/surat-itms-live-eta";
+
+  private final QueryDecoder queryDecoder = new QueryDecoder();
+
+  private JsonObject attributeQuery(JsonObject term) {
+    JsonObject request = new JsonObject().put("id", new JsonArray().add(RESOURCE))
+        .put("searchType", "attributeSearch_").put("search", true)
+        .put("attr-query", new JsonArray().add(term));
+    return queryDecoder.queryDecoder(request);
+  }
+
+  private static JsonArray filter(JsonObject query) {
+    return query.getJsonObject("query").getJsonObject("bool").getJsonArray("filter");
+  }
+
+  @Test
+  public void testPatternIsBounded() {
+    JsonObject query = attributeQuery(new JsonObject().put("attribute", "license_plate")
+        .put("operator", "~=").put("value", "GJ05.*"));
+    JsonObject regexp = filter(query).getJsonObject(1).getJsonObject("regexp")
+        .getJsonObject("license_plate");
+    assertEquals("GJ05.*", regexp.getString("value"));
+    assertEquals("NONE", regexp.getString("flags"));
+    assertEquals(1000, regexp.getInteger("max_determinized_states"));
+
+    JsonObject tooLong = attributeQuery(new JsonObject().put("attribute", "license_plate")
+        .put("operator", "!~=").put("value", "a".repeat(257)));
+    assertEquals(Constants.PATTERN_TOO_LONG, tooLong.getString(Constants.ERROR));
+  }
+
+  @Test
+  public void testValuesAreNotSpliced() {
+    String value = "\"},\"match_all\":{\"";
+    JsonObject term = filter(attributeQuery(new JsonObject().put("attribute", "route_id")
+        .put("operator", "==").put("value", value))).getJsonObject(1);
+    assertEquals(new JsonObject().put("term", new JsonObject().put("route_id", value)), term);
+
+    JsonObject range = filter(attributeQuery(new JsonObject().put("attribute", "speed")
+        .put("operator", ">=").put("value", "30"))).getJsonObject(1);
+    assertEquals(30L, range.getJsonObject("range").getJsonObject("speed").getValue("gte"));
+    assertEquals(Constants.MISSING_ATTRIBUTE_FIELDS, attributeQuery(new JsonObject()
+        .put("attribute", "speed").put("operator", ">")).getString(Constants.ERROR));
+  }
+}